@@ -0,0 +1,17 @@
+package jaringobi.auth;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import jakarta.servlet.http.HttpServletRequest;
+import jaringobi.domain.user.AppUser;
+
+/**
+ * 한 번 검증한 토큰의 결과. 인터셉터가 요청 속성에 담아 두고 이후 단계에서는 토큰을 다시 해석하지 않는다.
+ */
+public record AuthenticatedUser(AppUser appUser, DecodedJWT claims) {
+
+    public static final String ATTRIBUTE = AuthenticatedUser.class.getName();
+
+    public void bindTo(HttpServletRequest request) {
+        request.setAttribute(ATTRIBUTE, this);
+    }
+}
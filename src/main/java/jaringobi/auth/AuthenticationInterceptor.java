@@ -12,7 +12,7 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        authenticationService.checkAuthentication(request);
+        authenticationService.authenticate(request).bindTo(request);
         return true;
     }
 }
@@ -1,23 +1,20 @@
 package jaringobi.auth;
 
 import jakarta.servlet.http.HttpServletRequest;
-import jaringobi.jwt.TokenProvider;
 import java.util.Objects;
 import org.springframework.core.MethodParameter;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArgumentResolver {
 
     private final AuthenticationService authenticationService;
-    private final TokenProvider tokenProvider;
 
-    public AuthenticationPrincipalArgumentResolver(AuthenticationService authenticationService,
-            TokenProvider tokenProvider) {
+    public AuthenticationPrincipalArgumentResolver(AuthenticationService authenticationService) {
         this.authenticationService = authenticationService;
-        this.tokenProvider = tokenProvider;
     }
 
     @Override
@@ -28,8 +25,12 @@ public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArg
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
             NativeWebRequest webRequest, WebDataBinderFactory binderFactory){
-        String token = tokenProvider.parseTokenFromHeader(
-                Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class)));
-        return authenticationService.findUserByToken(token);
+        Object authenticated = webRequest.getAttribute(AuthenticatedUser.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (authenticated instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.appUser();
+        }
+        // 인터셉터 대상이 아닌 경로에서만 여기서 직접 검증한다.
+        return authenticationService.authenticate(
+                Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class))).appUser();
     }
 }
@@ -1,11 +1,8 @@
 package jaringobi.auth;
 
 import jakarta.servlet.http.HttpServletRequest;
-import jaringobi.domain.user.AppUser;
 
 public interface AuthenticationService {
 
-    void checkAuthentication(HttpServletRequest request);
-
-    AppUser findUserByToken(String token);
+    AuthenticatedUser authenticate(HttpServletRequest request);
 }
@@ -1,33 +1,29 @@
 package jaringobi.auth;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.http.HttpServletRequest;
 import jaringobi.domain.user.AppUser;
-import jaringobi.exception.auth.AccessTokenExpiredException;
-import jaringobi.exception.auth.InvalidTokenException;
 import jaringobi.jwt.TokenProvider;
+import java.time.Instant;
 
 public class AuthenticationTokenService implements AuthenticationService {
 
     private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public AuthenticationTokenService(TokenProvider tokenProvider) {
+    public AuthenticationTokenService(TokenProvider tokenProvider, VerifiedTokenCache verifiedTokenCache) {
         this.tokenProvider = tokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
-    public void checkAuthentication(HttpServletRequest request) {
+    public AuthenticatedUser authenticate(HttpServletRequest request) {
         String token = tokenProvider.parseTokenFromHeader(request);
-        if (!tokenProvider.isValidToken(token)) {
-            throw new InvalidTokenException();
-        }
-        if (tokenProvider.isExpired(token)) {
-            throw new AccessTokenExpiredException();
-        }
+        return verifiedTokenCache.get(token, Instant.now(), this::verify);
     }
 
-    @Override
-    public AppUser findUserByToken(String token) {
-        Long userId = tokenProvider.parseUserId(token);
-        return new AppUser(userId);
+    private AuthenticatedUser verify(String token) {
+        DecodedJWT claims = tokenProvider.verify(token);
+        return new AuthenticatedUser(new AppUser(tokenProvider.parseUserId(claims)), claims);
     }
 }
@@ -0,0 +1,134 @@
+package jaringobi.auth;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증을 통과한 토큰의 SHA-256 다이제스트에서 인증 결과로의 캐시.
+ * 검증에 실패한 토큰은 담지 않으므로 임의로 만든 토큰으로는 캐시를 채울 수 없고,
+ * 항목은 토큰의 exp 가 지나는 순간부터 조회되지 않는다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final VerifiedTokenCacheProperty property;
+    private final Stripe[] stripes;
+
+    public VerifiedTokenCache(VerifiedTokenCacheProperty property) {
+        this.property = property;
+        int stripeCount = Math.max(1, property.getStripes());
+        int capacity = Math.max(1, (property.getMaxEntries() + stripeCount - 1) / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+    }
+
+    /**
+     * 캐시에 없거나 만료된 토큰은 verifier 로 검증한다. verifier 가 예외를 던지면 아무것도 담지 않는다.
+     */
+    public AuthenticatedUser get(String token, Instant now, Function<String, AuthenticatedUser> verifier) {
+        if (!property.isEnabled()) {
+            return verifier.apply(token);
+        }
+        ByteBuffer key = digestOf(token);
+        Stripe stripe = stripeOf(key);
+        AuthenticatedUser cached = stripe.find(key, now);
+        if (cached != null) {
+            return cached;
+        }
+        AuthenticatedUser verified = verifier.apply(token);
+        Instant expiresAt = verified.claims().getExpiresAtAsInstant();
+        if (expiresAt != null) {
+            stripe.put(key, new Entry(verified, expiresAt));
+        }
+        return verified;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    private Stripe stripeOf(ByteBuffer key) {
+        return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+    }
+
+    private static ByteBuffer digestOf(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static final class Stripe {
+
+        private final int capacity;
+        // access-order LinkedHashMap: 순회 첫 항목이 가장 오래 사용하지 않은 토큰
+        private final LinkedHashMap<ByteBuffer, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        private Stripe(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private synchronized AuthenticatedUser find(ByteBuffer key, Instant now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.authenticatedUser();
+        }
+
+        private synchronized void put(ByteBuffer key, Entry entry) {
+            entries.put(key, entry);
+
+            Iterator<Map.Entry<ByteBuffer, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > capacity && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+    }
+
+    private record Entry(AuthenticatedUser authenticatedUser, Instant expiresAt) {
+
+        // JWTVerifier 와 같이 exp 와 같은 순간까지는 유효하고 그 이후로는 만료로 본다.
+        private boolean isExpired(Instant now) {
+            return now.isAfter(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package jaringobi.auth;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "jwt.verified-cache")
+public class VerifiedTokenCacheProperty {
+
+    // 검증을 통과한 토큰 캐시 사용 여부
+    private boolean enabled = true;
+
+    // 캐시에 담을 최대 토큰 수. 줄(stripe)마다 나눠 담고 넘으면 가장 오래 사용하지 않은 토큰부터 버린다.
+    private int maxEntries = 10_000;
+
+    // 락을 나눌 줄 수. 요청 스레드들이 하나의 락을 두고 기다리지 않게 한다.
+    private int stripes = 16;
+}
@@ -0,0 +1,42 @@
+package jaringobi.common.admin;
+
+import jaringobi.service.rollover.BudgetRolloverResult;
+import jaringobi.service.rollover.BudgetRolloverService;
+import java.time.YearMonth;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 월초 예산 이월 진행 상황 조회와 수동 실행(중단된 이월 재개)을 위한 관리용 엔드포인트.
+ * GET /actuator/budgetrollover/2023-11, POST /actuator/budgetrollover/2023-11
+ * <p>
+ * 인증 없이 모든 사용자의 예산을 쓰므로 내부 주소에 묶인 관리 포트(management.server)로만 노출한다.
+ */
+@Component
+@Endpoint(id = "budgetrollover")
+public class BudgetRolloverEndpoint {
+
+    private final BudgetRolloverService budgetRolloverService;
+
+    public BudgetRolloverEndpoint(BudgetRolloverService budgetRolloverService) {
+        this.budgetRolloverService = budgetRolloverService;
+    }
+
+    @ReadOperation
+    public Map<String, Object> progress(@Selector String month) {
+        return budgetRolloverService.progressOf(YearMonth.parse(month))
+                .<Map<String, Object>>map(progress -> Map.of(
+                        "lastUserId", progress.lastUserId(),
+                        "completed", progress.isCompleted()))
+                .orElseGet(() -> Map.of("started", false));
+    }
+
+    @WriteOperation
+    public BudgetRolloverResult rollover(@Selector String month) {
+        return budgetRolloverService.rollover(YearMonth.parse(month));
+    }
+}
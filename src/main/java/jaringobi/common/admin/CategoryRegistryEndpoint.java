@@ -0,0 +1,36 @@
+package jaringobi.common.admin;
+
+import jaringobi.domain.category.CategoryRegistry;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 시드를 바꾼 뒤 재시작 없이 {@link CategoryRegistry} 를 다시 적재하는 관리용 엔드포인트.
+ * POST /actuator/categories
+ * <p>
+ * 인증을 거치지 않으므로 내부 주소에 묶인 관리 포트(management.server)로만 노출한다.
+ */
+@Component
+@Endpoint(id = "categories")
+public class CategoryRegistryEndpoint {
+
+    private final CategoryRegistry categoryRegistry;
+
+    public CategoryRegistryEndpoint(CategoryRegistry categoryRegistry) {
+        this.categoryRegistry = categoryRegistry;
+    }
+
+    @ReadOperation
+    public Map<String, Object> categories() {
+        return Map.of("count", categoryRegistry.ids().size());
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        categoryRegistry.reload();
+        return categories();
+    }
+}
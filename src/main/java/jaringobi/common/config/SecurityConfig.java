@@ -1,9 +1,14 @@
 package jaringobi.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jaringobi.auth.AuthenticationInterceptor;
 import jaringobi.auth.AuthenticationPrincipalArgumentResolver;
 import jaringobi.auth.AuthenticationService;
 import jaringobi.auth.AuthenticationTokenService;
+import jaringobi.auth.VerifiedTokenCache;
+import jaringobi.common.crypto.BoundedPasswordEncoder;
+import jaringobi.common.crypto.PasswordHashingProperty;
+import jaringobi.controller.search.ExportFormatRequestConverter;
 import jaringobi.controller.search.OrderRequestConverter;
 import jaringobi.controller.search.SortRequestConverter;
 import jaringobi.jwt.TokenProvider;
@@ -22,24 +27,28 @@ public class SecurityConfig implements WebMvcConfigurer {
 
 
     private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public SecurityConfig(TokenProvider tokenProvider) {
+    public SecurityConfig(TokenProvider tokenProvider, VerifiedTokenCache verifiedTokenCache) {
         this.tokenProvider = tokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Bean
     public AuthenticationService authenticationService() {
-        return new AuthenticationTokenService(tokenProvider);
+        return new AuthenticationTokenService(tokenProvider, verifiedTokenCache);
     }
 
     @Bean
     public AuthenticationPrincipalArgumentResolver authenticationPrincipalArgumentResolver() {
-        return new AuthenticationPrincipalArgumentResolver(authenticationService(), tokenProvider);
+        return new AuthenticationPrincipalArgumentResolver(authenticationService());
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperty passwordHashingProperty,
+            MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8(),
+                passwordHashingProperty, meterRegistry);
     }
 
     @Bean
@@ -62,5 +71,6 @@ public class SecurityConfig implements WebMvcConfigurer {
     public void addFormatters(FormatterRegistry registry) {
         registry.addConverter(new SortRequestConverter());
         registry.addConverter(new OrderRequestConverter());
+        registry.addConverter(new ExportFormatRequestConverter());
     }
 }
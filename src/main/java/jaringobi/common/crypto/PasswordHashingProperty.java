@@ -0,0 +1,25 @@
+package jaringobi.common.crypto;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "password.hashing")
+public class PasswordHashingProperty {
+
+    // 해시 전용 스레드 수. 0 이하이면 CPU 코어 수를 쓴다.
+    private int threads = 0;
+
+    // 스레드가 모두 바쁠 때 기다릴 수 있는 요청 수. 넘치면 바로 503 으로 응답한다.
+    private int queueCapacity = 64;
+
+    // 503 응답의 Retry-After
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    public int resolveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,23 @@
+package jaringobi.common.persistence;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * 무결성 위반이 어느 제약에서 났는지 확인한다. 드라이버마다 예외 타입이 달라 원인 메시지에 담긴 제약 이름으로 비교한다.
+ * (MySQL: "... for key 'budget_by_category.uk_...'", "... CONSTRAINT `FK_...` ...")
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    public static boolean violates(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase().contains(constraintName.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
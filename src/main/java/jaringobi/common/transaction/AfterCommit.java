@@ -0,0 +1,27 @@
+package jaringobi.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 진행 중인 트랜잭션이 커밋된 뒤에 실행한다. 트랜잭션 밖이면 바로 실행한다.
+ * 롤백되면 실행하지 않으므로 메모리 상태(캐시, 세대 번호)가 DB 보다 앞서 바뀌지 않는다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
@@ -6,22 +6,31 @@ import jaringobi.common.response.ApiResponse;
 import jaringobi.domain.user.AppUser;
 import jaringobi.dto.request.AddBudgetRequest;
 import jaringobi.dto.request.BudgetByCategoryRequest;
+import jaringobi.dto.request.BudgetRecommendationParameter;
+import jaringobi.dto.request.BudgetRolloverRequest;
 import jaringobi.dto.request.ModifyBudgetCategory;
+import jaringobi.dto.request.PutBudgetCategoriesRequest;
 import jaringobi.dto.response.AddBudgetResponse;
+import jaringobi.dto.response.BudgetRecommendationResponse;
 import jaringobi.dto.response.BudgetResponse;
 import jaringobi.service.BudgetService;
+import jaringobi.service.alert.BudgetAlertEngine;
+import jaringobi.service.recommendation.BudgetRecommendationService;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/budget")
@@ -29,6 +38,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class BudgetController {
 
     private final BudgetService budgetService;
+    private final BudgetRecommendationService budgetRecommendationService;
+    private final BudgetAlertEngine budgetAlertEngine;
 
     @PostMapping
     public ResponseEntity<Void> addBudget(
@@ -38,6 +49,27 @@ public class BudgetController {
         return ResponseEntity.created(URI.create("/api/v1/budget/" + addBudgetResponse.getBudgetNo())).build();
     }
 
+    @GetMapping("/recommendation")
+    public ApiResponse<BudgetRecommendationResponse> recommendBudget(
+            @AuthenticationPrincipal AppUser appUser,
+            @Valid BudgetRecommendationParameter budgetRecommendationParameter
+    ) {
+        return ApiResponse.ok(budgetRecommendationService.recommend(budgetRecommendationParameter.getTotal()));
+    }
+
+    @GetMapping(path = "/alerts", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeBudgetAlerts(@AuthenticationPrincipal AppUser appUser) {
+        return budgetAlertEngine.subscribe(appUser);
+    }
+
+    @PutMapping("/rollover")
+    public ResponseEntity<Void> changeBudgetRollover(
+            @AuthenticationPrincipal AppUser appUser,
+            @RequestBody BudgetRolloverRequest budgetRolloverRequest) {
+        budgetService.changeBudgetRollover(appUser, budgetRolloverRequest);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBudget(
             @AuthenticationPrincipal AppUser appUser,
@@ -64,6 +96,16 @@ public class BudgetController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    @PutMapping("/{id}/categories")
+    public ResponseEntity<Void> putBudgetCategories(
+            @AuthenticationPrincipal AppUser appUser,
+            @PathVariable long id,
+            @Valid @RequestBody PutBudgetCategoriesRequest putBudgetCategoriesRequest
+    ) {
+        budgetService.putBudgetCategories(appUser, id, putBudgetCategoriesRequest);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
     @PatchMapping("/{id}/categories/{categoryId}")
     public ResponseEntity<Void> addBudgetCategory(
             @AuthenticationPrincipal AppUser appUser,
@@ -3,12 +3,18 @@ package jaringobi.controller;
 import jakarta.validation.Valid;
 import jaringobi.auth.AuthenticationPrincipal;
 import jaringobi.common.response.ApiResponse;
+import jaringobi.dto.ImportFormat;
 import jaringobi.dto.request.AddExpenseRequest;
 import jaringobi.dto.request.ModifyExpenseRequest;
 import jaringobi.dto.response.AddExpenseNoResponse;
+import jaringobi.dto.response.ExpenseImportResponse;
 import jaringobi.domain.user.AppUser;
 import jaringobi.service.ExpenseService;
+import jaringobi.service.imports.ExpenseImportService;
+import java.io.IOException;
+import java.io.InputStream;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,9 +29,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class ExpenseController {
 
     private final ExpenseService expenseService;
+    private final ExpenseImportService expenseImportService;
 
-    public ExpenseController(ExpenseService expenseService) {
+    public ExpenseController(ExpenseService expenseService, ExpenseImportService expenseImportService) {
         this.expenseService = expenseService;
+        this.expenseImportService = expenseImportService;
     }
 
     @PostMapping
@@ -35,6 +43,20 @@ public class ExpenseController {
         return ApiResponse.ok(expenseService.addExpense(addExpenseRequest, appUser));
     }
 
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ApiResponse<ExpenseImportResponse> importCsvExpenses(
+            @AuthenticationPrincipal AppUser appUser,
+            InputStream body) throws IOException {
+        return ApiResponse.ok(expenseImportService.importExpenses(appUser, ImportFormat.CSV, body));
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<ExpenseImportResponse> importJsonExpenses(
+            @AuthenticationPrincipal AppUser appUser,
+            InputStream body) throws IOException {
+        return ApiResponse.ok(expenseImportService.importExpenses(appUser, ImportFormat.JSON, body));
+    }
+
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public ApiResponse<Void> modifyExpense(
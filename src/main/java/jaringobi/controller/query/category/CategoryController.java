@@ -1,27 +1,38 @@
 package jaringobi.controller.query.category;
 
-import jaringobi.common.response.ApiResponse;
-import jaringobi.common.response.Payload;
-import jaringobi.controller.query.category.response.CategoryResponse;
-import jaringobi.domain.category.CategoryQuery;
+import jaringobi.controller.query.category.SerializedCategoryResponse.Body;
+import java.time.Duration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/categories")
 public class CategoryController {
 
-    private final CategoryQuery categoryQuery;
+    // 카테고리는 마이그레이션으로만 바뀌므로 오래 캐시하고, 지난 뒤에는 ETag 로 재검증한다.
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
 
-    public CategoryController(CategoryQuery categoryQuery) {
-        this.categoryQuery = categoryQuery;
+    private final SerializedCategoryResponse serializedCategoryResponse;
+
+    public CategoryController(SerializedCategoryResponse serializedCategoryResponse) {
+        this.serializedCategoryResponse = serializedCategoryResponse;
     }
 
-    @GetMapping
-    public ApiResponse<Payload<CategoryResponse>> getCategory() {
-        return ApiResponse.ok(Payload.of(categoryQuery.findAll()
-                .stream().map(CategoryResponse::of)
-                .toList()));
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getCategory(WebRequest webRequest) {
+        Body body = serializedCategoryResponse.current();
+        if (webRequest.checkNotModified(body.eTag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(body.eTag())
+                .cacheControl(CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.json());
     }
 }
@@ -0,0 +1,64 @@
+package jaringobi.controller.query.category;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jaringobi.common.response.ApiResponse;
+import jaringobi.common.response.Payload;
+import jaringobi.controller.query.category.response.CategoryResponse;
+import jaringobi.domain.category.Category;
+import jaringobi.domain.category.CategoryRegistry;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 목록 응답을 JSON 바이트로 한 번만 직렬화해 두고, 내용의 다이제스트를 ETag 로 쓴다.
+ * 내용에서 나온 태그라 재시작해도 바뀌지 않고, {@link CategoryRegistry} 를 다시 적재해 목록이 바뀌었을 때만 새로 만든다.
+ */
+@Component
+public class SerializedCategoryResponse {
+
+    private static final int ETAG_DIGEST_BYTES = 16;
+
+    private final CategoryRegistry categoryRegistry;
+    private final ObjectMapper objectMapper;
+    private volatile Rendered rendered;
+
+    public SerializedCategoryResponse(CategoryRegistry categoryRegistry, ObjectMapper objectMapper) {
+        this.categoryRegistry = categoryRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    public Body current() {
+        List<Category> categories = categoryRegistry.categories();
+        Rendered current = rendered;
+        // 레지스트리는 다시 적재할 때만 목록 인스턴스를 바꾸므로 참조 비교로 충분하다.
+        if (current == null || current.source() != categories) {
+            current = new Rendered(categories, render(categories));
+            rendered = current;
+        }
+        return current.body();
+    }
+
+    private Body render(List<Category> categories) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.ok(Payload.of(categories.stream()
+                    .map(CategoryResponse::of)
+                    .toList())));
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return new Body(json, "\"c-" + HexFormat.of().formatHex(digest, 0, ETAG_DIGEST_BYTES) + "\"");
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Body(byte[] json, String eTag) {
+
+    }
+
+    private record Rendered(List<Category> source, Body body) {
+
+    }
+}
@@ -1,10 +1,11 @@
 package jaringobi.controller.query.category.response;
 
 import jaringobi.domain.category.Category;
+import jaringobi.domain.category.CategoryGroup;
 
-public record CategoryResponse(long id, String name) {
+public record CategoryResponse(long id, String name, CategoryGroup group) {
 
     public static CategoryResponse of(Category category) {
-        return new CategoryResponse(category.getId(), category.getName());
+        return new CategoryResponse(category.getId(), category.getName(), CategoryGroup.of(category.getId()));
     }
 }
@@ -2,25 +2,57 @@ package jaringobi.controller.query.expense;
 
 import jaringobi.auth.AuthenticationPrincipal;
 import jaringobi.common.response.ApiResponse;
+import jaringobi.controller.query.expense.response.DailyGuideResponse;
 import jaringobi.controller.query.expense.response.TodayExpenseResponse;
 import jaringobi.domain.user.AppUser;
+import jaringobi.service.guide.DailyGuideService;
 import jaringobi.service.search.ExpenseSearchService;
+import jaringobi.service.search.TodayExpenseView;
+import jaringobi.service.search.TodayExpenseView.Snapshot;
+import jaringobi.service.version.UserDataVersion;
+import java.time.LocalDate;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/expenditures")
 public class ExpenseQueryController {
 
     private final ExpenseSearchService expenseSearchService;
+    private final UserDataVersion userDataVersion;
+    private final TodayExpenseView todayExpenseView;
+    private final DailyGuideService dailyGuideService;
 
-    public ExpenseQueryController(ExpenseSearchService expenseSearchService) {
+    public ExpenseQueryController(ExpenseSearchService expenseSearchService, UserDataVersion userDataVersion,
+            TodayExpenseView todayExpenseView, DailyGuideService dailyGuideService) {
         this.expenseSearchService = expenseSearchService;
+        this.userDataVersion = userDataVersion;
+        this.todayExpenseView = todayExpenseView;
+        this.dailyGuideService = dailyGuideService;
     }
 
     @GetMapping("/today")
-    public ApiResponse<TodayExpenseResponse> query(@AuthenticationPrincipal AppUser appUser) {
-        return ApiResponse.ok(expenseSearchService.searchTodayExpense(appUser));
+    public ResponseEntity<ApiResponse<TodayExpenseResponse>> query(
+            @AuthenticationPrincipal AppUser appUser,
+            WebRequest webRequest) {
+        String eTag = userDataVersion.todayTagOf(appUser, LocalDate.now());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        // 다른 요청이 다시 만드는 중이면 이전 응답이 올 수 있으므로 태그는 응답을 만든 세대의 것을 쓴다.
+        Snapshot snapshot = todayExpenseView.get(appUser, () -> expenseSearchService.searchTodayExpense(appUser));
+        return ResponseEntity.ok()
+                .eTag(snapshot.eTag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.ok(snapshot.response()));
+    }
+
+    @GetMapping("/guide")
+    public ApiResponse<DailyGuideResponse> guide(@AuthenticationPrincipal AppUser appUser) {
+        return ApiResponse.ok(dailyGuideService.guideOf(appUser, LocalDate.now()));
     }
 }
@@ -0,0 +1,30 @@
+package jaringobi.controller.query.expense.response;
+
+import jaringobi.domain.guide.DailyGuide;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 오늘 쓸 수 있는 금액 안내. 이번 달 남은 예산을 오늘을 포함한 남은 일수로 나눈다.
+ */
+public record DailyGuideResponse(LocalDate day, int remainingDays, boolean hasBudget, long dailyAllowance,
+                                 List<DailyGuidePerCategory> guidesPerCategory) {
+
+    public static DailyGuideResponse of(LocalDate day, int remainingDays, List<DailyGuide> guides) {
+        List<DailyGuidePerCategory> perCategory = guides.stream()
+                .map(DailyGuidePerCategory::of)
+                .toList();
+        long dailyAllowance = guides.stream()
+                .mapToLong(DailyGuide::dailyAllowance)
+                .sum();
+        return new DailyGuideResponse(day, remainingDays, !guides.isEmpty(), dailyAllowance, perCategory);
+    }
+
+    public record DailyGuidePerCategory(long categoryId, long budgetAmount, long spentAmount, long dailyAllowance) {
+
+        private static DailyGuidePerCategory of(DailyGuide guide) {
+            return new DailyGuidePerCategory(guide.categoryId(), guide.budgetAmount(), guide.spentAmount(),
+                    guide.dailyAllowance());
+        }
+    }
+}
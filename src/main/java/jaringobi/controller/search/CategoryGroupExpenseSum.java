@@ -0,0 +1,15 @@
+package jaringobi.controller.search;
+
+import jaringobi.domain.category.CategoryGroup;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryGroupExpenseSum {
+    private CategoryGroup group;
+    private String title;
+    private Long totalExpenseAmount;
+}
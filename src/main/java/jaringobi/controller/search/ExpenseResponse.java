@@ -3,6 +3,7 @@ package jaringobi.controller.search;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import jaringobi.domain.expense.Expense;
+import jaringobi.domain.expense.ExpenseSearchRow;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,6 +32,22 @@ public class ExpenseResponse implements Serializable {
                 .collect(Collectors.toList());
     }
 
+    public static List<ExpenseResponse> listOfRows(List<ExpenseSearchRow> rows) {
+        return rows.stream()
+                .map(ExpenseResponse::of)
+                .collect(Collectors.toList());
+    }
+
+    public static ExpenseResponse of(ExpenseSearchRow row) {
+        return ExpenseResponse.builder()
+                .expenseId(row.id())
+                .expenseAt(row.expenseAt())
+                .expenseMount(row.amount())
+                .memo(row.memo())
+                .categoryId(row.categoryId())
+                .build();
+    }
+
     public static ExpenseResponse of(Expense expense) {
         return ExpenseResponse.builder()
                 .expenseId(expense.getId())
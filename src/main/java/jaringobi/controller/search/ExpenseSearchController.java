@@ -4,12 +4,24 @@ import jakarta.validation.Valid;
 import jaringobi.auth.AuthenticationPrincipal;
 import jaringobi.common.response.ApiResponse;
 import jaringobi.domain.user.AppUser;
+import jaringobi.dto.ExportFormat;
 import jaringobi.dto.request.ExpenseSearchCondition;
+import jaringobi.service.export.ExpenseExportService;
+import jaringobi.service.search.ExpenseSearchCache;
 import jaringobi.service.search.ExpenseSearchService;
+import jaringobi.service.version.UserDataVersion;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequiredArgsConstructor
 @RestController
@@ -17,14 +29,42 @@ import org.springframework.web.bind.annotation.RestController;
 public class ExpenseSearchController {
 
     public final ExpenseSearchService expenseSearchService;
+    public final ExpenseExportService expenseExportService;
+    public final ExpenseSearchCache expenseSearchCache;
+    public final UserDataVersion userDataVersion;
 
     @GetMapping
-    public ApiResponse<ExpenseSearchResponse> searchExpenditures(
+    public ResponseEntity<ApiResponse<ExpenseSearchResponse>> searchExpenditures(
             @AuthenticationPrincipal AppUser appUser,
-            @Valid ExpenseSearchParameter expenseSearchParameter
+            @Valid ExpenseSearchParameter expenseSearchParameter,
+            WebRequest webRequest
     ) {
         ExpenseSearchCondition condition = expenseSearchParameter.toCondition();
-        ExpenseSearchResponse expenseSearchResponse = expenseSearchService.searchExpense(appUser, condition);
-        return ApiResponse.ok(expenseSearchResponse);
+        String eTag = userDataVersion.searchTagOf(appUser, condition);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        ExpenseSearchResponse expenseSearchResponse = expenseSearchCache.get(appUser, condition,
+                () -> expenseSearchService.searchExpense(appUser, condition));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.ok(expenseSearchResponse));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportExpenditures(
+            @AuthenticationPrincipal AppUser appUser,
+            @Valid ExpenseSearchParameter expenseSearchParameter,
+            @RequestParam(defaultValue = "csv") ExportFormat format
+    ) {
+        ExpenseSearchCondition condition = expenseSearchParameter.toCondition();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("expenses." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(expenseExportService.export(appUser, condition, format));
     }
 }
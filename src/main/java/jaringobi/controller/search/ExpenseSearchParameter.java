@@ -47,6 +47,8 @@ public class ExpenseSearchParameter implements Serializable {
     private SearchOrder order;
     private SearchSort sort;
     private List<Long> cids;
+    private String cursor;
+    private Boolean withTotal;
 
     public ExpenseSearchCondition toCondition() {
         return ExpenseSearchCondition.builder()
@@ -58,6 +60,8 @@ public class ExpenseSearchParameter implements Serializable {
                 .order(order)
                 .sort(sort)
                 .size(size)
+                .cursor(cursor)
+                .withTotal(withTotal)
                 .build();
     }
 }
@@ -1,6 +1,8 @@
 package jaringobi.controller.search;
 
-import jaringobi.domain.expense.Expense;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import jaringobi.domain.expense.ExpenseSearchRow;
 import java.io.Serializable;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -18,17 +20,30 @@ public class ExpenseSearchResponse implements Serializable {
     private boolean isEnd;
     private int totalExpenditure;
     private List<CategoryExpenseSum> categoryExpenseSums;
+    private List<CategoryGroupExpenseSum> categoryGroupExpenseSums;
+
+    @JsonInclude(Include.NON_NULL)
+    private String nextCursor;
+
+    @JsonInclude(Include.NON_NULL)
+    private Long totalCount;
 
     public static ExpenseSearchResponse from(
-            List<Expense> expenses,
+            List<ExpenseSearchRow> expenses,
             List<CategoryExpenseSum> categoryExpenseSums,
-            boolean isEnd
+            List<CategoryGroupExpenseSum> categoryGroupExpenseSums,
+            boolean isEnd,
+            String nextCursor,
+            Long totalCount
     ) {
         return ExpenseSearchResponse.builder()
-                .expenseResponses(ExpenseResponse.listOf(expenses))
+                .expenseResponses(ExpenseResponse.listOfRows(expenses))
                 .categoryExpenseSums(categoryExpenseSums)
+                .categoryGroupExpenseSums(categoryGroupExpenseSums)
                 .totalExpenditure(toSum(categoryExpenseSums))
                 .isEnd(isEnd)
+                .nextCursor(nextCursor)
+                .totalCount(totalCount)
                 .build();
     }
 
@@ -0,0 +1,12 @@
+package jaringobi.controller.search;
+
+import jaringobi.dto.ExportFormat;
+import org.springframework.core.convert.converter.Converter;
+
+public class ExportFormatRequestConverter implements Converter<String, ExportFormat> {
+
+    @Override
+    public ExportFormat convert(String exportFormat) {
+        return ExportFormat.of(exportFormat);
+    }
+}
@@ -0,0 +1,107 @@
+package jaringobi.domain.alert;
+
+import jaringobi.domain.budget.CategoryAmountRow;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 예산 알림의 기준값. 구독을 시작하거나 지출이 수정, 삭제되어 누적 합계를 다시 맞출 때만 읽는다.
+ * 세대 번호는 구독 중인 사용자의 변경이 다른 인스턴스에서 커밋되었는지 확인하려고 주기적으로 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BudgetAlertRepository {
+
+    private static final String FIND_MONTH_TOTALS_SQL = """
+            SELECT s.user_id AS owner_id, s.category_id, SUM(s.total) AS amount
+            FROM expense_daily_summary s
+            WHERE s.user_id = :userId AND s.day BETWEEN :monthStart AND :day
+            GROUP BY s.user_id, s.category_id
+            """;
+
+    private static final String FIND_DAY_TOTALS_SQL = """
+            SELECT s.user_id AS owner_id, s.category_id, s.total AS amount
+            FROM expense_daily_summary s
+            WHERE s.user_id = :userId AND s.day = :day
+            """;
+
+    // 같은 달 예산이 여러 개면 먼저 만든 예산을 먼저 읽는다.
+    private static final String FIND_LIMITS_SQL = """
+            SELECT b.user_id AS owner_id, c.category_id, c.amount
+            FROM budget b
+            JOIN budget_by_category c ON c.budget_id = b.id
+            WHERE b.user_id = :userId AND b.budget_month = :monthStart
+            ORDER BY b.id
+            """;
+
+    private static final String FIND_LAST_EXPENSE_ID_SQL = """
+            SELECT COALESCE(MAX(e.id), 0)
+            FROM expense e
+            WHERE e.user_id = :userId
+            """;
+
+    private static final String FIND_GENERATIONS_SQL = """
+            SELECT g.user_id, g.expense_generation, g.budget_generation
+            FROM user_data_generation g
+            WHERE g.user_id IN (:userIds)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<CategoryAmountRow> findMonthTotals(long userId, LocalDate day) {
+        return query(FIND_MONTH_TOTALS_SQL, userId, day);
+    }
+
+    public List<CategoryAmountRow> findDayTotals(long userId, LocalDate day) {
+        return query(FIND_DAY_TOTALS_SQL, userId, day);
+    }
+
+    public List<CategoryAmountRow> findLimits(long userId, LocalDate day) {
+        return query(FIND_LIMITS_SQL, userId, day);
+    }
+
+    /**
+     * 합계와 같은 스냅샷(트랜잭션) 안에서 읽어야 합계에 들어간 지출의 경계가 된다.
+     */
+    public long findLastExpenseId(long userId) {
+        Long lastExpenseId = namedParameterJdbcTemplate.queryForObject(FIND_LAST_EXPENSE_ID_SQL,
+                new MapSqlParameterSource("userId", userId), Long.class);
+        return lastExpenseId == null ? 0 : lastExpenseId;
+    }
+
+    /**
+     * 합계와 같은 스냅샷(트랜잭션) 안에서 읽으면 합계가 어느 세대까지 반영했는지 알 수 있다.
+     */
+    public DataGeneration findGeneration(long userId) {
+        return findGenerations(List.of(userId)).getOrDefault(userId, DataGeneration.NONE);
+    }
+
+    /**
+     * @return 세대 번호 행이 있는 사용자만 담는다. 없는 사용자는 {@link DataGeneration#NONE} 이다.
+     */
+    public Map<Long, DataGeneration> findGenerations(Collection<Long> userIds) {
+        Map<Long, DataGeneration> generations = new HashMap<>();
+        namedParameterJdbcTemplate.query(FIND_GENERATIONS_SQL, new MapSqlParameterSource("userIds", userIds),
+                rs -> {
+                    generations.put(rs.getLong("user_id"), new DataGeneration(rs.getLong("expense_generation"),
+                            rs.getLong("budget_generation")));
+                });
+        return generations;
+    }
+
+    private List<CategoryAmountRow> query(String sql, long userId, LocalDate day) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("monthStart", day.withDayOfMonth(1))
+                .addValue("day", day);
+        return namedParameterJdbcTemplate.query(sql, params, (rs, rowNum) -> new CategoryAmountRow(
+                rs.getLong("owner_id"), rs.getLong("category_id"), rs.getLong("amount")));
+    }
+}
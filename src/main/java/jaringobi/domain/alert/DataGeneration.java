@@ -0,0 +1,10 @@
+package jaringobi.domain.alert;
+
+/**
+ * 사용자의 지출, 예산 세대 번호. 커밋된 변경마다 해당 세대가 올라가므로 값이 다르면 다시 읽어야 한다.
+ */
+public record DataGeneration(long expenseGeneration, long budgetGeneration) {
+
+    // 한 번도 바뀐 적 없는 사용자
+    public static final DataGeneration NONE = new DataGeneration(0, 0);
+}
@@ -0,0 +1,30 @@
+package jaringobi.domain.budget;
+
+/**
+ * 한 달 예산(또는 지출) 총액 구간. 총액이 비슷한 사용자끼리 카테고리 비중을 비교한다.
+ */
+public enum BudgetBucket {
+
+    UNDER_500K(500_000L),
+    UNDER_1M(1_000_000L),
+    UNDER_2M(2_000_000L),
+    UNDER_3M(3_000_000L),
+    OVER_3M(Long.MAX_VALUE);
+
+    private static final BudgetBucket[] VALUES = values();
+
+    private final long upperBound;
+
+    BudgetBucket(long upperBound) {
+        this.upperBound = upperBound;
+    }
+
+    public static BudgetBucket of(long monthlyTotal) {
+        for (BudgetBucket bucket : VALUES) {
+            if (monthlyTotal < bucket.upperBound) {
+                return bucket;
+            }
+        }
+        return OVER_3M;
+    }
+}
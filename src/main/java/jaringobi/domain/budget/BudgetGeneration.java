@@ -0,0 +1,54 @@
+package jaringobi.domain.budget;
+
+import jaringobi.domain.user.AppUser;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 예산 세대 번호. 예산, 카테고리별 예산 변경과 같은 트랜잭션에서 1 씩 올려 커밋과 함께 모든 인스턴스에 보이게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BudgetGeneration {
+
+    private static final String CURRENT_SQL = """
+            SELECT g.budget_generation
+            FROM user_data_generation g
+            WHERE g.user_id = :userId
+            """;
+
+    private static final String INCREASE_SQL = """
+            INSERT INTO user_data_generation (user_id, budget_generation)
+            VALUES (:userId, 1)
+            ON DUPLICATE KEY UPDATE budget_generation = budget_generation + 1
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public long current(long userId) {
+        List<Long> generations = namedParameterJdbcTemplate.queryForList(CURRENT_SQL,
+                new MapSqlParameterSource("userId", userId), Long.class);
+        return generations.isEmpty() ? 0 : generations.get(0);
+    }
+
+    /**
+     * 예산을 바꾼 트랜잭션 안에서 호출한다. 롤백되면 세대 번호도 함께 되돌려진다.
+     */
+    public void increase(AppUser appUser) {
+        namedParameterJdbcTemplate.update(INCREASE_SQL, new MapSqlParameterSource("userId", appUser.userId()));
+    }
+
+    /**
+     * 월 이월처럼 여러 사용자의 예산을 한 번에 바꾼 뒤 한 배치로 올린다.
+     */
+    public void increase(List<Long> userIds) {
+        SqlParameterSource[] params = userIds.stream()
+                .map(userId -> new MapSqlParameterSource("userId", userId))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(INCREASE_SQL, params);
+    }
+}
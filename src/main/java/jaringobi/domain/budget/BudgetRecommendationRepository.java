@@ -0,0 +1,141 @@
+package jaringobi.domain.budget;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 예산 추천 배치의 원본 스캔과 결과(budget_recommendation) 저장.
+ * 스캔은 사용자 id 구간 단위라 구간마다 다른 스레드에서 나눠 읽을 수 있고,
+ * 구간의 결과는 메모리에 모으지 않는 스트리밍 결과셋으로 한 행씩 넘긴다.
+ */
+@Repository
+public class BudgetRecommendationRepository {
+
+    private static final String FIND_USER_ID_RANGE_SQL = "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM users";
+
+    // budget_id 순서로 읽어 예산 하나씩 비중을 구한다.
+    private static final String SCAN_BUDGETS_SQL = """
+            SELECT c.budget_id AS owner_id, c.category_id, c.amount
+            FROM budget b
+            JOIN budget_by_category c ON c.budget_id = b.id
+            WHERE b.user_id BETWEEN :fromUserId AND :toUserId AND b.budget_month >= :since
+            ORDER BY c.budget_id
+            """;
+
+    // 지출 원본 대신 같은 값을 담은 일별 롤업을 사용자, 카테고리로 묶어 읽는다.
+    private static final String SCAN_EXPENSES_SQL = """
+            SELECT s.user_id AS owner_id, s.category_id, SUM(s.total) AS amount
+            FROM expense_daily_summary s
+            WHERE s.user_id BETWEEN :fromUserId AND :toUserId AND s.day >= :since
+            GROUP BY s.user_id, s.category_id
+            ORDER BY s.user_id
+            """;
+
+    private static final String CLAIM_RUN_SQL = """
+            INSERT IGNORE INTO budget_recommendation_run(run_day, started_at) VALUES (:day, :now)
+            """;
+
+    private static final String DELETE_ALL_SQL = "DELETE FROM budget_recommendation";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO budget_recommendation(bucket, category_id, budget_share_sum, budget_samples,
+                                              expense_share_sum, expense_samples, computed_at)
+            VALUES (:bucket, :categoryId, :budgetShareSum, :budgetSamples, :expenseShareSum, :expenseSamples, :now)
+            """;
+
+    private static final String FIND_ALL_SQL = """
+            SELECT bucket, category_id, budget_share_sum, budget_samples, expense_share_sum, expense_samples
+            FROM budget_recommendation
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+
+    public BudgetRecommendationRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            DataSource dataSource) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // ExpenseExportRepository 와 같이 fetchSize 를 Integer.MIN_VALUE 로 두어 Connector/J 가 결과를 한 행씩 읽게 한다.
+        jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * @return [최소 사용자 id, 최대 사용자 id]. 사용자가 없으면 빈 값
+     */
+    public Optional<long[]> findUserIdRange() {
+        return namedParameterJdbcTemplate.query(FIND_USER_ID_RANGE_SQL, (rs, rowNum) -> {
+                    long min = rs.getLong("min_id");
+                    return rs.wasNull() ? null : new long[]{min, rs.getLong("max_id")};
+                })
+                .stream()
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    /**
+     * 그날의 야간 배치를 맡는다. 기본 키 충돌이면(다른 인스턴스가 이미 맡았으면) 아무것도 쓰지 않는다.
+     *
+     * @return 이 호출이 맡았으면 true
+     */
+    public boolean claimRun(LocalDate day, LocalDateTime now) {
+        return namedParameterJdbcTemplate.update(CLAIM_RUN_SQL, new MapSqlParameterSource()
+                .addValue("day", day)
+                .addValue("now", now)) > 0;
+    }
+
+    public void scanBudgets(long fromUserId, long toUserId, LocalDate since, Consumer<CategoryAmountRow> consumer) {
+        scan(SCAN_BUDGETS_SQL, fromUserId, toUserId, since, consumer);
+    }
+
+    public void scanExpenses(long fromUserId, long toUserId, LocalDate since, Consumer<CategoryAmountRow> consumer) {
+        scan(SCAN_EXPENSES_SQL, fromUserId, toUserId, since, consumer);
+    }
+
+    public void replaceAll(List<BudgetRecommendationRow> rows, LocalDateTime now) {
+        namedParameterJdbcTemplate.update(DELETE_ALL_SQL, new MapSqlParameterSource());
+        SqlParameterSource[] batch = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("bucket", row.bucket().name())
+                        .addValue("categoryId", row.categoryId())
+                        .addValue("budgetShareSum", row.budgetShareSum())
+                        .addValue("budgetSamples", row.budgetSamples())
+                        .addValue("expenseShareSum", row.expenseShareSum())
+                        .addValue("expenseSamples", row.expenseSamples())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+
+    public List<BudgetRecommendationRow> findAll() {
+        return namedParameterJdbcTemplate.query(FIND_ALL_SQL, (rs, rowNum) -> new BudgetRecommendationRow(
+                BudgetBucket.valueOf(rs.getString("bucket")),
+                rs.getLong("category_id"),
+                rs.getDouble("budget_share_sum"),
+                rs.getInt("budget_samples"),
+                rs.getDouble("expense_share_sum"),
+                rs.getInt("expense_samples")));
+    }
+
+    private void scan(String sql, long fromUserId, long toUserId, LocalDate since,
+            Consumer<CategoryAmountRow> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromUserId", fromUserId)
+                .addValue("toUserId", toUserId)
+                .addValue("since", since);
+        streamingJdbcTemplate.query(sql, params, rs -> {
+            consumer.accept(new CategoryAmountRow(rs.getLong("owner_id"), rs.getLong("category_id"),
+                    rs.getLong("amount")));
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package jaringobi.domain.budget;
+
+/**
+ * budget_recommendation 한 행. 표본 수는 구간 단위 값이라 같은 구간의 행은 모두 같다.
+ */
+public record BudgetRecommendationRow(BudgetBucket bucket, long categoryId, double budgetShareSum,
+                                      int budgetSamples, double expenseShareSum, int expenseSamples) {
+
+}
@@ -1,7 +1,23 @@
 package jaringobi.domain.budget;
 
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
 
+    /**
+     * 예산과 카테고리별 예산을 한 번에 읽는다. 사용자는 조건으로만 쓰고 읽지 않는다.
+     *
+     * @return 비어 있으면 예산이 없거나 다른 사용자의 예산이다.
+     */
+    @Query("""
+            select distinct b from Budget b
+            left join fetch b.categoryBudgets
+            where b.id = :budgetId and b.user.id = :userId
+            """)
+    Optional<Budget> findOwnedWithCategoryBudgets(@Param("budgetId") long budgetId, @Param("userId") long userId);
+
+    boolean existsByIdAndUserId(long id, long userId);
 }
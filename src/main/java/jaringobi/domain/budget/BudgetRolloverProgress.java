@@ -0,0 +1,23 @@
+package jaringobi.domain.budget;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 월별 이월 진행 상황.
+ *
+ * @param month      이월 대상 달 (1일)
+ * @param lastUserId 마지막으로 커밋한 청크의 마지막 사용자 id
+ * @param completedAt 모든 사용자를 처리한 시각. 진행 중이면 null
+ */
+public record BudgetRolloverProgress(LocalDate month, long lastUserId, LocalDateTime completedAt) {
+
+    public static BudgetRolloverProgress of(LocalDate month, long lastUserId, LocalDateTime completedAt) {
+        return new BudgetRolloverProgress(month, lastUserId, completedAt);
+    }
+
+    public boolean isCompleted() {
+        return Objects.nonNull(completedAt);
+    }
+}
@@ -0,0 +1,138 @@
+package jaringobi.domain.budget;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 전월 예산을 새 달로 복사하는 월초 이월. 사용자 id 구간 단위의 INSERT ... SELECT 로 처리하며
+ * 엔티티를 읽지 않는다. 호출하는 쪽의 트랜잭션에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BudgetRolloverRepository {
+
+    private static final String INSERT_PROGRESS_IF_ABSENT_SQL = """
+            INSERT IGNORE INTO budget_rollover_progress(budget_month, last_user_id) VALUES (:month, 0)
+            """;
+
+    // 여러 인스턴스가 같은 달을 이월해도 청크를 하나씩 나눠 가지도록 진행 행을 잠근다.
+    private static final String LOCK_PROGRESS_SQL = """
+            SELECT last_user_id, completed_at FROM budget_rollover_progress WHERE budget_month = :month FOR UPDATE
+            """;
+
+    private static final String FIND_PROGRESS_SQL = """
+            SELECT last_user_id, completed_at FROM budget_rollover_progress WHERE budget_month = :month
+            """;
+
+    private static final String FIND_OPTED_IN_USER_IDS_SQL = """
+            SELECT id FROM users
+            WHERE budget_rollover = 1 AND id > :afterUserId
+            ORDER BY id
+            LIMIT :limit
+            """;
+
+    // 전월 예산이 있고 새 달 예산이 아직 없는 사용자에게만 예산을 만든다.
+    private static final String COPY_BUDGETS_SQL = """
+            INSERT INTO budget(budget_month, user_id, created_at, updated_at)
+            SELECT :month, u.id, :now, :now
+            FROM users u
+            WHERE u.id BETWEEN :firstUserId AND :lastUserId AND u.budget_rollover = 1 AND u.is_deleted = 0
+              AND EXISTS (SELECT 1 FROM budget p WHERE p.user_id = u.id AND p.budget_month = :previousMonth)
+              AND NOT EXISTS (SELECT 1 FROM budget n WHERE n.user_id = u.id AND n.budget_month = :month)
+            """;
+
+    // 카테고리 예산이 하나도 없는 새 달 예산에만 전월의 마지막 예산의 카테고리 예산을 복사한다.
+    private static final String COPY_CATEGORY_BUDGETS_SQL = """
+            INSERT INTO budget_by_category(budget_id, category_id, amount, created_at, updated_at)
+            SELECT n.id, c.category_id, c.amount, :now, :now
+            FROM budget n
+            JOIN users u ON u.id = n.user_id AND u.budget_rollover = 1
+            JOIN budget p ON p.id = (
+                SELECT MAX(p2.id) FROM budget p2 WHERE p2.user_id = n.user_id AND p2.budget_month = :previousMonth
+            )
+            JOIN budget_by_category c ON c.budget_id = p.id
+            WHERE n.user_id BETWEEN :firstUserId AND :lastUserId AND n.budget_month = :month
+              AND NOT EXISTS (SELECT 1 FROM budget_by_category e WHERE e.budget_id = n.id)
+            """;
+
+    private static final String UPDATE_PROGRESS_SQL = """
+            UPDATE budget_rollover_progress SET last_user_id = :lastUserId WHERE budget_month = :month
+            """;
+
+    private static final String COMPLETE_PROGRESS_SQL = """
+            UPDATE budget_rollover_progress SET completed_at = :now WHERE budget_month = :month
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 진행 행이 없으면 만들고 잠근다.
+     */
+    public BudgetRolloverProgress lockProgress(LocalDate month) {
+        MapSqlParameterSource params = new MapSqlParameterSource("month", month);
+        namedParameterJdbcTemplate.update(INSERT_PROGRESS_IF_ABSENT_SQL, params);
+        return namedParameterJdbcTemplate.queryForObject(LOCK_PROGRESS_SQL, params,
+                (rs, rowNum) -> BudgetRolloverProgress.of(month, rs.getLong("last_user_id"),
+                        rs.getObject("completed_at", LocalDateTime.class)));
+    }
+
+    public Optional<BudgetRolloverProgress> findProgress(LocalDate month) {
+        return namedParameterJdbcTemplate.query(FIND_PROGRESS_SQL, new MapSqlParameterSource("month", month),
+                        (rs, rowNum) -> BudgetRolloverProgress.of(month, rs.getLong("last_user_id"),
+                                rs.getObject("completed_at", LocalDateTime.class)))
+                .stream()
+                .findFirst();
+    }
+
+    public List<Long> findOptedInUserIds(long afterUserId, int limit) {
+        return namedParameterJdbcTemplate.queryForList(FIND_OPTED_IN_USER_IDS_SQL, new MapSqlParameterSource()
+                .addValue("afterUserId", afterUserId)
+                .addValue("limit", limit), Long.class);
+    }
+
+    /**
+     * @return 만든 예산 수
+     */
+    public int copyBudgets(LocalDate previousMonth, LocalDate month, long firstUserId, long lastUserId,
+            LocalDateTime now) {
+        return namedParameterJdbcTemplate.update(COPY_BUDGETS_SQL,
+                copyParams(previousMonth, month, firstUserId, lastUserId, now));
+    }
+
+    /**
+     * @return 복사한 카테고리 예산 수
+     */
+    public int copyCategoryBudgets(LocalDate previousMonth, LocalDate month, long firstUserId, long lastUserId,
+            LocalDateTime now) {
+        return namedParameterJdbcTemplate.update(COPY_CATEGORY_BUDGETS_SQL,
+                copyParams(previousMonth, month, firstUserId, lastUserId, now));
+    }
+
+    public void updateProgress(LocalDate month, long lastUserId) {
+        namedParameterJdbcTemplate.update(UPDATE_PROGRESS_SQL, new MapSqlParameterSource()
+                .addValue("month", month)
+                .addValue("lastUserId", lastUserId));
+    }
+
+    public void complete(LocalDate month, LocalDateTime now) {
+        namedParameterJdbcTemplate.update(COMPLETE_PROGRESS_SQL, new MapSqlParameterSource()
+                .addValue("month", month)
+                .addValue("now", now));
+    }
+
+    private MapSqlParameterSource copyParams(LocalDate previousMonth, LocalDate month, long firstUserId,
+            long lastUserId, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("previousMonth", previousMonth)
+                .addValue("month", month)
+                .addValue("firstUserId", firstUserId)
+                .addValue("lastUserId", lastUserId)
+                .addValue("now", now);
+    }
+}
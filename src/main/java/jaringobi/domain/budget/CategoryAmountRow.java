@@ -0,0 +1,10 @@
+package jaringobi.domain.budget;
+
+/**
+ * 표본(예산 또는 사용자) 하나의 카테고리별 금액.
+ *
+ * @param ownerId 예산 비중이면 budget id, 지출 비중이면 user id
+ */
+public record CategoryAmountRow(long ownerId, long categoryId, long amount) {
+
+}
@@ -0,0 +1,91 @@
+package jaringobi.domain.budget;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 한 예산의 카테고리 예산을 일괄 반영한다. (budget_id, category_id) 유니크 키로 추가와 수정을 한 배치에 담는다.
+ * 호출하는 쪽의 트랜잭션에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CategoryBudgetBulkRepository {
+
+    // 같은 예산에 대한 일괄 반영이 동시에 들어오면 차이 계산부터 순서대로 하도록 예산 행을 잠근다.
+    private static final String LOCK_OWNED_BUDGET_SQL = """
+            SELECT id FROM budget WHERE id = :budgetId AND user_id = :userId FOR UPDATE
+            """;
+
+    private static final String FIND_AMOUNTS_SQL = """
+            SELECT category_id, amount FROM budget_by_category WHERE budget_id = :budgetId
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO budget_by_category(budget_id, category_id, amount, created_at, updated_at)
+            VALUES (:budgetId, :categoryId, :amount, :now, :now) AS requested
+            ON DUPLICATE KEY UPDATE amount = requested.amount, updated_at = requested.updated_at
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM budget_by_category WHERE budget_id = :budgetId AND category_id IN (:categoryIds)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * @return 내 예산이 없으면 false
+     */
+    public boolean lockOwned(long budgetId, long userId) {
+        List<Long> ids = namedParameterJdbcTemplate.queryForList(LOCK_OWNED_BUDGET_SQL,
+                new MapSqlParameterSource()
+                        .addValue("budgetId", budgetId)
+                        .addValue("userId", userId), Long.class);
+        return !ids.isEmpty();
+    }
+
+    /**
+     * @return categoryId → 금액
+     */
+    public Map<Long, Integer> findAmountsByCategory(long budgetId) {
+        Map<Long, Integer> amounts = new HashMap<>();
+        namedParameterJdbcTemplate.query(FIND_AMOUNTS_SQL, new MapSqlParameterSource("budgetId", budgetId),
+                rs -> {
+                    amounts.put(rs.getLong("category_id"), rs.getInt("amount"));
+                });
+        return amounts;
+    }
+
+    public void apply(long budgetId, CategoryBudgetChanges changes, LocalDateTime now) {
+        if (!changes.upserts().isEmpty()) {
+            upsertAll(budgetId, changes.upserts(), now);
+        }
+        if (!changes.removals().isEmpty()) {
+            deleteAll(budgetId, changes.removals());
+        }
+    }
+
+    private void upsertAll(long budgetId, Map<Long, Integer> amounts, LocalDateTime now) {
+        SqlParameterSource[] batch = amounts.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("budgetId", budgetId)
+                        .addValue("categoryId", entry.getKey())
+                        .addValue("amount", entry.getValue())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+    }
+
+    private void deleteAll(long budgetId, Collection<Long> categoryIds) {
+        namedParameterJdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource()
+                .addValue("budgetId", budgetId)
+                .addValue("categoryIds", categoryIds));
+    }
+}
@@ -0,0 +1,38 @@
+package jaringobi.domain.budget;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 현재 카테고리 예산과 요청한 카테고리 예산을 categoryId 로 맞춰 본 차이.
+ * 금액이 같은 카테고리는 쓰지 않는다.
+ *
+ * @param upserts  추가하거나 금액을 바꿀 카테고리 예산 (categoryId → 금액)
+ * @param removals 삭제할 categoryId
+ */
+public record CategoryBudgetChanges(Map<Long, Integer> upserts, List<Long> removals) {
+
+    public static CategoryBudgetChanges between(Map<Long, Integer> current, Map<Long, Integer> requested,
+            CategoryBudgetPutMode mode) {
+        Map<Long, Integer> upserts = new LinkedHashMap<>();
+        requested.forEach((categoryId, amount) -> {
+            if (!Objects.equals(current.get(categoryId), amount)) {
+                upserts.put(categoryId, amount);
+            }
+        });
+        List<Long> removals = new ArrayList<>();
+        if (mode == CategoryBudgetPutMode.REPLACE) {
+            current.keySet().stream()
+                    .filter(categoryId -> !requested.containsKey(categoryId))
+                    .forEach(removals::add);
+        }
+        return new CategoryBudgetChanges(upserts, removals);
+    }
+
+    public boolean isEmpty() {
+        return upserts.isEmpty() && removals.isEmpty();
+    }
+}
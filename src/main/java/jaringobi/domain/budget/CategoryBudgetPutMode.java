@@ -0,0 +1,12 @@
+package jaringobi.domain.budget;
+
+/**
+ * 카테고리 예산 일괄 반영 방식.
+ */
+public enum CategoryBudgetPutMode {
+
+    // 요청에 없는 카테고리 예산은 삭제한다.
+    REPLACE,
+    // 요청에 없는 카테고리 예산은 그대로 둔다.
+    MERGE
+}
@@ -1,8 +1,54 @@
 package jaringobi.domain.budget;
 
+import java.time.LocalDateTime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CategoryBudgetRepository extends JpaRepository<CategoryBudget, Long> {
 
     Integer deleteByBudgetAndCategoryId(Budget budget, long categoryId);
+
+    /**
+     * 예산을 읽지 않고 소유자 조건으로 카테고리 예산을 추가한다. 이미 같은 카테고리가 있으면 추가하지 않는다.
+     *
+     * @return 추가된 행 수. 0 이면 예산이 없거나 다른 사용자의 예산이거나 이미 있는 카테고리다.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO budget_by_category (budget_id, category_id, amount, created_at, updated_at)
+            SELECT b.id, :categoryId, :amount, :now, :now
+            FROM budget b
+            WHERE b.id = :budgetId AND b.user_id = :userId
+              AND NOT EXISTS (SELECT 1 FROM budget_by_category c WHERE c.budget_id = b.id AND c.category_id = :categoryId)
+            """)
+    int insertOwnedBy(@Param("budgetId") long budgetId, @Param("userId") long userId,
+            @Param("categoryId") long categoryId, @Param("amount") int amount, @Param("now") LocalDateTime now);
+
+    /**
+     * @return 수정된 행 수. 0 이면 예산이 없거나 다른 사용자의 예산이거나 없는 카테고리다.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE budget_by_category c
+            JOIN budget b ON b.id = c.budget_id
+            SET c.amount = :amount, c.updated_at = :updatedAt
+            WHERE c.budget_id = :budgetId AND c.category_id = :categoryId AND b.user_id = :userId
+            """)
+    int updateOwnedBy(@Param("budgetId") long budgetId, @Param("userId") long userId,
+            @Param("categoryId") long categoryId, @Param("amount") int amount,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * @return 삭제된 행 수. 0 이면 예산이 없거나 다른 사용자의 예산이거나 없는 카테고리다.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            DELETE c FROM budget_by_category c
+            JOIN budget b ON b.id = c.budget_id
+            WHERE c.budget_id = :budgetId AND c.category_id = :categoryId AND b.user_id = :userId
+            """)
+    int deleteOwnedBy(@Param("budgetId") long budgetId, @Param("userId") long userId,
+            @Param("categoryId") long categoryId);
 }
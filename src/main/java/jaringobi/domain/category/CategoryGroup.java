@@ -0,0 +1,38 @@
+package jaringobi.domain.category;
+
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 카테고리 묶음. 카테고리 시드(R__truncate_and_insert_category_data.sql)의 id 를 그대로 쓴다.
+ * 시드에서 카테고리를 옮기거나 추가하면 여기도 함께 고친다.
+ */
+@Getter
+public enum CategoryGroup {
+
+    FIXED("고정비", Set.of(1L, 2L)),
+    LIVING("생활비", Set.of(3L, 4L)),
+    ACTIVITY("활동비", Set.of(5L, 6L)),
+    SOCIAL("친목비", Set.of(7L, 8L)),
+    APPEARANCE("꾸밈비", Set.of(9L, 10L, 11L)),
+    VEHICLE("차량비", Set.of(12L, 13L)),
+    CONTRIBUTION("기여비", Set.of(14L, 15L)),
+    RESERVE("예비비", Set.of(16L));
+
+    private final String title;
+    private final Set<Long> categoryIds;
+
+    CategoryGroup(String title, Set<Long> categoryIds) {
+        this.title = title;
+        this.categoryIds = categoryIds;
+    }
+
+    public static CategoryGroup of(long categoryId) {
+        for (CategoryGroup group : values()) {
+            if (group.categoryIds.contains(categoryId)) {
+                return group;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,106 @@
+package jaringobi.domain.category;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리는 마이그레이션으로만 바뀌는 기준 데이터라 메모리에 올려 두고, 존재 여부를 조회 없이 확인한다.
+ * 기동이 끝나면 적재하고(그 전에 쓰이면 처음 사용할 때 적재) reload() 로 다시 읽는다.
+ * 적재한 결과는 한 번에 바꿔 끼우므로 읽는 쪽은 락 없이 항상 한 시점의 목록을 본다.
+ */
+@Component
+public class CategoryRegistry {
+
+    private final CategoryQuery categoryQuery;
+    private volatile Snapshot snapshot;
+
+    public CategoryRegistry(CategoryQuery categoryQuery) {
+        this.categoryQuery = categoryQuery;
+    }
+
+    public boolean contains(long categoryId) {
+        return snapshot().contains(categoryId);
+    }
+
+    public Set<Long> ids() {
+        return snapshot().ids();
+    }
+
+    /**
+     * 카테고리가 속한 묶음. 등록되지 않았거나 묶음이 없는 카테고리는 null 이다.
+     */
+    public CategoryGroup groupOf(long categoryId) {
+        return snapshot().groupOf(categoryId);
+    }
+
+    /**
+     * id 순으로 정렬한 카테고리 목록. 다시 적재하기 전까지는 같은 인스턴스를 돌려준다.
+     */
+    public List<Category> categories() {
+        return snapshot().categories();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        snapshot = load();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot loaded = snapshot;
+        if (Objects.isNull(loaded)) {
+            loaded = load();
+            snapshot = loaded;
+        }
+        return loaded;
+    }
+
+    private Snapshot load() {
+        List<Category> categories = categoryQuery.findAll().stream()
+                .sorted(Comparator.comparing(Category::getId))
+                .toList();
+        return Snapshot.of(categories);
+    }
+
+    /**
+     * byId, groupById 는 카테고리 id 를 인덱스로 쓰는 배열이다. 시드 id 가 1 부터 촘촘히 매겨져 있어 배열이 작다.
+     */
+    private record Snapshot(Category[] byId, CategoryGroup[] groupById, List<Category> categories, Set<Long> ids) {
+
+        private static Snapshot of(List<Category> categories) {
+            int maxId = categories.stream()
+                    .mapToInt(category -> Math.toIntExact(category.getId()))
+                    .max()
+                    .orElse(0);
+            Category[] byId = new Category[maxId + 1];
+            CategoryGroup[] groupById = new CategoryGroup[maxId + 1];
+            categories.forEach(category -> {
+                int id = Math.toIntExact(category.getId());
+                byId[id] = category;
+                groupById[id] = CategoryGroup.of(id);
+            });
+            Set<Long> ids = Arrays.stream(byId)
+                    .filter(Objects::nonNull)
+                    .map(Category::getId)
+                    .collect(Collectors.toUnmodifiableSet());
+            return new Snapshot(byId, groupById, categories, ids);
+        }
+
+        private boolean contains(long categoryId) {
+            return categoryId > 0 && categoryId < byId.length && byId[(int) categoryId] != null;
+        }
+
+        private CategoryGroup groupOf(long categoryId) {
+            if (!contains(categoryId)) {
+                return null;
+            }
+            return groupById[(int) categoryId];
+        }
+    }
+}
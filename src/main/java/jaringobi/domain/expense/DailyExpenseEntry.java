@@ -0,0 +1,25 @@
+package jaringobi.domain.expense;
+
+import jaringobi.domain.user.AppUser;
+import java.time.LocalDate;
+
+/**
+ * 일별 지출 합계(expense_daily_summary)에 반영할 지출 한 건의 (사용자, 일자, 카테고리, 금액).
+ */
+public record DailyExpenseEntry(long userId, LocalDate day, long categoryId, int amount) {
+
+    public static DailyExpenseEntry of(AppUser appUser, Expense expense) {
+        return new DailyExpenseEntry(
+                appUser.userId(),
+                expense.getExpenseAt().toLocalDate(),
+                expense.getCategory().getId(),
+                expense.getMoney().getAmount());
+    }
+
+    /**
+     * 같은 합계 행의 항목끼리 묶을 때 쓰는 키. 금액만 0 으로 비운다.
+     */
+    public DailyExpenseEntry withoutAmount() {
+        return new DailyExpenseEntry(userId, day, categoryId, 0);
+    }
+}
@@ -66,7 +66,7 @@ public class Expense extends BaseTimeEntity {
             final LocalDateTime expenseAt, final Boolean exclude) {
         verifyNonNullArgument(money, category, expenseAt);
         this.id = id;
-        this.expenseAt = expenseAt;
+        this.expenseAt = ExpenseDateTimes.toStored(expenseAt);
         if (Objects.nonNull(memo)) {
             setMemo(memo);
         }
@@ -0,0 +1,11 @@
+package jaringobi.domain.expense;
+
+import java.time.LocalDate;
+
+/**
+ * expense 원본 집계(expected)와 expense_daily_summary(actual)가 다른 행.
+ */
+public record ExpenseDailySummaryDrift(long userId, LocalDate day, long categoryId, long expectedTotal,
+                                       long expectedCount, long actualTotal, long actualCount) {
+
+}
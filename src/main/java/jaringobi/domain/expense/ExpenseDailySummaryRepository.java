@@ -0,0 +1,148 @@
+package jaringobi.domain.expense;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자/일자/카테고리별 지출 합계 롤업 테이블(expense_daily_summary).
+ * 호출하는 쪽의 트랜잭션에 참여하므로 지출 변경과 함께 커밋, 롤백된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExpenseDailySummaryRepository {
+
+    private static final String INCREASE_SQL = """
+            INSERT INTO expense_daily_summary(user_id, day, category_id, total, count)
+            VALUES (:userId, :day, :categoryId, :amount, :count) AS delta
+            ON DUPLICATE KEY UPDATE total = total + delta.total, count = count + delta.count
+            """;
+
+    // 지출 행을 조인해 바뀌기 전 (일자, 카테고리, 금액)을 읽지 않고 합계에서 뺀다.
+    private static final String DECREASE_BY_EXPENSE_SQL = """
+            UPDATE expense_daily_summary s
+            JOIN expense e ON s.user_id = e.user_id AND s.day = DATE(e.expense_at) AND s.category_id = e.category_id
+            SET s.total = s.total - e.amount, s.count = s.count - 1
+            WHERE e.id = :expenseId AND e.user_id = :userId
+            """;
+
+    private static final String DELETE_EMPTY_BY_EXPENSE_SQL = """
+            DELETE s FROM expense_daily_summary s
+            JOIN expense e ON s.user_id = e.user_id AND s.day = DATE(e.expense_at) AND s.category_id = e.category_id
+            WHERE e.id = :expenseId AND e.user_id = :userId AND s.count <= 0
+            """;
+
+    private static final String DELETE_USER_SQL = "DELETE FROM expense_daily_summary WHERE user_id = :userId";
+
+    private static final String REBUILD_USER_SQL = """
+            INSERT INTO expense_daily_summary(user_id, day, category_id, total, count)
+            SELECT e.user_id, DATE(e.expense_at), e.category_id, SUM(e.amount), COUNT(*)
+            FROM expense e
+            WHERE e.user_id = :userId
+            GROUP BY e.user_id, DATE(e.expense_at), e.category_id
+            """;
+
+    private static final String FIND_USER_IDS_SQL = """
+            SELECT DISTINCT e.user_id FROM expense e
+            UNION
+            SELECT DISTINCT s.user_id FROM expense_daily_summary s
+            """;
+
+    // expense 원본 집계와 롤업을 합쳐 (사용자, 일자, 카테고리) 별로 비교
+    private static final String FIND_DRIFTS_SQL = """
+            SELECT t.user_id, t.day, t.category_id,
+                   SUM(t.expected_total) AS expected_total, SUM(t.expected_count) AS expected_count,
+                   SUM(t.actual_total) AS actual_total, SUM(t.actual_count) AS actual_count
+            FROM (
+                SELECT e.user_id, DATE(e.expense_at) AS day, e.category_id,
+                       SUM(e.amount) AS expected_total, COUNT(*) AS expected_count,
+                       0 AS actual_total, 0 AS actual_count
+                FROM expense e
+                WHERE e.user_id = :userId
+                GROUP BY e.user_id, DATE(e.expense_at), e.category_id
+                UNION ALL
+                SELECT s.user_id, s.day, s.category_id, 0, 0, s.total, s.count
+                FROM expense_daily_summary s
+                WHERE s.user_id = :userId
+            ) t
+            GROUP BY t.user_id, t.day, t.category_id
+            HAVING SUM(t.expected_total) <> SUM(t.actual_total) OR SUM(t.expected_count) <> SUM(t.actual_count)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void add(DailyExpenseEntry entry) {
+        increase(entry, entry.amount(), 1);
+    }
+
+    /**
+     * 여러 건을 합계 행 단위로 먼저 묶은 뒤 한 번의 배치로 더한다.
+     */
+    public void addAll(Collection<DailyExpenseEntry> entries) {
+        Map<DailyExpenseEntry, LongSummaryStatistics> totals = entries.stream()
+                .collect(Collectors.groupingBy(DailyExpenseEntry::withoutAmount,
+                        Collectors.summarizingLong(DailyExpenseEntry::amount)));
+        SqlParameterSource[] batch = totals.entrySet().stream()
+                .map(total -> keyOf(total.getKey())
+                        .addValue("amount", total.getValue().getSum())
+                        .addValue("count", total.getValue().getCount()))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(INCREASE_SQL, batch);
+    }
+
+    /**
+     * 지출을 수정, 삭제하기 전에 호출해 현재 DB 에 있는 지출 값만큼 합계에서 뺀다.
+     * 소유자가 다르거나 없는 지출이면 아무것도 바뀌지 않는다.
+     */
+    public void subtractExpense(long userId, long expenseId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("expenseId", expenseId);
+        namedParameterJdbcTemplate.update(DECREASE_BY_EXPENSE_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_EMPTY_BY_EXPENSE_SQL, params);
+    }
+
+    public void rebuild(long userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId);
+        namedParameterJdbcTemplate.update(DELETE_USER_SQL, params);
+        namedParameterJdbcTemplate.update(REBUILD_USER_SQL, params);
+    }
+
+    public List<Long> findUserIds() {
+        return namedParameterJdbcTemplate.queryForList(FIND_USER_IDS_SQL, new MapSqlParameterSource(), Long.class);
+    }
+
+    public List<ExpenseDailySummaryDrift> findDrifts(long userId) {
+        return namedParameterJdbcTemplate.query(FIND_DRIFTS_SQL, new MapSqlParameterSource("userId", userId),
+                (rs, rowNum) -> new ExpenseDailySummaryDrift(
+                        rs.getLong("user_id"),
+                        rs.getObject("day", LocalDate.class),
+                        rs.getLong("category_id"),
+                        rs.getLong("expected_total"),
+                        rs.getLong("expected_count"),
+                        rs.getLong("actual_total"),
+                        rs.getLong("actual_count")));
+    }
+
+    private void increase(DailyExpenseEntry entry, long amount, int count) {
+        MapSqlParameterSource params = keyOf(entry)
+                .addValue("amount", amount)
+                .addValue("count", count);
+        namedParameterJdbcTemplate.update(INCREASE_SQL, params);
+    }
+
+    private MapSqlParameterSource keyOf(DailyExpenseEntry entry) {
+        return new MapSqlParameterSource()
+                .addValue("userId", entry.userId())
+                .addValue("day", entry.day())
+                .addValue("categoryId", entry.categoryId());
+    }
+}
@@ -0,0 +1,22 @@
+package jaringobi.domain.expense;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * expense_at 은 DATETIME(0) 이라 MySQL 이 소수 초를 반올림해 저장한다. (23:59:59.5 는 다음 날 00:00:00)
+ * 자바에서 일자를 계산하는 경로(일별 롤업, 컬럼 저장소, 가져오기)가 DB 의 DATE(expense_at) 과 같은 날을 보도록
+ * 저장하기 전에 같은 규칙으로 초 단위로 맞춘다.
+ */
+public final class ExpenseDateTimes {
+
+    private static final int HALF_SECOND_NANOS = 500_000_000;
+
+    private ExpenseDateTimes() {
+    }
+
+    public static LocalDateTime toStored(LocalDateTime dateTime) {
+        LocalDateTime seconds = dateTime.truncatedTo(ChronoUnit.SECONDS);
+        return dateTime.getNano() >= HALF_SECOND_NANOS ? seconds.plusSeconds(1) : seconds;
+    }
+}
@@ -0,0 +1,53 @@
+package jaringobi.domain.expense;
+
+import jaringobi.domain.user.AppUser;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색 조건에 맞는 지출 전체를 forward-only 스트리밍 결과셋으로 한 행씩 넘긴다.
+ * 트랜잭션 밖에서 호출하면 커넥션은 조회가 끝나는 즉시 반환된다.
+ */
+@Repository
+public class ExpenseExportRepository {
+
+    private static final String EXPORT_SQL = """
+            SELECT e.id, e.amount, e.expense_at, e.created_at, e.category_id, e.memo
+            FROM expense e
+            WHERE %s
+            ORDER BY %s
+            """;
+
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+
+    public ExpenseExportRepository(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL Connector/J 는 forward-only, read-only 문장의 fetchSize 가 Integer.MIN_VALUE 이면 결과를 메모리에 모으지 않고 한 행씩 읽는다.
+        jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public void streamByCondition(AppUser appUser, ExpenseSearchCondition condition,
+            Consumer<ExpenseSearchRow> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = EXPORT_SQL.formatted(
+                ExpenseSqlConditions.where(appUser, condition, params),
+                ExpenseSqlConditions.orderBy(condition, "e"));
+
+        streamingJdbcTemplate.query(sql, params, rs -> {
+            consumer.accept(new ExpenseSearchRow(
+                    rs.getLong("id"),
+                    rs.getInt("amount"),
+                    rs.getObject("expense_at", LocalDateTime.class),
+                    rs.getObject("created_at", LocalDateTime.class),
+                    rs.getLong("category_id"),
+                    rs.getString("memo")));
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package jaringobi.domain.expense;
+
+import jaringobi.domain.user.AppUser;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 지출 세대 번호. 지출 변경과 같은 트랜잭션에서 1 씩 올려 커밋과 함께 보이게 한다.
+ * 조회 결과를 캐시할 때 키에 함께 넣으면, 어느 인스턴스에서 변경했든 이후에는 이전 세대로 만든 결과를 찾지 않게 된다.
+ * 값은 DB 에 있으므로 메모리에 사용자별 항목이 쌓이지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpenseGeneration {
+
+    private static final String CURRENT_SQL = """
+            SELECT g.expense_generation
+            FROM user_data_generation g
+            WHERE g.user_id = :userId
+            """;
+
+    private static final String INCREASE_SQL = """
+            INSERT INTO user_data_generation (user_id, expense_generation)
+            VALUES (:userId, 1)
+            ON DUPLICATE KEY UPDATE expense_generation = expense_generation + 1
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public long current(long userId) {
+        List<Long> generations = namedParameterJdbcTemplate.queryForList(CURRENT_SQL,
+                new MapSqlParameterSource("userId", userId), Long.class);
+        return generations.isEmpty() ? 0 : generations.get(0);
+    }
+
+    /**
+     * 지출을 바꾼 트랜잭션 안에서 호출한다. 롤백되면 세대 번호도 함께 되돌려진다.
+     */
+    public void increase(AppUser appUser) {
+        namedParameterJdbcTemplate.update(INCREASE_SQL, new MapSqlParameterSource("userId", appUser.userId()));
+    }
+}
@@ -0,0 +1,39 @@
+package jaringobi.domain.expense;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 지출 일괄 INSERT. IDENTITY 키라 Hibernate 는 배치로 묶지 못하므로 JDBC 배치로 직접 넣는다.
+ * rewriteBatchedStatements 가 켜져 있으면 드라이버가 한 배치를 multi-row INSERT 한 문장으로 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExpenseImportRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO expense(memo, amount, user_id, category_id, expense_at, is_exclude_in_total, created_at, updated_at)
+            VALUES (:memo, :amount, :userId, :categoryId, :expenseAt, :excludeInTotal, :now, :now)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void insertAll(long userId, List<ImportedExpense> expenses, LocalDateTime now) {
+        SqlParameterSource[] batch = expenses.stream()
+                .map(expense -> new MapSqlParameterSource()
+                        .addValue("memo", expense.memo())
+                        .addValue("amount", expense.amount())
+                        .addValue("userId", userId)
+                        .addValue("categoryId", expense.categoryId())
+                        .addValue("expenseAt", expense.expenseAt())
+                        .addValue("excludeInTotal", expense.excludeInTotal())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+}
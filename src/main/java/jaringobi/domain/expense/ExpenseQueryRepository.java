@@ -1,15 +1,19 @@
 package jaringobi.domain.expense;
 
 import jaringobi.controller.query.expense.response.TodayExpensePerCategory;
+import jaringobi.controller.search.CategoryExpenseSum;
 import jaringobi.domain.budget.CategoryBudget;
 import jaringobi.domain.user.AppUser;
 import jaringobi.dto.request.ExpenseSearchCondition;
 import java.util.List;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface ExpenseQueryRepository {
 
-    Page<Expense> searchByCondition(AppUser appUser, ExpenseSearchCondition expenseSearchCondition);
+    Slice<ExpenseSearchRow> searchBySlice(AppUser appUser, ExpenseSearchCondition expenseSearchCondition);
+    long countByCondition(AppUser appUser, ExpenseSearchCondition expenseSearchCondition);
+    ExpenseSearchResult searchWithSummary(AppUser appUser, ExpenseSearchCondition expenseSearchCondition);
+    List<CategoryExpenseSum> totalSumOfCategoriesExpense(AppUser appUser, ExpenseSearchCondition expenseSearchCondition);
     List<TodayExpensePerCategory> todayTotalExpense(AppUser appUser);
     List<CategoryBudget> getBudgetsPerCategory(AppUser appUser);
 }
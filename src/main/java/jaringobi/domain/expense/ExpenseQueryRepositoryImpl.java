@@ -3,13 +3,16 @@ package jaringobi.domain.expense;
 
 import static jaringobi.domain.budget.QBudget.budget;
 import static jaringobi.domain.budget.QCategoryBudget.categoryBudget;
-import static jaringobi.domain.category.QCategory.category;
 import static jaringobi.domain.expense.QExpense.expense;
 
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jaringobi.controller.query.expense.response.TodayExpensePerCategory;
@@ -17,65 +20,183 @@ import jaringobi.controller.search.CategoryExpenseSum;
 import jaringobi.domain.budget.CategoryBudget;
 import jaringobi.domain.budget.Money;
 import jaringobi.domain.user.AppUser;
+import jaringobi.dto.SearchCursor;
+import jaringobi.dto.SearchOrder;
 import jaringobi.dto.SearchSort;
 import jaringobi.dto.request.ExpenseSearchCondition;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class ExpenseQueryRepositoryImpl implements ExpenseQueryRepository {
 
+    // 페이지 행, 카테고리별 합계/건수를 한 번의 왕복으로 조회 (row_type R: 페이지 행, S: 카테고리 합계)
+    // page 는 정렬 기준 인덱스 순서로 LIMIT 만큼만 읽고, category_sums 는 가능하면 일별 롤업에서 집계한다.
+    private static final String SEARCH_WITH_SUMMARY_SQL = """
+            WITH page AS (
+                SELECT e.id, e.amount, e.expense_at, e.created_at, e.category_id
+                FROM expense e
+                WHERE %1$s%2$s
+                ORDER BY %3$s
+                LIMIT :limit OFFSET :offset
+            ),
+            category_sums AS (
+            %5$s
+            )
+            SELECT 'R' AS row_type, ROW_NUMBER() OVER (ORDER BY %4$s) AS row_no,
+                   p.id, p.amount, p.expense_at, p.created_at, p.category_id, e.memo,
+                   NULL AS total_amount, NULL AS total_count
+            FROM page p
+            JOIN expense e ON e.id = p.id
+            UNION ALL
+            SELECT 'S', NULL, NULL, NULL, NULL, NULL, s.category_id, NULL, s.total_amount, s.total_count
+            FROM category_sums s
+            ORDER BY row_type, row_no, category_id
+            """;
+
+    private static final String CATEGORY_SUMS_FROM_EXPENSE_SQL = """
+            SELECT e.category_id, SUM(e.amount) AS total_amount, COUNT(*) AS total_count
+            FROM expense e
+            WHERE %s
+            GROUP BY e.category_id
+            """;
+
+    // 검색 기간은 start ~ end 00:00 BETWEEN 이므로 [start, end) 일자는 일별 롤업에서, end 정각의 지출은 원본에서 합산한다.
+    private static final String CATEGORY_SUMS_FROM_DAILY_SUMMARY_SQL = """
+            SELECT t.category_id, SUM(t.amount) AS total_amount, SUM(t.cnt) AS total_count
+            FROM (
+                SELECT d.category_id, d.total AS amount, d.count AS cnt
+                FROM expense_daily_summary d
+                WHERE %s
+                UNION ALL
+                SELECT e.category_id, e.amount, 1
+                FROM expense e
+                WHERE %s
+            ) t
+            GROUP BY t.category_id
+            """;
+
+    private static final String TODAY_PER_CATEGORY_SQL = """
+            SELECT d.category_id, d.total
+            FROM expense_daily_summary d
+            WHERE d.user_id = :userId AND d.day = :day
+            """;
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
-    public Page<Expense> searchByCondition(AppUser appUser, ExpenseSearchCondition condition) {
+    @Override
+    public Slice<ExpenseSearchRow> searchBySlice(AppUser appUser, ExpenseSearchCondition condition) {
         Pageable pageable = condition.toPageable();
 
-        List<Expense> expenses = jpaQueryFactory.selectFrom(expense)
-                .where(eqUser(appUser.userId()),
-                        betweenAmounts(condition.getMin(), condition.getMax()),
-                        inCategories(condition.getCategoryIds().getIds()),
-                        betweenDate(condition.getStart(), condition.getEnd())
-                )
-                .limit((pageable.getPageSize()))
-                .offset(pageable.getOffset())
-                .orderBy(findCriteria(condition))
+        // count 쿼리 없이 다음 페이지 존재 여부를 알기 위해 size + 1 개 조회
+        // 엔티티 대신 필요한 컬럼만 projection 으로 조회해 owner, category 로딩과 스냅샷 생성을 피한다.
+        List<ExpenseSearchRow> expenses = sliceQuery(appUser, condition, Projections.constructor(ExpenseSearchRow.class,
+                        expense.id,
+                        expense.money.amount,
+                        expense.expenseAt,
+                        expense.createdAt,
+                        expense.category.id,
+                        expense.memo))
                 .fetch();
 
-        // total count
-        JPAQuery<Long> totalCount = jpaQueryFactory.select(expense.id.count())
-                .where(eqUser(appUser.userId()),
-                        betweenAmounts(condition.getMin(), condition.getMax()),
-                        inCategories(condition.getCategoryIds().getIds()),
-                        betweenDate(condition.getStart(), condition.getEnd()))
-                .from(expense);
-        return PageableExecutionUtils.getPage(expenses, pageable, totalCount::fetchOne);
+        boolean hasNext = expenses.size() > pageable.getPageSize();
+        if (hasNext) {
+            expenses = expenses.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(expenses, pageable, hasNext);
+    }
+
+    /**
+     * 검색 조건, 커서, 정렬과 size + 1 제한을 건 한 페이지 쿼리. select 만 바꿔 같은 조건으로 다른 형태를 읽을 수 있다.
+     */
+    public <T> JPAQuery<T> sliceQuery(AppUser appUser, ExpenseSearchCondition condition, Expression<T> select) {
+        Pageable pageable = condition.toPageable();
+        return jpaQueryFactory.select(select)
+                .from(expense)
+                .where(searchConditions(appUser, condition))
+                .where(afterCursor(condition))
+                .limit(pageable.getPageSize() + 1L)
+                .offset(condition.hasCursor() ? 0 : pageable.getOffset())
+                .orderBy(findCriteria(condition));
+    }
+
+    @Override
+    public long countByCondition(AppUser appUser, ExpenseSearchCondition condition) {
+        Long totalCount = jpaQueryFactory.select(expense.id.count())
+                .from(expense)
+                .where(searchConditions(appUser, condition))
+                .fetchOne();
+        return Objects.requireNonNullElse(totalCount, 0L);
+    }
+
+    @Override
+    public ExpenseSearchResult searchWithSummary(AppUser appUser, ExpenseSearchCondition condition) {
+        Pageable pageable = condition.toPageable();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", pageable.getPageSize() + 1)
+                .addValue("offset", condition.hasCursor() ? 0 : pageable.getOffset());
+        String searchConditions = ExpenseSqlConditions.where(appUser, condition, params);
+        String sql = SEARCH_WITH_SUMMARY_SQL.formatted(
+                searchConditions,
+                nativeAfterCursor(condition, params),
+                ExpenseSqlConditions.orderBy(condition, "e"),
+                ExpenseSqlConditions.orderBy(condition, "p"),
+                nativeCategorySums(condition, searchConditions, params));
+
+        return namedParameterJdbcTemplate.query(sql, params,
+                (ResultSet rs) -> toSearchResult(rs, pageable.getPageSize()));
+    }
+
+    private ExpenseSearchResult toSearchResult(ResultSet rs, int pageSize) throws SQLException {
+        List<ExpenseSearchRow> rows = new ArrayList<>();
+        List<CategoryExpenseSum> categoryExpenseSums = new ArrayList<>();
+        long totalCount = 0;
+        while (rs.next()) {
+            if ("R".equals(rs.getString("row_type"))) {
+                rows.add(new ExpenseSearchRow(
+                        rs.getLong("id"),
+                        rs.getInt("amount"),
+                        rs.getObject("expense_at", LocalDateTime.class),
+                        rs.getObject("created_at", LocalDateTime.class),
+                        rs.getLong("category_id"),
+                        rs.getString("memo")));
+                continue;
+            }
+            categoryExpenseSums.add(new CategoryExpenseSum(rs.getLong("category_id"), rs.getInt("total_amount")));
+            totalCount += rs.getLong("total_count");
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ExpenseSearchRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        return new ExpenseSearchResult(page, hasNext, categoryExpenseSums, totalCount);
     }
 
     @Override
     public List<TodayExpensePerCategory> todayTotalExpense(AppUser appUser) {
-        LocalDate localDate = LocalDate.now();
-        LocalDateTime startOfDay = localDate.atStartOfDay();
-        LocalDateTime endOfDay = localDate.atTime(LocalTime.MAX);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", appUser.userId())
+                .addValue("day", LocalDate.now());
 
-        return jpaQueryFactory.select(
-                        Projections.fields(TodayExpensePerCategory.class,
-                                category.id.as("categoryId"),
-                                expense.money.amount.sum().as("paidAmount")))
-                .from(expense)
-                .join(category).on(category.eq(expense.category))
-                .where(
-                        expense.expenseAt.between(startOfDay, endOfDay),
-                        expense.owner.id.eq(appUser.userId()))
-                .groupBy(category.id)
-                .fetch();
+        return namedParameterJdbcTemplate.query(TODAY_PER_CATEGORY_SQL, params,
+                (rs, rowNum) -> TodayExpensePerCategory.builder()
+                        .categoryId(rs.getLong("category_id"))
+                        .paidAmount(rs.getInt("total"))
+                        .build());
     }
 
     @Override
@@ -100,22 +221,34 @@ public class ExpenseQueryRepositoryImpl implements ExpenseQueryRepository {
         return expense.owner.id.eq(userId);
     }
 
+    @Override
     public List<CategoryExpenseSum> totalSumOfCategoriesExpense(AppUser appUser, ExpenseSearchCondition condition) {
+        if (canUseDailySummary(condition)) {
+            MapSqlParameterSource params = new MapSqlParameterSource();
+            String searchConditions = ExpenseSqlConditions.where(appUser, condition, params);
+            return namedParameterJdbcTemplate.query(nativeCategorySums(condition, searchConditions, params), params,
+                    (rs, rowNum) -> new CategoryExpenseSum(rs.getLong("category_id"), rs.getInt("total_amount")));
+        }
+
         return jpaQueryFactory
                 .select(Projections.fields(CategoryExpenseSum.class,
                         expense.category.id.as("categoryId"),
                         expense.money.amount.sum().as("totalExpenseAmount")))
                 .from(expense)
-                .where(
-                        eqUser(appUser.userId()),
-                        betweenAmounts(condition.getMin(), condition.getMax()),
-                        inCategories(condition.getCategoryIds().getIds()),
-                        betweenDate(condition.getStart(), condition.getEnd())
-                )
+                .where(searchConditions(appUser, condition))
                 .groupBy(expense.category.id)
                 .fetch();
     }
 
+    private Predicate[] searchConditions(AppUser appUser, ExpenseSearchCondition condition) {
+        return new Predicate[]{
+                eqUser(appUser.userId()),
+                betweenAmounts(condition.getMin(), condition.getMax()),
+                inCategories(condition.getCategoryIds().getIds()),
+                betweenDate(condition.getStart(), condition.getEnd())
+        };
+    }
+
     private Predicate betweenDate(LocalDateTime start, LocalDateTime end) {
         if (start != null && end != null) {
             return expense.expenseAt.between(start, end);
@@ -152,13 +285,97 @@ public class ExpenseQueryRepositoryImpl implements ExpenseQueryRepository {
         }
     }
 
-    private OrderSpecifier<?> findCriteria(ExpenseSearchCondition condition) {
+    private String nativeCategorySums(ExpenseSearchCondition condition, String searchConditions,
+            MapSqlParameterSource params) {
+        if (!canUseDailySummary(condition)) {
+            return CATEGORY_SUMS_FROM_EXPENSE_SQL.formatted(searchConditions);
+        }
+        params.addValue("startDay", condition.getStart().toLocalDate())
+                .addValue("endDay", condition.getEnd().toLocalDate());
+
+        String summaryConditions = "d.user_id = :userId AND d.day >= :startDay AND d.day < :endDay";
+        String boundaryConditions = "e.user_id = :userId AND e.expense_at = :end";
+        if (!condition.getCategoryIds().isEmpty()) {
+            summaryConditions += " AND d.category_id IN (:categoryIds)";
+            boundaryConditions += " AND e.category_id IN (:categoryIds)";
+        }
+        return CATEGORY_SUMS_FROM_DAILY_SUMMARY_SQL.formatted(summaryConditions, boundaryConditions);
+    }
+
+    // 일별 롤업은 금액 조건을 알 수 없으므로 금액 조건이 없고 기간이 일 단위일 때만 사용한다.
+    private boolean canUseDailySummary(ExpenseSearchCondition condition) {
+        LocalDateTime start = condition.getStart();
+        LocalDateTime end = condition.getEnd();
+        return Objects.isNull(condition.getMin())
+                && Objects.isNull(condition.getMax())
+                && !start.isAfter(end)
+                && start.toLocalTime().equals(LocalTime.MIDNIGHT)
+                && end.toLocalTime().equals(LocalTime.MIDNIGHT);
+    }
+
+    private String nativeAfterCursor(ExpenseSearchCondition condition, MapSqlParameterSource params) {
+        if (!condition.hasCursor()) {
+            return "";
+        }
+        SearchCursor cursor = condition.getCursor();
+        String column = "e." + ExpenseSqlConditions.sortColumnOf(condition.getSort());
+        String operator = condition.getOrder() == SearchOrder.ASC ? ">" : "<";
+
+        params.addValue("cursorKey", condition.getSort() == SearchSort.AMOUNT
+                ? cursor.getAmountKey()
+                : cursor.getDateTimeKey());
+        params.addValue("cursorId", cursor.getId());
+        return " AND (%1$s %2$s :cursorKey OR (%1$s = :cursorKey AND e.id %2$s :cursorId))"
+                .formatted(column, operator);
+    }
+
+    private Predicate afterCursor(ExpenseSearchCondition condition) {
+        if (!condition.hasCursor()) {
+            return null;
+        }
+        SearchCursor cursor = condition.getCursor();
+        boolean isAsc = condition.getOrder() == SearchOrder.ASC;
+
         if (condition.getSort() == SearchSort.AMOUNT) {
-            return expense.money.amount.desc();
+            return seek(expense.money.amount, cursor.getAmountKey(), cursor.getId(), isAsc);
         }
         if (condition.getSort() == SearchSort.CREATED) {
-            return expense.createdAt.desc();
+            return seek(expense.createdAt, cursor.getDateTimeKey(), cursor.getId(), isAsc);
+        }
+        return seek(expense.expenseAt, cursor.getDateTimeKey(), cursor.getId(), isAsc);
+    }
+
+    private <T extends Comparable<?>> BooleanExpression seek(ComparableExpression<T> sortKey, T key, long id,
+            boolean isAsc) {
+        if (isAsc) {
+            return sortKey.gt(key).or(sortKey.eq(key).and(expense.id.gt(id)));
+        }
+        return sortKey.lt(key).or(sortKey.eq(key).and(expense.id.lt(id)));
+    }
+
+    private <T extends Number & Comparable<?>> BooleanExpression seek(NumberExpression<T> sortKey, T key, long id,
+            boolean isAsc) {
+        if (isAsc) {
+            return sortKey.gt(key).or(sortKey.eq(key).and(expense.id.gt(id)));
+        }
+        return sortKey.lt(key).or(sortKey.eq(key).and(expense.id.lt(id)));
+    }
+
+    private OrderSpecifier<?>[] findCriteria(ExpenseSearchCondition condition) {
+        ComparableExpressionBase<?> sortKey = sortKeyOf(condition.getSort());
+        if (condition.getOrder() == SearchOrder.ASC) {
+            return new OrderSpecifier<?>[]{sortKey.asc(), expense.id.asc()};
+        }
+        return new OrderSpecifier<?>[]{sortKey.desc(), expense.id.desc()};
+    }
+
+    private ComparableExpressionBase<?> sortKeyOf(SearchSort sort) {
+        if (sort == SearchSort.AMOUNT) {
+            return expense.money.amount;
+        }
+        if (sort == SearchSort.CREATED) {
+            return expense.createdAt;
         }
-        return expense.expenseAt.desc();
+        return expense.expenseAt;
     }
 }
@@ -1,7 +1,34 @@
 package jaringobi.domain.expense;
 
+import java.time.LocalDateTime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ExpenseRepository extends JpaRepository<Expense, Long> {
 
+    /**
+     * 엔티티를 읽지 않고 소유자 조건으로 바로 수정한다. 메모가 null 이면 기존 메모를 유지한다.
+     *
+     * @return 수정된 행 수. 0 이면 지출이 없거나 다른 사용자의 지출이다.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE expense
+            SET memo = COALESCE(:memo, memo), amount = :amount, category_id = :categoryId, expense_at = :expenseAt,
+                is_exclude_in_total = :excludeInTotal, updated_at = :updatedAt
+            WHERE id = :id AND user_id = :userId
+            """)
+    int updateOwnedBy(@Param("id") long id, @Param("userId") long userId, @Param("memo") String memo,
+            @Param("amount") int amount, @Param("categoryId") long categoryId,
+            @Param("expenseAt") LocalDateTime expenseAt, @Param("excludeInTotal") boolean excludeInTotal,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * @return 삭제된 행 수. 0 이면 지출이 없거나 다른 사용자의 지출이다.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM expense WHERE id = :id AND user_id = :userId")
+    int deleteOwnedBy(@Param("id") long id, @Param("userId") long userId);
 }
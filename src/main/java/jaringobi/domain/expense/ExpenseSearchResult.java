@@ -0,0 +1,13 @@
+package jaringobi.domain.expense;
+
+import jaringobi.controller.search.CategoryExpenseSum;
+import java.util.List;
+
+public record ExpenseSearchResult(
+        List<ExpenseSearchRow> rows,
+        boolean hasNext,
+        List<CategoryExpenseSum> categoryExpenseSums,
+        long totalCount
+) {
+
+}
@@ -0,0 +1,14 @@
+package jaringobi.domain.expense;
+
+import java.time.LocalDateTime;
+
+public record ExpenseSearchRow(
+        long id,
+        int amount,
+        LocalDateTime expenseAt,
+        LocalDateTime createdAt,
+        long categoryId,
+        String memo
+) {
+
+}
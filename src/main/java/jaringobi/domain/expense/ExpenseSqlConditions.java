@@ -0,0 +1,60 @@
+package jaringobi.domain.expense;
+
+import jaringobi.domain.user.AppUser;
+import jaringobi.dto.SearchOrder;
+import jaringobi.dto.SearchSort;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * 네이티브 SQL 로 조회하는 지출 검색(단일 쿼리 검색, 내보내기)이 공유하는 WHERE, ORDER BY 절. expense 별칭은 e.
+ */
+final class ExpenseSqlConditions {
+
+    private ExpenseSqlConditions() {
+    }
+
+    static String where(AppUser appUser, ExpenseSearchCondition condition, MapSqlParameterSource params) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("e.user_id = :userId");
+        params.addValue("userId", appUser.userId());
+
+        conditions.add("e.expense_at BETWEEN :start AND :end");
+        params.addValue("start", condition.getStart())
+                .addValue("end", condition.getEnd());
+
+        if (Objects.nonNull(condition.getMin())) {
+            conditions.add("e.amount >= :min");
+            params.addValue("min", condition.getMin().getAmount());
+        }
+
+        if (Objects.nonNull(condition.getMax())) {
+            conditions.add("e.amount <= :max");
+            params.addValue("max", condition.getMax().getAmount());
+        }
+
+        if (!condition.getCategoryIds().isEmpty()) {
+            conditions.add("e.category_id IN (:categoryIds)");
+            params.addValue("categoryIds", condition.getCategoryIds().getIds());
+        }
+        return String.join(" AND ", conditions);
+    }
+
+    static String orderBy(ExpenseSearchCondition condition, String alias) {
+        String direction = condition.getOrder() == SearchOrder.ASC ? "ASC" : "DESC";
+        return "%1$s.%2$s %3$s, %1$s.id %3$s".formatted(alias, sortColumnOf(condition.getSort()), direction);
+    }
+
+    static String sortColumnOf(SearchSort sort) {
+        if (sort == SearchSort.AMOUNT) {
+            return "amount";
+        }
+        if (sort == SearchSort.CREATED) {
+            return "created_at";
+        }
+        return "expense_at";
+    }
+}
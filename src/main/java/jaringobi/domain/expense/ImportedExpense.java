@@ -0,0 +1,18 @@
+package jaringobi.domain.expense;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 가져오기에서 검증을 통과한 지출 한 건. 엔티티를 거치지 않고 그대로 배치 INSERT 된다.
+ */
+public record ImportedExpense(LocalDateTime expenseAt, int amount, long categoryId, String memo,
+                              boolean excludeInTotal) {
+
+    public ImportedExpense {
+        expenseAt = ExpenseDateTimes.toStored(expenseAt);
+    }
+
+    public DailyExpenseEntry toDailyExpenseEntry(long userId) {
+        return new DailyExpenseEntry(userId, expenseAt.toLocalDate(), categoryId, amount);
+    }
+}
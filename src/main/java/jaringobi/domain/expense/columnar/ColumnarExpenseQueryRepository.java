@@ -0,0 +1,102 @@
+package jaringobi.domain.expense.columnar;
+
+import jaringobi.controller.query.expense.response.TodayExpensePerCategory;
+import jaringobi.controller.search.CategoryExpenseSum;
+import jaringobi.domain.budget.CategoryBudget;
+import jaringobi.domain.expense.ExpenseQueryRepository;
+import jaringobi.domain.expense.ExpenseQueryRepositoryImpl;
+import jaringobi.domain.expense.ExpenseSearchResult;
+import jaringobi.domain.expense.ExpenseSearchRow;
+import jaringobi.domain.expense.columnar.ExpenseColumns.CategorySums;
+import jaringobi.domain.user.AppUser;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자별 메모리 컬럼 배열로 지출 검색, 집계를 처리한다.
+ * expense.search.in-memory.enabled 가 꺼져 있으면 {@link ExpenseQueryRepositoryImpl} 로 그대로 위임한다.
+ */
+@Primary
+@Repository
+@RequiredArgsConstructor
+public class ColumnarExpenseQueryRepository implements ExpenseQueryRepository {
+
+    private final ExpenseQueryRepositoryImpl expenseQueryRepositoryImpl;
+    private final ExpenseColumnStore expenseColumnStore;
+
+    @Override
+    public Slice<ExpenseSearchRow> searchBySlice(AppUser appUser, ExpenseSearchCondition condition) {
+        if (!expenseColumnStore.isEnabled()) {
+            return expenseQueryRepositoryImpl.searchBySlice(appUser, condition);
+        }
+        return search(expenseColumnStore.get(appUser.userId()), condition);
+    }
+
+    @Override
+    public long countByCondition(AppUser appUser, ExpenseSearchCondition condition) {
+        if (!expenseColumnStore.isEnabled()) {
+            return expenseQueryRepositoryImpl.countByCondition(appUser, condition);
+        }
+        return expenseColumnStore.get(appUser.userId()).count(condition);
+    }
+
+    @Override
+    public ExpenseSearchResult searchWithSummary(AppUser appUser, ExpenseSearchCondition condition) {
+        if (!expenseColumnStore.isEnabled()) {
+            return expenseQueryRepositoryImpl.searchWithSummary(appUser, condition);
+        }
+        ExpenseColumns columns = expenseColumnStore.get(appUser.userId());
+        Slice<ExpenseSearchRow> slice = search(columns, condition);
+        CategorySums categorySums = columns.sumByCategory(condition);
+        return new ExpenseSearchResult(slice.getContent(), slice.hasNext(), categorySums.sums(),
+                categorySums.totalCount());
+    }
+
+    @Override
+    public List<CategoryExpenseSum> totalSumOfCategoriesExpense(AppUser appUser, ExpenseSearchCondition condition) {
+        if (!expenseColumnStore.isEnabled()) {
+            return expenseQueryRepositoryImpl.totalSumOfCategoriesExpense(appUser, condition);
+        }
+        return expenseColumnStore.get(appUser.userId()).sumByCategory(condition).sums();
+    }
+
+    @Override
+    public List<TodayExpensePerCategory> todayTotalExpense(AppUser appUser) {
+        if (!expenseColumnStore.isEnabled()) {
+            return expenseQueryRepositoryImpl.todayTotalExpense(appUser);
+        }
+        LocalDate today = LocalDate.now();
+        return expenseColumnStore.get(appUser.userId())
+                .sumByCategory(today.atStartOfDay(), today.plusDays(1).atStartOfDay())
+                .sums().stream()
+                .map(sum -> TodayExpensePerCategory.builder()
+                        .categoryId(sum.getCategoryId())
+                        .paidAmount(sum.getTotalExpenseAmount())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public List<CategoryBudget> getBudgetsPerCategory(AppUser appUser) {
+        return expenseQueryRepositoryImpl.getBudgetsPerCategory(appUser);
+    }
+
+    private Slice<ExpenseSearchRow> search(ExpenseColumns columns, ExpenseSearchCondition condition) {
+        Pageable pageable = condition.toPageable();
+        long offset = condition.hasCursor() ? 0 : pageable.getOffset();
+        List<ExpenseSearchRow> rows = columns.search(condition, offset, pageable.getPageSize() + 1);
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        if (hasNext) {
+            rows = rows.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(rows, pageable, hasNext);
+    }
+}
@@ -0,0 +1,205 @@
+package jaringobi.domain.expense.columnar;
+
+import jaringobi.common.transaction.AfterCommit;
+import jaringobi.domain.expense.Expense;
+import jaringobi.domain.expense.ExpenseSearchRow;
+import jaringobi.domain.user.AppUser;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 {@link ExpenseColumns} 저장소.
+ * 처음 조회할 때 DB 에서 읽어 올리고, 지출 변경은 커밋 후 올라가 있는 사용자에게만 모아 두었다가
+ * 다음 조회 때 한 번에 반영(write-through)한다.
+ * 추정 메모리 사용량이 상한을 넘으면 가장 오래 사용하지 않은 사용자부터 내린다(LRU).
+ */
+@Component
+public class ExpenseColumnStore {
+
+    private static final String LOAD_SQL = """
+            SELECT e.id, e.amount, e.expense_at, e.created_at, e.category_id, e.memo
+            FROM expense e
+            WHERE e.user_id = :userId
+            """;
+    // 조회 없이 쌓인 변경이 이보다 많으면 반영하지 않고 내린다. 다음 조회에서 다시 적재한다.
+    private static final int MAX_PENDING_CHANGES = 1_000;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ExpenseColumnStoreProperty property;
+
+    // access-order LinkedHashMap: 순회 첫 항목이 가장 오래 사용하지 않은 사용자
+    private final LinkedHashMap<Long, Cached> columnsByUser = new LinkedHashMap<>(16, 0.75f, true);
+    // 적재 중인 사용자별 표식. 적재 중 그 사용자의 변경이 커밋되면 표식을 stale 로 바꾸고 맵에서 뺀다.
+    private final Map<Long, Loading> loadings = new HashMap<>();
+    private long usedBytes = 0;
+
+    public ExpenseColumnStore(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            ExpenseColumnStoreProperty property) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.property = property;
+    }
+
+    public boolean isEnabled() {
+        return property.isEnabled();
+    }
+
+    ExpenseColumns get(long userId) {
+        Loading loading;
+        synchronized (this) {
+            Cached cached = columnsByUser.get(userId);
+            if (cached != null) {
+                return current(userId, cached);
+            }
+            loading = loadings.computeIfAbsent(userId, id -> new Loading());
+            loading.loaders++;
+        }
+
+        ExpenseColumns loaded = null;
+        try {
+            loaded = ExpenseColumns.of(load(userId));
+        } finally {
+            loaded(userId, loading, loaded);
+        }
+        return loaded;
+    }
+
+    public void added(AppUser appUser, Expense expense) {
+        modified(appUser, expense);
+    }
+
+    public void modified(AppUser appUser, Expense expense) {
+        if (!isEnabled()) {
+            return;
+        }
+        ExpenseSearchRow row = new ExpenseSearchRow(expense.getId(), expense.getMoney().getAmount(),
+                expense.getExpenseAt(), expense.getCreatedAt(), expense.getCategory().getId(), expense.getMemo());
+        AfterCommit.run(() -> update(appUser.userId(), row.id(), row));
+    }
+
+    public void removed(AppUser appUser, long expenseId) {
+        if (!isEnabled()) {
+            return;
+        }
+        AfterCommit.run(() -> update(appUser.userId(), expenseId, null));
+    }
+
+    /**
+     * 일괄 가져오기처럼 한 번에 바뀐 행이 많으면 하나씩 반영하지 않고 커밋 후 내린다. 다음 조회에서 다시 적재한다.
+     */
+    public void invalidate(AppUser appUser) {
+        if (!isEnabled()) {
+            return;
+        }
+        AfterCommit.run(() -> evict(appUser.userId()));
+    }
+
+    public synchronized void evict(long userId) {
+        markLoadingStale(userId);
+        remove(userId);
+    }
+
+    public synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    public synchronized int cachedUsers() {
+        return columnsByUser.size();
+    }
+
+    private synchronized void update(long userId, long expenseId, ExpenseSearchRow row) {
+        markLoadingStale(userId);
+        Cached cached = columnsByUser.get(userId);
+        if (cached == null) {
+            return;
+        }
+        cached.pending.put(expenseId, row);
+        if (cached.pending.size() > MAX_PENDING_CHANGES) {
+            remove(userId);
+        }
+    }
+
+    // 호출하는 쪽이 lock 을 잡고 있다.
+    private ExpenseColumns current(long userId, Cached cached) {
+        if (cached.pending.isEmpty()) {
+            return cached.columns;
+        }
+        ExpenseColumns applied = cached.columns.apply(cached.pending);
+        put(userId, applied);
+        return applied;
+    }
+
+    private synchronized void loaded(long userId, Loading loading, ExpenseColumns loaded) {
+        if (--loading.loaders == 0) {
+            loadings.remove(userId, loading);
+        }
+        // 적재하는 동안 이 사용자의 변경이 커밋되었으면 반영 여부를 알 수 없으므로 이번 결과는 올리지 않는다.
+        if (loaded != null && !loading.stale && !columnsByUser.containsKey(userId)) {
+            put(userId, loaded);
+        }
+    }
+
+    private void markLoadingStale(long userId) {
+        Loading loading = loadings.remove(userId);
+        if (loading != null) {
+            loading.stale = true;
+        }
+    }
+
+    private void put(long userId, ExpenseColumns columns) {
+        long budget = property.getMemoryBudget().toBytes();
+        if (columns.estimatedBytes() > budget) {
+            remove(userId);
+            return;
+        }
+        Cached previous = columnsByUser.put(userId, new Cached(columns));
+        usedBytes += columns.estimatedBytes() - (previous == null ? 0 : previous.columns.estimatedBytes());
+
+        Iterator<Map.Entry<Long, Cached>> eldest = columnsByUser.entrySet().iterator();
+        while (usedBytes > budget && eldest.hasNext()) {
+            usedBytes -= eldest.next().getValue().columns.estimatedBytes();
+            eldest.remove();
+        }
+    }
+
+    private void remove(long userId) {
+        Cached removed = columnsByUser.remove(userId);
+        if (removed != null) {
+            usedBytes -= removed.columns.estimatedBytes();
+        }
+    }
+
+    private List<ExpenseSearchRow> load(long userId) {
+        return namedParameterJdbcTemplate.query(LOAD_SQL, new MapSqlParameterSource("userId", userId),
+                (rs, rowNum) -> new ExpenseSearchRow(
+                        rs.getLong("id"),
+                        rs.getInt("amount"),
+                        rs.getObject("expense_at", LocalDateTime.class),
+                        rs.getObject("created_at", LocalDateTime.class),
+                        rs.getLong("category_id"),
+                        rs.getString("memo")));
+    }
+
+    private static final class Cached {
+
+        private final ExpenseColumns columns;
+        // 아직 반영하지 않은 변경. expense id -> 바뀐 행, 삭제면 null
+        private final Map<Long, ExpenseSearchRow> pending = new HashMap<>();
+
+        private Cached(ExpenseColumns columns) {
+            this.columns = columns;
+        }
+    }
+
+    private static final class Loading {
+
+        private int loaders = 0;
+        private boolean stale = false;
+    }
+}
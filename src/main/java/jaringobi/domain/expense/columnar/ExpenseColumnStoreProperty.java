@@ -0,0 +1,18 @@
+package jaringobi.domain.expense.columnar;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "expense.search.in-memory")
+public class ExpenseColumnStoreProperty {
+
+    // 사용자별 지출을 메모리 컬럼 배열로 올려 검색, 집계를 처리
+    private boolean enabled = false;
+
+    // 전체 사용자 컬럼 배열의 추정 크기 상한. 넘으면 가장 오래 사용하지 않은 사용자부터 내린다.
+    private DataSize memoryBudget = DataSize.ofMegabytes(64);
+}
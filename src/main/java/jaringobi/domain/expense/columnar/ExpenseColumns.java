@@ -0,0 +1,385 @@
+package jaringobi.domain.expense.columnar;
+
+import jaringobi.controller.search.CategoryExpenseSum;
+import jaringobi.domain.expense.ExpenseDateTimes;
+import jaringobi.domain.expense.ExpenseSearchRow;
+import jaringobi.dto.SearchCursor;
+import jaringobi.dto.SearchOrder;
+import jaringobi.dto.SearchSort;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * 한 사용자의 지출을 컬럼별 primitive 배열로 보관하는 불변 스냅샷.
+ * 정렬 기준별 (정렬 키, id) 오름차순 순열을 미리 만들어 두고 검색, 집계는 배열을 순회해 처리한다.
+ * 변경은 모아 두었다가 새 스냅샷을 만들어 한 번에 반영한다.
+ */
+final class ExpenseColumns {
+
+    // id, expense_at, created_at(long) + amount(int) + category(short) + 정렬 순열 3개(int) + memo 참조
+    private static final long ROW_BYTES = Long.BYTES * 3 + Integer.BYTES + Short.BYTES + Integer.BYTES * 3
+            + Integer.BYTES;
+    private static final long STRING_HEADER_BYTES = 40;
+
+    private final long[] ids;
+    private final long[] expenseAts;
+    private final long[] createdAts;
+    private final int[] amounts;
+    private final short[] categories;
+    private final String[] memos;
+
+    private final int[] byExpenseAt;
+    private final int[] byAmount;
+    private final int[] byCreatedAt;
+
+    // 집계, 카테고리 필터 배열 크기. 사용자가 쓴 카테고리 id 의 최댓값이라 보통 수십 이하다.
+    private final int maxCategory;
+    private final long estimatedBytes;
+
+    private ExpenseColumns(long[] ids, long[] expenseAts, long[] createdAts, int[] amounts, short[] categories,
+            String[] memos, int[] byExpenseAt, int[] byAmount, int[] byCreatedAt) {
+        this.ids = ids;
+        this.expenseAts = expenseAts;
+        this.createdAts = createdAts;
+        this.amounts = amounts;
+        this.categories = categories;
+        this.memos = memos;
+        this.byExpenseAt = byExpenseAt;
+        this.byAmount = byAmount;
+        this.byCreatedAt = byCreatedAt;
+        this.maxCategory = maxOf(categories);
+        this.estimatedBytes = estimateBytes();
+    }
+
+    static ExpenseColumns of(List<ExpenseSearchRow> rows) {
+        int size = rows.size();
+        long[] ids = new long[size];
+        long[] expenseAts = new long[size];
+        long[] createdAts = new long[size];
+        int[] amounts = new int[size];
+        short[] categories = new short[size];
+        String[] memos = new String[size];
+        for (int i = 0; i < size; i++) {
+            ExpenseSearchRow row = rows.get(i);
+            ids[i] = row.id();
+            expenseAts[i] = toEpochSecond(row.expenseAt());
+            createdAts[i] = toEpochSecond(row.createdAt());
+            amounts[i] = row.amount();
+            categories[i] = (short) row.categoryId();
+            memos[i] = row.memo();
+        }
+        return new ExpenseColumns(ids, expenseAts, createdAts, amounts, categories, memos,
+                sortedBy(0, size, row -> expenseAts[row], ids), sortedBy(0, size, row -> amounts[row], ids),
+                sortedBy(0, size, row -> createdAts[row], ids));
+    }
+
+    /**
+     * 모아 둔 변경을 한 번에 반영한 새 스냅샷을 만든다. 값이 null 이면 삭제, 아니면 같은 id 의 행을 교체하거나 추가한다.
+     * 남는 행은 기존 정렬 순열의 순서를 그대로 옮기고 바뀐 행만 정렬해 병합하므로 전체를 다시 정렬하지 않는다.
+     */
+    ExpenseColumns apply(Map<Long, ExpenseSearchRow> changes) {
+        long[] changedIds = changes.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        List<ExpenseSearchRow> upserted = changes.values().stream().filter(Objects::nonNull).toList();
+
+        // 기존 행 번호 -> 새 행 번호. 바뀌거나 삭제된 행은 -1
+        int[] newRowOf = new int[ids.length];
+        int kept = 0;
+        for (int row = 0; row < ids.length; row++) {
+            newRowOf[row] = Arrays.binarySearch(changedIds, ids[row]) >= 0 ? -1 : kept++;
+        }
+
+        int size = kept + upserted.size();
+        long[] newIds = new long[size];
+        long[] newExpenseAts = new long[size];
+        long[] newCreatedAts = new long[size];
+        int[] newAmounts = new int[size];
+        short[] newCategories = new short[size];
+        String[] newMemos = new String[size];
+        for (int row = 0; row < ids.length; row++) {
+            int newRow = newRowOf[row];
+            if (newRow < 0) {
+                continue;
+            }
+            newIds[newRow] = ids[row];
+            newExpenseAts[newRow] = expenseAts[row];
+            newCreatedAts[newRow] = createdAts[row];
+            newAmounts[newRow] = amounts[row];
+            newCategories[newRow] = categories[row];
+            newMemos[newRow] = memos[row];
+        }
+        for (int i = 0; i < upserted.size(); i++) {
+            ExpenseSearchRow row = upserted.get(i);
+            int newRow = kept + i;
+            newIds[newRow] = row.id();
+            newExpenseAts[newRow] = toEpochSecond(row.expenseAt());
+            newCreatedAts[newRow] = toEpochSecond(row.createdAt());
+            newAmounts[newRow] = row.amount();
+            newCategories[newRow] = (short) row.categoryId();
+            newMemos[newRow] = row.memo();
+        }
+
+        return new ExpenseColumns(newIds, newExpenseAts, newCreatedAts, newAmounts, newCategories, newMemos,
+                merged(byExpenseAt, newRowOf, kept, size, row -> newExpenseAts[row], newIds),
+                merged(byAmount, newRowOf, kept, size, row -> newAmounts[row], newIds),
+                merged(byCreatedAt, newRowOf, kept, size, row -> newCreatedAts[row], newIds));
+    }
+
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * 조건에 맞는 행을 정렬 순서대로 offset 만큼 건너뛰고 최대 limit 개 반환한다. 커서가 있으면 커서 다음부터 읽는다.
+     */
+    List<ExpenseSearchRow> search(ExpenseSearchCondition condition, long offset, int limit) {
+        Filter filter = filterOf(condition);
+        int[] order = orderOf(condition.getSort());
+        boolean isAsc = condition.getOrder() == SearchOrder.ASC;
+        int size = order.length;
+
+        List<ExpenseSearchRow> rows = new ArrayList<>(Math.min(limit, size));
+        long skipped = 0;
+        for (int position = startPosition(condition, order, isAsc); position < size && rows.size() < limit;
+                position++) {
+            int row = isAsc ? order[position] : order[size - 1 - position];
+            if (!filter.matches(row)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            rows.add(rowAt(row));
+        }
+        return rows;
+    }
+
+    long count(ExpenseSearchCondition condition) {
+        Filter filter = filterOf(condition);
+        long count = 0;
+        for (int row = 0; row < ids.length; row++) {
+            if (filter.matches(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    CategorySums sumByCategory(ExpenseSearchCondition condition) {
+        return sumByCategory(filterOf(condition));
+    }
+
+    /**
+     * [start, endExclusive) 구간. 23:59:59.999 같은 끝값은 초 단위로 반올림되어 다음 날 0시를 포함하므로 반열린 구간으로 받는다.
+     */
+    CategorySums sumByCategory(LocalDateTime start, LocalDateTime endExclusive) {
+        return sumByCategory(new Filter(toEpochSecond(start), toEpochSecond(endExclusive) - 1, Integer.MIN_VALUE,
+                Integer.MAX_VALUE, null));
+    }
+
+    private CategorySums sumByCategory(Filter filter) {
+        long[] totals = new long[maxCategory + 1];
+        long[] counts = new long[maxCategory + 1];
+        for (int row = 0; row < ids.length; row++) {
+            if (filter.matches(row)) {
+                short category = categories[row];
+                totals[category] += amounts[row];
+                counts[category]++;
+            }
+        }
+
+        List<CategoryExpenseSum> sums = new ArrayList<>();
+        long totalCount = 0;
+        for (int category = 0; category <= maxCategory; category++) {
+            if (counts[category] > 0) {
+                sums.add(new CategoryExpenseSum((long) category, (int) totals[category]));
+                totalCount += counts[category];
+            }
+        }
+        return new CategorySums(sums, totalCount);
+    }
+
+    record CategorySums(List<CategoryExpenseSum> sums, long totalCount) {
+
+    }
+
+    // 커서 다음 위치. 오름차순 순열에서 (키, id) 가 커서보다 큰 첫 위치, 내림차순은 커서보다 작은 마지막 위치부터 거꾸로 읽는다.
+    private int startPosition(ExpenseSearchCondition condition, int[] order, boolean isAsc) {
+        if (!condition.hasCursor()) {
+            return 0;
+        }
+        SearchCursor cursor = condition.getCursor();
+        long key = condition.getSort() == SearchSort.AMOUNT
+                ? cursor.getAmountKey()
+                : toEpochSecond(cursor.getDateTimeKey());
+        if (isAsc) {
+            return countBefore(order, condition.getSort(), key, cursor.getId(), true);
+        }
+        return order.length - countBefore(order, condition.getSort(), key, cursor.getId(), false);
+    }
+
+    // (키, id) 가 커서보다 작은(inclusive 면 같은 것 포함) 행 수
+    private int countBefore(int[] order, SearchSort sort, long key, long id, boolean inclusive) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int row = order[mid];
+            int compared = compare(sortKey(sort, row), ids[row], key, id);
+            if (compared < 0 || (inclusive && compared == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(long key, long id, long otherKey, long otherId) {
+        int compared = Long.compare(key, otherKey);
+        return compared != 0 ? compared : Long.compare(id, otherId);
+    }
+
+    private long sortKey(SearchSort sort, int row) {
+        if (sort == SearchSort.AMOUNT) {
+            return amounts[row];
+        }
+        if (sort == SearchSort.CREATED) {
+            return createdAts[row];
+        }
+        return expenseAts[row];
+    }
+
+    private int[] orderOf(SearchSort sort) {
+        if (sort == SearchSort.AMOUNT) {
+            return byAmount;
+        }
+        if (sort == SearchSort.CREATED) {
+            return byCreatedAt;
+        }
+        return byExpenseAt;
+    }
+
+    private Filter filterOf(ExpenseSearchCondition condition) {
+        int min = Objects.isNull(condition.getMin()) ? Integer.MIN_VALUE : condition.getMin().getAmount();
+        int max = Objects.isNull(condition.getMax()) ? Integer.MAX_VALUE : condition.getMax().getAmount();
+        return new Filter(toEpochSecond(condition.getStart()), toEpochSecond(condition.getEnd()), min, max,
+                categoryMaskOf(condition.getCategoryIds().getIds()));
+    }
+
+    private boolean[] categoryMaskOf(List<Long> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return null;
+        }
+        boolean[] categoryMask = new boolean[maxCategory + 1];
+        for (Long categoryId : categoryIds) {
+            if (categoryId >= 0 && categoryId <= maxCategory) {
+                categoryMask[categoryId.intValue()] = true;
+            }
+        }
+        return categoryMask;
+    }
+
+    private ExpenseSearchRow rowAt(int row) {
+        return new ExpenseSearchRow(ids[row], amounts[row], toLocalDateTime(expenseAts[row]),
+                toLocalDateTime(createdAts[row]), categories[row], memos[row]);
+    }
+
+    // 행 번호 [from, to) 를 (키, id) 오름차순으로 정렬한 순열
+    private static int[] sortedBy(int from, int to, IntToLongFunction key, long[] ids) {
+        return IntStream.range(from, to).boxed()
+                .sorted(Comparator.<Integer>comparingLong(key::applyAsLong).thenComparingLong(row -> ids[row]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * 남은 행의 순열(기존 순서 유지)과 추가된 행 [kept, size) 의 순열을 (키, id) 순으로 병합한다.
+     */
+    private static int[] merged(int[] order, int[] newRowOf, int kept, int size, IntToLongFunction key,
+            long[] ids) {
+        int[] keptOrder = new int[kept];
+        int count = 0;
+        for (int row : order) {
+            if (newRowOf[row] >= 0) {
+                keptOrder[count++] = newRowOf[row];
+            }
+        }
+        int[] addedOrder = sortedBy(kept, size, key, ids);
+
+        int[] merged = new int[size];
+        int k = 0;
+        int a = 0;
+        for (int position = 0; position < size; position++) {
+            if (a == addedOrder.length || (k < kept && compare(key.applyAsLong(keptOrder[k]), ids[keptOrder[k]],
+                    key.applyAsLong(addedOrder[a]), ids[addedOrder[a]]) < 0)) {
+                merged[position] = keptOrder[k++];
+            } else {
+                merged[position] = addedOrder[a++];
+            }
+        }
+        return merged;
+    }
+
+    private static int maxOf(short[] categories) {
+        int max = 0;
+        for (short category : categories) {
+            max = Math.max(max, category);
+        }
+        return max;
+    }
+
+    private long estimateBytes() {
+        long memoBytes = Arrays.stream(memos)
+                .mapToLong(memo -> memo == null ? 0 : STRING_HEADER_BYTES + memo.length() * 2L)
+                .sum();
+        return ROW_BYTES * ids.length + memoBytes;
+    }
+
+    // DATETIME(0) 컬럼은 소수 초를 반올림해 저장하므로 같은 규칙으로 초 단위 값을 만든다.
+    static long toEpochSecond(LocalDateTime dateTime) {
+        return ExpenseDateTimes.toStored(dateTime).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private final class Filter {
+
+        private final long start;
+        private final long end;
+        private final int min;
+        private final int max;
+        private final boolean[] categoryMask;
+
+        private Filter(long start, long end, int min, int max, boolean[] categoryMask) {
+            this.start = start;
+            this.end = end;
+            this.min = min;
+            this.max = max;
+            this.categoryMask = categoryMask;
+        }
+
+        boolean matches(int row) {
+            long expenseAt = expenseAts[row];
+            int amount = amounts[row];
+            return expenseAt >= start && expenseAt <= end
+                    && amount >= min && amount <= max
+                    && (categoryMask == null || categoryMask[categories[row]]);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package jaringobi.domain.guide;
+
+import java.time.LocalDate;
+
+/**
+ * daily_guide 한 행. 사용자의 하루, 카테고리 하나에 대한 안내다.
+ * 카테고리 id 가 0 인 행은 계산했지만 예산이 없었다는 표시다. (없는 카테고리라 실제 안내와 겹치지 않는다)
+ *
+ * @param spentAmount    이번 달 1일부터 어제까지 쓴 금액
+ * @param dailyAllowance 남은 예산을 오늘을 포함한 남은 일수로 나눈 금액
+ */
+public record DailyGuide(long userId, LocalDate day, long categoryId, long budgetAmount, long spentAmount,
+                         long dailyAllowance) {
+
+    private static final long NO_BUDGET_CATEGORY_ID = 0;
+
+    public static DailyGuide noBudget(long userId, LocalDate day) {
+        return new DailyGuide(userId, day, NO_BUDGET_CATEGORY_ID, 0, 0, 0);
+    }
+
+    public boolean isNoBudget() {
+        return categoryId == NO_BUDGET_CATEGORY_ID;
+    }
+}
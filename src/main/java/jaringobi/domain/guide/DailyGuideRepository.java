@@ -0,0 +1,179 @@
+package jaringobi.domain.guide;
+
+import jaringobi.domain.budget.CategoryAmountRow;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 하루 지출 안내(daily_guide)의 원본 스캔과 저장. 스캔은 사용자 id 구간 단위다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyGuideRepository {
+
+    private static final String FIND_USER_ID_RANGE_SQL = "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM users";
+
+    // 같은 달 예산이 여러 개면 먼저 만든 예산을 먼저 읽는다.
+    private static final String SCAN_BUDGETS_SQL = """
+            SELECT b.user_id AS owner_id, c.category_id, c.amount
+            FROM budget b
+            JOIN budget_by_category c ON c.budget_id = b.id
+            WHERE b.user_id BETWEEN :fromUserId AND :toUserId AND b.budget_month = :monthStart
+            ORDER BY b.user_id, b.id
+            """;
+
+    private static final String SCAN_SPENT_SQL = """
+            SELECT s.user_id AS owner_id, s.category_id, SUM(s.total) AS amount
+            FROM expense_daily_summary s
+            WHERE s.user_id BETWEEN :fromUserId AND :toUserId AND s.day >= :monthStart AND s.day < :day
+            GROUP BY s.user_id, s.category_id
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO daily_guide(user_id, day, category_id, budget_amount, spent_amount, daily_allowance, computed_at)
+            VALUES (:userId, :day, :categoryId, :budgetAmount, :spentAmount, :dailyAllowance, :now) AS computed
+            ON DUPLICATE KEY UPDATE budget_amount = computed.budget_amount, spent_amount = computed.spent_amount,
+                                    daily_allowance = computed.daily_allowance, computed_at = computed.computed_at
+            """;
+
+    private static final String DELETE_USER_DAY_SQL = """
+            DELETE FROM daily_guide WHERE user_id = :userId AND day = :day
+            """;
+
+    private static final String DELETE_USERS_SQL = "DELETE FROM daily_guide WHERE user_id IN (:userIds)";
+
+    // 그날 지출은 같은 달 다음 날부터의 안내 사용 금액(이번 달 1일 ~ 전날)에 들어간다.
+    private static final String DELETE_USER_AFTER_SQL = """
+            DELETE FROM daily_guide WHERE user_id = :userId AND day > :day AND day < :nextMonthStart
+            """;
+
+    private static final String DELETE_BEFORE_SQL = "DELETE FROM daily_guide WHERE day < :day LIMIT :limit";
+
+    private static final String CLAIM_RUN_SQL = """
+            INSERT IGNORE INTO daily_guide_run(run_day, started_at) VALUES (:day, :now)
+            """;
+
+    private static final String FIND_BY_USER_DAY_SQL = """
+            SELECT user_id, day, category_id, budget_amount, spent_amount, daily_allowance
+            FROM daily_guide
+            WHERE user_id = :userId AND day = :day
+            ORDER BY category_id
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * @return [최소 사용자 id, 최대 사용자 id]. 사용자가 없으면 빈 값
+     */
+    public Optional<long[]> findUserIdRange() {
+        return namedParameterJdbcTemplate.query(FIND_USER_ID_RANGE_SQL, (rs, rowNum) -> {
+                    long min = rs.getLong("min_id");
+                    return rs.wasNull() ? null : new long[]{min, rs.getLong("max_id")};
+                })
+                .stream()
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    /**
+     * 그날의 자정 배치를 맡는다. 먼저 행을 넣은 인스턴스만 true 를 받는다.
+     *
+     * @return 이 호출이 맡았으면 true
+     */
+    public boolean claimRun(LocalDate day, LocalDateTime now) {
+        return namedParameterJdbcTemplate.update(CLAIM_RUN_SQL, new MapSqlParameterSource()
+                .addValue("day", day)
+                .addValue("now", now)) > 0;
+    }
+
+    public void scanBudgets(long fromUserId, long toUserId, LocalDate day, Consumer<CategoryAmountRow> consumer) {
+        scan(SCAN_BUDGETS_SQL, fromUserId, toUserId, day, consumer);
+    }
+
+    public void scanSpentBefore(long fromUserId, long toUserId, LocalDate day, Consumer<CategoryAmountRow> consumer) {
+        scan(SCAN_SPENT_SQL, fromUserId, toUserId, day, consumer);
+    }
+
+    public void upsertAll(List<DailyGuide> guides, LocalDateTime now) {
+        SqlParameterSource[] batch = guides.stream()
+                .map(guide -> new MapSqlParameterSource()
+                        .addValue("userId", guide.userId())
+                        .addValue("day", guide.day())
+                        .addValue("categoryId", guide.categoryId())
+                        .addValue("budgetAmount", guide.budgetAmount())
+                        .addValue("spentAmount", guide.spentAmount())
+                        .addValue("dailyAllowance", guide.dailyAllowance())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+    }
+
+    public void deleteOf(long userId, LocalDate day) {
+        namedParameterJdbcTemplate.update(DELETE_USER_DAY_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("day", day));
+    }
+
+    /**
+     * 사용자들의 안내를 날짜와 관계없이 지운다. 남아 있는 행은 오늘(과 아직 지우지 않은 지난) 안내뿐이다.
+     */
+    public void deleteOfUsers(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update(DELETE_USERS_SQL, new MapSqlParameterSource("userIds", userIds));
+    }
+
+    /**
+     * day 의 지출을 사용 금액에 넣어 계산한 안내(같은 달 day 다음 날부터)를 지운다.
+     */
+    public void deleteOfUserAfter(long userId, LocalDate day) {
+        namedParameterJdbcTemplate.update(DELETE_USER_AFTER_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("day", day)
+                .addValue("nextMonthStart", day.withDayOfMonth(1).plusMonths(1)));
+    }
+
+    /**
+     * @return 지운 행 수. limit 와 같으면 남은 행이 더 있을 수 있다.
+     */
+    public int deleteBefore(LocalDate day, int limit) {
+        return namedParameterJdbcTemplate.update(DELETE_BEFORE_SQL, new MapSqlParameterSource()
+                .addValue("day", day)
+                .addValue("limit", limit));
+    }
+
+    public List<DailyGuide> findOf(long userId, LocalDate day) {
+        return namedParameterJdbcTemplate.query(FIND_BY_USER_DAY_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("day", day), (rs, rowNum) -> new DailyGuide(
+                rs.getLong("user_id"),
+                rs.getObject("day", LocalDate.class),
+                rs.getLong("category_id"),
+                rs.getLong("budget_amount"),
+                rs.getLong("spent_amount"),
+                rs.getLong("daily_allowance")));
+    }
+
+    private void scan(String sql, long fromUserId, long toUserId, LocalDate day,
+            Consumer<CategoryAmountRow> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromUserId", fromUserId)
+                .addValue("toUserId", toUserId)
+                .addValue("monthStart", day.withDayOfMonth(1))
+                .addValue("day", day);
+        namedParameterJdbcTemplate.query(sql, params, rs -> {
+            consumer.accept(new CategoryAmountRow(rs.getLong("owner_id"), rs.getLong("category_id"),
+                    rs.getLong("amount")));
+        });
+    }
+}
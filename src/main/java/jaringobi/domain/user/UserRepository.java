@@ -1,11 +1,25 @@
 package jaringobi.domain.user;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByUsername(String username);
 
     Optional<User> findByUsername(String username);
+
+    /**
+     * @return 수정된 행 수. 0 이면 없는 사용자다.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE users SET budget_rollover = :enabled, updated_at = :updatedAt WHERE id = :id
+            """)
+    int updateBudgetRollover(@Param("id") long id, @Param("enabled") boolean enabled,
+            @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,31 @@
+package jaringobi.dto;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    private static final List<ExportFormat> formats = List.of(values());
+
+    public static ExportFormat of(String format) {
+        if (Objects.isNull(format)) {
+            return CSV;
+        }
+        return formats.stream()
+                .filter(exportFormat -> exportFormat.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElse(CSV);
+    }
+}
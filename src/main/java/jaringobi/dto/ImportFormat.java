@@ -0,0 +1,15 @@
+package jaringobi.dto;
+
+import lombok.Getter;
+
+@Getter
+public enum ImportFormat {
+    CSV("text/csv"),
+    JSON("application/json");
+
+    private final String contentType;
+
+    ImportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+}
@@ -0,0 +1,89 @@
+package jaringobi.dto;
+
+import jaringobi.domain.expense.ExpenseSearchRow;
+import jaringobi.exception.expense.InvalidSearchCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * 키셋(seek) 페이지네이션 커서. 마지막으로 조회한 행의 (정렬 키, id) 를 담는다.
+ * 클라이언트에는 정렬 기준/방향까지 포함해 Base64 로 인코딩한 불투명한 문자열로 전달한다.
+ */
+@Getter
+public class SearchCursor {
+
+    private static final String DELIMITER = "|";
+    private static final String DELIMITER_REGEX = "\\|";
+    private static final int TOKEN_COUNT = 4;
+
+    private final SearchSort sort;
+    private final SearchOrder order;
+    private final String key;
+    private final long id;
+
+    private SearchCursor(SearchSort sort, SearchOrder order, String key, long id) {
+        this.sort = sort;
+        this.order = order;
+        this.key = key;
+        this.id = id;
+    }
+
+    public static SearchCursor of(SearchSort sort, SearchOrder order, ExpenseSearchRow row) {
+        return new SearchCursor(sort, order, sortKeyOf(sort, row), row.id());
+    }
+
+    public static SearchCursor decode(String encoded) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split(DELIMITER_REGEX);
+            if (tokens.length != TOKEN_COUNT) {
+                throw new InvalidSearchCursorException();
+            }
+            SearchCursor cursor = new SearchCursor(SearchSort.valueOf(tokens[0]), SearchOrder.valueOf(tokens[1]),
+                    tokens[2], Long.parseLong(tokens[3]));
+            cursor.verifyKey();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidSearchCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sort.name(), order.name(), key, String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isSameOrdering(SearchSort sort, SearchOrder order) {
+        return this.sort == sort && this.order == order;
+    }
+
+    public int getAmountKey() {
+        return Integer.parseInt(key);
+    }
+
+    public LocalDateTime getDateTimeKey() {
+        return LocalDateTime.parse(key);
+    }
+
+    private void verifyKey() {
+        if (sort == SearchSort.AMOUNT) {
+            getAmountKey();
+            return;
+        }
+        getDateTimeKey();
+    }
+
+    private static String sortKeyOf(SearchSort sort, ExpenseSearchRow row) {
+        if (sort == SearchSort.AMOUNT) {
+            return String.valueOf(row.amount());
+        }
+        if (sort == SearchSort.CREATED) {
+            return Objects.requireNonNull(row.createdAt()).toString();
+        }
+        return row.expenseAt().toString();
+    }
+}
@@ -0,0 +1,20 @@
+package jaringobi.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetRecommendationParameter {
+
+    // 카테고리별로 나눌 한 달 예산 총액
+    @NotNull
+    @Positive
+    private Long total;
+}
@@ -0,0 +1,16 @@
+package jaringobi.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BudgetRolloverRequest {
+
+    // 켜 두면 매월 초 전월 예산이 새 달로 복사된다.
+    private boolean enabled;
+}
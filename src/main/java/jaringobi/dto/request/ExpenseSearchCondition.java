@@ -2,14 +2,17 @@ package jaringobi.dto.request;
 
 import jaringobi.controller.search.CategoryIds;
 import jaringobi.domain.budget.Money;
+import jaringobi.dto.SearchCursor;
 import jaringobi.dto.SearchOrder;
 import jaringobi.dto.SearchSort;
 import jaringobi.exception.expense.ExpenseSearchDateNotNullException;
+import jaringobi.exception.expense.InvalidSearchCursorException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Objects;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
 import lombok.Builder;
 import lombok.Getter;
@@ -35,10 +38,12 @@ public class ExpenseSearchCondition {
     private int size = DEFAULT_PAGE_SIZE;
     private SearchOrder order = SearchOrder.DESC;
     private SearchSort sort = SearchSort.EXPENSE_DATE;
+    private SearchCursor cursor;
+    private boolean withTotal = false;
 
     @Builder
     public ExpenseSearchCondition(String start, String end, Integer min, Integer max, List<Long> categoryIds,
-            Integer page, Integer size, SearchOrder order, SearchSort sort) {
+            Integer page, Integer size, SearchOrder order, SearchSort sort, String cursor, Boolean withTotal) {
         verifyNotNullDate(start, end);
         this.start = toLocalDateTime(start);
         this.end = toLocalDateTime(end);
@@ -66,6 +71,14 @@ public class ExpenseSearchCondition {
         if (Objects.nonNull(sort)) {
             setSort(sort);
         }
+
+        if (Objects.nonNull(cursor) && !cursor.isBlank()) {
+            setCursor(SearchCursor.decode(cursor));
+        }
+
+        if (Objects.nonNull(withTotal)) {
+            this.withTotal = withTotal;
+        }
     }
 
     private void verifyNotNullDate(String start, String end) {
@@ -82,8 +95,19 @@ public class ExpenseSearchCondition {
         this.sort = Objects.requireNonNull(sort);
     }
 
+    private void setCursor(SearchCursor cursor) {
+        if (!cursor.isSameOrdering(sort, order)) {
+            throw new InvalidSearchCursorException();
+        }
+        this.cursor = cursor;
+    }
+
+    public boolean hasCursor() {
+        return Objects.nonNull(cursor);
+    }
+
     private void setSize(Integer size) {
-        if (size > DEFAULT_PAGE_SIZE) {
+        if (size < MIN_PAGE_SIZE || size > MAX_PAGE_SIZE) {
             return;
         }
         this.size = size;
@@ -115,4 +139,22 @@ public class ExpenseSearchCondition {
     public Pageable toPageable() {
         return PageRequest.of(page, size);
     }
+
+    /**
+     * 같은 결과를 내는 조건은 같은 문자열이 되도록 정규화한다. 검색 결과 캐시 키로 쓴다.
+     * 카테고리는 정렬, 중복 제거하고 커서가 있으면 페이지 번호는 쓰이지 않으므로 뺀다.
+     */
+    public String toCanonicalString() {
+        return String.join("|",
+                start.toString(),
+                end.toString(),
+                Objects.isNull(min) ? "" : String.valueOf(min.getAmount()),
+                Objects.isNull(max) ? "" : String.valueOf(max.getAmount()),
+                new TreeSet<>(categoryIds.getIds()).toString(),
+                hasCursor() ? cursor.encode() : String.valueOf(page),
+                String.valueOf(size),
+                order.name(),
+                sort.name(),
+                String.valueOf(withTotal));
+    }
 }
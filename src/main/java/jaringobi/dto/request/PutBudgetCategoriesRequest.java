@@ -0,0 +1,42 @@
+package jaringobi.dto.request;
+
+import jakarta.validation.Valid;
+import jaringobi.domain.budget.CategoryBudgetPutMode;
+import jaringobi.dto.request.validator.NotDuplicated;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PutBudgetCategoriesRequest {
+
+    @NotDuplicated
+    private List<@Valid BudgetByCategoryRequest> budgetByCategories;
+
+    // 생략하면 REPLACE
+    private CategoryBudgetPutMode mode;
+
+    @Builder
+    public PutBudgetCategoriesRequest(List<BudgetByCategoryRequest> budgetByCategories, CategoryBudgetPutMode mode) {
+        this.budgetByCategories = budgetByCategories;
+        this.mode = mode;
+    }
+
+    public CategoryBudgetPutMode mode() {
+        return Objects.requireNonNullElse(mode, CategoryBudgetPutMode.REPLACE);
+    }
+
+    /**
+     * @return categoryId → 금액. 요청 순서를 유지한다.
+     */
+    public Map<Long, Integer> amountsByCategory() {
+        Map<Long, Integer> amounts = new LinkedHashMap<>();
+        budgetByCategories.forEach(it -> amounts.put(it.getCategoryId(), it.toCategoryBudget().getAmount().getAmount()));
+        return amounts;
+    }
+}
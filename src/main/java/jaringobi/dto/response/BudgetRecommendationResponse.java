@@ -0,0 +1,14 @@
+package jaringobi.dto.response;
+
+import jaringobi.domain.budget.BudgetBucket;
+import java.util.List;
+
+/**
+ * 총액을 카테고리별 예산으로 나눈 추천. 카테고리별 금액의 합은 총액과 같다.
+ */
+public record BudgetRecommendationResponse(long total, BudgetBucket bucket, List<CategoryRecommendation> budgetByCategories) {
+
+    public record CategoryRecommendation(long categoryId, long money) {
+
+    }
+}
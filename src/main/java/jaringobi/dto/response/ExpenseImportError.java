@@ -0,0 +1,5 @@
+package jaringobi.dto.response;
+
+public record ExpenseImportError(int row, String message) {
+
+}
@@ -0,0 +1,12 @@
+package jaringobi.dto.response;
+
+import java.util.List;
+
+/**
+ * completed 가 false 면 본문 오류나 최대 행 수 초과로 중간에 멈춘 것이다. importedCount 건은 이미 저장됐고
+ * 멈춘 행은 errors 의 마지막 항목에 있다.
+ */
+public record ExpenseImportResponse(int importedCount, int failedCount, List<ExpenseImportError> errors,
+                                    boolean completed) {
+
+}
@@ -10,7 +10,11 @@ import jaringobi.exception.category.CategoryNotFoundException;
 import jaringobi.exception.expense.ExpenseNotFoundException;
 import jaringobi.exception.expense.ExpenseNullArgumentException;
 import jaringobi.exception.expense.ExpenseNullUserException;
+import jaringobi.exception.expense.ExpenseImportTooLargeException;
 import jaringobi.exception.expense.ExpenseSearchDateNotNullException;
+import jaringobi.exception.expense.InvalidExpenseImportFormatException;
+import jaringobi.exception.expense.InvalidSearchCursorException;
+import jaringobi.exception.user.PasswordHashingBusyException;
 import jaringobi.exception.user.PasswordNotMatchedException;
 import jaringobi.exception.user.UserNotFoundException;
 import jaringobi.exception.user.UsernameDuplicatedException;
@@ -28,6 +32,7 @@ public enum ErrorType {
     U001("U001", "이미 존재하는 계정명입니다.", UsernameDuplicatedException.class, HttpStatus.CONFLICT),
     U002("U002", "존재하지 않는 계정입니다.", UserNotFoundException.class, HttpStatus.NOT_FOUND),
     U003("U003", "비밀번호가 일치하지 않습니다.", PasswordNotMatchedException.class, HttpStatus.BAD_REQUEST),
+    U004("U004", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", PasswordHashingBusyException.class, HttpStatus.SERVICE_UNAVAILABLE),
 
     B001("B001", "올바르지 않은 예산 정보입니다.", InvalidBudgetException.class, HttpStatus.BAD_REQUEST),
     B002("B002", "지정 예산은 0원을 넘을 수 없습니다.", LowBudgetException.class, HttpStatus.BAD_REQUEST),
@@ -38,10 +43,13 @@ public enum ErrorType {
     E001("E001", "필수 지출 정보를 입력바랍니다. 정보 생성 시 (지출 금액, 지출 일, 지출 카테고리)", ExpenseNullArgumentException.class, HttpStatus.BAD_REQUEST),
     E002("E002", "지출 추가 시 유저 정보는 필수입니다.", ExpenseNullUserException.class, HttpStatus.BAD_REQUEST),
     E003("E003", "존재하지 않는 지출 정보입니다.", ExpenseNotFoundException.class, HttpStatus.NOT_FOUND),
+    E004("E004", "한 번에 가져올 수 있는 지출 건수를 초과했습니다.", ExpenseImportTooLargeException.class, HttpStatus.PAYLOAD_TOO_LARGE),
+    E005("E005", "가져오기 형식이 올바르지 않습니다. (CSV 헤더 또는 JSON 배열)", InvalidExpenseImportFormatException.class, HttpStatus.BAD_REQUEST),
 
     C001("C001", "존재하지 않는 카테고리 입니다.", CategoryNotFoundException.class, HttpStatus.BAD_REQUEST),
 
-    S001("S001", "검색 날짜 입력은 필수입니다.", ExpenseSearchDateNotNullException.class, HttpStatus.BAD_REQUEST);
+    S001("S001", "검색 날짜 입력은 필수입니다.", ExpenseSearchDateNotNullException.class, HttpStatus.BAD_REQUEST),
+    S002("S002", "올바르지 않은 검색 커서입니다.", InvalidSearchCursorException.class, HttpStatus.BAD_REQUEST);
 
     private final String code;
     private final String message;
@@ -2,8 +2,10 @@ package jaringobi.exception;
 
 import jaringobi.exception.auth.AuthenticationErrorType;
 import jaringobi.exception.auth.AuthenticationException;
+import jaringobi.exception.user.PasswordHashingBusyException;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -23,6 +25,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(e.getErrorType().getHttpStatus()).body(ErrorResponse.of(e.getErrorType()));
     }
 
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingBusyException(PasswordHashingBusyException e) {
+        log.warn("[error] password hashing queue full, retry after {}s", e.getRetryAfterSeconds());
+        return ResponseEntity.status(e.getErrorType().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ErrorResponse.of(e.getErrorType()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
         List<BindingErrorField> bindingErrorFields = e.getFieldErrors()
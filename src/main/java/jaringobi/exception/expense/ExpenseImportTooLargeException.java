@@ -0,0 +1,7 @@
+package jaringobi.exception.expense;
+
+import jaringobi.exception.BudgetGlobalException;
+
+public class ExpenseImportTooLargeException extends BudgetGlobalException {
+
+}
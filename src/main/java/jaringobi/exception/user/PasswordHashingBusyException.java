@@ -0,0 +1,14 @@
+package jaringobi.exception.user;
+
+import jaringobi.exception.BudgetGlobalException;
+import lombok.Getter;
+
+@Getter
+public class PasswordHashingBusyException extends BudgetGlobalException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
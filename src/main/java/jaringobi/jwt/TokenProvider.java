@@ -4,12 +4,14 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.http.HttpServletRequest;
+import jaringobi.exception.auth.AccessTokenExpiredException;
 import jaringobi.exception.auth.AuthenticationException;
 import jaringobi.exception.auth.InvalidTokenException;
 import java.time.Instant;
 import java.util.Arrays;
-import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import org.springframework.stereotype.Component;
@@ -48,10 +50,13 @@ public class TokenProvider {
 
     private final Algorithm AL;
     private final TokenProperty jwtProperties;
+    // JWTVerifier 는 불변이고 스레드 안전하므로 한 번만 만들어 모든 요청이 공유한다.
+    private final JWTVerifier verifier;
 
     public TokenProvider(TokenProperty jwtProperties) {
         this.jwtProperties = jwtProperties;
         this.AL = Algorithm.HMAC512(jwtProperties.getSecret());
+        this.verifier = JWT.require(AL).build();
     }
 
     private String generate(Long userSeq, TokenType tokenType) {
@@ -71,16 +76,21 @@ public class TokenProvider {
         return generate(userSeq, TokenType.REFRESH);
     }
 
-    public boolean isExpired(String token) {
-        Date expiresAt = JWT.decode(token)
-                .getClaim(EXP).asDate();
-        return expiresAt.before(new Date());
+    /**
+     * 서명과 만료 시간을 한 번에 검증하고 디코딩된 토큰을 돌려준다.
+     */
+    public DecodedJWT verify(String token) {
+        try {
+            return verifier.verify(token);
+        } catch (TokenExpiredException exception) {
+            throw new AccessTokenExpiredException();
+        } catch (JWTVerificationException exception) {
+            throw new InvalidTokenException();
+        }
     }
 
     public boolean isValidToken(String token) {
         try {
-            JWTVerifier verifier = JWT.require(AL)
-                    .build();
             verifier.verify(token);
             return true;
         } catch (JWTVerificationException exception){
@@ -89,7 +99,11 @@ public class TokenProvider {
     }
 
     public Long parseUserId(String token) {
-        return JWT.decode(token).getClaim(USER_SEQ).asLong();
+        return parseUserId(JWT.decode(token));
+    }
+
+    public Long parseUserId(DecodedJWT decodedJWT) {
+        return decodedJWT.getClaim(USER_SEQ).asLong();
     }
 
     private long getLifeTime(TokenType tokenType) {
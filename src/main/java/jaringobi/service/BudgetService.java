@@ -1,41 +1,68 @@
 package jaringobi.service;
 
+import jaringobi.common.persistence.ConstraintViolations;
 import jaringobi.domain.budget.Budget;
+import jaringobi.domain.budget.BudgetGeneration;
 import jaringobi.domain.budget.BudgetRepository;
 import jaringobi.domain.budget.CategoryBudget;
+import jaringobi.domain.budget.CategoryBudgetBulkRepository;
+import jaringobi.domain.budget.CategoryBudgetChanges;
 import jaringobi.domain.budget.CategoryBudgetRepository;
+import jaringobi.domain.category.CategoryRegistry;
 import jaringobi.domain.user.AppUser;
 import jaringobi.domain.user.User;
 import jaringobi.domain.user.UserRepository;
 import jaringobi.dto.request.AddBudgetRequest;
 import jaringobi.dto.request.BudgetByCategoryRequest;
+import jaringobi.dto.request.BudgetRolloverRequest;
 import jaringobi.dto.request.ModifyBudgetCategory;
+import jaringobi.dto.request.PutBudgetCategoriesRequest;
 import jaringobi.dto.response.AddBudgetResponse;
 import jaringobi.dto.response.BudgetResponse;
 import jaringobi.exception.auth.NoPermissionException;
+import jaringobi.exception.budget.BudgetCategoryDuplicatedException;
+import jaringobi.exception.budget.BudgetCategoryNotFoundException;
 import jaringobi.exception.budget.BudgetNotFoundException;
+import jaringobi.exception.category.CategoryNotFoundException;
 import jaringobi.exception.user.UserNotFoundException;
+import jaringobi.service.guide.DailyGuideService;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 예산 조회는 카테고리별 예산까지 한 번의 쿼리로 읽고, 카테고리 예산 추가, 수정, 삭제는 예산을 읽지 않고
+ * 소유자 조건을 붙인 한 문장으로 처리한다. 반영된 행이 없을 때만 원인을 확인한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class BudgetService {
 
+    private static final String UNIQUE_BUDGET_CATEGORY = "uk_budget_by_category_budget_category";
+
     private final BudgetRepository budgetRepository;
     private final UserRepository userRepository;
     private final CategoryBudgetRepository categoryBudgetRepository;
+    private final CategoryBudgetBulkRepository categoryBudgetBulkRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final BudgetGeneration budgetGeneration;
+    private final DailyGuideService dailyGuideService;
 
     @Transactional
     public AddBudgetResponse addBudget(AppUser appUser, AddBudgetRequest addBudgetRequest) {
+        List<CategoryBudget> categoryBudgets = addBudgetRequest.categoryBudgets();
+        categoryBudgets.forEach(categoryBudget -> verifyCategoryExists(categoryBudget.getCategoryId()));
         final User user = findUser(appUser);
         Budget budget = addBudgetRequest.toBudget();
-        List<CategoryBudget> categoryBudgets = addBudgetRequest.categoryBudgets();
         budget.setUser(user);
         budget.setCategoryBudgets(categoryBudgets);
         Budget savedBudget = budgetRepository.save(budget);
+        budgetChanged(appUser);
         return AddBudgetResponse.of(savedBudget);
     }
 
@@ -43,6 +70,7 @@ public class BudgetService {
     public void deleteBudget(AppUser appUser, long budgetId) {
         Budget budget = findBudgetOwnerOf(appUser, budgetId);
         budgetRepository.delete(budget);
+        budgetChanged(appUser);
     }
 
     @Transactional(readOnly = true)
@@ -53,36 +81,112 @@ public class BudgetService {
 
     @Transactional
     public void addBudgetCategory(AppUser appUser, long budgetId, BudgetByCategoryRequest budgetByCategoryRequest) {
-        Budget budget = findBudgetOwnerOf(appUser, budgetId);
-        budget.addBudgetCategory(budgetByCategoryRequest.toCategoryBudget());
+        verifyCategoryExists(budgetByCategoryRequest.getCategoryId());
+        CategoryBudget categoryBudget = budgetByCategoryRequest.toCategoryBudget();
+        int inserted = insertCategoryBudget(appUser, budgetId, categoryBudget);
+        verifyOwnedBudgetCategoryWritten(inserted, appUser, budgetId, BudgetCategoryDuplicatedException::new);
+        budgetChanged(appUser);
     }
 
     @Transactional
     public void modifyBudgetCategory(AppUser appUser, long budgetId, long budgetCategoryId, ModifyBudgetCategory modifyBudgetCategory) {
-        Budget budget = findBudgetOwnerOf(appUser, budgetId);
         CategoryBudget budgetCategory = modifyBudgetCategory.toCategoryBudgetWithCategory(budgetCategoryId);
-        budget.modifyBudgetCategory(budgetCategory);
+        int updated = categoryBudgetRepository.updateOwnedBy(budgetId, appUser.userId(),
+                budgetCategory.getCategoryId(), budgetCategory.getAmount().getAmount(), LocalDateTime.now());
+        verifyOwnedBudgetCategoryWritten(updated, appUser, budgetId, BudgetCategoryNotFoundException::new);
+        budgetChanged(appUser);
     }
 
     @Transactional
     public void removeBudgetCategory(AppUser appUser, long budgetId, long budgetCategoryId) {
-        Budget budget = findBudgetOwnerOf(appUser, budgetId);
-        budget.deleteBudgetCategoryByCid(budgetCategoryId);
+        int deleted = categoryBudgetRepository.deleteOwnedBy(budgetId, appUser.userId(), budgetCategoryId);
+        verifyOwnedBudgetCategoryWritten(deleted, appUser, budgetId, BudgetCategoryNotFoundException::new);
+        budgetChanged(appUser);
     }
 
-    private Budget findBudgetOwnerOf(AppUser appUser, long budgetId) {
-        Budget budget = findBudget(budgetId);
-        if (!budget.isOwner(appUser)) {
-            throw new NoPermissionException();
+    /**
+     * 예산의 카테고리 예산을 한 번에 반영한다. 현재 값과 categoryId 로 비교해 바뀐 카테고리만
+     * 한 배치의 INSERT ... ON DUPLICATE KEY UPDATE 로, 빠진 카테고리(REPLACE)는 한 번의 DELETE 로 쓴다.
+     */
+    @Transactional
+    public void putBudgetCategories(AppUser appUser, long budgetId, PutBudgetCategoriesRequest putBudgetCategoriesRequest) {
+        Map<Long, Integer> requested = putBudgetCategoriesRequest.amountsByCategory();
+        requested.keySet().forEach(this::verifyCategoryExists);
+        if (!categoryBudgetBulkRepository.lockOwned(budgetId, appUser.userId())) {
+            throw budgetFailureOf(budgetId);
+        }
+        Map<Long, Integer> current = categoryBudgetBulkRepository.findAmountsByCategory(budgetId);
+        CategoryBudgetChanges changes = CategoryBudgetChanges.between(current, requested,
+                putBudgetCategoriesRequest.mode());
+        if (changes.isEmpty()) {
+            return;
+        }
+        categoryBudgetBulkRepository.apply(budgetId, changes, LocalDateTime.now());
+        budgetChanged(appUser);
+    }
+
+    @Transactional
+    public void changeBudgetRollover(AppUser appUser, BudgetRolloverRequest budgetRolloverRequest) {
+        int updated = userRepository.updateBudgetRollover(appUser.userId(), budgetRolloverRequest.isEnabled(),
+                LocalDateTime.now());
+        if (updated == 0) {
+            throw new UserNotFoundException();
+        }
+    }
+
+    private void budgetChanged(AppUser appUser) {
+        budgetGeneration.increase(appUser);
+        dailyGuideService.invalidate(appUser);
+    }
+
+    private void verifyCategoryExists(long categoryId) {
+        if (!categoryRegistry.contains(categoryId)) {
+            throw new CategoryNotFoundException();
+        }
+    }
+
+    /**
+     * NOT EXISTS 확인과 INSERT 사이에 같은 카테고리가 먼저 추가되면 유니크 키에 걸린다.
+     * 이 경우도 이미 있는 카테고리이므로 같은 예외로 돌려준다.
+     */
+    private int insertCategoryBudget(AppUser appUser, long budgetId, CategoryBudget categoryBudget) {
+        try {
+            return categoryBudgetRepository.insertOwnedBy(budgetId, appUser.userId(),
+                    categoryBudget.getCategoryId(), categoryBudget.getAmount().getAmount(), LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.violates(e, UNIQUE_BUDGET_CATEGORY)) {
+                throw new BudgetCategoryDuplicatedException();
+            }
+            throw e;
         }
-        return budget;
     }
 
-    private Budget findBudget(long budgetId) {
-        return budgetRepository.findById(budgetId)
-                .orElseThrow(BudgetNotFoundException::new);
+    /**
+     * 반영된 행이 없을 때만 예산을 확인한다. 내 예산이 있으면 카테고리 쪽 문제(중복, 없음)이고,
+     * 아니면 없는 예산(404)과 다른 사용자의 예산(403)을 구분한다.
+     */
+    private void verifyOwnedBudgetCategoryWritten(int affectedRows, AppUser appUser, long budgetId,
+            Supplier<? extends RuntimeException> categoryFailure) {
+        if (affectedRows > 0) {
+            return;
+        }
+        if (budgetRepository.existsByIdAndUserId(budgetId, appUser.userId())) {
+            throw categoryFailure.get();
+        }
+        throw budgetFailureOf(budgetId);
     }
 
+    private Budget findBudgetOwnerOf(AppUser appUser, long budgetId) {
+        return budgetRepository.findOwnedWithCategoryBudgets(budgetId, appUser.userId())
+                .orElseThrow(() -> budgetFailureOf(budgetId));
+    }
+
+    private RuntimeException budgetFailureOf(long budgetId) {
+        if (budgetRepository.existsById(budgetId)) {
+            return new NoPermissionException();
+        }
+        return new BudgetNotFoundException();
+    }
 
     private User findUser(AppUser appUser) {
         return userRepository.findById(appUser.userId())
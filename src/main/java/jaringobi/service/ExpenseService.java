@@ -1,13 +1,21 @@
 package jaringobi.service;
 
+import jaringobi.common.persistence.ConstraintViolations;
 import jaringobi.dto.request.AddExpenseRequest;
 import jaringobi.dto.request.ModifyExpenseRequest;
 import jaringobi.dto.response.AddExpenseNoResponse;
+import jaringobi.service.alert.BudgetAlertEngine;
+import jaringobi.service.guide.DailyGuideService;
 import jaringobi.domain.budget.Money;
 import jaringobi.domain.category.Category;
+import jaringobi.domain.category.CategoryRegistry;
 import jaringobi.domain.category.CategoryRepository;
+import jaringobi.domain.expense.DailyExpenseEntry;
 import jaringobi.domain.expense.Expense;
+import jaringobi.domain.expense.ExpenseDailySummaryRepository;
+import jaringobi.domain.expense.ExpenseGeneration;
 import jaringobi.domain.expense.ExpenseRepository;
+import jaringobi.domain.expense.columnar.ExpenseColumnStore;
 import jaringobi.domain.user.AppUser;
 import jaringobi.domain.user.User;
 import jaringobi.domain.user.UserRepository;
@@ -17,44 +25,100 @@ import jaringobi.exception.expense.ExpenseNotFoundException;
 import jaringobi.exception.user.UserNotFoundException;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 지출 쓰기는 사용자, 카테고리, 지출을 미리 읽지 않는다.
+ * 카테고리는 {@link CategoryRegistry} 로 확인하고 사용자, 카테고리는 참조(프록시)로만 연결하며,
+ * 수정, 삭제는 소유자 조건을 붙인 UPDATE / DELETE 의 반영 행 수로 성공 여부를 판단한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class ExpenseService {
 
+    private static final String USER_FOREIGN_KEY = "FK_expense_user_id";
+
     private final ExpenseRepository expenseRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final ExpenseDailySummaryRepository expenseDailySummaryRepository;
+    private final ExpenseColumnStore expenseColumnStore;
+    private final ExpenseGeneration expenseGeneration;
+    private final BudgetAlertEngine budgetAlertEngine;
+    private final DailyGuideService dailyGuideService;
 
     @Transactional
     public AddExpenseNoResponse addExpense(AddExpenseRequest addExpenseRequest, final AppUser appUser) {
-        final User user = findUser(appUser);
-        final Category category = findCategory(addExpenseRequest.getCategoryId());
+        final Category category = categoryReferenceOf(addExpenseRequest.getCategoryId());
+        final User user = userRepository.getReferenceById(appUser.userId());
         Expense expense = convertToExpense(addExpenseRequest, user, category);
-        Expense savedExpense = expenseRepository.save(expense);
+        Expense savedExpense = insert(expense);
+        expenseDailySummaryRepository.add(DailyExpenseEntry.of(appUser, savedExpense));
+        expenseColumnStore.added(appUser, savedExpense);
+        expenseGeneration.increase(appUser);
+        dailyGuideService.expenseAdded(appUser, savedExpense.getExpenseAt().toLocalDate());
+        budgetAlertEngine.expenseAdded(appUser, savedExpense.getId(), category.getId(),
+                savedExpense.getMoney().getAmount(), savedExpense.getExpenseAt());
         return AddExpenseNoResponse.of(savedExpense);
     }
 
     @Transactional
     public void modifyExpense(ModifyExpenseRequest modifyExpenseRequest, final Long expenseId, final AppUser appUser) {
-        Expense expense = findExpenseOwnerOf(appUser, expenseId);
-        final Category category = findCategory(modifyExpenseRequest.getCategoryId());
-        expense.modify(modifyExpenseRequest.toExpenseWithCategory(category));
+        final Category category = categoryReferenceOf(modifyExpenseRequest.getCategoryId());
+        final Expense modified = modifyExpenseRequest.toExpenseWithCategory(category);
+        // 수정 전 값은 DB 에서 조인해 합계에서 빼므로 UPDATE 보다 먼저 호출한다.
+        expenseDailySummaryRepository.subtractExpense(appUser.userId(), expenseId);
+        int updated = expenseRepository.updateOwnedBy(expenseId, appUser.userId(), modified.getMemo(),
+                modified.getMoney().getAmount(), category.getId(), modified.getExpenseAt(),
+                modified.isExcludeInTotal(), LocalDateTime.now());
+        verifyOwnedExpenseWritten(updated, expenseId);
+        expenseDailySummaryRepository.add(DailyExpenseEntry.of(appUser, modified));
+        // 수정된 행 전체(생성일 등)를 읽지 않으므로 메모리 컬럼은 하나씩 고치지 않고 내린다.
+        expenseColumnStore.invalidate(appUser);
+        expenseGeneration.increase(appUser);
+        // 수정 전 지출일을 읽지 않으므로 하루 지출 안내는 날짜와 관계없이 지운다.
+        dailyGuideService.invalidate(appUser);
+        budgetAlertEngine.expenseChanged(appUser);
     }
 
-    private Expense findExpenseOwnerOf(AppUser appUser, Long expenseId) {
-        final Expense expense = findExpense(expenseId);
-        if (!expense.isOwnerOf(appUser)) {
+    @Transactional
+    public void deleteExpense(Long expenseId, AppUser appUser) {
+        expenseDailySummaryRepository.subtractExpense(appUser.userId(), expenseId);
+        int deleted = expenseRepository.deleteOwnedBy(expenseId, appUser.userId());
+        verifyOwnedExpenseWritten(deleted, expenseId);
+        expenseColumnStore.removed(appUser, expenseId);
+        expenseGeneration.increase(appUser);
+        dailyGuideService.invalidate(appUser);
+        budgetAlertEngine.expenseChanged(appUser);
+    }
+
+    /**
+     * 반영된 행이 없을 때만 지출이 있는지 확인해 없는 지출(404)과 다른 사용자의 지출(403)을 구분한다.
+     * 예외로 트랜잭션이 롤백되므로 앞서 뺀 합계도 함께 되돌려진다.
+     */
+    private void verifyOwnedExpenseWritten(int affectedRows, Long expenseId) {
+        if (affectedRows > 0) {
+            return;
+        }
+        if (expenseRepository.existsById(expenseId)) {
             throw new NoPermissionException();
         }
-        return expense;
+        throw new ExpenseNotFoundException();
     }
 
-    private Expense findExpense(Long expenseId) {
-        return expenseRepository.findById(expenseId)
-                .orElseThrow(ExpenseNotFoundException::new);
+    private Expense insert(Expense expense) {
+        try {
+            return expenseRepository.save(expense);
+        } catch (DataIntegrityViolationException e) {
+            // 사용자 외래 키 위반만 없는 사용자다. 다른 제약 위반은 원인을 가리지 않도록 그대로 던진다.
+            if (ConstraintViolations.violates(e, USER_FOREIGN_KEY)) {
+                throw new UserNotFoundException();
+            }
+            throw e;
+        }
     }
 
     private Expense convertToExpense(AddExpenseRequest addExpenseRequest, User user, Category category) {
@@ -70,19 +134,10 @@ public class ExpenseService {
                 .build();
     }
 
-    private Category findCategory(long categoryId) {
-        return categoryRepository.findById(categoryId)
-                .orElseThrow(CategoryNotFoundException::new);
-    }
-
-    private User findUser(AppUser appUser) {
-        return userRepository.findById(appUser.userId())
-                .orElseThrow(UserNotFoundException::new);
-    }
-
-    @Transactional
-    public void deleteExpense(Long expenseId, AppUser appUser) {
-        Expense expense = findExpenseOwnerOf(appUser, expenseId);
-        expenseRepository.delete(expense);
+    private Category categoryReferenceOf(long categoryId) {
+        if (!categoryRegistry.contains(categoryId)) {
+            throw new CategoryNotFoundException();
+        }
+        return categoryRepository.getReferenceById(categoryId);
     }
 }
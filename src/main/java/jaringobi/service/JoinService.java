@@ -1,29 +1,35 @@
 package jaringobi.service;
 
+import jaringobi.common.persistence.ConstraintViolations;
 import jaringobi.dto.request.AddUserRequest;
 import jaringobi.domain.user.User;
 import jaringobi.domain.user.UserRepository;
 import jaringobi.exception.user.UsernameDuplicatedException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 비밀번호 해시는 트랜잭션 밖에서 한다. 해시 작업 큐를 기다리는 동안 DB 커넥션을 잡지 않도록
+ * 중복 확인과 저장은 리포지토리의 짧은 트랜잭션으로 각각 끝낸다.
+ */
 @Service
 @RequiredArgsConstructor
 public class JoinService {
 
+    private static final String USERNAME_UNIQUE_KEY = "users.username";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
-    @Transactional
     public void join(AddUserRequest addUserRequest) {
         verifyNotDuplicatedUser(addUserRequest.getUsername());
 
         User user = addUserRequest.toUser();
         user.encryptPassword(passwordEncoder);
 
-        userRepository.save(user);
+        insert(user);
     }
 
     private void verifyNotDuplicatedUser(String username) {
@@ -32,4 +38,16 @@ public class JoinService {
             throw new UsernameDuplicatedException();
         }
     }
+
+    private void insert(User user) {
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // 확인과 저장 사이에 같은 이름으로 먼저 가입한 경우
+            if (ConstraintViolations.violates(e, USERNAME_UNIQUE_KEY)) {
+                throw new UsernameDuplicatedException();
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,237 @@
+package jaringobi.service.alert;
+
+import jaringobi.common.transaction.AfterCommit;
+import jaringobi.domain.alert.BudgetAlertRepository;
+import jaringobi.domain.alert.DataGeneration;
+import jaringobi.domain.budget.BudgetGeneration;
+import jaringobi.domain.category.CategoryRegistry;
+import jaringobi.domain.user.AppUser;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 예산 기준(기본 50/80/100%) 알림. SSE 로 구독 중인 사용자만 카테고리별 누적 지출과 예산을 메모리에 둔다.
+ * <p>
+ * 지출 추가는 커밋 뒤 누적 합계에 더하고 그 카테고리만 비교한다. 수정, 삭제, 일괄 가져오기는 바뀐 값을 읽지 않으므로
+ * 합계를 DB 에서 다시 읽어 맞춘다. 다시 읽을 때는 합계와 사용자의 마지막 지출 id 를 한 스냅샷에서 읽고,
+ * 그 id 이하의 추가 이벤트는 합계에 이미 들어 있을 수 있으므로 더하지 않고 다시 읽는다. 예산이 바뀌었거나(예산 세대 번호) 날이 바뀌었으면 다음 지출에서 다시 읽는다.
+ * <p>
+ * 다른 인스턴스가 처리한 지출, 예산 변경은 이벤트로 오지 않으므로, 구독 중인 사용자의 DB 세대 번호를 주기적으로 읽어
+ * 다시 읽은 뒤 바뀐 사용자만 다시 읽는다. 그래서 SSE 연결이 어느 인스턴스에 있든 늦어도 한 주기 안에 알림을 받는다.
+ * DB 를 읽거나 알림을 보내는 일은 전용 스레드에서 하므로 지출 요청이 기다리지 않는다.
+ */
+@Slf4j
+@Component
+public class BudgetAlertEngine implements AutoCloseable {
+
+    // 세대 번호를 한 번에 읽을 구독 사용자 수 (IN 목록 크기)
+    private static final int POLL_BATCH_SIZE = 1_000;
+
+    private final BudgetAlertRepository budgetAlertRepository;
+    private final BudgetAlertSubscribers budgetAlertSubscribers;
+    private final BudgetAlertProperty budgetAlertProperty;
+    private final CategoryRegistry categoryRegistry;
+    private final BudgetGeneration budgetGeneration;
+    private final ConcurrentHashMap<Long, UserAlertState> states = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher;
+    private final TransactionTemplate snapshotTransaction;
+    private final int[] thresholds;
+
+    @Autowired
+    public BudgetAlertEngine(BudgetAlertRepository budgetAlertRepository,
+            BudgetAlertSubscribers budgetAlertSubscribers, BudgetAlertProperty budgetAlertProperty,
+            CategoryRegistry categoryRegistry, BudgetGeneration budgetGeneration,
+            PlatformTransactionManager transactionManager) {
+        this(budgetAlertRepository, budgetAlertSubscribers, budgetAlertProperty, categoryRegistry, budgetGeneration,
+                transactionManager,
+                Executors.newFixedThreadPool(Math.max(1, budgetAlertProperty.getDispatchThreads())));
+    }
+
+    BudgetAlertEngine(BudgetAlertRepository budgetAlertRepository,
+            BudgetAlertSubscribers budgetAlertSubscribers, BudgetAlertProperty budgetAlertProperty,
+            CategoryRegistry categoryRegistry, BudgetGeneration budgetGeneration,
+            PlatformTransactionManager transactionManager, ExecutorService dispatcher) {
+        this.budgetAlertRepository = budgetAlertRepository;
+        this.budgetAlertSubscribers = budgetAlertSubscribers;
+        this.budgetAlertProperty = budgetAlertProperty;
+        this.categoryRegistry = categoryRegistry;
+        this.budgetGeneration = budgetGeneration;
+        this.dispatcher = dispatcher;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.thresholds = budgetAlertProperty.getThresholds().stream()
+                .mapToInt(Integer::intValue)
+                .sorted()
+                .toArray();
+    }
+
+    public SseEmitter subscribe(AppUser appUser) {
+        SseEmitter emitter = new SseEmitter(budgetAlertProperty.getEmitterTimeout().toMillis());
+        if (!budgetAlertProperty.isEnabled()) {
+            emitter.complete();
+            return emitter;
+        }
+        long userId = appUser.userId();
+        // 상태는 연결 목록과 같은 임계 구역에서 만들고 지워, 마지막 연결이 끝나는 중에 들어온 구독도 상태를 갖는다.
+        budgetAlertSubscribers.add(userId, emitter,
+                () -> states.computeIfAbsent(userId, id -> new UserAlertState(maxCategoryId(), thresholds)),
+                () -> states.remove(userId));
+        dispatcher.execute(() -> reload(userId, false));
+        return emitter;
+    }
+
+    /**
+     * ExpenseService 가 지출을 추가한 트랜잭션 안에서 호출한다.
+     */
+    public void expenseAdded(AppUser appUser, long expenseId, long categoryId, long amount,
+            LocalDateTime expenseAt) {
+        long userId = appUser.userId();
+        if (!states.containsKey(userId)) {
+            return;
+        }
+        AfterCommit.run(() -> dispatcher.execute(() -> applyAdded(userId, expenseId, categoryId, amount, expenseAt)));
+    }
+
+    /**
+     * 바뀐 값을 모르는 지출 변경(수정, 삭제, 일괄 가져오기) 뒤에 합계를 다시 읽는다.
+     */
+    public void expenseChanged(AppUser appUser) {
+        long userId = appUser.userId();
+        if (!states.containsKey(userId)) {
+            return;
+        }
+        AfterCommit.run(() -> dispatcher.execute(() -> reload(userId, true)));
+    }
+
+    /**
+     * 스케줄러 스레드는 시점만 잡고, 연결마다 보내는 일은 전송 스레드에 넘겨 야간 배치와 서로 막지 않는다.
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void heartbeat() {
+        dispatcher.execute(budgetAlertSubscribers::heartbeat);
+    }
+
+    /**
+     * 구독 중인 사용자의 세대 번호를 묶어서 읽고, 다시 읽은 뒤 바뀐 사용자만 전송 스레드에서 다시 읽는다.
+     */
+    @Scheduled(fixedDelay = 2_000)
+    public void pollChanges() {
+        if (states.isEmpty()) {
+            return;
+        }
+        dispatcher.execute(this::reloadChanged);
+    }
+
+    @Override
+    public void close() {
+        dispatcher.shutdown();
+    }
+
+    private void applyAdded(long userId, long expenseId, long categoryId, long amount, LocalDateTime expenseAt) {
+        UserAlertState state = states.get(userId);
+        if (state == null) {
+            return;
+        }
+        List<BudgetAlertEvent> events;
+        synchronized (state) {
+            if (!state.isCurrent(LocalDate.now(), budgetGeneration.current(userId))
+                    || !state.isAfterReload(expenseId)) {
+                // 스냅샷에 들어 있을 수도, 빠져 있을 수도 있는 지출은 더하지 않고 DB 값으로 맞춘다. (경합 때만 생긴다)
+                events = reloadLocked(userId, state, true);
+            } else if (state.add(categoryId, amount, expenseAt)) {
+                events = state.evaluate(categoryId);
+            } else {
+                events = List.of();
+            }
+        }
+        publish(userId, events);
+    }
+
+    private void reloadChanged() {
+        List<Long> userIds = List.copyOf(states.keySet());
+        for (int from = 0; from < userIds.size(); from += POLL_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(from + POLL_BATCH_SIZE, userIds.size()));
+            Map<Long, DataGeneration> latest;
+            try {
+                latest = budgetAlertRepository.findGenerations(batch);
+            } catch (RuntimeException e) {
+                log.warn("[budget alert] generation poll failed", e);
+                return;
+            }
+            batch.forEach(userId -> reloadIfBehind(userId, latest.getOrDefault(userId, DataGeneration.NONE)));
+        }
+    }
+
+    private void reloadIfBehind(long userId, DataGeneration latest) {
+        UserAlertState state = states.get(userId);
+        if (state == null) {
+            return;
+        }
+        boolean loaded;
+        synchronized (state) {
+            if (!state.isBehind(latest)) {
+                return;
+            }
+            loaded = state.isLoaded();
+        }
+        // 아직 한 번도 읽지 못한 상태는 구독 시작과 같이 지금까지 넘은 기준을 알리지 않는다.
+        dispatcher.execute(() -> reload(userId, loaded));
+    }
+
+    private void reload(long userId, boolean keepFired) {
+        UserAlertState state = states.get(userId);
+        if (state == null) {
+            return;
+        }
+        List<BudgetAlertEvent> events;
+        synchronized (state) {
+            events = reloadLocked(userId, state, keepFired);
+        }
+        publish(userId, events);
+    }
+
+    /**
+     * 합계, 예산, 마지막 지출 id, 세대 번호를 한 읽기 전용 트랜잭션(REPEATABLE READ 스냅샷)에서 읽는다.
+     * 세대 번호가 합계와 같은 시점이므로 그 뒤에 커밋된 변경은 다음 주기에 세대 번호가 달라 다시 읽게 된다.
+     */
+    private List<BudgetAlertEvent> reloadLocked(long userId, UserAlertState state, boolean keepFired) {
+        LocalDate today = LocalDate.now();
+        try {
+            snapshotTransaction.executeWithoutResult(status -> state.reload(today,
+                    budgetAlertRepository.findMonthTotals(userId, today),
+                    budgetAlertRepository.findDayTotals(userId, today),
+                    budgetAlertRepository.findLimits(userId, today),
+                    budgetAlertRepository.findLastExpenseId(userId),
+                    budgetAlertRepository.findGeneration(userId), keepFired));
+        } catch (RuntimeException e) {
+            log.warn("[budget alert] reload failed for user {}", userId, e);
+            return List.of();
+        }
+        return keepFired ? state.evaluateAll() : List.of();
+    }
+
+    private void publish(long userId, List<BudgetAlertEvent> events) {
+        events.forEach(event -> budgetAlertSubscribers.send(userId, event));
+    }
+
+    private int maxCategoryId() {
+        return categoryRegistry.ids().stream()
+                .mapToInt(Math::toIntExact)
+                .max()
+                .orElse(0);
+    }
+}
@@ -0,0 +1,11 @@
+package jaringobi.service.alert;
+
+/**
+ * 카테고리 지출이 예산의 threshold 퍼센트를 넘었다.
+ *
+ * @param budgetAmount 기준 예산. DAY 면 하루 몫이다.
+ */
+public record BudgetAlertEvent(long categoryId, BudgetAlertScope scope, int threshold, long spentAmount,
+                               long budgetAmount) {
+
+}
@@ -0,0 +1,25 @@
+package jaringobi.service.alert;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "budget.alert")
+public class BudgetAlertProperty {
+
+    // 구독 중인 사용자의 카테고리 지출이 예산 기준을 넘으면 SSE 로 알린다.
+    private boolean enabled = true;
+
+    // 알림을 보낼 예산 대비 지출 퍼센트
+    private List<Integer> thresholds = List.of(50, 80, 100);
+
+    // SSE 연결 유지 시간. 끝나면 클라이언트가 새 토큰으로 다시 연결한다.
+    private Duration emitterTimeout = Duration.ofMinutes(10);
+
+    // 합계 갱신, 알림 전송을 맡는 스레드 수. 요청 스레드에서는 보내지 않는다.
+    private int dispatchThreads = 2;
+}
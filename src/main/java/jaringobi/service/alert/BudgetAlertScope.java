@@ -0,0 +1,10 @@
+package jaringobi.service.alert;
+
+/**
+ * 알림 기준. MONTH 는 이번 달 누적 지출 / 카테고리 예산, DAY 는 오늘 지출 / (카테고리 예산 / 이번 달 일수) 이다.
+ */
+public enum BudgetAlertScope {
+
+    MONTH,
+    DAY
+}
@@ -0,0 +1,93 @@
+package jaringobi.service.alert;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 사용자별 SSE 연결. 연결은 비동기 요청이라 대기 중에는 요청 스레드를 잡지 않는다.
+ * 보내다 실패한 연결과 끝난 연결은 바로 뺀다.
+ */
+@Component
+public class BudgetAlertSubscribers {
+
+    static final String EVENT_NAME = "budget-alert";
+
+    private final Map<Long, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자의 첫 연결이면 onFirstAdded 를, 그 연결들이 모두 끝나면 onLastRemoved 를 실행한다.
+     * 둘 다 사용자 키의 compute 안에서 실행되므로 끝나는 연결의 정리와 새 연결의 시작이 엇갈리지 않는다.
+     */
+    public void add(long userId, SseEmitter emitter, Runnable onFirstAdded, Runnable onLastRemoved) {
+        subscriptions.compute(userId, (id, subscription) -> {
+            if (subscription == null) {
+                onFirstAdded.run();
+                subscription = new Subscription(new CopyOnWriteArraySet<>(), onLastRemoved);
+            }
+            subscription.emitters().add(emitter);
+            return subscription;
+        });
+        Runnable remove = () -> remove(userId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+    }
+
+    public boolean hasSubscribers(long userId) {
+        return subscriptions.containsKey(userId);
+    }
+
+    public int size() {
+        return subscriptions.values().stream()
+                .mapToInt(subscription -> subscription.emitters().size())
+                .sum();
+    }
+
+    public void send(long userId, BudgetAlertEvent event) {
+        Subscription subscription = subscriptions.get(userId);
+        if (subscription == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscription.emitters()) {
+            trySend(emitter, SseEmitter.event().name(EVENT_NAME).data(event));
+        }
+    }
+
+    /**
+     * 프록시가 유휴 연결을 끊지 않도록, 또 이미 끊긴 연결을 찾아내도록 주석 한 줄을 보낸다.
+     * 느린 연결에서 막힐 수 있으므로 스케줄러 스레드가 아니라 {@link BudgetAlertEngine} 의 전송 스레드에서 호출한다.
+     */
+    public void heartbeat() {
+        subscriptions.values().forEach(subscription ->
+                subscription.emitters().forEach(emitter -> trySend(emitter, SseEmitter.event().comment("ping"))));
+    }
+
+    private void trySend(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 완료 콜백에서 목록에서 빠진다.
+            emitter.completeWithError(e);
+        }
+    }
+
+    void remove(long userId, SseEmitter emitter) {
+        subscriptions.computeIfPresent(userId, (id, subscription) -> {
+            subscription.emitters().remove(emitter);
+            if (subscription.emitters().isEmpty()) {
+                subscription.onLastRemoved().run();
+                return null;
+            }
+            return subscription;
+        });
+    }
+
+    private record Subscription(Set<SseEmitter> emitters, Runnable onLastRemoved) {
+
+    }
+}
@@ -0,0 +1,187 @@
+package jaringobi.service.alert;
+
+import jaringobi.domain.alert.DataGeneration;
+import jaringobi.domain.budget.CategoryAmountRow;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 구독 중인 사용자 한 명의 카테고리별 이번 달, 오늘 누적 지출과 예산. 카테고리 id 를 배열 인덱스로 쓴다.
+ * 지출 추가는 해당 칸에 더하고 그 카테고리만 비교하므로 O(1) 이다.
+ * <p>
+ * fired* 는 카테고리마다 이미 알린 가장 높은 기준의 순번(1 부터, 0 은 없음)이라 같은 기준을 두 번 알리지 않는다.
+ * 호출하는 쪽이 인스턴스 단위로 동기화한다.
+ */
+class UserAlertState {
+
+    private final int[] thresholds;
+    private final long[] monthTotals;
+    private final long[] dayTotals;
+    private final long[] limits;
+    private final int[] firedMonth;
+    private final int[] firedDay;
+
+    private LocalDate day;
+    private long lastExpenseId;
+    private DataGeneration generation = DataGeneration.NONE;
+
+    UserAlertState(int maxCategoryId, int[] thresholds) {
+        this.thresholds = thresholds;
+        this.monthTotals = new long[maxCategoryId + 1];
+        this.dayTotals = new long[maxCategoryId + 1];
+        this.limits = new long[maxCategoryId + 1];
+        this.firedMonth = new int[maxCategoryId + 1];
+        this.firedDay = new int[maxCategoryId + 1];
+    }
+
+    boolean isCurrent(LocalDate today, long budgetGeneration) {
+        return today.equals(day) && generation.budgetGeneration() == budgetGeneration;
+    }
+
+    boolean isLoaded() {
+        return day != null;
+    }
+
+    /**
+     * 마지막으로 다시 읽은 뒤 어느 인스턴스에서든 지출이나 예산 변경이 커밋되었으면 true.
+     * 이 인스턴스에서 더한 지출도 세대를 올리므로 그 경우에도 true 지만, 다시 읽어도 결과는 같다.
+     */
+    boolean isBehind(DataGeneration latest) {
+        return !isLoaded() || !generation.equals(latest);
+    }
+
+    /**
+     * 다시 읽은 스냅샷의 마지막 지출 id 이하면 합계에 이미 들어 있을 수 있다.
+     * (같은 사용자의 동시 추가로 더 작은 id 가 늦게 커밋되면 빠져 있을 수도 있다)
+     *
+     * @return 합계에 들어 있지 않은 것이 확실하면 true
+     */
+    boolean isAfterReload(long expenseId) {
+        return expenseId > lastExpenseId;
+    }
+
+    /**
+     * DB 에서 읽은 값으로 합계와 예산을 바꾼다.
+     *
+     * @param keepFired false 면 지금까지 넘은 기준은 이미 알린 것으로 본다. (구독 시작)
+     *                  true 면 같은 달, 같은 날 안에서 알린 기준을 유지하고 날이 바뀌면 비운다.
+     */
+    void reload(LocalDate today, List<CategoryAmountRow> monthRows, List<CategoryAmountRow> dayRows,
+            List<CategoryAmountRow> limitRows, long lastExpenseId, DataGeneration generation, boolean keepFired) {
+        boolean sameMonth = Objects.nonNull(day) && YearMonth.from(day).equals(YearMonth.from(today));
+        boolean sameDay = today.equals(day);
+        fill(monthTotals, monthRows, false);
+        fill(dayTotals, dayRows, false);
+        fill(limits, limitRows, true);
+        this.day = today;
+        this.lastExpenseId = lastExpenseId;
+        this.generation = generation;
+        for (int categoryId = 0; categoryId < limits.length; categoryId++) {
+            if (!keepFired) {
+                firedMonth[categoryId] = levelOf(monthTotals[categoryId], limits[categoryId]);
+                firedDay[categoryId] = levelOf(dayTotals[categoryId], dailyLimitOf(categoryId));
+                continue;
+            }
+            if (!sameMonth) {
+                firedMonth[categoryId] = 0;
+            }
+            if (!sameDay) {
+                firedDay[categoryId] = 0;
+            }
+        }
+    }
+
+    /**
+     * 오늘 또는 이번 달 지출이면 합계에 더한다.
+     *
+     * @return 합계가 바뀌었으면 true
+     */
+    boolean add(long categoryId, long amount, LocalDateTime expenseAt) {
+        if (!contains(categoryId) || !YearMonth.from(expenseAt).equals(YearMonth.from(day))
+                || expenseAt.toLocalDate().isAfter(day)) {
+            return false;
+        }
+        monthTotals[(int) categoryId] += amount;
+        if (expenseAt.toLocalDate().equals(day)) {
+            dayTotals[(int) categoryId] += amount;
+        }
+        return true;
+    }
+
+    List<BudgetAlertEvent> evaluate(long categoryId) {
+        List<BudgetAlertEvent> events = new ArrayList<>(2);
+        if (contains(categoryId)) {
+            evaluate((int) categoryId, events);
+        }
+        return events;
+    }
+
+    List<BudgetAlertEvent> evaluateAll() {
+        List<BudgetAlertEvent> events = new ArrayList<>();
+        for (int categoryId = 1; categoryId < limits.length; categoryId++) {
+            evaluate(categoryId, events);
+        }
+        return events;
+    }
+
+    private void evaluate(int categoryId, List<BudgetAlertEvent> events) {
+        long limit = limits[categoryId];
+        int monthLevel = levelOf(monthTotals[categoryId], limit);
+        if (monthLevel > firedMonth[categoryId]) {
+            events.add(new BudgetAlertEvent(categoryId, BudgetAlertScope.MONTH, thresholds[monthLevel - 1],
+                    monthTotals[categoryId], limit));
+        }
+        // 수정, 삭제로 내려가면 다시 넘을 때 알린다.
+        firedMonth[categoryId] = monthLevel;
+
+        long dailyLimit = dailyLimitOf(categoryId);
+        int dayLevel = levelOf(dayTotals[categoryId], dailyLimit);
+        if (dayLevel > firedDay[categoryId]) {
+            events.add(new BudgetAlertEvent(categoryId, BudgetAlertScope.DAY, thresholds[dayLevel - 1],
+                    dayTotals[categoryId], dailyLimit));
+        }
+        firedDay[categoryId] = dayLevel;
+    }
+
+    private long dailyLimitOf(int categoryId) {
+        return limits[categoryId] / day.lengthOfMonth();
+    }
+
+    /**
+     * @return spent 가 넘은 기준 수. 예산이 없으면 0
+     */
+    private int levelOf(long spent, long limit) {
+        if (limit <= 0) {
+            return 0;
+        }
+        int level = 0;
+        while (level < thresholds.length && spent * 100 >= thresholds[level] * limit) {
+            level++;
+        }
+        return level;
+    }
+
+    private boolean contains(long categoryId) {
+        return categoryId > 0 && categoryId < limits.length;
+    }
+
+    // 같은 카테고리 예산이 두 번 오면 먼저 온 예산을 쓴다. (오늘 지출 안내와 같다)
+    private void fill(long[] target, List<CategoryAmountRow> rows, boolean firstWins) {
+        Arrays.fill(target, 0);
+        for (CategoryAmountRow row : rows) {
+            if (!contains(row.categoryId())) {
+                continue;
+            }
+            int categoryId = (int) row.categoryId();
+            if (firstWins && target[categoryId] != 0) {
+                continue;
+            }
+            target[categoryId] += row.amount();
+        }
+    }
+}
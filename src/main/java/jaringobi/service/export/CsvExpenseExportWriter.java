@@ -0,0 +1,75 @@
+package jaringobi.service.export;
+
+import jaringobi.domain.expense.ExpenseSearchRow;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+class CsvExpenseExportWriter implements ExpenseExportWriter {
+
+    private static final String HEADER = "id,expenseAt,amount,categoryId,createdAt,memo";
+    private static final char UTF8_BOM = '\uFEFF';
+    // 스프레드시트가 수식으로 해석하는 첫 글자. ' 로 시작하는 값도 가져오기에서 되돌릴 수 있도록 함께 막는다.
+    private static final String FORMULA_PREFIXES = "=+-@\t\r'";
+    private static final char FORMULA_GUARD = '\'';
+
+    private final Writer writer;
+
+    CsvExpenseExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        // 엑셀에서 한글 메모가 깨지지 않도록 BOM 을 붙인다.
+        writer.write(UTF8_BOM);
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(ExpenseSearchRow row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writer.write(row.expenseAt().toString());
+        writer.write(',');
+        writer.write(String.valueOf(row.amount()));
+        writer.write(',');
+        writer.write(String.valueOf(row.categoryId()));
+        writer.write(',');
+        writer.write(Objects.toString(row.createdAt(), ""));
+        writer.write(',');
+        writer.write(escape(guardFormula(row.memo())));
+        writer.write('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * 메모가 = + - @ 등으로 시작하면 엑셀에서 열 때 수식으로 실행된다. (CSV injection)
+     * 앞에 ' 를 붙여 문자열로 보이게 하고, 가져오기는 이 ' 를 떼어 원래 메모로 되돌린다.
+     */
+    private String guardFormula(String value) {
+        if (Objects.isNull(value) || value.isEmpty() || FORMULA_PREFIXES.indexOf(value.charAt(0)) < 0) {
+            return value;
+        }
+        return FORMULA_GUARD + value;
+    }
+
+    private String escape(String value) {
+        if (Objects.isNull(value)) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,36 @@
+package jaringobi.service.export;
+
+import jaringobi.domain.expense.ExpenseExportRepository;
+import jaringobi.domain.user.AppUser;
+import jaringobi.dto.ExportFormat;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Service
+@RequiredArgsConstructor
+public class ExpenseExportService {
+
+    private final ExpenseExportRepository expenseExportRepository;
+
+    /**
+     * 응답 스트림에 쓸 때 조회를 시작해 결과셋을 한 행씩 바로 쓴다. 페이지 크기 제한은 적용하지 않는다.
+     */
+    public StreamingResponseBody export(AppUser appUser, ExpenseSearchCondition condition, ExportFormat format) {
+        return outputStream -> {
+            ExpenseExportWriter writer = ExpenseExportWriter.of(format, outputStream);
+            writer.writeHeader();
+            expenseExportRepository.streamByCondition(appUser, condition, row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.finish();
+        };
+    }
+}
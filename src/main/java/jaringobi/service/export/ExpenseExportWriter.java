@@ -0,0 +1,25 @@
+package jaringobi.service.export;
+
+import jaringobi.domain.expense.ExpenseSearchRow;
+import jaringobi.dto.ExportFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 내보내기 형식별로 지출 행을 출력 스트림에 쓴다. 행 단위로 바로 써서 메모리에 모으지 않는다.
+ */
+interface ExpenseExportWriter {
+
+    void writeHeader() throws IOException;
+
+    void write(ExpenseSearchRow row) throws IOException;
+
+    void finish() throws IOException;
+
+    static ExpenseExportWriter of(ExportFormat format, OutputStream outputStream) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            return new NdjsonExpenseExportWriter(outputStream);
+        }
+        return new CsvExpenseExportWriter(outputStream);
+    }
+}
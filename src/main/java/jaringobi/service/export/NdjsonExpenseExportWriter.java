@@ -0,0 +1,43 @@
+package jaringobi.service.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jaringobi.domain.expense.ExpenseSearchRow;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+class NdjsonExpenseExportWriter implements ExpenseExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    NdjsonExpenseExportWriter(OutputStream outputStream) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void writeHeader() {
+    }
+
+    @Override
+    public void write(ExpenseSearchRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.id());
+        generator.writeStringField("expenseAt", row.expenseAt().toString());
+        generator.writeNumberField("amount", row.amount());
+        generator.writeNumberField("categoryId", row.categoryId());
+        generator.writeStringField("createdAt", Objects.toString(row.createdAt(), null));
+        generator.writeStringField("memo", row.memo());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,57 @@
+package jaringobi.service.guide;
+
+import jaringobi.domain.budget.CategoryAmountRow;
+import jaringobi.domain.guide.DailyGuide;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 id 구간 하나의 예산, 어제까지의 지출을 모아 카테고리별 하루 사용 가능 금액을 계산한다.
+ * 구간 하나를 한 스레드가 쓰므로 스레드 안전하지 않다.
+ */
+class DailyGuideCalculator {
+
+    private final LocalDate day;
+    private final int remainingDays;
+    // 같은 카테고리 예산이 두 번 오면 먼저 온 예산을 쓴다. (오늘 지출 안내와 같다)
+    private final Map<Key, Long> budgets = new LinkedHashMap<>();
+    private final Map<Key, Long> spent = new HashMap<>();
+
+    DailyGuideCalculator(LocalDate day) {
+        this.day = day;
+        this.remainingDays = remainingDaysOf(day);
+    }
+
+    /**
+     * @return 오늘을 포함한 이번 달 남은 일수
+     */
+    static int remainingDaysOf(LocalDate day) {
+        return day.lengthOfMonth() - day.getDayOfMonth() + 1;
+    }
+
+    void acceptBudget(CategoryAmountRow row) {
+        budgets.putIfAbsent(new Key(row.ownerId(), row.categoryId()), row.amount());
+    }
+
+    void acceptSpent(CategoryAmountRow row) {
+        spent.merge(new Key(row.ownerId(), row.categoryId()), row.amount(), Long::sum);
+    }
+
+    List<DailyGuide> guides() {
+        List<DailyGuide> guides = new ArrayList<>(budgets.size());
+        budgets.forEach((key, budgetAmount) -> {
+            long spentAmount = spent.getOrDefault(key, 0L);
+            long dailyAllowance = Math.max(0, budgetAmount - spentAmount) / remainingDays;
+            guides.add(new DailyGuide(key.userId(), day, key.categoryId(), budgetAmount, spentAmount, dailyAllowance));
+        });
+        return guides;
+    }
+
+    private record Key(long userId, long categoryId) {
+
+    }
+}
@@ -0,0 +1,26 @@
+package jaringobi.service.guide;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "expense.guide")
+public class DailyGuideProperty {
+
+    // 자정 직후 모든 사용자의 카테고리별 하루 사용 가능 금액을 미리 계산한다.
+    private boolean enabled = true;
+
+    // 샤드 하나가 맡는 사용자 id 구간의 크기
+    private int usersPerShard = 10_000;
+
+    // 동시에 계산할 샤드 수
+    private int parallelism = 4;
+
+    // 동시에 DB 를 쓰는 샤드 수. 커넥션 풀을 요청 처리와 나눠 쓰므로 풀 크기보다 작게 둔다.
+    private int dbConcurrency = 2;
+
+    // 한 번의 배치 INSERT 로 쓰는 안내 행 수
+    private int batchSize = 1000;
+}
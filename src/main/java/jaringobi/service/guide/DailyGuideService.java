@@ -0,0 +1,174 @@
+package jaringobi.service.guide;
+
+import jaringobi.controller.query.expense.response.DailyGuideResponse;
+import jaringobi.domain.guide.DailyGuide;
+import jaringobi.domain.guide.DailyGuideRepository;
+import jaringobi.domain.user.AppUser;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 하루 지출 안내. 자정 직후 사용자 id 샤드를 병렬로 계산해 daily_guide 에 배치로 쓰고,
+ * 조회는 (user_id, day) 기본 키 범위만 읽는다. 배치가 아직 채우지 못한 사용자는 조회할 때 그 사용자만 계산해 둔다.
+ * 자정 배치는 그날 실행 행(daily_guide_run)을 먼저 넣은 인스턴스 하나만 돌린다.
+ * 예산이 없는 사용자는 표시 행을 남겨 다음 조회부터 다시 계산하지 않고, 예산이 바뀌거나 사용 금액(이번 달 1일 ~ 어제)에
+ * 들어가는 지출이 바뀌면 그 사용자의 안내를 같은 트랜잭션에서 지워 다음 조회 때 새로 계산한다.
+ * <p>
+ * 샤드는 parallelism 만큼 동시에 돌지만 DB 를 쓰는 구간은 dbConcurrency 개의 허가로 묶어
+ * 배치가 요청 처리에 쓸 커넥션을 다 가져가지 않게 한다.
+ */
+@Slf4j
+@Service
+public class DailyGuideService {
+
+    private final DailyGuideRepository dailyGuideRepository;
+    private final DailyGuideProperty dailyGuideProperty;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore dbPermits;
+
+    public DailyGuideService(DailyGuideRepository dailyGuideRepository, DailyGuideProperty dailyGuideProperty,
+            TransactionTemplate transactionTemplate) {
+        this.dailyGuideRepository = dailyGuideRepository;
+        this.dailyGuideProperty = dailyGuideProperty;
+        this.transactionTemplate = transactionTemplate;
+        this.dbPermits = new Semaphore(Math.max(1, dailyGuideProperty.getDbConcurrency()));
+    }
+
+    public DailyGuideResponse guideOf(AppUser appUser, LocalDate day) {
+        List<DailyGuide> guides = dailyGuideRepository.findOf(appUser.userId(), day);
+        if (guides.isEmpty()) {
+            guides = precompute(appUser, day);
+        }
+        List<DailyGuide> budgetGuides = guides.stream()
+                .filter(guide -> !guide.isNoBudget())
+                .toList();
+        return DailyGuideResponse.of(day, DailyGuideCalculator.remainingDaysOf(day), budgetGuides);
+    }
+
+    /**
+     * 예산을 쓰는 트랜잭션 안에서 호출한다. 롤백되면 지운 안내도 되돌아간다.
+     */
+    public void invalidate(AppUser appUser) {
+        dailyGuideRepository.deleteOfUsers(List.of(appUser.userId()));
+    }
+
+    public void invalidate(List<Long> userIds) {
+        dailyGuideRepository.deleteOfUsers(userIds);
+    }
+
+    /**
+     * 지출을 추가한 트랜잭션 안에서 호출한다. 오늘 이후 지출은 이미 계산한 안내의 사용 금액에 들어가지 않으므로 지우지 않는다.
+     */
+    public void expenseAdded(AppUser appUser, LocalDate expenseDay) {
+        if (!expenseDay.isBefore(LocalDate.now())) {
+            return;
+        }
+        dailyGuideRepository.deleteOfUserAfter(appUser.userId(), expenseDay);
+    }
+
+    @Scheduled(cron = "0 1 0 * * *")
+    public void precomputeToday() {
+        if (!dailyGuideProperty.isEnabled()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        if (!dailyGuideRepository.claimRun(today, LocalDateTime.now())) {
+            log.info("[daily guide] {} already run by another instance", today);
+            return;
+        }
+        int guides = precomputeAll(today);
+        int purged = purgeBefore(today);
+        log.info("[daily guide] {} guides for {}, purged {}", guides, today, purged);
+    }
+
+    /**
+     * @return 쓴 안내 행 수
+     */
+    public int precomputeAll(LocalDate day) {
+        return dailyGuideRepository.findUserIdRange()
+                .map(range -> precomputeShards(range[0], range[1], day))
+                .orElse(0);
+    }
+
+    private List<DailyGuide> precompute(AppUser appUser, LocalDate day) {
+        List<DailyGuide> calculated = calculate(appUser.userId(), appUser.userId(), day);
+        List<DailyGuide> guides = calculated.isEmpty()
+                ? List.of(DailyGuide.noBudget(appUser.userId(), day))
+                : calculated;
+        transactionTemplate.executeWithoutResult(status -> {
+            dailyGuideRepository.deleteOf(appUser.userId(), day);
+            dailyGuideRepository.upsertAll(guides, LocalDateTime.now());
+        });
+        return guides;
+    }
+
+    private int precomputeShards(long minUserId, long maxUserId, LocalDate day) {
+        long usersPerShard = Math.max(1, dailyGuideProperty.getUsersPerShard());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, dailyGuideProperty.getParallelism()));
+        try {
+            List<CompletableFuture<Integer>> shards = new ArrayList<>();
+            for (long from = minUserId; from <= maxUserId; from += usersPerShard) {
+                long fromUserId = from;
+                long toUserId = Math.min(maxUserId, from + usersPerShard - 1);
+                shards.add(CompletableFuture.supplyAsync(() -> precomputeShard(fromUserId, toUserId, day), executor));
+            }
+            return shards.stream()
+                    .mapToInt(CompletableFuture::join)
+                    .sum();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int precomputeShard(long fromUserId, long toUserId, LocalDate day) {
+        List<DailyGuide> guides = withDbPermit(() -> calculate(fromUserId, toUserId, day));
+        int batchSize = Math.max(1, dailyGuideProperty.getBatchSize());
+        LocalDateTime now = LocalDateTime.now();
+        for (int start = 0; start < guides.size(); start += batchSize) {
+            List<DailyGuide> batch = guides.subList(start, Math.min(guides.size(), start + batchSize));
+            withDbPermit(() -> {
+                transactionTemplate.executeWithoutResult(status -> dailyGuideRepository.upsertAll(batch, now));
+                return null;
+            });
+        }
+        return guides.size();
+    }
+
+    private List<DailyGuide> calculate(long fromUserId, long toUserId, LocalDate day) {
+        DailyGuideCalculator calculator = new DailyGuideCalculator(day);
+        dailyGuideRepository.scanBudgets(fromUserId, toUserId, day, calculator::acceptBudget);
+        dailyGuideRepository.scanSpentBefore(fromUserId, toUserId, day, calculator::acceptSpent);
+        return calculator.guides();
+    }
+
+    private int purgeBefore(LocalDate day) {
+        int batchSize = Math.max(1, dailyGuideProperty.getBatchSize());
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = dailyGuideRepository.deleteBefore(day, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+        return purged;
+    }
+
+    private <T> T withDbPermit(Supplier<T> work) {
+        dbPermits.acquireUninterruptibly();
+        try {
+            return work.get();
+        } finally {
+            dbPermits.release();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package jaringobi.service.imports;
+
+import jaringobi.exception.expense.InvalidExpenseImportFormatException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 첫 줄을 헤더로 읽고 이름으로 열을 찾는다. 지출 내보내기 CSV 의 헤더(id, createdAt 은 무시)를 그대로 받는다.
+ * 필수 열: expenseAt, amount, categoryId / 선택 열: memo, excludeTotalExpense
+ */
+class CsvExpenseImportReader implements ExpenseImportReader {
+
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final int NONE = -1;
+    private static final String FORMULA_PREFIXES = "=+-@\t\r'";
+    private static final char FORMULA_GUARD = '\'';
+
+    private final Reader reader;
+
+    CsvExpenseImportReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void read(Consumer<ExpenseImportRow> consumer) throws IOException {
+        List<String> header = nextRecord();
+        if (Objects.isNull(header)) {
+            return;
+        }
+        if (!header.get(0).isEmpty() && header.get(0).charAt(0) == UTF8_BOM) {
+            header.set(0, header.get(0).substring(1));
+        }
+        int expenseAt = requiredIndexOf(header, "expenseAt");
+        int amount = requiredIndexOf(header, "amount");
+        int categoryId = requiredIndexOf(header, "categoryId");
+        int memo = header.indexOf("memo");
+        int exclude = header.indexOf("excludeTotalExpense");
+
+        int row = 0;
+        List<String> record;
+        while ((record = nextRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            row++;
+            consumer.accept(new ExpenseImportRow(row,
+                    field(record, expenseAt),
+                    field(record, amount),
+                    field(record, categoryId),
+                    unguardFormula(field(record, memo)),
+                    field(record, exclude)));
+        }
+    }
+
+    private int requiredIndexOf(List<String> header, String name) {
+        int index = header.indexOf(name);
+        if (index == NONE) {
+            throw new InvalidExpenseImportFormatException();
+        }
+        return index;
+    }
+
+    // 내보내기가 수식 실행을 막으려 붙인 ' 를 뗀다. ' 뒤가 수식 시작 문자일 때만 붙인 것이다.
+    private String unguardFormula(String value) {
+        if (Objects.isNull(value) || value.length() < 2 || value.charAt(0) != FORMULA_GUARD
+                || FORMULA_PREFIXES.indexOf(value.charAt(1)) < 0) {
+            return value;
+        }
+        return value.substring(1);
+    }
+
+    private String field(List<String> record, int index) {
+        if (index == NONE || index >= record.size() || record.get(index).isEmpty()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    /**
+     * RFC 4180 형식의 레코드 하나를 읽는다. 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이스케이프("")를 처리한다.
+     */
+    private List<String> nextRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
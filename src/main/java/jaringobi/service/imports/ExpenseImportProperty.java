@@ -0,0 +1,17 @@
+package jaringobi.service.imports;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "expense.import")
+public class ExpenseImportProperty {
+
+    // 한 번의 JDBC 배치로 INSERT 하고 커밋할 행 수
+    private int chunkSize = 1_000;
+
+    // 요청 하나로 가져올 수 있는 최대 행 수
+    private int maxRows = 100_000;
+}
@@ -0,0 +1,21 @@
+package jaringobi.service.imports;
+
+import jaringobi.dto.ImportFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * 가져오기 형식별로 요청 본문을 한 행씩 읽어 넘긴다. 본문 전체를 메모리에 올리지 않는다.
+ */
+interface ExpenseImportReader {
+
+    void read(Consumer<ExpenseImportRow> consumer) throws IOException;
+
+    static ExpenseImportReader of(ImportFormat format, InputStream inputStream) throws IOException {
+        if (format == ImportFormat.JSON) {
+            return new JsonExpenseImportReader(inputStream);
+        }
+        return new CsvExpenseImportReader(inputStream);
+    }
+}
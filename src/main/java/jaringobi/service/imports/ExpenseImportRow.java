@@ -0,0 +1,11 @@
+package jaringobi.service.imports;
+
+/**
+ * 업로드 본문에서 읽은 지출 한 행. 검증 전이므로 값은 모두 문자열 그대로 담는다.
+ *
+ * @param row 헤더를 제외한 1부터 시작하는 행 번호 (JSON 은 배열 원소 순번)
+ */
+record ExpenseImportRow(int row, String expenseAt, String amount, String categoryId, String memo,
+                        String excludeTotalExpense) {
+
+}
@@ -0,0 +1,202 @@
+package jaringobi.service.imports;
+
+import jaringobi.domain.category.CategoryRegistry;
+import jaringobi.domain.expense.ExpenseDailySummaryRepository;
+import jaringobi.domain.expense.ExpenseGeneration;
+import jaringobi.domain.expense.ExpenseImportRepository;
+import jaringobi.domain.expense.ImportedExpense;
+import jaringobi.domain.expense.columnar.ExpenseColumnStore;
+import jaringobi.domain.user.AppUser;
+import jaringobi.domain.user.UserRepository;
+import jaringobi.dto.ImportFormat;
+import jaringobi.dto.response.ExpenseImportError;
+import jaringobi.dto.response.ExpenseImportResponse;
+import jaringobi.exception.expense.ExpenseImportTooLargeException;
+import jaringobi.exception.expense.InvalidExpenseImportFormatException;
+import jaringobi.exception.user.UserNotFoundException;
+import jaringobi.service.alert.BudgetAlertEngine;
+import jaringobi.service.guide.DailyGuideService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+public class ExpenseImportService {
+
+    private final UserRepository userRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final ExpenseImportRepository expenseImportRepository;
+    private final ExpenseDailySummaryRepository expenseDailySummaryRepository;
+    private final ExpenseColumnStore expenseColumnStore;
+    private final ExpenseGeneration expenseGeneration;
+    private final BudgetAlertEngine budgetAlertEngine;
+    private final DailyGuideService dailyGuideService;
+    private final ExpenseImportProperty property;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 본문을 한 행씩 읽어 검증하고, 통과한 행은 chunkSize 단위로 배치 INSERT 한다.
+     * 검증에 실패한 행은 건너뛰고 행 번호와 사유를 응답에 담는다.
+     * 청크마다 따로 커밋하므로 큰 가져오기도 행 잠금과 커넥션은 한 청크 동안만 잡는다. 본문 오류나 최대 행 수 초과로
+     * 중간에 멈추면 이미 커밋한 청크는 남기고 completed=false 와 멈춘 행을 돌려준다. 커밋한 청크가 없으면 예외를 그대로 던진다.
+     */
+    public ExpenseImportResponse importExpenses(AppUser appUser, ImportFormat format, InputStream inputStream)
+            throws IOException {
+        if (!userRepository.existsById(appUser.userId())) {
+            throw new UserNotFoundException();
+        }
+        ImportJob job = new ImportJob(appUser, categoryRegistry.ids(), LocalDateTime.now());
+        try {
+            ExpenseImportReader.of(format, inputStream).read(job::accept);
+            job.flush();
+        } catch (ExpenseImportTooLargeException | InvalidExpenseImportFormatException e) {
+            if (job.importedCount == 0) {
+                throw e;
+            }
+            job.errors.add(new ExpenseImportError(job.lastRow + 1, e.getErrorType().getMessage()));
+            return job.toResponse(false);
+        } finally {
+            if (job.importedCount > 0) {
+                dailyGuideService.invalidate(appUser);
+                budgetAlertEngine.expenseChanged(appUser);
+            }
+        }
+        return job.toResponse(true);
+    }
+
+    private class ImportJob {
+
+        private final AppUser appUser;
+        private final long userId;
+        private final Set<Long> categoryIds;
+        private final LocalDateTime now;
+        private final List<ImportedExpense> chunk = new ArrayList<>();
+        private final List<ExpenseImportError> errors = new ArrayList<>();
+        private int importedCount = 0;
+        private int lastRow = 0;
+
+        private ImportJob(AppUser appUser, Set<Long> categoryIds, LocalDateTime now) {
+            this.appUser = appUser;
+            this.userId = appUser.userId();
+            this.categoryIds = categoryIds;
+            this.now = now;
+        }
+
+        private void accept(ExpenseImportRow row) {
+            if (row.row() > property.getMaxRows()) {
+                throw new ExpenseImportTooLargeException();
+            }
+            lastRow = row.row();
+            try {
+                chunk.add(toImportedExpense(row));
+            } catch (RejectedRowException e) {
+                errors.add(new ExpenseImportError(row.row(), e.getMessage()));
+                return;
+            }
+            if (chunk.size() >= property.getChunkSize()) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                expenseImportRepository.insertAll(userId, chunk, now);
+                expenseDailySummaryRepository.addAll(chunk.stream()
+                        .map(expense -> expense.toDailyExpenseEntry(userId))
+                        .toList());
+                expenseGeneration.increase(appUser);
+            });
+            // 커밋된 청크는 바로 보이므로 다음 청크를 기다리지 않고 메모리 컬럼을 내린다.
+            expenseColumnStore.invalidate(appUser);
+            importedCount += chunk.size();
+            chunk.clear();
+        }
+
+        private ExpenseImportResponse toResponse(boolean completed) {
+            return new ExpenseImportResponse(importedCount, errors.size(), errors, completed);
+        }
+
+        private ImportedExpense toImportedExpense(ExpenseImportRow row) {
+            return new ImportedExpense(
+                    expenseAtOf(row.expenseAt()),
+                    amountOf(row.amount()),
+                    categoryIdOf(row.categoryId()),
+                    row.memo(),
+                    excludeOf(row.excludeTotalExpense()));
+        }
+
+        private LocalDateTime expenseAtOf(String value) {
+            if (Objects.isNull(value)) {
+                throw new RejectedRowException("지출일은 필수입니다.");
+            }
+            try {
+                return LocalDateTime.parse(value.trim());
+            } catch (DateTimeParseException e) {
+                throw new RejectedRowException("지출일은 yyyy-MM-ddTHH:mm:ss 형식이어야 합니다.");
+            }
+        }
+
+        private int amountOf(String value) {
+            if (Objects.isNull(value)) {
+                throw new RejectedRowException("지출 금액은 필수입니다.");
+            }
+            int amount;
+            try {
+                amount = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                throw new RejectedRowException("지출 금액은 숫자여야 합니다.");
+            }
+            if (amount <= 0) {
+                throw new RejectedRowException("지출 금액은 최소 0원 보다 커야합니다.");
+            }
+            return amount;
+        }
+
+        private long categoryIdOf(String value) {
+            if (Objects.isNull(value)) {
+                throw new RejectedRowException("카테고리는 필수입니다.");
+            }
+            try {
+                long categoryId = Long.parseLong(value.trim());
+                if (categoryIds.contains(categoryId)) {
+                    return categoryId;
+                }
+            } catch (NumberFormatException ignored) {
+            }
+            throw new RejectedRowException("존재하지 않는 카테고리 입니다.");
+        }
+
+        private boolean excludeOf(String value) {
+            if (Objects.isNull(value)) {
+                return false;
+            }
+            String trimmed = value.trim();
+            if (!trimmed.equalsIgnoreCase("true") && !trimmed.equalsIgnoreCase("false")) {
+                throw new RejectedRowException("합계 제외 여부는 true 또는 false 여야 합니다.");
+            }
+            return Boolean.parseBoolean(trimmed);
+        }
+    }
+
+    /**
+     * 행 하나의 검증 실패. 행마다 생길 수 있으므로 스택 트레이스는 만들지 않는다.
+     */
+    private static class RejectedRowException extends RuntimeException {
+
+        private RejectedRowException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
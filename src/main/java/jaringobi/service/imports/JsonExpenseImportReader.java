@@ -0,0 +1,72 @@
+package jaringobi.service.imports;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import jaringobi.exception.expense.InvalidExpenseImportFormatException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * 지출 객체 배열을 토큰 단위로 읽는다. 필드 이름은 지출 등록 요청과 같다.
+ * (expenseDateTime, expenseMount, categoryId, memo, excludeTotalExpense)
+ */
+class JsonExpenseImportReader implements ExpenseImportReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+
+    JsonExpenseImportReader(InputStream inputStream) throws IOException {
+        this.parser = JSON_FACTORY.createParser(inputStream);
+    }
+
+    @Override
+    public void read(Consumer<ExpenseImportRow> consumer) throws IOException {
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidExpenseImportFormatException();
+            }
+            int row = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new InvalidExpenseImportFormatException();
+                }
+                row++;
+                consumer.accept(readRow(row));
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidExpenseImportFormatException();
+        }
+    }
+
+    private ExpenseImportRow readRow(int row) throws IOException {
+        String expenseAt = null;
+        String amount = null;
+        String categoryId = null;
+        String memo = null;
+        String excludeTotalExpense = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value.isStructStart()) {
+                parser.skipChildren();
+                continue;
+            }
+            String text = value == JsonToken.VALUE_NULL ? null : parser.getText();
+            switch (name) {
+                case "expenseDateTime" -> expenseAt = text;
+                case "expenseMount" -> amount = text;
+                case "categoryId" -> categoryId = text;
+                case "memo" -> memo = text;
+                case "excludeTotalExpense" -> excludeTotalExpense = text;
+                default -> {
+                }
+            }
+        }
+        return new ExpenseImportRow(row, expenseAt, amount, categoryId, memo, excludeTotalExpense);
+    }
+}
@@ -0,0 +1,143 @@
+package jaringobi.service.recommendation;
+
+import jaringobi.domain.budget.BudgetBucket;
+import jaringobi.domain.budget.BudgetRecommendationRepository;
+import jaringobi.domain.budget.BudgetRecommendationRow;
+import jaringobi.domain.category.Category;
+import jaringobi.domain.category.CategoryRegistry;
+import jaringobi.dto.response.BudgetRecommendationResponse.CategoryRecommendation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * budget_recommendation 을 구간별 (카테고리 id, 비중) 배열로 올려 둔다. 추천은 총액에 비중을 곱하기만 하므로
+ * 요청 경로에서 쿼리 없이 카테고리 수만큼만 계산한다.
+ * <p>
+ * 구간마다 예산 비중 평균을 쓰고, 예산 표본이 없으면 지출 비중 평균, 그것도 없으면 모든 카테고리에 고르게 나눈다.
+ */
+@Component
+public class BudgetRecommendationCache {
+
+    private final BudgetRecommendationRepository budgetRecommendationRepository;
+    private final CategoryRegistry categoryRegistry;
+    private volatile Map<BudgetBucket, Weights> weightsByBucket;
+
+    public BudgetRecommendationCache(BudgetRecommendationRepository budgetRecommendationRepository,
+            CategoryRegistry categoryRegistry) {
+        this.budgetRecommendationRepository = budgetRecommendationRepository;
+        this.categoryRegistry = categoryRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        weightsByBucket = load(budgetRecommendationRepository.findAll());
+    }
+
+    /**
+     * 총액을 카테고리별로 나눈다. 나눈 금액의 합은 총액과 같다.
+     */
+    public List<CategoryRecommendation> recommend(BudgetBucket bucket, long total) {
+        return weightsOf(bucket).split(total);
+    }
+
+    private Weights weightsOf(BudgetBucket bucket) {
+        Map<BudgetBucket, Weights> loaded = weightsByBucket;
+        if (Objects.isNull(loaded)) {
+            reload();
+            loaded = weightsByBucket;
+        }
+        return loaded.get(bucket);
+    }
+
+    private Map<BudgetBucket, Weights> load(List<BudgetRecommendationRow> rows) {
+        Map<BudgetBucket, List<BudgetRecommendationRow>> rowsByBucket = new EnumMap<>(BudgetBucket.class);
+        rows.stream()
+                .filter(row -> categoryRegistry.contains(row.categoryId()))
+                .sorted(Comparator.comparingLong(BudgetRecommendationRow::categoryId))
+                .forEach(row -> rowsByBucket.computeIfAbsent(row.bucket(), bucket -> new ArrayList<>()).add(row));
+        Map<BudgetBucket, Weights> loaded = new EnumMap<>(BudgetBucket.class);
+        for (BudgetBucket bucket : BudgetBucket.values()) {
+            loaded.put(bucket, Weights.of(rowsByBucket.getOrDefault(bucket, List.of()), categoryRegistry.categories()));
+        }
+        return loaded;
+    }
+
+    /**
+     * 비중의 합은 1 이다.
+     */
+    private record Weights(long[] categoryIds, double[] shares) {
+
+        private static Weights of(List<BudgetRecommendationRow> rows, List<Category> categories) {
+            boolean hasBudgetSamples = rows.stream().anyMatch(row -> row.budgetSamples() > 0);
+            boolean hasExpenseSamples = rows.stream().anyMatch(row -> row.expenseSamples() > 0);
+            if (!hasBudgetSamples && !hasExpenseSamples) {
+                return uniform(categories);
+            }
+            List<BudgetRecommendationRow> used = rows.stream()
+                    .filter(row -> hasBudgetSamples ? row.budgetShareSum() > 0 : row.expenseShareSum() > 0)
+                    .toList();
+            long[] categoryIds = new long[used.size()];
+            double[] shares = new double[used.size()];
+            double sum = 0;
+            for (int i = 0; i < used.size(); i++) {
+                BudgetRecommendationRow row = used.get(i);
+                categoryIds[i] = row.categoryId();
+                shares[i] = hasBudgetSamples
+                        ? row.budgetShareSum() / row.budgetSamples()
+                        : row.expenseShareSum() / row.expenseSamples();
+                sum += shares[i];
+            }
+            for (int i = 0; i < shares.length; i++) {
+                shares[i] /= sum;
+            }
+            return new Weights(categoryIds, shares);
+        }
+
+        private static Weights uniform(List<Category> categories) {
+            long[] categoryIds = categories.stream().mapToLong(Category::getId).toArray();
+            double[] shares = new double[categoryIds.length];
+            Arrays.fill(shares, 1.0 / Math.max(1, categoryIds.length));
+            return new Weights(categoryIds, shares);
+        }
+
+        /**
+         * 내림한 금액을 먼저 나누고, 남은 금액은 버린 소수점이 큰 카테고리부터 1 원씩 더한다.
+         */
+        private List<CategoryRecommendation> split(long total) {
+            int size = categoryIds.length;
+            long[] amounts = new long[size];
+            double[] remainders = new double[size];
+            long assigned = 0;
+            for (int i = 0; i < size; i++) {
+                double exact = total * shares[i];
+                amounts[i] = (long) Math.floor(exact);
+                remainders[i] = exact - amounts[i];
+                assigned += amounts[i];
+            }
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(remainders[b], remainders[a]));
+            for (int i = 0; assigned < total && size > 0; i = (i + 1) % size) {
+                amounts[order[i]]++;
+                assigned++;
+            }
+            List<CategoryRecommendation> recommendations = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                if (amounts[i] > 0) {
+                    recommendations.add(new CategoryRecommendation(categoryIds[i], amounts[i]));
+                }
+            }
+            return recommendations;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package jaringobi.service.recommendation;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "budget.recommendation")
+public class BudgetRecommendationProperty {
+
+    // 매일 밤 예산, 지출 이력으로 구간별 카테고리 비중을 다시 집계한다.
+    private boolean enabled = true;
+
+    // 집계에 쓰는 이력 기간(개월)
+    private int historyMonths = 6;
+
+    // 스캔 한 번이 맡는 사용자 id 구간의 크기
+    private int usersPerScan = 10_000;
+
+    // 동시에 스캔할 구간 수
+    private int parallelism = 4;
+}
@@ -0,0 +1,116 @@
+package jaringobi.service.recommendation;
+
+import jaringobi.domain.budget.BudgetBucket;
+import jaringobi.domain.budget.BudgetRecommendationRepository;
+import jaringobi.domain.budget.BudgetRecommendationRow;
+import jaringobi.domain.category.CategoryRegistry;
+import jaringobi.dto.response.BudgetRecommendationResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 카테고리별 예산 추천. 요청은 {@link BudgetRecommendationCache} 에 올려 둔 비중만 쓰고,
+ * 비중은 매일 밤 배치가 모든 사용자의 예산, 지출 이력을 사용자 id 구간으로 나눠 병렬로 스캔해 다시 집계한다.
+ * 여러 인스턴스가 떠 있어도 야간 배치는 그날의 실행 행(budget_recommendation_run)을 먼저 넣은 인스턴스만 돌린다.
+ * 배치를 맡지 않은 인스턴스는 배치가 끝났을 05:30 에 저장된 비중을 다시 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BudgetRecommendationService {
+
+    private final BudgetRecommendationRepository budgetRecommendationRepository;
+    private final BudgetRecommendationCache budgetRecommendationCache;
+    private final BudgetRecommendationProperty budgetRecommendationProperty;
+    private final CategoryRegistry categoryRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    public BudgetRecommendationResponse recommend(long total) {
+        BudgetBucket bucket = BudgetBucket.of(total);
+        return new BudgetRecommendationResponse(total, bucket, budgetRecommendationCache.recommend(bucket, total));
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void recomputeNightly() {
+        if (!budgetRecommendationProperty.isEnabled()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        if (!budgetRecommendationRepository.claimRun(today, LocalDateTime.now())) {
+            log.info("[budget recommendation] {} already run by another instance", today);
+            return;
+        }
+        int rows = recompute();
+        log.info("[budget recommendation] {} rows", rows);
+    }
+
+    @Scheduled(cron = "0 30 5 * * *")
+    public void reloadAfterNightly() {
+        if (!budgetRecommendationProperty.isEnabled()) {
+            return;
+        }
+        budgetRecommendationCache.reload();
+    }
+
+    /**
+     * @return 저장한 (구간, 카테고리) 행 수
+     */
+    public int recompute() {
+        LocalDate since = LocalDate.now().withDayOfMonth(1)
+                .minusMonths(budgetRecommendationProperty.getHistoryMonths() - 1L);
+        List<BudgetRecommendationRow> rows = budgetRecommendationRepository.findUserIdRange()
+                .map(range -> scanAll(range[0], range[1], since).toRows())
+                .orElse(Collections.emptyList());
+        transactionTemplate.executeWithoutResult(
+                status -> budgetRecommendationRepository.replaceAll(rows, LocalDateTime.now()));
+        budgetRecommendationCache.reload();
+        return rows.size();
+    }
+
+    private CategoryShareAccumulator scanAll(long minUserId, long maxUserId, LocalDate since) {
+        int maxCategoryId = categoryRegistry.ids().stream()
+                .mapToInt(Math::toIntExact)
+                .max()
+                .orElse(0);
+        long usersPerScan = Math.max(1, budgetRecommendationProperty.getUsersPerScan());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, budgetRecommendationProperty.getParallelism()));
+        try {
+            List<CompletableFuture<CategoryShareAccumulator>> scans = new ArrayList<>();
+            for (long from = minUserId; from <= maxUserId; from += usersPerScan) {
+                long to = Math.min(maxUserId, from + usersPerScan - 1);
+                long fromUserId = from;
+                scans.add(CompletableFuture.supplyAsync(
+                        () -> scan(fromUserId, to, since, maxCategoryId), executor));
+            }
+            return scans.stream()
+                    .map(CompletableFuture::join)
+                    .reduce(new CategoryShareAccumulator(maxCategoryId, months()), CategoryShareAccumulator::merge);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private CategoryShareAccumulator scan(long fromUserId, long toUserId, LocalDate since, int maxCategoryId) {
+        CategoryShareAccumulator accumulator = new CategoryShareAccumulator(maxCategoryId, months());
+        budgetRecommendationRepository.scanBudgets(fromUserId, toUserId, since, accumulator::acceptBudget);
+        accumulator.flush();
+        budgetRecommendationRepository.scanExpenses(fromUserId, toUserId, since, accumulator::acceptExpense);
+        accumulator.flush();
+        return accumulator;
+    }
+
+    private int months() {
+        return budgetRecommendationProperty.getHistoryMonths();
+    }
+}
@@ -0,0 +1,125 @@
+package jaringobi.service.recommendation;
+
+import jaringobi.domain.budget.BudgetBucket;
+import jaringobi.domain.budget.BudgetRecommendationRow;
+import jaringobi.domain.budget.CategoryAmountRow;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 구간별 카테고리 비중 합계. 표본(예산 하나, 또는 사용자 한 명의 지출)마다 카테고리 비중을 구해 더한다.
+ * <p>
+ * 스캔 구간 하나를 한 스레드가 채우고 끝나면 {@link #merge} 로 합치므로 스레드 안전하지 않다.
+ * 행은 ownerId 순서로 들어와야 하며, 같은 ownerId 의 행을 모아 두었다가 ownerId 가 바뀔 때 반영한다.
+ */
+class CategoryShareAccumulator {
+
+    private static final BudgetBucket[] BUCKETS = BudgetBucket.values();
+    private static final long NO_OWNER = Long.MIN_VALUE;
+
+    private final int maxCategoryId;
+    private final int expenseMonths;
+    private final double[][] budgetShareSums;
+    private final int[] budgetSamples;
+    private final double[][] expenseShareSums;
+    private final int[] expenseSamples;
+
+    // 반영하기 전인 현재 표본의 카테고리별 금액
+    private final long[] pending;
+    private long pendingOwner = NO_OWNER;
+    private boolean pendingExpense;
+
+    /**
+     * @param expenseMonths 지출 합계를 한 달 금액으로 환산할 때 나눌 개월 수
+     */
+    CategoryShareAccumulator(int maxCategoryId, int expenseMonths) {
+        this.maxCategoryId = maxCategoryId;
+        this.expenseMonths = Math.max(1, expenseMonths);
+        this.budgetShareSums = new double[BUCKETS.length][maxCategoryId + 1];
+        this.budgetSamples = new int[BUCKETS.length];
+        this.expenseShareSums = new double[BUCKETS.length][maxCategoryId + 1];
+        this.expenseSamples = new int[BUCKETS.length];
+        this.pending = new long[maxCategoryId + 1];
+    }
+
+    void acceptBudget(CategoryAmountRow row) {
+        accept(row, false);
+    }
+
+    void acceptExpense(CategoryAmountRow row) {
+        accept(row, true);
+    }
+
+    /**
+     * 모아 둔 마지막 표본을 반영한다. 한 종류의 스캔이 끝날 때마다 호출한다.
+     */
+    void flush() {
+        if (pendingOwner == NO_OWNER) {
+            return;
+        }
+        long total = 0;
+        for (long amount : pending) {
+            total += amount;
+        }
+        if (total > 0) {
+            long monthlyTotal = pendingExpense ? total / expenseMonths : total;
+            int bucket = BudgetBucket.of(monthlyTotal).ordinal();
+            double[] sums = pendingExpense ? expenseShareSums[bucket] : budgetShareSums[bucket];
+            for (int categoryId = 1; categoryId <= maxCategoryId; categoryId++) {
+                if (pending[categoryId] > 0) {
+                    sums[categoryId] += (double) pending[categoryId] / total;
+                }
+            }
+            if (pendingExpense) {
+                expenseSamples[bucket]++;
+            } else {
+                budgetSamples[bucket]++;
+            }
+        }
+        Arrays.fill(pending, 0);
+        pendingOwner = NO_OWNER;
+    }
+
+    CategoryShareAccumulator merge(CategoryShareAccumulator other) {
+        for (int bucket = 0; bucket < BUCKETS.length; bucket++) {
+            budgetSamples[bucket] += other.budgetSamples[bucket];
+            expenseSamples[bucket] += other.expenseSamples[bucket];
+            for (int categoryId = 1; categoryId <= maxCategoryId; categoryId++) {
+                budgetShareSums[bucket][categoryId] += other.budgetShareSums[bucket][categoryId];
+                expenseShareSums[bucket][categoryId] += other.expenseShareSums[bucket][categoryId];
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return 비중이 있는 (구간, 카테고리) 행
+     */
+    List<BudgetRecommendationRow> toRows() {
+        List<BudgetRecommendationRow> rows = new ArrayList<>();
+        for (BudgetBucket bucket : BUCKETS) {
+            int b = bucket.ordinal();
+            for (int categoryId = 1; categoryId <= maxCategoryId; categoryId++) {
+                double budgetShareSum = budgetShareSums[b][categoryId];
+                double expenseShareSum = expenseShareSums[b][categoryId];
+                if (budgetShareSum > 0 || expenseShareSum > 0) {
+                    rows.add(new BudgetRecommendationRow(bucket, categoryId, budgetShareSum, budgetSamples[b],
+                            expenseShareSum, expenseSamples[b]));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private void accept(CategoryAmountRow row, boolean expense) {
+        if (row.ownerId() != pendingOwner || expense != pendingExpense) {
+            flush();
+            pendingOwner = row.ownerId();
+            pendingExpense = expense;
+        }
+        if (row.categoryId() > 0 && row.categoryId() <= maxCategoryId && row.amount() > 0) {
+            pending[(int) row.categoryId()] += row.amount();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package jaringobi.service.rollover;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "budget.rollover")
+public class BudgetRolloverProperty {
+
+    // 월초에 이월을 신청한 사용자의 전월 예산을 새 달로 복사한다.
+    private boolean enabled = true;
+
+    // 한 트랜잭션에서 처리할 사용자 수. 청크가 작을수록 잠금이 짧다.
+    private int chunkSize = 1000;
+}
@@ -0,0 +1,18 @@
+package jaringobi.service.rollover;
+
+import java.time.YearMonth;
+
+/**
+ * 이번 실행에서 처리한 양. 이미 끝난 달이면 모두 0 이다.
+ */
+public record BudgetRolloverResult(YearMonth month, int chunks, int users, int budgets, int categoryBudgets) {
+
+    static BudgetRolloverResult empty(YearMonth month) {
+        return new BudgetRolloverResult(month, 0, 0, 0, 0);
+    }
+
+    BudgetRolloverResult plus(int users, int budgets, int categoryBudgets) {
+        return new BudgetRolloverResult(month, chunks + 1, this.users + users, this.budgets + budgets,
+                this.categoryBudgets + categoryBudgets);
+    }
+}
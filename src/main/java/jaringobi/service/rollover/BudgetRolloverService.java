@@ -0,0 +1,91 @@
+package jaringobi.service.rollover;
+
+import jaringobi.domain.budget.BudgetGeneration;
+import jaringobi.domain.budget.BudgetRolloverProgress;
+import jaringobi.domain.budget.BudgetRolloverRepository;
+import jaringobi.service.guide.DailyGuideService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 월초 예산 이월. 이월을 신청한 사용자를 id 순서로 청크씩 나눠, 청크마다 한 트랜잭션에서
+ * 예산과 카테고리 예산을 INSERT ... SELECT 두 문장으로 복사하고 진행 위치를 함께 커밋한다.
+ * <p>
+ * 이미 새 달 예산이 있는 사용자는 건너뛰므로 몇 번을 다시 실행해도 결과가 같고,
+ * 중간에 멈추면 마지막으로 커밋한 청크 다음부터 이어서 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BudgetRolloverService {
+
+    private final BudgetRolloverRepository budgetRolloverRepository;
+    private final BudgetRolloverProperty budgetRolloverProperty;
+    private final BudgetGeneration budgetGeneration;
+    private final DailyGuideService dailyGuideService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "0 5 0 1 * *")
+    public void rolloverCurrentMonth() {
+        if (!budgetRolloverProperty.isEnabled()) {
+            return;
+        }
+        BudgetRolloverResult result = rollover(YearMonth.now());
+        log.info("[budget rollover] {}", result);
+    }
+
+    public BudgetRolloverResult rollover(YearMonth month) {
+        BudgetRolloverResult result = BudgetRolloverResult.empty(month);
+        Optional<BudgetRolloverResult> chunk;
+        while ((chunk = transactionTemplate.execute(status -> rolloverNextChunk(month))).isPresent()) {
+            BudgetRolloverResult processed = chunk.get();
+            result = result.plus(processed.users(), processed.budgets(), processed.categoryBudgets());
+        }
+        return result;
+    }
+
+    public Optional<BudgetRolloverProgress> progressOf(YearMonth month) {
+        return budgetRolloverRepository.findProgress(month.atDay(1));
+    }
+
+    /**
+     * @return 처리한 청크. 더 처리할 사용자가 없으면 빈 값
+     */
+    private Optional<BudgetRolloverResult> rolloverNextChunk(YearMonth month) {
+        LocalDate target = month.atDay(1);
+        LocalDate previous = month.minusMonths(1).atDay(1);
+        LocalDateTime now = LocalDateTime.now();
+
+        BudgetRolloverProgress progress = budgetRolloverRepository.lockProgress(target);
+        if (progress.isCompleted()) {
+            return Optional.empty();
+        }
+        List<Long> userIds = budgetRolloverRepository.findOptedInUserIds(progress.lastUserId(),
+                budgetRolloverProperty.getChunkSize());
+        if (userIds.isEmpty()) {
+            budgetRolloverRepository.complete(target, now);
+            return Optional.empty();
+        }
+        long firstUserId = userIds.get(0);
+        long lastUserId = userIds.get(userIds.size() - 1);
+        int budgets = budgetRolloverRepository.copyBudgets(previous, target, firstUserId, lastUserId, now);
+        int categoryBudgets = budgetRolloverRepository.copyCategoryBudgets(previous, target, firstUserId,
+                lastUserId, now);
+        budgetRolloverRepository.updateProgress(target, lastUserId);
+        if (budgets > 0) {
+            // 어느 사용자에게 예산이 생겼는지는 읽지 않으므로 청크 전체의 예산 세대를 올린다.
+            budgetGeneration.increase(userIds);
+            // 1일 안내는 이월(00:05)보다 먼저(00:01) 계산되므로 새 예산으로 다시 계산되게 지운다.
+            dailyGuideService.invalidate(userIds);
+        }
+        return Optional.of(BudgetRolloverResult.empty(month).plus(userIds.size(), budgets, categoryBudgets));
+    }
+}
@@ -0,0 +1,56 @@
+package jaringobi.service.search;
+
+import jaringobi.controller.search.CategoryGroupExpenseSum;
+import jaringobi.domain.category.CategoryGroup;
+import jaringobi.domain.category.CategoryRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미 계산한 카테고리별 합계를 카테고리 묶음별 합계로 더한다. 추가 조회 없이 {@link CategoryRegistry} 의
+ * 카테고리 → 묶음 인덱스만 쓰며, 지출이 없는 묶음도 0 으로 넣어 항상 모든 묶음을 같은 순서로 돌려준다.
+ */
+@Component
+public class CategoryGroupRollup {
+
+    private static final CategoryGroup[] GROUPS = CategoryGroup.values();
+
+    private final CategoryRegistry categoryRegistry;
+
+    public CategoryGroupRollup(CategoryRegistry categoryRegistry) {
+        this.categoryRegistry = categoryRegistry;
+    }
+
+    public <T> List<CategoryGroupExpenseSum> rollup(List<T> categorySums, ToLongFunction<T> categoryIdOf,
+            ToLongFunction<T> amountOf) {
+        long[] sums = newSums();
+        for (T categorySum : categorySums) {
+            accumulate(sums, categoryIdOf.applyAsLong(categorySum), amountOf.applyAsLong(categorySum));
+        }
+        return toGroupSums(sums);
+    }
+
+    /**
+     * 다른 합계와 같은 반복문에서 묶음별 합계를 함께 쌓을 때 쓴다. newSums → accumulate → toGroupSums 순으로 호출한다.
+     */
+    public long[] newSums() {
+        return new long[GROUPS.length];
+    }
+
+    public void accumulate(long[] sums, long categoryId, long amount) {
+        CategoryGroup group = categoryRegistry.groupOf(categoryId);
+        if (group != null) {
+            sums[group.ordinal()] += amount;
+        }
+    }
+
+    public List<CategoryGroupExpenseSum> toGroupSums(long[] sums) {
+        List<CategoryGroupExpenseSum> groupSums = new ArrayList<>(GROUPS.length);
+        for (CategoryGroup group : GROUPS) {
+            groupSums.add(new CategoryGroupExpenseSum(group, group.getTitle(), sums[group.ordinal()]));
+        }
+        return groupSums;
+    }
+}
@@ -0,0 +1,116 @@
+package jaringobi.service.search;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jaringobi.controller.search.ExpenseSearchResponse;
+import jaringobi.domain.expense.ExpenseGeneration;
+import jaringobi.domain.user.AppUser;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지출 검색 결과 캐시. 키는 (사용자, 세대 번호, 정규화한 검색 조건) 이다.
+ * 지출이 바뀌면 세대 번호가 올라가 이전 결과는 다시 조회되지 않고, 최대 개수(LRU)나 TTL 로 밀려난다.
+ * 그래서 무효화할 때 키를 훑지 않는다. 세대 번호는 DB 에서 읽으므로 다른 인스턴스에서 바뀐 지출도 다음 조회에서 다시 읽는다.
+ */
+@Component
+public class ExpenseSearchCache {
+
+    private static final String METRIC_PREFIX = "expense.search.cache";
+
+    private final ExpenseSearchCacheProperty property;
+    private final ExpenseGeneration expenseGeneration;
+
+    // access-order LinkedHashMap: 순회 첫 항목이 가장 오래 사용하지 않은 결과
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpenseSearchCache(ExpenseSearchCacheProperty property, ExpenseGeneration expenseGeneration,
+            MeterRegistry meterRegistry) {
+        this.property = property;
+        this.expenseGeneration = expenseGeneration;
+
+        FunctionCounter.builder(METRIC_PREFIX + ".hits", hits, LongAdder::sum)
+                .description("캐시에서 바로 돌려준 검색 수")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".misses", misses, LongAdder::sum)
+                .description("캐시에 없어 DB 를 조회한 검색 수")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", evictions, LongAdder::sum)
+                .description("최대 개수나 TTL 로 밀려난 결과 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, it -> it.stats().size())
+                .description("캐시에 들어 있는 검색 결과 수")
+                .register(meterRegistry);
+    }
+
+    public ExpenseSearchResponse get(AppUser appUser, ExpenseSearchCondition condition,
+            Supplier<ExpenseSearchResponse> loader) {
+        if (!property.isEnabled()) {
+            return loader.get();
+        }
+        // 조회 전에 세대 번호를 읽어야 조회 도중 커밋된 변경이 이전 세대 키로만 남는다.
+        Key key = new Key(appUser.userId(), expenseGeneration.current(appUser.userId()),
+                condition.toCanonicalString());
+        ExpenseSearchResponse cached = find(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        ExpenseSearchResponse loaded = loader.get();
+        put(key, loaded);
+        return loaded;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized ExpenseSearchCacheStats stats() {
+        return new ExpenseSearchCacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private synchronized ExpenseSearchResponse find(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            evictions.increment();
+            return null;
+        }
+        return entry.response();
+    }
+
+    private synchronized void put(Key key, ExpenseSearchResponse response) {
+        entries.put(key, new Entry(response, System.nanoTime() + property.getTtl().toNanos()));
+
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > property.getMaxEntries() && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Key(long userId, long generation, String condition) {
+
+    }
+
+    private record Entry(ExpenseSearchResponse response, long expiresAt) {
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package jaringobi.service.search;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "expense.search.cache")
+public class ExpenseSearchCacheProperty {
+
+    // 검색 결과 캐시 사용 여부
+    private boolean enabled = true;
+
+    // 캐시에 담을 최대 검색 결과 수. 넘으면 가장 오래 사용하지 않은 결과부터 버린다.
+    private int maxEntries = 10_000;
+
+    // 결과를 만든 뒤 이 시간이 지나면 세대가 같아도 다시 조회한다.
+    private Duration ttl = Duration.ofMinutes(5);
+}
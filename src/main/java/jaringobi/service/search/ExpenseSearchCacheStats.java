@@ -0,0 +1,12 @@
+package jaringobi.service.search;
+
+public record ExpenseSearchCacheStats(long hits, long misses, long evictions, int size) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        if (requests == 0) {
+            return 0;
+        }
+        return (double) hits / requests;
+    }
+}
@@ -0,0 +1,14 @@
+package jaringobi.service.search;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "expense.search")
+public class ExpenseSearchProperty {
+
+    // 페이지 행 + 카테고리별 합계 + 전체 건수를 한 번의 쿼리로 조회
+    private boolean singleQuery = true;
+}
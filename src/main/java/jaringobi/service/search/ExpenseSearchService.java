@@ -3,16 +3,18 @@ package jaringobi.service.search;
 import jaringobi.controller.query.expense.response.TodayExpensePerCategory;
 import jaringobi.controller.query.expense.response.TodayExpenseResponse;
 import jaringobi.controller.search.CategoryExpenseSum;
+import jaringobi.controller.search.CategoryGroupExpenseSum;
 import jaringobi.controller.search.ExpenseSearchResponse;
 import jaringobi.domain.budget.CategoryBudget;
-import jaringobi.domain.expense.Expense;
-import jaringobi.domain.expense.ExpenseQueryRepositoryImpl;
+import jaringobi.domain.expense.ExpenseQueryRepository;
+import jaringobi.domain.expense.ExpenseSearchResult;
+import jaringobi.domain.expense.ExpenseSearchRow;
 import jaringobi.domain.user.AppUser;
+import jaringobi.dto.SearchCursor;
 import jaringobi.dto.request.ExpenseSearchCondition;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,33 +22,49 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ExpenseSearchService {
 
-    private final ExpenseQueryRepositoryImpl expenseQueryRepository;
+    private final ExpenseQueryRepository expenseQueryRepository;
+    private final ExpenseSearchProperty expenseSearchProperty;
+    private final CategoryGroupRollup categoryGroupRollup;
+    private final TodayExpenseAssembler todayExpenseAssembler;
 
     @Transactional(readOnly = true)
     public ExpenseSearchResponse searchExpense(AppUser appUser, ExpenseSearchCondition condition) {
-        Page<Expense> expenseWithPage = expenseQueryRepository.searchByCondition(appUser, condition);
-        List<Expense> expenses = expenseWithPage.toList();
+        if (expenseSearchProperty.isSingleQuery()) {
+            return searchExpenseWithSummary(appUser, condition);
+        }
+        Slice<ExpenseSearchRow> expenseWithSlice = expenseQueryRepository.searchBySlice(appUser, condition);
+        List<ExpenseSearchRow> expenses = expenseWithSlice.getContent();
         List<CategoryExpenseSum> categoriesSum = expenseQueryRepository.totalSumOfCategoriesExpense(appUser, condition);
-        return ExpenseSearchResponse.from(expenses, categoriesSum, expenseWithPage.isLast());
+        Long totalCount = condition.isWithTotal() ? expenseQueryRepository.countByCondition(appUser, condition) : null;
+        return ExpenseSearchResponse.from(expenses, categoriesSum, groupSumsOf(categoriesSum),
+                expenseWithSlice.isLast(), nextCursor(expenses, condition, expenseWithSlice.isLast()), totalCount);
+    }
+
+    private ExpenseSearchResponse searchExpenseWithSummary(AppUser appUser, ExpenseSearchCondition condition) {
+        ExpenseSearchResult result = expenseQueryRepository.searchWithSummary(appUser, condition);
+        Long totalCount = condition.isWithTotal() ? result.totalCount() : null;
+        return ExpenseSearchResponse.from(result.rows(), result.categoryExpenseSums(),
+                groupSumsOf(result.categoryExpenseSums()), !result.hasNext(),
+                nextCursor(result.rows(), condition, !result.hasNext()), totalCount);
+    }
+
+    private List<CategoryGroupExpenseSum> groupSumsOf(List<CategoryExpenseSum> categoryExpenseSums) {
+        return categoryGroupRollup.rollup(categoryExpenseSums, CategoryExpenseSum::getCategoryId,
+                CategoryExpenseSum::getTotalExpenseAmount);
+    }
+
+    private String nextCursor(List<ExpenseSearchRow> expenses, ExpenseSearchCondition condition, boolean isEnd) {
+        if (isEnd || expenses.isEmpty()) {
+            return null;
+        }
+        ExpenseSearchRow last = expenses.get(expenses.size() - 1);
+        return SearchCursor.of(condition.getSort(), condition.getOrder(), last).encode();
     }
 
     @Transactional(readOnly = true)
     public TodayExpenseResponse searchTodayExpense(AppUser appUser) {
         List<TodayExpensePerCategory> todayExpensePerCategories = expenseQueryRepository.todayTotalExpense(appUser);
         List<CategoryBudget> budgetsPerCategory = expenseQueryRepository.getBudgetsPerCategory(appUser);
-
-        if (budgetsPerCategory.isEmpty()) {
-            return TodayExpenseResponse.builder()
-                    .expensesPerCategory(todayExpensePerCategories)
-                    .totalExpenseAmount(todayExpensePerCategories.stream()
-                            .mapToInt(TodayExpensePerCategory::getPaidAmount)
-                            .sum())
-                    .hasBudget(false)
-                    .build();
-        }
-
-        return TodayExpenseResponse.from(todayExpensePerCategories.stream()
-                .map(it -> it.toWithBudgetSum(budgetsPerCategory))
-                .collect(Collectors.toList()), budgetsPerCategory);
+        return todayExpenseAssembler.assemble(todayExpensePerCategories, budgetsPerCategory);
     }
 }
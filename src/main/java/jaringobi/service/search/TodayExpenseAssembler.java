@@ -0,0 +1,141 @@
+package jaringobi.service.search;
+
+import jaringobi.controller.query.expense.response.TodayExpensePerCategory;
+import jaringobi.controller.query.expense.response.TodayExpenseResponse;
+import jaringobi.domain.budget.CategoryBudget;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오늘 지출 합계와 이번 달 카테고리 예산으로 오늘 지출 안내를 만든다.
+ * 예산은 카테고리 id 로 인덱싱한 배열에 한 번 담고(하루 예산도 여기서 한 번만 나눈다),
+ * 지출 목록은 한 번만 돌면서 카테고리별 안내, 총액, 묶음별 합계를 함께 쌓는다.
+ * <p>
+ * 하루 예산이 1원보다 적으면(월 예산 30원 미만) 1원으로 보고, 위험도는 곱한 뒤 나눠 소수점 아래만 버린다.
+ */
+@Component
+public class TodayExpenseAssembler {
+
+    private static final int DAYS_OF_MONTH = 30;
+    private static final int PERCENT = 100;
+
+    private final CategoryGroupRollup categoryGroupRollup;
+
+    public TodayExpenseAssembler(CategoryGroupRollup categoryGroupRollup) {
+        this.categoryGroupRollup = categoryGroupRollup;
+    }
+
+    public TodayExpenseResponse assemble(List<TodayExpensePerCategory> todayExpenses, List<CategoryBudget> budgets) {
+        BudgetIndex budgetIndex = BudgetIndex.of(budgets);
+        List<TodayExpensePerCategory> expensesPerCategory = new ArrayList<>(todayExpenses.size());
+        long[] groupSums = categoryGroupRollup.newSums();
+        int totalPaid = 0;
+
+        for (TodayExpensePerCategory todayExpense : todayExpenses) {
+            long categoryId = todayExpense.getCategoryId();
+            int paid = todayExpense.getPaidAmount();
+            totalPaid += paid;
+            categoryGroupRollup.accumulate(groupSums, categoryId, paid);
+            expensesPerCategory.add(budgetIndex.has(categoryId)
+                    ? withBudget(todayExpense, budgetIndex.amountOf(categoryId), budgetIndex.dailyAmountOf(categoryId))
+                    : todayExpense);
+        }
+
+        TodayExpenseResponse.TodayExpenseResponseBuilder response = TodayExpenseResponse.builder()
+                .expensesPerCategory(expensesPerCategory)
+                .expensesPerGroup(categoryGroupRollup.toGroupSums(groupSums))
+                .totalExpenseAmount(totalPaid)
+                .hasBudget(!budgetIndex.isEmpty());
+        if (budgetIndex.isEmpty()) {
+            return response.build();
+        }
+        return response
+                .budgetAmount(budgetIndex.totalAmount())
+                .dangerPercent(percentOf(totalPaid, dailyBudgetOf(budgetIndex.totalAmount())))
+                .build();
+    }
+
+    private static TodayExpensePerCategory withBudget(TodayExpensePerCategory todayExpense, int amount,
+            int dailyAmount) {
+        return TodayExpensePerCategory.builder()
+                .categoryId(todayExpense.getCategoryId())
+                .paidAmount(todayExpense.getPaidAmount())
+                .availableAmount(amount)
+                .dangerPercent(percentOf(todayExpense.getPaidAmount(), dailyAmount))
+                .hasCategoryBudget(true)
+                .build();
+    }
+
+    private static int dailyBudgetOf(int amount) {
+        return Math.max(1, amount / DAYS_OF_MONTH);
+    }
+
+    private static int percentOf(long paid, int dailyAmount) {
+        return (int) Math.min(Integer.MAX_VALUE, paid * PERCENT / dailyAmount);
+    }
+
+    /**
+     * 카테고리 id → 예산 금액. 카테고리 id 는 작은 정수라 id 를 그대로 인덱스로 쓰고, 같은 카테고리가 두 번 오면 먼저 온 예산을 쓴다.
+     */
+    private static final class BudgetIndex {
+
+        private static final int NO_BUDGET = Integer.MIN_VALUE;
+        private static final BudgetIndex EMPTY = new BudgetIndex(new int[0], new int[0], 0);
+
+        private final int[] amountById;
+        private final int[] dailyAmountById;
+        private final int totalAmount;
+
+        private BudgetIndex(int[] amountById, int[] dailyAmountById, int totalAmount) {
+            this.amountById = amountById;
+            this.dailyAmountById = dailyAmountById;
+            this.totalAmount = totalAmount;
+        }
+
+        private static BudgetIndex of(List<CategoryBudget> budgets) {
+            if (budgets.isEmpty()) {
+                return EMPTY;
+            }
+            int maxId = 0;
+            for (CategoryBudget budget : budgets) {
+                maxId = Math.max(maxId, Math.toIntExact(budget.getCategoryId()));
+            }
+            int[] amountById = new int[maxId + 1];
+            int[] dailyAmountById = new int[maxId + 1];
+            Arrays.fill(amountById, NO_BUDGET);
+            int totalAmount = 0;
+            for (CategoryBudget budget : budgets) {
+                int id = Math.toIntExact(budget.getCategoryId());
+                int amount = budget.getAmount().getAmount();
+                totalAmount += amount;
+                if (amountById[id] == NO_BUDGET) {
+                    amountById[id] = amount;
+                    dailyAmountById[id] = dailyBudgetOf(amount);
+                }
+            }
+            return new BudgetIndex(amountById, dailyAmountById, totalAmount);
+        }
+
+        private boolean isEmpty() {
+            return this == EMPTY;
+        }
+
+        private boolean has(long categoryId) {
+            return categoryId >= 0 && categoryId < amountById.length && amountById[(int) categoryId] != NO_BUDGET;
+        }
+
+        private int amountOf(long categoryId) {
+            return amountById[(int) categoryId];
+        }
+
+        private int dailyAmountOf(long categoryId) {
+            return dailyAmountById[(int) categoryId];
+        }
+
+        private int totalAmount() {
+            return totalAmount;
+        }
+    }
+}
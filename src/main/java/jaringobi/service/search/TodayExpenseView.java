@@ -0,0 +1,119 @@
+package jaringobi.service.search;
+
+import jaringobi.controller.query.expense.response.TodayExpenseResponse;
+import jaringobi.domain.budget.BudgetGeneration;
+import jaringobi.domain.expense.ExpenseGeneration;
+import jaringobi.domain.user.AppUser;
+import jaringobi.service.version.UserDataVersion;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별로 미리 만들어 둔 오늘 지출 안내. 조회는 맵 조회 한 번으로 끝난다.
+ * 응답은 (날짜, 지출 세대, 예산 세대) 로 만든 것이라 지출, 예산이 바뀌거나 날짜가 바뀌면 다음 조회 때 다시 만든다.
+ * 세대 번호는 조회마다 DB 에서 읽으므로 다른 인스턴스에서 커밋한 변경(월초 이월 포함)도 다음 조회에 반영된다.
+ * 같은 사용자의 응답을 이미 다른 요청이 다시 만드는 중이면, 같은 날의 이전 응답을 그 응답의 ETag 와 함께 돌려준다.
+ * 보관하는 사용자 수는 최대 개수로 제한하고 넘치면 가장 오래 조회하지 않은 사용자부터 내린다.
+ */
+@Component
+public class TodayExpenseView {
+
+    private final TodayExpenseViewProperty property;
+    private final ExpenseGeneration expenseGeneration;
+    private final BudgetGeneration budgetGeneration;
+    private final UserDataVersion userDataVersion;
+
+    // access-order LinkedHashMap: 순회 첫 항목이 가장 오래 조회하지 않은 사용자
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+
+    public TodayExpenseView(TodayExpenseViewProperty property, ExpenseGeneration expenseGeneration,
+            BudgetGeneration budgetGeneration, UserDataVersion userDataVersion) {
+        this.property = property;
+        this.expenseGeneration = expenseGeneration;
+        this.budgetGeneration = budgetGeneration;
+        this.userDataVersion = userDataVersion;
+    }
+
+    public Snapshot get(AppUser appUser, Supplier<TodayExpenseResponse> loader) {
+        long userId = appUser.userId();
+        // 조회 전에 세대 번호를 읽어야 만드는 도중 커밋된 변경이 이전 세대 응답으로만 남는다.
+        Version version = new Version(LocalDate.now(), expenseGeneration.current(userId),
+                budgetGeneration.current(userId));
+        if (!property.isEnabled()) {
+            return snapshotOf(userId, version, loader.get());
+        }
+        Entry entry = find(userId);
+        if (entry != null && entry.version().equals(version)) {
+            return entry.snapshot();
+        }
+        if (!refreshing.add(userId)) {
+            if (entry != null && entry.version().day().equals(version.day())) {
+                return entry.snapshot();
+            }
+            return snapshotOf(userId, version, loader.get());
+        }
+        try {
+            Snapshot snapshot = snapshotOf(userId, version, loader.get());
+            put(userId, new Entry(version, snapshot));
+            return snapshot;
+        } finally {
+            refreshing.remove(userId);
+        }
+    }
+
+    /**
+     * 자정이 지나면 전날 응답은 다시 쓰이지 않으므로 내린다.
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public synchronized void rollover() {
+        LocalDate today = LocalDate.now();
+        entries.values().removeIf(entry -> entry.version().day().isBefore(today));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Entry find(long userId) {
+        return entries.get(userId);
+    }
+
+    private synchronized void put(long userId, Entry entry) {
+        entries.put(userId, entry);
+
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > property.getMaxEntries() && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private Snapshot snapshotOf(long userId, Version version, TodayExpenseResponse response) {
+        return new Snapshot(response, userDataVersion.todayTagOf(userId, version.expenseGeneration(),
+                version.budgetGeneration(), version.day()));
+    }
+
+    public record Snapshot(TodayExpenseResponse response, String eTag) {
+
+    }
+
+    private record Version(LocalDate day, long expenseGeneration, long budgetGeneration) {
+
+    }
+
+    private record Entry(Version version, Snapshot snapshot) {
+
+    }
+}
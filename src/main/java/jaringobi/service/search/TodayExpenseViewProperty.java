@@ -0,0 +1,17 @@
+package jaringobi.service.search;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "expense.today.view")
+public class TodayExpenseViewProperty {
+
+    // 사용자별 오늘 지출 안내를 미리 만들어 두고 조회 시 그대로 돌려준다.
+    private boolean enabled = true;
+
+    // 보관할 최대 사용자 수. 넘치면 가장 오래 조회하지 않은 사용자부터 내린다.
+    private int maxEntries = 10000;
+}
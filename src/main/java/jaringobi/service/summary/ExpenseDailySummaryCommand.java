@@ -0,0 +1,51 @@
+package jaringobi.service.summary;
+
+import jaringobi.domain.expense.ExpenseDailySummaryDrift;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일별 지출 롤업 백필, 불일치 검사 명령.
+ * <pre>
+ * java -jar app.jar --spring.main.web-application-type=none --expense-daily-summary=rebuild
+ * java -jar app.jar --spring.main.web-application-type=none --expense-daily-summary=verify
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpenseDailySummaryCommand implements ApplicationRunner {
+
+    static final String OPTION = "expense-daily-summary";
+
+    private final ExpenseDailySummaryService expenseDailySummaryService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+        for (String command : args.getOptionValues(OPTION)) {
+            switch (command) {
+                case "rebuild" -> rebuild();
+                case "verify" -> verify();
+                default -> log.warn("[expense daily summary] unknown command: {}", command);
+            }
+        }
+    }
+
+    private void rebuild() {
+        int users = expenseDailySummaryService.rebuildAll();
+        log.info("[expense daily summary] rebuilt {} users", users);
+    }
+
+    private void verify() {
+        List<ExpenseDailySummaryDrift> drifts = expenseDailySummaryService.verifyAll();
+        drifts.forEach(drift -> log.warn("[expense daily summary] drift: {}", drift));
+        log.info("[expense daily summary] {} drifted rows", drifts.size());
+    }
+}
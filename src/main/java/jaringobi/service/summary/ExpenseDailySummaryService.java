@@ -0,0 +1,40 @@
+package jaringobi.service.summary;
+
+import jaringobi.domain.expense.ExpenseDailySummaryDrift;
+import jaringobi.domain.expense.ExpenseDailySummaryRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 일별 지출 롤업(expense_daily_summary) 재생성과 원본 대비 불일치 검사.
+ * 사용자 단위 트랜잭션으로 처리해 전체 재생성 중에도 다른 사용자의 쓰기를 오래 막지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExpenseDailySummaryService {
+
+    private final ExpenseDailySummaryRepository expenseDailySummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public int rebuildAll() {
+        List<Long> userIds = expenseDailySummaryRepository.findUserIds();
+        userIds.forEach(this::rebuild);
+        return userIds.size();
+    }
+
+    public void rebuild(long userId) {
+        transactionTemplate.executeWithoutResult(status -> expenseDailySummaryRepository.rebuild(userId));
+    }
+
+    public List<ExpenseDailySummaryDrift> verifyAll() {
+        return expenseDailySummaryRepository.findUserIds().stream()
+                .flatMap(userId -> verify(userId).stream())
+                .toList();
+    }
+
+    public List<ExpenseDailySummaryDrift> verify(long userId) {
+        return expenseDailySummaryRepository.findDrifts(userId);
+    }
+}
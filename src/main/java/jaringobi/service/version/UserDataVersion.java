@@ -0,0 +1,69 @@
+package jaringobi.service.version;
+
+import jaringobi.domain.budget.BudgetGeneration;
+import jaringobi.domain.expense.ExpenseGeneration;
+import jaringobi.domain.user.AppUser;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.StringJoiner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 데이터 세대 번호로 조회 응답의 강한 ETag 를 만든다. 세대 번호 한 행만 읽으므로 304 응답은 검색, 집계 없이 끝난다.
+ * 세대 번호는 DB 에 있어 재시작해도 이어지고 인스턴스마다 같으므로, 어느 인스턴스가 만든 태그든 그대로 비교할 수 있다.
+ */
+@Component
+public class UserDataVersion {
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final int CONDITION_DIGEST_BYTES = 16;
+
+    private final ExpenseGeneration expenseGeneration;
+    private final BudgetGeneration budgetGeneration;
+
+    public UserDataVersion(ExpenseGeneration expenseGeneration, BudgetGeneration budgetGeneration) {
+        this.expenseGeneration = expenseGeneration;
+        this.budgetGeneration = budgetGeneration;
+    }
+
+    public String searchTagOf(AppUser appUser, ExpenseSearchCondition condition) {
+        return tagOf("s", appUser.userId(), expenseGeneration.current(appUser.userId()),
+                digestOf(condition.toCanonicalString()));
+    }
+
+    /**
+     * 오늘 지출 안내는 예산과 날짜에도 따라 바뀌므로 예산 세대 번호와 날짜를 함께 넣는다.
+     */
+    public String todayTagOf(AppUser appUser, LocalDate today) {
+        return todayTagOf(appUser.userId(), expenseGeneration.current(appUser.userId()),
+                budgetGeneration.current(appUser.userId()), today);
+    }
+
+    /**
+     * 미리 만들어 둔 응답이 어느 세대로 만들어졌는지 알 때, 그 세대의 태그를 만든다.
+     */
+    public String todayTagOf(long userId, long expenseGeneration, long budgetGeneration, LocalDate today) {
+        return tagOf("t", userId, expenseGeneration, budgetGeneration, today);
+    }
+
+    private String tagOf(Object... parts) {
+        StringJoiner tag = new StringJoiner("-", "\"", "\"");
+        for (Object part : parts) {
+            tag.add(String.valueOf(part));
+        }
+        return tag.toString();
+    }
+
+    private String digestOf(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HEX.formatHex(digest, 0, CONDITION_DIGEST_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+-- 예산 구간별 카테고리 비중 집계. 매일 밤 배치가 통째로 다시 채우고, 추천 API 는 메모리에 올린 값만 쓴다.
+-- *_share_sum 은 표본(예산 또는 사용자)마다 구한 카테고리 비중의 합이고, 평균은 *_samples 로 나눠 구한다.
+create table budget_recommendation
+(
+    bucket            varchar(20) not null,
+    category_id       int         not null,
+    budget_share_sum  double      not null,
+    budget_samples    int         not null,
+    expense_share_sum double      not null,
+    expense_samples   int         not null,
+    computed_at       datetime    not null,
+    primary key (bucket, category_id)
+);
@@ -0,0 +1,16 @@
+-- 사용자/일자/카테고리별 오늘 쓸 수 있는 금액. 자정 직후 배치가 채우고, 안내 API 는 (user_id, day) 로 읽기만 한다.
+-- daily_allowance = (이번 달 예산 - 어제까지 쓴 금액) / 오늘을 포함한 남은 일수 (0 미만이면 0)
+create table daily_guide
+(
+    user_id         bigint   not null,
+    day             date     not null,
+    category_id     int      not null,
+    budget_amount   bigint   not null,
+    spent_amount    bigint   not null,
+    daily_allowance bigint   not null,
+    computed_at     datetime not null,
+    primary key (user_id, day, category_id)
+);
+
+-- 지난 안내를 일자로 지운다.
+create index idx_daily_guide_day on daily_guide (day);
@@ -0,0 +1,7 @@
+-- 예산 추천 야간 배치 실행 기록. 여러 인스턴스가 같은 시각에 깨어나도 그날 먼저 행을 넣은 인스턴스만 다시 집계한다.
+create table budget_recommendation_run
+(
+    run_day    date     not null,
+    started_at datetime not null,
+    primary key (run_day)
+);
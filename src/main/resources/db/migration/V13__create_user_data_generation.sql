@@ -0,0 +1,8 @@
+-- 사용자별 지출 세대 번호. 지출 변경과 같은 트랜잭션에서 올리므로 모든 인스턴스가 커밋과 동시에 같은 값을 읽는다.
+-- 캐시 키에 넣어 다른 인스턴스에서 바뀐 데이터도 다음 조회에서 바로 다시 읽는다.
+create table user_data_generation
+(
+    user_id            bigint not null,
+    expense_generation bigint not null default 0,
+    primary key (user_id)
+);
@@ -0,0 +1,2 @@
+-- 사용자별 예산 세대 번호. 예산 변경, 월 이월과 같은 트랜잭션에서 올려 모든 인스턴스의 오늘 지출 안내가 다음 조회에서 다시 만들어지게 한다.
+alter table user_data_generation add column budget_generation bigint not null default 0;
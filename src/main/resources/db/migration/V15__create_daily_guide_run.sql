@@ -0,0 +1,7 @@
+-- 하루 지출 안내 자정 배치 실행 기록. 여러 인스턴스가 같은 시각에 깨어나도 그날 먼저 행을 넣은 인스턴스만 계산한다.
+create table daily_guide_run
+(
+    run_day    date     not null,
+    started_at datetime not null,
+    primary key (run_day)
+);
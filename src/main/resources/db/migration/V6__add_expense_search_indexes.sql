@@ -0,0 +1,11 @@
+-- 지출 검색 정렬 기준(SearchSort)별 커버링 인덱스
+-- (user_id, 정렬 키, id) 순서로 seek + ORDER BY 를 인덱스가 처리하고, 뒤의 컬럼으로 memo 외 조회 컬럼을 커버한다.
+create index idx_expense_user_expense_at on expense (user_id, expense_at, id, amount, category_id, created_at);
+create index idx_expense_user_amount on expense (user_id, amount, id, expense_at, category_id, created_at);
+create index idx_expense_user_created_at on expense (user_id, created_at, id, expense_at, amount, category_id);
+
+-- 카테고리별 지출 합계 (user_id + 기간 조건, category_id 로 group by)
+create index idx_expense_user_category_expense_at on expense (user_id, category_id, expense_at, amount);
+
+-- user_id 로 시작하는 인덱스가 외래키를 대신하므로 외래키 생성 시 만들어진 단일 컬럼 인덱스는 제거
+alter table expense drop index FK_expense_user_id;
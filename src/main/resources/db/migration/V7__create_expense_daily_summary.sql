@@ -0,0 +1,16 @@
+-- 사용자/일자/카테고리별 지출 합계. 지출 추가, 수정, 삭제 시 같은 트랜잭션에서 갱신한다.
+create table expense_daily_summary
+(
+    user_id     bigint not null,
+    day         date   not null,
+    category_id int    not null,
+    total       bigint not null default 0,
+    count       int    not null default 0,
+    primary key (user_id, day, category_id)
+);
+
+-- 기존 지출 백필
+insert into expense_daily_summary(user_id, day, category_id, total, count)
+select user_id, date(expense_at), category_id, sum(amount), count(*)
+from expense
+group by user_id, date(expense_at), category_id;
@@ -0,0 +1,7 @@
+-- 같은 예산에 같은 카테고리가 두 번 들어간 행이 있으면 먼저 들어간 행만 남긴다.
+delete c1 from budget_by_category c1
+join budget_by_category c2 on c1.budget_id = c2.budget_id and c1.category_id = c2.category_id and c1.id > c2.id;
+
+-- (budget_id, category_id) 는 예산별 카테고리 예산의 자연 키다.
+-- 일괄 반영의 INSERT ... ON DUPLICATE KEY UPDATE 와 예산별 조회(budget_id 조건)가 이 인덱스를 쓴다.
+alter table budget_by_category add unique key uk_budget_by_category_budget_category (budget_id, category_id);
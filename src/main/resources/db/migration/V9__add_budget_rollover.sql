@@ -0,0 +1,14 @@
+-- 월초 예산 이월(전월 예산을 새 달로 복사) 사용 여부
+alter table users add column budget_rollover tinyint not null default 0;
+create index idx_users_budget_rollover on users (budget_rollover, id);
+
+-- 이월 작업이 (사용자, 월) 로 예산을 찾는다. user_id 로 시작하므로 외래키 인덱스도 대신한다.
+create index idx_budget_user_month on budget (user_id, budget_month);
+
+-- 월별 이월 진행 상황. 청크를 커밋할 때 마지막 사용자 id 를 함께 남겨 중단되면 이어서 처리한다.
+create table budget_rollover_progress
+(
+    budget_month date     not null primary key,
+    last_user_id bigint   not null default 0,
+    completed_at datetime null
+);
@@ -4,9 +4,12 @@ import groovy.util.logging.Slf4j;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jaringobi.service.search.ExpenseSearchCache;
+import jaringobi.service.search.TodayExpenseView;
 import java.util.Locale;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -19,6 +22,18 @@ public class DatabaseCleaner implements InitializingBean{
     @PersistenceContext
     private EntityManager entityManager;
 
+    // 테이블을 비워도 사용자 id 가 재사용되므로 검색 결과 캐시, 오늘 지출 안내도 함께 비운다.
+    @Autowired
+    private ExpenseSearchCache expenseSearchCache;
+
+    @Autowired
+    private TodayExpenseView todayExpenseView;
+
+    // 엔티티가 없는 테이블
+    private static final List<String> EXTRA_TABLE_NAMES = List.of("expense_daily_summary", "budget_rollover_progress",
+            "budget_recommendation", "daily_guide", "budget_recommendation_run",
+            "user_data_generation", "daily_guide_run");
+
     private List<String> tableNames;
 
     @Override
@@ -36,7 +51,8 @@ public class DatabaseCleaner implements InitializingBean{
                     }
                     return entityName;
                 })
-                .toList();
+                .collect(Collectors.toList());
+        tableNames.addAll(EXTRA_TABLE_NAMES);
     }
 
     @Transactional
@@ -45,6 +61,8 @@ public class DatabaseCleaner implements InitializingBean{
         entityManager.createNativeQuery("SET foreign_key_checks = 0;").executeUpdate();
         tableNames.forEach(tableName -> executeQueryWithTable(tableName));
         entityManager.createNativeQuery("SET foreign_key_checks = 1;").executeUpdate();
+        expenseSearchCache.clear();
+        todayExpenseView.clear();
     }
 
     private void executeQueryWithTable(String tableName) {
@@ -0,0 +1,26 @@
+package jaringobi.acceptance.admin;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+public class AdminAPI {
+
+    public static ExtractableResponse<Response> 예산이월실행요청(String month) {
+        return RestAssured.given().log().all()
+                .when()
+                .post("/actuator/budgetrollover/" + month)
+                .andReturn()
+                .then()
+                .log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 카테고리다시적재요청() {
+        return RestAssured.given().log().all()
+                .when()
+                .post("/actuator/categories")
+                .andReturn()
+                .then()
+                .log().all().extract();
+    }
+}
@@ -0,0 +1,35 @@
+package jaringobi.acceptance.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jaringobi.acceptance.APITest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("관리용 엔드포인트 노출 테스트")
+public class AdminEndpointAPITest extends APITest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("실패 : [예산 이월 실행] 앱 포트로 들어온 인증 없는 POST 는 거절되고 이월도 시작되지 않는다.")
+    void budgetRolloverIsNotReachableFromAppPort() {
+        var response = AdminAPI.예산이월실행요청("2023-11");
+
+        assertThat(HttpStatus.valueOf(response.statusCode()).is4xxClientError()).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM budget_rollover_progress", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("실패 : [카테고리 다시 적재] 앱 포트로 들어온 인증 없는 POST 는 거절된다.")
+    void categoryReloadIsNotReachableFromAppPort() {
+        var response = AdminAPI.카테고리다시적재요청();
+
+        assertThat(HttpStatus.valueOf(response.statusCode()).is4xxClientError()).isTrue();
+    }
+}
@@ -56,6 +56,18 @@ public class BudgetAPI {
                 .log().all().extract();
     }
 
+    public static ExtractableResponse<Response> 예산카테고리일괄반영요청(String body, long id, String token) {
+        return RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .header(AUTHORIZATION, BEARER + token)
+                .body(body)
+                .put("/api/v1/budget/{id}/categories", id)
+                .andReturn()
+                .then()
+                .log().all().extract();
+    }
+
     public static ExtractableResponse<Response> 예산카테고리수정요청(String body, long id, long categoryId, String token) {
         return RestAssured.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -307,6 +307,117 @@ public class BudgetAPITest extends APITest {
     }
 
 
+    @Nested
+    @DisplayName("[예산 카테고리 일괄 반영] /api/v1/budget/{id}/categories")
+    class BudgetCategoryPut {
+
+        @Test
+        @DisplayName("성공 204 - REPLACE 는 요청에 없는 카테고리 예산을 삭제한다.")
+        void successReplace() {
+            // Given
+            saveBudget();
+
+            String body = """
+                    {
+                        "budgetByCategories" : [
+                            {
+                                "categoryId": 2,
+                                "money": 5000
+                            },
+                            {
+                                "categoryId": 10,
+                                "money": 10000
+                            }
+                        ],
+                        "mode": "REPLACE"
+                    }
+                    """;
+
+            // When
+            var response = BudgetAPI.예산카테고리일괄반영요청(body, 1L, accessToken);
+
+            // Then
+            assertThat(response.response().statusCode()).isEqualTo(204);
+
+            var jsonPath = BudgetAPI.예산조회요청(1L, accessToken).jsonPath();
+            List<BudgetByCategoryResponse> budgetByCategoryResponses = jsonPath.getList("data.budgetByCategories",
+                    BudgetByCategoryResponse.class);
+            assertAll(
+                    () -> assertThat(budgetByCategoryResponses).hasSize(2),
+                    () -> assertThat(budgetByCategoryResponses).extracting("categoryId")
+                            .containsExactlyInAnyOrder(2L, 10L),
+                    () -> assertThat(budgetByCategoryResponses).extracting("money")
+                            .containsExactlyInAnyOrder(5000, 10000)
+            );
+        }
+
+        @Test
+        @DisplayName("성공 204 - MERGE 는 요청에 없는 카테고리 예산을 그대로 둔다.")
+        void successMerge() {
+            // Given
+            saveBudget();
+
+            String body = """
+                    {
+                        "budgetByCategories" : [
+                            {
+                                "categoryId": 1,
+                                "money": 3000
+                            },
+                            {
+                                "categoryId": 10,
+                                "money": 10000
+                            }
+                        ],
+                        "mode": "MERGE"
+                    }
+                    """;
+
+            // When
+            var response = BudgetAPI.예산카테고리일괄반영요청(body, 1L, accessToken);
+
+            // Then
+            assertThat(response.response().statusCode()).isEqualTo(204);
+
+            var jsonPath = BudgetAPI.예산조회요청(1L, accessToken).jsonPath();
+            List<BudgetByCategoryResponse> budgetByCategoryResponses = jsonPath.getList("data.budgetByCategories",
+                    BudgetByCategoryResponse.class);
+            assertAll(
+                    () -> assertThat(budgetByCategoryResponses).hasSize(3),
+                    () -> assertThat(budgetByCategoryResponses).extracting("categoryId")
+                            .containsExactlyInAnyOrder(1L, 2L, 10L),
+                    () -> assertThat(budgetByCategoryResponses).extracting("money")
+                            .containsExactlyInAnyOrder(3000, 9000, 10000)
+            );
+        }
+
+        @Test
+        @DisplayName("실패 404 - 존재하지 않는 예산")
+        void failNotExistedBudget() {
+            // Given
+            saveBudget();
+
+            String body = """
+                    {
+                        "budgetByCategories" : [
+                            {
+                                "categoryId": 1,
+                                "money": 3000
+                            }
+                        ]
+                    }
+                    """;
+
+            // When
+            var response = BudgetAPI.예산카테고리일괄반영요청(body, 2L, accessToken);
+            var jsonPath = response.jsonPath();
+
+            // Then
+            assertThat(response.response().statusCode()).isEqualTo(404);
+            assertThat(jsonPath.getString("code")).isEqualTo("B003");
+        }
+    }
+
     @Nested
     @DisplayName("[에산 카테고리 수정] /api/v1/budget/{id}/categories/{categoryId}")
     class BudgetCategoryModify {
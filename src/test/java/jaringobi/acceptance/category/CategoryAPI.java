@@ -3,6 +3,7 @@ package jaringobi.acceptance.category;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 public class CategoryAPI {
@@ -16,4 +17,15 @@ public class CategoryAPI {
                 .then()
                 .log().all().extract();
     }
+
+    public static ExtractableResponse<Response> 카테고리목록요청(String eTag) {
+        return RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when()
+                .get("/api/v1/categories")
+                .andReturn()
+                .then()
+                .log().all().extract();
+    }
 }
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.*;
 import jaringobi.acceptance.APITest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 @DisplayName("카테고리 API 테스트")
@@ -17,4 +18,23 @@ public class CategoryAPITest extends APITest {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
     }
 
+    @Test
+    @DisplayName("성공 : [카테고리 목록조회] 미리 직렬화한 목록을 id 순으로 ETag 와 함께 응답한다.")
+    void responseWithETag() {
+        var response = CategoryAPI.카테고리목록요청();
+
+        assertThat(response.header(HttpHeaders.ETAG)).isNotBlank();
+        assertThat(response.jsonPath().getList("data.list.id", Long.class)).hasSize(16).isSorted();
+        assertThat(response.jsonPath().getString("data.list[0].name")).isEqualTo("월세");
+    }
+
+    @Test
+    @DisplayName("성공 : [카테고리 목록조회] 같은 ETag 로 다시 요청하면 304 로 응답한다.")
+    void notModifiedWithSameETag() {
+        String eTag = CategoryAPI.카테고리목록요청().header(HttpHeaders.ETAG);
+
+        var response = CategoryAPI.카테고리목록요청(eTag);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
 }
@@ -3,6 +3,7 @@ package jaringobi.acceptance.expense;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 public class ExpenseAPI {
@@ -55,4 +56,56 @@ public class ExpenseAPI {
                 .then()
                 .log().all().extract();
     }
+
+    public static ExtractableResponse<Response> 지출내보내기요청(String start, String end, String format, String token) {
+        return RestAssured.given().log().all()
+                .when()
+                .header(AUTHORIZATION, BEARER + token)
+                .queryParam("start", start)
+                .queryParam("end", end)
+                .queryParam("sort", "expense_date")
+                .queryParam("order", "asc")
+                .queryParam("format", format)
+                .get("/api/v1/expenditures/export")
+                .andReturn()
+                .then()
+                .log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지출일괄가져오기요청(String body, String contentType, String token) {
+        return RestAssured.given().log().all()
+                .contentType(contentType)
+                .when()
+                .header(AUTHORIZATION, BEARER + token)
+                .body(body)
+                .post("/api/v1/expenditures/bulk")
+                .andReturn()
+                .then()
+                .log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 오늘지출안내조회(String token, String eTag) {
+        return RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .header(AUTHORIZATION, BEARER + token)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .get("/api/v1/expenditures/today")
+                .andReturn()
+                .then()
+                .log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지출검색요청(String start, String end, String token, String eTag) {
+        return RestAssured.given().log().all()
+                .when()
+                .header(AUTHORIZATION, BEARER + token)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .queryParam("start", start)
+                .queryParam("end", end)
+                .get("/api/v1/expenditures")
+                .andReturn()
+                .then()
+                .log().all().extract();
+    }
 }
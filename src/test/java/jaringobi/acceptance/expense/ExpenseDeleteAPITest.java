@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.restassured.path.json.JsonPath;
 import jaringobi.acceptance.APITest;
+import jaringobi.domain.expense.ExpenseDailySummaryRepository;
 import jaringobi.domain.expense.ExpenseRepository;
 import jaringobi.exception.ErrorType;
 import jaringobi.exception.auth.AuthenticationErrorType;
@@ -19,6 +20,9 @@ public class ExpenseDeleteAPITest extends APITest {
     @Autowired
     ExpenseRepository expenseRepository;
 
+    @Autowired
+    ExpenseDailySummaryRepository expenseDailySummaryRepository;
+
     @Nested
     @DisplayName("[지출 삭제] /api/v1/expenditures/{id} ")
     class DeleteApiTest {
@@ -46,6 +50,7 @@ public class ExpenseDeleteAPITest extends APITest {
             // Then
             assertThat(response.response().statusCode()).isEqualTo(200);
             assertThat(expenseRepository.existsById(1L)).isFalse();
+            assertThat(expenseDailySummaryRepository.findDrifts(1L)).isEmpty();
         }
 
         @Test
@@ -0,0 +1,163 @@
+package jaringobi.acceptance.expense;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.path.json.JsonPath;
+import jaringobi.acceptance.APITest;
+import jaringobi.domain.expense.Expense;
+import jaringobi.domain.expense.ExpenseDailySummaryRepository;
+import jaringobi.exception.ErrorType;
+import jaringobi.service.imports.ExpenseImportProperty;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+@DisplayName("[지출 일괄 가져오기] /api/v1/expenditures/bulk")
+public class ExpenseImportAPITest extends APITest {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    @Autowired
+    ExpenseDailySummaryRepository expenseDailySummaryRepository;
+
+    @Autowired
+    ExpenseImportProperty expenseImportProperty;
+
+    @Test
+    @DisplayName("CSV - 내보내기 형식 그대로 가져오고, 실패한 행은 행 번호와 사유를 돌려준다.")
+    void importCsv() {
+        // Given
+        var body = """
+                id,expenseAt,amount,categoryId,createdAt,memo
+                1,2023-10-01T12:00,10000,3,2023-10-01T12:00,"점심, ""짬뽕\"\"\"
+                2,2023-10-02T09:00,500000,1,,월세
+                3,2023-10-02T10:00,3000,999,,없는 카테고리
+                4,2023-10-03,3000,1,,날짜 형식 오류
+                5,2023-10-03T10:00,-1,1,,음수 금액
+                """;
+
+        // When
+        var response = ExpenseAPI.지출일괄가져오기요청(body, TEXT_CSV, accessToken);
+        JsonPath jsonPath = response.jsonPath();
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(jsonPath.getBoolean("data.completed")).isTrue();
+        assertThat(jsonPath.getInt("data.importedCount")).isEqualTo(2);
+        assertThat(jsonPath.getInt("data.failedCount")).isEqualTo(3);
+        assertThat(jsonPath.getList("data.errors.row", Integer.class)).containsExactly(3, 4, 5);
+        assertThat(jsonPath.getString("data.errors[0].message")).isEqualTo("존재하지 않는 카테고리 입니다.");
+        assertThat(expenseRepository.findAll())
+                .extracting(Expense::getMemo)
+                .containsExactlyInAnyOrder("점심, \"짬뽕\"", "월세");
+    }
+
+    @Test
+    @DisplayName("CSV - 내보내기가 수식 실행을 막으려 붙인 ' 는 떼고 가져온다.")
+    void unguardFormulaMemo() {
+        // Given
+        var body = """
+                expenseAt,amount,categoryId,memo
+                2023-10-01T12:00,10000,3,'=1+1
+                2023-10-02T12:00,10000,3,'@home
+                2023-10-03T12:00,10000,3,'직접 쓴 따옴표
+                """;
+
+        // When
+        var response = ExpenseAPI.지출일괄가져오기요청(body, TEXT_CSV, accessToken);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(expenseRepository.findAll())
+                .extracting(Expense::getMemo)
+                .containsExactlyInAnyOrder("=1+1", "@home", "'직접 쓴 따옴표");
+    }
+
+    @Test
+    @DisplayName("JSON - 지출 등록 요청과 같은 필드의 배열을 가져오고 일별 합계에도 반영한다.")
+    void importJson() {
+        // Given
+        var body = """
+                [
+                    {"expenseDateTime": "2023-10-01T12:00:00", "expenseMount": 10000, "categoryId": 3, "memo": "점심"},
+                    {"expenseDateTime": "2023-10-01T18:00:00", "expenseMount": 20000, "categoryId": 3},
+                    {"expenseDateTime": "2023-10-02T09:00:00", "expenseMount": 500000, "categoryId": 1, "excludeTotalExpense": true},
+                    {"expenseDateTime": "2023-10-02T09:00:00", "categoryId": 1}
+                ]
+                """;
+
+        // When
+        var response = ExpenseAPI.지출일괄가져오기요청(body, MediaType.APPLICATION_JSON_VALUE, accessToken);
+        JsonPath jsonPath = response.jsonPath();
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(jsonPath.getInt("data.importedCount")).isEqualTo(3);
+        assertThat(jsonPath.getInt("data.errors[0].row")).isEqualTo(4);
+        assertThat(jsonPath.getString("data.errors[0].message")).isEqualTo("지출 금액은 필수입니다.");
+        assertThat(expenseRepository.count()).isEqualTo(3);
+        assertThat(expenseDailySummaryRepository.findDrifts(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("청크마다 커밋하므로 최대 행 수를 넘으면 이미 커밋한 청크는 남기고 멈춘 행과 함께 미완료로 돌려준다.")
+    void stopAfterCommittedChunks() {
+        // Given
+        int chunkSize = expenseImportProperty.getChunkSize();
+        int maxRows = expenseImportProperty.getMaxRows();
+        expenseImportProperty.setChunkSize(1);
+        expenseImportProperty.setMaxRows(2);
+        var body = """
+                expenseAt,amount,categoryId
+                2023-10-01T12:00,10000,3
+                2023-10-02T12:00,20000,3
+                2023-10-03T12:00,30000,3
+                """;
+
+        // When
+        var response = ExpenseAPI.지출일괄가져오기요청(body, TEXT_CSV, accessToken);
+        expenseImportProperty.setChunkSize(chunkSize);
+        expenseImportProperty.setMaxRows(maxRows);
+        JsonPath jsonPath = response.jsonPath();
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(jsonPath.getBoolean("data.completed")).isFalse();
+        assertThat(jsonPath.getInt("data.importedCount")).isEqualTo(2);
+        assertThat(jsonPath.getInt("data.errors[0].row")).isEqualTo(3);
+        assertThat(jsonPath.getString("data.errors[0].message")).isEqualTo(ErrorType.E004.getMessage());
+        assertThat(expenseRepository.count()).isEqualTo(2);
+        assertThat(expenseDailySummaryRepository.findDrifts(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("필수 열이 없는 CSV 는 400 을 반환하고 아무것도 저장하지 않는다.")
+    void missingCsvHeader() {
+        // Given
+        var body = """
+                expenseAt,amount
+                2023-10-01T12:00,10000
+                """;
+
+        // When
+        var response = ExpenseAPI.지출일괄가져오기요청(body, TEXT_CSV, accessToken);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(400);
+        assertThat(response.jsonPath().getString("code")).isEqualTo(ErrorType.E005.getCode());
+        assertThat(expenseRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("배열이 아닌 JSON 은 400 을 반환한다.")
+    void notJsonArray() {
+        // When
+        var response = ExpenseAPI.지출일괄가져오기요청("{\"expenseMount\": 1000}", MediaType.APPLICATION_JSON_VALUE,
+                accessToken);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(400);
+        assertThat(response.jsonPath().getString("code")).isEqualTo(ErrorType.E005.getCode());
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.restassured.path.json.JsonPath;
 import jaringobi.acceptance.APITest;
 import jaringobi.domain.expense.Expense;
+import jaringobi.domain.expense.ExpenseDailySummaryRepository;
 import jaringobi.domain.expense.ExpenseRepository;
 import jaringobi.domain.user.UserRepository;
 import jaringobi.exception.ErrorType;
@@ -25,6 +26,9 @@ public class ExpenseModifyAPITest extends APITest {
     @Autowired
     ExpenseRepository expenseRepository;
 
+    @Autowired
+    ExpenseDailySummaryRepository expenseDailySummaryRepository;
+
     @Autowired
     UserRepository userRepository;
 
@@ -69,6 +73,7 @@ public class ExpenseModifyAPITest extends APITest {
             assertThat(expense.getExpenseAt()).isEqualTo(LocalDateTime.of(2023, 01, 01, 0, 0, 0));
             assertThat(expense.getMemo()).isEqualTo("친구들이랑 점심 탕수육");
             assertThat(expense.isExcludeInTotal()).isFalse();
+            assertThat(expenseDailySummaryRepository.findDrifts(1L)).isEmpty();
         }
 
         @Test
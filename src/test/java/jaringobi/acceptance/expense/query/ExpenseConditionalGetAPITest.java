@@ -0,0 +1,95 @@
+package jaringobi.acceptance.expense.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jaringobi.acceptance.APITest;
+import jaringobi.acceptance.budget.BudgetAPI;
+import jaringobi.acceptance.expense.ExpenseAPI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+@DisplayName("조회 API 조건부 요청 (ETag / If-None-Match)")
+public class ExpenseConditionalGetAPITest extends APITest {
+
+    private static final String NO_ETAG = "\"none\"";
+
+    private void 오늘지출추가(int amount) {
+        String expenseDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"));
+        String body = String.format("""
+                {
+                    "expenseMount": %d,
+                    "categoryId": 3,
+                    "expenseDateTime": "%s"
+                }
+                """, amount, expenseDateTime);
+        ExpenseAPI.지출추가요청(body, accessToken);
+    }
+
+    @Test
+    @DisplayName("오늘 지출 안내 - 변경이 없으면 304 를 본문 없이 반환한다.")
+    void todayNotModified() {
+        // Given
+        오늘지출추가(10000);
+        var first = ExpenseAPI.오늘지출안내조회(accessToken, NO_ETAG);
+        String eTag = first.header(HttpHeaders.ETAG);
+
+        // When
+        var second = ExpenseAPI.오늘지출안내조회(accessToken, eTag);
+
+        // Then
+        assertThat(first.statusCode()).isEqualTo(200);
+        assertThat(eTag).startsWith("\"");
+        assertThat(second.statusCode()).isEqualTo(304);
+        assertThat(second.asString()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오늘 지출 안내 - 지출이나 예산이 바뀌면 새 ETag 와 함께 200 을 반환한다.")
+    void todayModified() {
+        // Given
+        String eTag = ExpenseAPI.오늘지출안내조회(accessToken, NO_ETAG).header(HttpHeaders.ETAG);
+
+        // When
+        오늘지출추가(10000);
+        var afterExpense = ExpenseAPI.오늘지출안내조회(accessToken, eTag);
+
+        String month = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
+        BudgetAPI.예산설정(String.format("""
+                {
+                    "budgetByCategories" : [{"categoryId": 3, "money": 300000}],
+                    "month": "%s"
+                }
+                """, month), accessToken);
+        var afterBudget = ExpenseAPI.오늘지출안내조회(accessToken, afterExpense.header(HttpHeaders.ETAG));
+
+        // Then
+        assertThat(afterExpense.statusCode()).isEqualTo(200);
+        assertThat(afterExpense.jsonPath().getInt("data.totalExpenseAmount")).isEqualTo(10000);
+        assertThat(afterBudget.statusCode()).isEqualTo(200);
+        assertThat(afterBudget.jsonPath().getBoolean("data.hasBudget")).isTrue();
+        assertThat(afterBudget.header(HttpHeaders.ETAG)).isNotEqualTo(afterExpense.header(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("지출 검색 - 같은 조건은 304, 다른 조건이나 다른 사용자의 태그는 200 을 반환한다.")
+    void searchNotModified() {
+        // Given
+        오늘지출추가(10000);
+        String eTag = ExpenseAPI.지출검색요청("2023-10-01", "2023-10-31", accessToken, NO_ETAG)
+                .header(HttpHeaders.ETAG);
+
+        // When
+        var same = ExpenseAPI.지출검색요청("2023-10-01", "2023-10-31", accessToken, eTag);
+        var otherCondition = ExpenseAPI.지출검색요청("2023-10-01", "2023-11-30", accessToken, eTag);
+        var otherUser = ExpenseAPI.지출검색요청("2023-10-01", "2023-10-31", anotherUserAccessToken, eTag);
+
+        // Then
+        assertThat(same.statusCode()).isEqualTo(304);
+        assertThat(otherCondition.statusCode()).isEqualTo(200);
+        assertThat(otherUser.statusCode()).isEqualTo(200);
+    }
+}
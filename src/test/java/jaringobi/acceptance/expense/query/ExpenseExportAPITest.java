@@ -0,0 +1,106 @@
+package jaringobi.acceptance.expense.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.path.json.JsonPath;
+import jaringobi.acceptance.APITest;
+import jaringobi.acceptance.expense.ExpenseAPI;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("지출 내보내기 API")
+public class ExpenseExportAPITest extends APITest {
+
+    @BeforeEach
+    void addExpenses() {
+        지출추가("점심, \\\"짬뽕\\\"", 10000, 3, "2023-10-01T12:00:00");
+        지출추가("월세", 500000, 1, "2023-10-02T09:00:00");
+        지출추가("다른 달", 3000, 3, "2023-11-01T09:00:00");
+    }
+
+    private void 지출추가(String memo, int amount, int categoryId, String expenseDateTime) {
+        String body = String.format("""
+                {
+                    "memo": "%s",
+                    "expenseMount": %d,
+                    "categoryId": %d,
+                    "expenseDateTime": "%s"
+                }
+                """, memo, amount, categoryId, expenseDateTime);
+        ExpenseAPI.지출추가요청(body, accessToken);
+    }
+
+    @Test
+    @DisplayName("CSV - 검색 조건에 맞는 지출을 헤더와 함께 정렬 순서대로 내보낸다.")
+    void exportCsv() {
+        // When
+        var response = ExpenseAPI.지출내보내기요청("2023-10-01", "2023-10-31", "csv", accessToken);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.contentType()).startsWith("text/csv");
+        assertThat(response.header("Content-Disposition")).contains("expenses.csv");
+
+        List<String> lines = Arrays.asList(response.asString().replace("\uFEFF", "").split("\n"));
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo("id,expenseAt,amount,categoryId,createdAt,memo");
+        assertThat(lines.get(1)).startsWith("1,2023-10-01T12:00,10000,3,").endsWith(",\"점심, \"\"짬뽕\"\"\"");
+        assertThat(lines.get(2)).startsWith("2,2023-10-02T09:00,500000,1,").endsWith(",월세");
+    }
+
+    @Test
+    @DisplayName("CSV - 수식 시작 문자(=, +, -, @)로 시작하는 메모는 앞에 ' 를 붙여 수식으로 실행되지 않게 한다.")
+    void guardFormulaMemo() {
+        // Given
+        지출추가("=HYPERLINK(\\\"http://evil\\\")", 1000, 3, "2023-12-01T09:00:00");
+        지출추가("+1+1", 2000, 3, "2023-12-02T09:00:00");
+        지출추가("-2,000 환불", 3000, 3, "2023-12-03T09:00:00");
+        지출추가("@SUM(A1)", 4000, 3, "2023-12-04T09:00:00");
+        지출추가("점심 - 회사", 5000, 3, "2023-12-05T09:00:00");
+
+        // When
+        var response = ExpenseAPI.지출내보내기요청("2023-12-01", "2023-12-31", "csv", accessToken);
+
+        // Then
+        List<String> lines = Arrays.asList(response.asString().replace("\uFEFF", "").split("\n"));
+        assertThat(lines).hasSize(6);
+        assertThat(lines.get(1)).endsWith(",\"'=HYPERLINK(\"\"http://evil\"\")\"");
+        assertThat(lines.get(2)).endsWith(",'+1+1");
+        assertThat(lines.get(3)).endsWith(",\"'-2,000 환불\"");
+        assertThat(lines.get(4)).endsWith(",'@SUM(A1)");
+        assertThat(lines.get(5)).endsWith(",점심 - 회사");
+    }
+
+    @Test
+    @DisplayName("NDJSON - 한 줄에 지출 하나씩 JSON 으로 내보낸다.")
+    void exportNdjson() {
+        // When
+        var response = ExpenseAPI.지출내보내기요청("2023-10-01", "2023-10-31", "ndjson", accessToken);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.contentType()).startsWith("application/x-ndjson");
+
+        String[] lines = response.asString().split("\n");
+        assertThat(lines).hasSize(2);
+        JsonPath first = new JsonPath(lines[0]);
+        assertThat(first.getLong("id")).isEqualTo(1L);
+        assertThat(first.getInt("amount")).isEqualTo(10000);
+        assertThat(first.getString("memo")).isEqualTo("점심, \"짬뽕\"");
+        assertThat(new JsonPath(lines[1]).getString("memo")).isEqualTo("월세");
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 지출은 내보내지 않는다.")
+    void exportOnlyOwnExpenses() {
+        // When
+        var response = ExpenseAPI.지출내보내기요청("2023-10-01", "2023-10-31", "ndjson", anotherUserAccessToken);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.asString()).isEmpty();
+    }
+}
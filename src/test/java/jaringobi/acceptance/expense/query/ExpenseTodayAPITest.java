@@ -53,7 +53,10 @@ public class ExpenseTodayAPITest extends APITest {
                 () -> assertThat(todayExpensePerCategories).hasSize(1),
                 () -> assertThat(todayExpensePerCategories).extracting("categoryId").containsExactly(1L),
                 () -> assertThat(todayExpensePerCategories).extracting("paidAmount").containsExactly(10000),
-                () -> assertThat(todayExpensePerCategories).extracting("hasCategoryBudget").containsExactly(false)
+                () -> assertThat(todayExpensePerCategories).extracting("hasCategoryBudget").containsExactly(false),
+                () -> assertThat(jsonPath.getList("data.expensesPerGroup.group")).hasSize(8),
+                () -> assertThat(jsonPath.getLong("data.expensesPerGroup.find { it.group == 'FIXED' }.totalExpenseAmount"))
+                        .isEqualTo(10000L)
         );
     }
 
@@ -134,7 +137,9 @@ public class ExpenseTodayAPITest extends APITest {
                 () -> assertThat(todayExpensePerCategories).hasSize(1),
                 () -> assertThat(todayExpensePerCategories).extracting("categoryId").containsExactly(4L),
                 () -> assertThat(todayExpensePerCategories).extracting("paidAmount").containsExactly(10000),
-                () -> assertThat(todayExpensePerCategories).extracting("hasCategoryBudget").containsExactly(false)
+                () -> assertThat(todayExpensePerCategories).extracting("hasCategoryBudget").containsExactly(false),
+                () -> assertThat(jsonPath.getLong("data.expensesPerGroup.find { it.group == 'LIVING' }.totalExpenseAmount"))
+                        .isEqualTo(10000L)
         );
     }
 
@@ -0,0 +1,97 @@
+package jaringobi.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jaringobi.domain.user.AppUser;
+import jaringobi.exception.auth.InvalidTokenException;
+import jaringobi.jwt.TokenProperty;
+import jaringobi.jwt.TokenProvider;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("검증된 토큰 캐시 테스트")
+class VerifiedTokenCacheTest {
+
+    TokenProvider tokenProvider;
+    VerifiedTokenCacheProperty property;
+    VerifiedTokenCache cache;
+    AtomicInteger verifyCount;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new TokenProvider(new TokenProperty());
+        property = new VerifiedTokenCacheProperty();
+        cache = new VerifiedTokenCache(property);
+        verifyCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 이후에는 캐시된 사용자를 돌려준다.")
+    void verifyOnlyOnce() {
+        String token = tokenProvider.issueAccessToken(1L);
+
+        AuthenticatedUser first = cache.get(token, Instant.now(), countingVerifier());
+        AuthenticatedUser second = cache.get(token, Instant.now(), countingVerifier());
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.appUser()).isEqualTo(new AppUser(1L));
+        assertThat(verifyCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("exp 가 지난 시각에는 캐시된 결과를 쓰지 않고 다시 검증한다.")
+    void expireExactlyAtExp() {
+        String token = tokenProvider.issueAccessToken(1L);
+        AuthenticatedUser cached = cache.get(token, Instant.now(), countingVerifier());
+        Instant exp = cached.claims().getExpiresAtAsInstant();
+
+        cache.get(token, exp, countingVerifier());
+        assertThat(verifyCount).hasValue(1);
+
+        cache.get(token, exp.plusMillis(1), countingVerifier());
+        assertThat(verifyCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시에 담지 않는다.")
+    void notCacheRejectedToken() {
+        Function<String, AuthenticatedUser> rejecting = token -> {
+            verifyCount.incrementAndGet();
+            throw new InvalidTokenException();
+        };
+
+        assertThatThrownBy(() -> cache.get("forged.token.value", Instant.now(), rejecting))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> cache.get("forged.token.value", Instant.now(), rejecting))
+                .isInstanceOf(InvalidTokenException.class);
+
+        assertThat(verifyCount).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 오래 사용하지 않은 토큰부터 버린다.")
+    void boundedByMaxEntries() {
+        property.setMaxEntries(4);
+        property.setStripes(2);
+        cache = new VerifiedTokenCache(property);
+
+        for (long userId = 1; userId <= 20; userId++) {
+            cache.get(tokenProvider.issueAccessToken(userId), Instant.now(), countingVerifier());
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(4);
+    }
+
+    private Function<String, AuthenticatedUser> countingVerifier() {
+        return token -> {
+            verifyCount.incrementAndGet();
+            return new AuthenticatedUser(new AppUser(tokenProvider.parseUserId(token)), tokenProvider.verify(token));
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package jaringobi.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import jaringobi.auth.AuthenticatedUser;
+import jaringobi.auth.AuthenticationTokenService;
+import jaringobi.auth.VerifiedTokenCache;
+import jaringobi.auth.VerifiedTokenCacheProperty;
+import jaringobi.domain.user.AppUser;
+import jaringobi.jwt.TokenProperty;
+import jaringobi.jwt.TokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.function.Supplier;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@Tag("benchmark")
+@DisplayName("요청당 인증 비용 (검증기 재사용, 검증 결과 캐시 전/후)")
+class AuthenticationBenchmarkTest {
+
+    private static final int WARM_UP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private TokenProperty tokenProperty;
+    private TokenProvider tokenProvider;
+    private AuthenticationTokenService authenticationService;
+    private AuthenticationTokenService cachedAuthenticationService;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        tokenProperty = new TokenProperty();
+        tokenProvider = new TokenProvider(tokenProperty);
+        VerifiedTokenCacheProperty disabled = new VerifiedTokenCacheProperty();
+        disabled.setEnabled(false);
+        authenticationService = new AuthenticationTokenService(tokenProvider, new VerifiedTokenCache(disabled));
+        cachedAuthenticationService = new AuthenticationTokenService(tokenProvider,
+                new VerifiedTokenCache(new VerifiedTokenCacheProperty()));
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + tokenProvider.issueAccessToken(1L));
+    }
+
+    @Test
+    void measureAuthentication() {
+        Algorithm algorithm = Algorithm.HMAC512(tokenProperty.getSecret());
+        measure("before (검증기 생성 + 3회 디코딩)", () -> legacyAuthenticate(algorithm));
+        measure("after  (검증기 재사용 + 1회 디코딩)", () -> {
+            AuthenticatedUser authenticated = authenticationService.authenticate(request);
+            authenticated.bindTo(request);
+            return ((AuthenticatedUser) request.getAttribute(AuthenticatedUser.ATTRIBUTE)).appUser();
+        });
+        measure("cached (다이제스트로 검증 결과 조회)", () -> cachedAuthenticationService.authenticate(request).appUser());
+    }
+
+    /**
+     * 변경 전 인터셉터와 ArgumentResolver 가 하던 일을 그대로 재현한다.
+     */
+    private AppUser legacyAuthenticate(Algorithm algorithm) {
+        String token = tokenProvider.parseTokenFromHeader(request);
+        JWT.require(algorithm).build().verify(token);
+        JWT.decode(token).getClaim("exp").asDate();
+        String again = tokenProvider.parseTokenFromHeader(request);
+        return new AppUser(JWT.decode(again).getClaim("user_seq").asLong());
+    }
+
+    private void measure(String name, Supplier<AppUser> authentication) {
+        long sink = 0;
+        for (int i = 0; i < WARM_UP; i++) {
+            sink += authentication.get().userId();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += authentication.get().userId();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%s : %,d ns/op (sink %d)%n", name, elapsed / ITERATIONS, sink);
+    }
+}
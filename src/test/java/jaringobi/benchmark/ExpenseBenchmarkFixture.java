@@ -0,0 +1,61 @@
+package jaringobi.benchmark;
+
+import jaringobi.domain.expense.ExpenseDailySummaryRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExpenseBenchmarkFixture {
+
+    private static final int ROWS_PER_STATEMENT = 1_000;
+    private static final int CATEGORY_COUNT = 16;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExpenseDailySummaryRepository expenseDailySummaryRepository;
+
+    public ExpenseBenchmarkFixture(JdbcTemplate jdbcTemplate,
+            ExpenseDailySummaryRepository expenseDailySummaryRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.expenseDailySummaryRepository = expenseDailySummaryRepository;
+    }
+
+    public long createUser(String username) {
+        jdbcTemplate.update("insert into users(username, password) values (?, ?)", username, "benchmark123!");
+        return jdbcTemplate.queryForObject("select id from users where username = ?", Long.class, username);
+    }
+
+    /**
+     * from 부터 1분 간격으로 rows 건의 지출을 multi-row insert 로 적재하고 일별 롤업을 다시 만든다.
+     */
+    public void insertExpenses(long userId, int rows, LocalDateTime from) {
+        Random random = new Random(userId);
+        for (int offset = 0; offset < rows; offset += ROWS_PER_STATEMENT) {
+            int count = Math.min(ROWS_PER_STATEMENT, rows - offset);
+            StringJoiner values = new StringJoiner(",");
+            List<Object> args = new ArrayList<>(count * 5);
+            for (int i = 0; i < count; i++) {
+                values.add("(?, ?, ?, ?, ?, 0)");
+                args.add("memo " + (offset + i));
+                args.add(1 + random.nextInt(1_000_000));
+                args.add(userId);
+                args.add(1 + random.nextInt(CATEGORY_COUNT));
+                args.add(Timestamp.valueOf(from.plusMinutes(offset + i)));
+            }
+            jdbcTemplate.update("insert into expense(memo, amount, user_id, category_id, expense_at, is_exclude_in_total) values "
+                    + values, args.toArray());
+        }
+        expenseDailySummaryRepository.rebuild(userId);
+    }
+
+    public void clear(long userId) {
+        jdbcTemplate.update("delete from expense_daily_summary where user_id = ?", userId);
+        jdbcTemplate.update("delete from expense where user_id = ?", userId);
+        jdbcTemplate.update("delete from users where id = ?", userId);
+    }
+}
@@ -0,0 +1,89 @@
+package jaringobi.benchmark;
+
+import jaringobi.domain.user.AppUser;
+import jaringobi.dto.ExportFormat;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import jaringobi.service.export.ExpenseExportService;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(Lifecycle.PER_CLASS)
+@DisplayName("지출 내보내기 행 수별 최대 힙 사용량")
+class ExpenseExportMemoryBenchmarkTest {
+
+    private static final int MAX_ROWS = 1_000_000;
+
+    @Autowired
+    private ExpenseBenchmarkFixture fixture;
+
+    @Autowired
+    private ExpenseExportService expenseExportService;
+
+    private AppUser appUser;
+    private final LocalDateTime from = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @BeforeAll
+    void setUp() {
+        long userId = fixture.createUser("export" + System.currentTimeMillis());
+        fixture.insertExpenses(userId, MAX_ROWS, from);
+        appUser = new AppUser(userId);
+    }
+
+    @AfterAll
+    void tearDown() {
+        fixture.clear(appUser.userId());
+    }
+
+    @ParameterizedTest(name = "{0} 건")
+    @ValueSource(ints = {1_000, 100_000, MAX_ROWS})
+    void measurePeakHeap(int rows) throws Exception {
+        ExpenseSearchCondition condition = ExpenseSearchCondition.builder()
+                .start(from.toLocalDate().toString())
+                .end(from.plusMinutes(rows - 1L).toLocalDate().plusDays(1).toString())
+                .build();
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        CountingOutputStream outputStream = new CountingOutputStream();
+
+        System.gc();
+        long baseline = memoryMXBean.getHeapMemoryUsage().getUsed();
+        long start = System.nanoTime();
+        expenseExportService.export(appUser, condition, ExportFormat.CSV).writeTo(outputStream);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%,d rows : %,d bytes written, peak heap +%,d bytes, %d ms%n",
+                rows, outputStream.count, Math.max(0, outputStream.peakHeap - baseline), elapsed / 1_000_000);
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        private long count;
+        private long peakHeap;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+            // 버퍼가 찰 때마다 힙 사용량을 기록
+            peakHeap = Math.max(peakHeap, memoryMXBean.getHeapMemoryUsage().getUsed());
+        }
+    }
+}
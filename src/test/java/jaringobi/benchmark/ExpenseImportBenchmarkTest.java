@@ -0,0 +1,71 @@
+package jaringobi.benchmark;
+
+import jaringobi.domain.user.AppUser;
+import jaringobi.dto.ImportFormat;
+import jaringobi.dto.response.ExpenseImportResponse;
+import jaringobi.service.imports.ExpenseImportService;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("지출 일괄 가져오기 행 수별 소요 시간")
+class ExpenseImportBenchmarkTest {
+
+    private static final int CATEGORY_COUNT = 16;
+
+    @Autowired
+    private ExpenseBenchmarkFixture fixture;
+
+    @Autowired
+    private ExpenseImportService expenseImportService;
+
+    private AppUser appUser;
+
+    @BeforeEach
+    void setUp() {
+        appUser = new AppUser(fixture.createUser("import" + System.nanoTime()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.clear(appUser.userId());
+    }
+
+    @ParameterizedTest(name = "{0} 건")
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    void measureImport(int rows) throws Exception {
+        byte[] csv = csvOf(rows);
+
+        long start = System.nanoTime();
+        ExpenseImportResponse response = expenseImportService.importExpenses(appUser, ImportFormat.CSV,
+                new ByteArrayInputStream(csv));
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%,d rows : %,d imported, %,d failed, %d ms%n",
+                rows, response.importedCount(), response.failedCount(), elapsed / 1_000_000);
+    }
+
+    private byte[] csvOf(int rows) {
+        Random random = new Random(rows);
+        LocalDateTime from = LocalDateTime.of(2020, 1, 1, 0, 0);
+        StringBuilder csv = new StringBuilder("expenseAt,amount,categoryId,memo\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append(from.plusMinutes(i)).append(',')
+                    .append(1 + random.nextInt(1_000_000)).append(',')
+                    .append(1 + random.nextInt(CATEGORY_COUNT)).append(',')
+                    .append("memo ").append(i).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,103 @@
+package jaringobi.benchmark;
+
+import jaringobi.domain.expense.ExpenseQueryRepositoryImpl;
+import jaringobi.domain.expense.ExpenseSearchRow;
+import jaringobi.domain.user.AppUser;
+import jaringobi.dto.SearchCursor;
+import jaringobi.dto.SearchOrder;
+import jaringobi.dto.SearchSort;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(Lifecycle.PER_CLASS)
+@DisplayName("지출 검색 offset / cursor 페이지네이션 비교")
+class ExpensePaginationBenchmarkTest {
+
+    private static final int ROWS_PER_USER = 1_000_000;
+    private static final int PAGE_SIZE = 10;
+    private static final int[] DEPTHS = {0, 1_000, 10_000, 50_000, 99_000};
+    private static final int WARM_UP = 3;
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    private ExpenseBenchmarkFixture fixture;
+
+    @Autowired
+    private ExpenseQueryRepositoryImpl expenseQueryRepository;
+
+    private AppUser appUser;
+
+    @BeforeAll
+    void setUp() {
+        long userId = fixture.createUser("pagination" + System.currentTimeMillis());
+        fixture.insertExpenses(userId, ROWS_PER_USER, LocalDateTime.of(2020, 1, 1, 0, 0));
+        appUser = new AppUser(userId);
+    }
+
+    @AfterAll
+    void tearDown() {
+        fixture.clear(appUser.userId());
+    }
+
+    @Test
+    void compareOffsetAndCursor() {
+        for (SearchSort sort : SearchSort.values()) {
+            for (int depth : DEPTHS) {
+                double offsetMillis = measure(() -> expenseQueryRepository.searchBySlice(appUser,
+                        condition(sort, depth, null)).getContent());
+
+                String cursor = cursorAt(sort, depth);
+                double cursorMillis = measure(() -> expenseQueryRepository.searchBySlice(appUser,
+                        condition(sort, 0, cursor)).getContent());
+
+                System.out.printf("[%s] page %6d : offset %8.2f ms, cursor %8.2f ms%n",
+                        sort, depth, offsetMillis, cursorMillis);
+            }
+        }
+    }
+
+    private String cursorAt(SearchSort sort, int depth) {
+        if (depth == 0) {
+            return null;
+        }
+        List<ExpenseSearchRow> previous = expenseQueryRepository.searchBySlice(appUser, condition(sort, depth - 1, null))
+                .getContent();
+        return SearchCursor.of(sort, SearchOrder.DESC, previous.get(previous.size() - 1)).encode();
+    }
+
+    private ExpenseSearchCondition condition(SearchSort sort, int page, String cursor) {
+        return ExpenseSearchCondition.builder()
+                .start("2000-01-01")
+                .end("2099-12-31")
+                .sort(sort)
+                .order(SearchOrder.DESC)
+                .page(page)
+                .size(PAGE_SIZE)
+                .cursor(cursor)
+                .build();
+    }
+
+    private double measure(Supplier<List<ExpenseSearchRow>> search) {
+        for (int i = 0; i < WARM_UP; i++) {
+            search.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            search.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+}
@@ -0,0 +1,100 @@
+package jaringobi.benchmark;
+
+import static jaringobi.domain.expense.QExpense.expense;
+
+import jaringobi.controller.search.ExpenseResponse;
+import jaringobi.domain.expense.ExpenseQueryRepositoryImpl;
+import jaringobi.domain.user.AppUser;
+import jaringobi.dto.SearchOrder;
+import jaringobi.dto.SearchSort;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(Lifecycle.PER_CLASS)
+@DisplayName("지출 검색 엔티티 조회 / projection 조회 요청당 힙 할당량 비교")
+class ExpenseProjectionAllocationBenchmarkTest {
+
+    private static final int ROWS_PER_USER = 10_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARM_UP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Autowired
+    private ExpenseBenchmarkFixture fixture;
+
+    @Autowired
+    private ExpenseQueryRepositoryImpl expenseQueryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+    private AppUser appUser;
+
+    @BeforeAll
+    void setUp() {
+        long userId = fixture.createUser("projection" + System.currentTimeMillis());
+        fixture.insertExpenses(userId, ROWS_PER_USER, LocalDateTime.of(2023, 1, 1, 0, 0));
+        appUser = new AppUser(userId);
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterAll
+    void tearDown() {
+        fixture.clear(appUser.userId());
+    }
+
+    @Test
+    void compareAllocatedBytesPerRequest() {
+        ExpenseSearchCondition condition = ExpenseSearchCondition.builder()
+                .start("2000-01-01")
+                .end("2099-12-31")
+                .sort(SearchSort.EXPENSE_DATE)
+                .order(SearchOrder.DESC)
+                .size(PAGE_SIZE)
+                .build();
+
+        // 기존 방식: 같은 조건, 정렬로 엔티티 조회(EAGER owner, category 포함) 후 응답 변환
+        long entityBytes = allocatedBytesPerRequest(() -> ExpenseResponse.listOf(
+                expenseQueryRepository.sliceQuery(appUser, condition, expense).fetch()));
+
+        long projectionBytes = allocatedBytesPerRequest(() -> ExpenseResponse.listOfRows(
+                expenseQueryRepository.searchBySlice(appUser, condition).getContent()));
+
+        System.out.printf("page size %d : entity %,d bytes/request, projection %,d bytes/request%n",
+                PAGE_SIZE, entityBytes, projectionBytes);
+    }
+
+    private long allocatedBytesPerRequest(Supplier<List<ExpenseResponse>> request) {
+        for (int i = 0; i < WARM_UP; i++) {
+            readOnlyTransaction.execute(status -> request.get());
+        }
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            readOnlyTransaction.execute(status -> request.get());
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+    }
+}
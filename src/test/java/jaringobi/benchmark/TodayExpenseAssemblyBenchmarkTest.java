@@ -0,0 +1,98 @@
+package jaringobi.benchmark;
+
+import jaringobi.controller.query.expense.response.TodayExpensePerCategory;
+import jaringobi.domain.budget.CategoryBudget;
+import jaringobi.domain.budget.Money;
+import jaringobi.domain.category.Category;
+import jaringobi.domain.category.CategoryQuery;
+import jaringobi.domain.category.CategoryRegistry;
+import jaringobi.service.search.CategoryGroupRollup;
+import jaringobi.service.search.TodayExpenseAssembler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("benchmark")
+@DisplayName("오늘 지출 안내 조립 비용 (선형 탐색 + 여러 번 순회 vs 단일 순회)")
+class TodayExpenseAssemblyBenchmarkTest {
+
+    private static final int CATEGORY_COUNT = 16;
+    private static final int WARM_UP = 100_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    @Test
+    void measureAssembly() {
+        List<TodayExpensePerCategory> expenses = new ArrayList<>();
+        List<CategoryBudget> budgets = new ArrayList<>();
+        for (long categoryId = 1; categoryId <= CATEGORY_COUNT; categoryId++) {
+            expenses.add(TodayExpensePerCategory.builder().categoryId(categoryId).paidAmount(12_000).build());
+            budgets.add(CategoryBudget.builder().categoryId(categoryId).amount(new Money(300_000)).build());
+        }
+
+        List<Category> categories = new ArrayList<>();
+        for (long categoryId = 1; categoryId <= CATEGORY_COUNT; categoryId++) {
+            categories.add(Category.builder().id(categoryId).name("category" + categoryId).build());
+        }
+        CategoryRegistry categoryRegistry = new CategoryRegistry(new CategoryQuery(null) {
+            @Override
+            public List<Category> findAll() {
+                return categories;
+            }
+        });
+        TodayExpenseAssembler assembler = new TodayExpenseAssembler(new CategoryGroupRollup(categoryRegistry));
+
+        measure("before (카테고리마다 예산 선형 탐색 + 스트림 3회)", () -> legacyAssemble(expenses, budgets));
+        measure("after  (id 배열 인덱스 + 단일 순회)", () -> assembler.assemble(expenses, budgets).getTotalExpenseAmount());
+    }
+
+    /**
+     * 변경 전 ExpenseSearchService / TodayExpensePerCategory / TodayExpenseResponse 가 하던 계산을 그대로 옮겼다.
+     */
+    private static long legacyAssemble(List<TodayExpensePerCategory> expenses, List<CategoryBudget> budgets) {
+        List<TodayExpensePerCategory> perCategory = expenses.stream()
+                .map(expense -> {
+                    CategoryBudget found = budgets.stream()
+                            .filter(it -> it.getCategoryId() == expense.getCategoryId())
+                            .findFirst()
+                            .orElse(null);
+                    if (found == null) {
+                        return expense;
+                    }
+                    Optional<CategoryBudget> budget = budgets.stream()
+                            .filter(it -> it.getCategoryId().equals(expense.getCategoryId()))
+                            .findFirst();
+                    int daily = budget.get().getAmount().getAmount() / 30;
+                    return TodayExpensePerCategory.builder()
+                            .categoryId(expense.getCategoryId())
+                            .paidAmount(expense.getPaidAmount())
+                            .availableAmount(budget.get().getAmount().getAmount())
+                            .dangerPercent((expense.getPaidAmount() / daily) * 100)
+                            .hasCategoryBudget(true)
+                            .build();
+                })
+                .toList();
+        int dailyBudget = budgets.stream().mapToInt(it -> it.getAmount().getAmount()).sum() / 30;
+        int dangerPercent = (perCategory.stream().mapToInt(TodayExpensePerCategory::getPaidAmount).sum()
+                / dailyBudget) * 100;
+        long total = perCategory.stream().mapToInt(TodayExpensePerCategory::getPaidAmount).sum();
+        long budgetAmount = budgets.stream().mapToInt(it -> it.getAmount().getAmount()).sum();
+        return total + budgetAmount + dangerPercent;
+    }
+
+    private static void measure(String name, LongSupplier assembly) {
+        long sink = 0;
+        for (int i = 0; i < WARM_UP; i++) {
+            sink += assembly.getAsLong();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += assembly.getAsLong();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%s : %,d ns/op (sink %d)%n", name, elapsed / ITERATIONS, sink);
+    }
+}
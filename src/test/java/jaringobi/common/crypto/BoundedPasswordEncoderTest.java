@@ -0,0 +1,95 @@
+package jaringobi.common.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jaringobi.exception.user.PasswordHashingBusyException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@DisplayName("해시 전용 스레드에서 실행하는 PasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+
+    CountDownLatch started;
+    CountDownLatch release;
+    SimpleMeterRegistry meterRegistry;
+    BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        meterRegistry = new SimpleMeterRegistry();
+
+        PasswordHashingProperty property = new PasswordHashingProperty();
+        property.setThreads(1);
+        property.setQueueCapacity(1);
+        property.setRetryAfter(Duration.ofSeconds(3));
+        passwordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), property, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordEncoder.close();
+    }
+
+    @Test
+    @DisplayName("해시는 요청 스레드가 아닌 전용 스레드에서 실행되고 결과를 그대로 돌려준다.")
+    void encodeOnHashingThread() {
+        release.countDown();
+
+        assertThat(passwordEncoder.encode("password")).startsWith("password-hash-");
+        assertThat(passwordEncoder.matches("password", "encoded")).isTrue();
+        assertThat(meterRegistry.get("password.hash.latency").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 Retry-After 초를 담은 예외를 던진다.")
+    void rejectWhenQueueFull() throws InterruptedException {
+        CompletableFuture.runAsync(() -> passwordEncoder.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> passwordEncoder.encode("queued"));
+        waitUntilQueued();
+
+        assertThatThrownBy(() -> passwordEncoder.encode("rejected"))
+                .isInstanceOf(PasswordHashingBusyException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(3L);
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        for (int i = 0; i < 500 && meterRegistry.get("password.hash.queue.depth").gauge().value() < 1; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package jaringobi.domain.budget;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CategoryBudgetChangesTest {
+
+    private final Map<Long, Integer> current = Map.of(1L, 1000, 2L, 9000, 3L, 500);
+
+    @Test
+    @DisplayName("금액이 같은 카테고리는 쓰지 않고, 새 카테고리와 금액이 바뀐 카테고리만 반영한다.")
+    void onlyChangedCategoriesAreUpserted() {
+        // Given
+        Map<Long, Integer> requested = Map.of(1L, 1000, 2L, 8000, 10L, 10000);
+
+        // When
+        CategoryBudgetChanges changes = CategoryBudgetChanges.between(current, requested, CategoryBudgetPutMode.MERGE);
+
+        // Then
+        assertThat(changes.upserts()).containsExactlyInAnyOrderEntriesOf(Map.of(2L, 8000, 10L, 10000));
+        assertThat(changes.removals()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("REPLACE 는 요청에 없는 카테고리를 삭제 대상으로 담는다.")
+    void replaceRemovesMissingCategories() {
+        // Given
+        Map<Long, Integer> requested = Map.of(2L, 9000);
+
+        // When
+        CategoryBudgetChanges changes = CategoryBudgetChanges.between(current, requested, CategoryBudgetPutMode.REPLACE);
+
+        // Then
+        assertThat(changes.upserts()).isEmpty();
+        assertThat(changes.removals()).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("현재와 같은 요청이면 반영할 것이 없다.")
+    void sameRequestHasNoChanges() {
+        // When
+        CategoryBudgetChanges changes = CategoryBudgetChanges.between(current, current, CategoryBudgetPutMode.REPLACE);
+
+        // Then
+        assertThat(changes.isEmpty()).isTrue();
+    }
+}
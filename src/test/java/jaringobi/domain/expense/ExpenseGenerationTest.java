@@ -0,0 +1,93 @@
+package jaringobi.domain.expense;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jaringobi.acceptance.DatabaseCleaner;
+import jaringobi.controller.search.ExpenseSearchResponse;
+import jaringobi.domain.user.AppUser;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import jaringobi.service.search.ExpenseSearchCache;
+import jaringobi.service.search.ExpenseSearchCacheProperty;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@DisplayName("DB 에 두는 지출 세대 번호")
+class ExpenseGenerationTest {
+
+    private final AppUser appUser = new AppUser(1L);
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    private ExpenseGeneration expenseGeneration;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.afterPropertiesSet();
+        databaseCleaner.execute();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.execute();
+    }
+
+    @Test
+    @DisplayName("지출 변경과 같은 트랜잭션에서 올리므로 롤백되면 세대 번호도 그대로다.")
+    void rollbackWithTransaction() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> expenseGeneration.increase(appUser));
+
+        // When
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            expenseGeneration.increase(appUser);
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(expenseGeneration.current(appUser.userId())).isEqualTo(1);
+        assertThat(expenseGeneration.current(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 캐시도 커밋된 세대 번호를 읽어 다음 조회에서 다시 읽는다.")
+    void invalidateAcrossInstances() {
+        // Given - 인스턴스마다 따로 있는 캐시
+        ExpenseSearchCache instanceA = new ExpenseSearchCache(new ExpenseSearchCacheProperty(), expenseGeneration,
+                new SimpleMeterRegistry());
+        ExpenseSearchCache instanceB = new ExpenseSearchCache(new ExpenseSearchCacheProperty(), expenseGeneration,
+                new SimpleMeterRegistry());
+        ExpenseSearchCondition condition = ExpenseSearchCondition.builder()
+                .start("2023-10-01")
+                .end("2023-10-31")
+                .build();
+        AtomicInteger loadCount = new AtomicInteger();
+        instanceA.get(appUser, condition, () -> load(loadCount));
+        instanceB.get(appUser, condition, () -> load(loadCount));
+
+        // When - 인스턴스 A 에서 지출이 바뀌었다.
+        transactionTemplate.executeWithoutResult(status -> expenseGeneration.increase(appUser));
+        instanceB.get(appUser, condition, () -> load(loadCount));
+
+        // Then
+        assertThat(loadCount).hasValue(3);
+    }
+
+    private static ExpenseSearchResponse load(AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        return new ExpenseSearchResponse();
+    }
+}
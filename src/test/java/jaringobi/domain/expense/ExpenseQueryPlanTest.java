@@ -0,0 +1,274 @@
+package jaringobi.domain.expense;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jaringobi.benchmark.ExpenseBenchmarkFixture;
+import jaringobi.domain.expense.SqlStatementRecorder.RecordedStatement;
+import jaringobi.domain.user.AppUser;
+import jaringobi.dto.SearchCursor;
+import jaringobi.dto.SearchOrder;
+import jaringobi.dto.SearchSort;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 지출 조회 쿼리가 실제로 생성하는 SQL 을 EXPLAIN FORMAT=JSON 으로 확인해
+ * expense 테이블을 풀 스캔하거나 filesort 로 정렬하면 실패한다.
+ */
+@SpringBootTest
+@TestInstance(Lifecycle.PER_CLASS)
+@DisplayName("지출 조회 쿼리 실행 계획 검사")
+class ExpenseQueryPlanTest {
+
+    // 옵티마이저가 인덱스를 고를 만큼의 데이터. 다른 사용자 데이터도 함께 적재한다.
+    private static final int ROWS_PER_USER = 5_000;
+    private static final Pattern EXPENSE_ALIAS = Pattern.compile("(?i)\\bexpense\\s+(?:as\\s+)?(\\w+)");
+    private static final List<String> SORTING_OPERATIONS = List.of("ordering_operation", "grouping_operation",
+            "windowing");
+
+    @TestConfiguration
+    static class RecorderConfig {
+
+        @Bean
+        static SqlStatementRecorder sqlStatementRecorder() {
+            return new SqlStatementRecorder();
+        }
+    }
+
+    @Autowired
+    private SqlStatementRecorder recorder;
+
+    @Autowired
+    private ExpenseBenchmarkFixture fixture;
+
+    @Autowired
+    private ExpenseQueryRepositoryImpl expenseQueryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Long> userIds = new ArrayList<>();
+    private AppUser appUser;
+
+    @BeforeAll
+    void setUp() {
+        LocalDateTime from = LocalDateTime.now().minusDays(2);
+        for (int i = 0; i < 3; i++) {
+            long userId = fixture.createUser("plan" + i + System.currentTimeMillis());
+            fixture.insertExpenses(userId, ROWS_PER_USER, from);
+            userIds.add(userId);
+        }
+        appUser = new AppUser(userIds.get(0));
+        jdbcTemplate.execute("ANALYZE TABLE expense");
+    }
+
+    @AfterAll
+    void tearDown() {
+        userIds.forEach(fixture::clear);
+    }
+
+    static Stream<Arguments> conditions() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (SearchSort sort : SearchSort.values()) {
+            for (SearchOrder order : SearchOrder.values()) {
+                arguments.add(Arguments.of(sort, order, null, null, null));
+                arguments.add(Arguments.of(sort, order, 1_000, 500_000, null));
+                arguments.add(Arguments.of(sort, order, null, null, List.of(1L, 3L)));
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest(name = "{0} {1} min={2} max={3} cids={4}")
+    @MethodSource("conditions")
+    @DisplayName("offset 페이지 조회, 건수, 카테고리 합계 쿼리는 풀 스캔, filesort 를 하지 않는다.")
+    void searchBySliceWithOffset(SearchSort sort, SearchOrder order, Integer min, Integer max, List<Long> cids) {
+        ExpenseSearchCondition condition = condition(sort, order, min, max, cids, null);
+
+        assertNoFullScanOrFilesort(recorder.record(() -> {
+            expenseQueryRepository.searchBySlice(appUser, condition);
+            expenseQueryRepository.countByCondition(appUser, condition);
+            expenseQueryRepository.totalSumOfCategoriesExpense(appUser, condition);
+        }));
+    }
+
+    @ParameterizedTest(name = "{0} {1} min={2} max={3} cids={4}")
+    @MethodSource("conditions")
+    @DisplayName("cursor 페이지 조회 쿼리는 풀 스캔, filesort 를 하지 않는다.")
+    void searchBySliceWithCursor(SearchSort sort, SearchOrder order, Integer min, Integer max, List<Long> cids) {
+        ExpenseSearchCondition condition = condition(sort, order, min, max, cids, cursorAfterFirstPage(sort, order));
+
+        assertNoFullScanOrFilesort(recorder.record(() -> expenseQueryRepository.searchBySlice(appUser, condition)));
+    }
+
+    @ParameterizedTest(name = "{0} {1} min={2} max={3} cids={4}")
+    @MethodSource("conditions")
+    @DisplayName("단일 쿼리 검색은 offset, cursor 모두 풀 스캔, filesort 를 하지 않는다.")
+    void searchWithSummary(SearchSort sort, SearchOrder order, Integer min, Integer max, List<Long> cids) {
+        ExpenseSearchCondition offsetCondition = condition(sort, order, min, max, cids, null);
+        ExpenseSearchCondition cursorCondition = condition(sort, order, min, max, cids,
+                cursorAfterFirstPage(sort, order));
+
+        assertNoFullScanOrFilesort(recorder.record(() -> {
+            expenseQueryRepository.searchWithSummary(appUser, offsetCondition);
+            expenseQueryRepository.searchWithSummary(appUser, cursorCondition);
+        }));
+    }
+
+    @Test
+    @DisplayName("오늘 카테고리별 지출 합계는 expense 를 읽지 않고 일별 롤업에서 조회한다.")
+    void todayTotalExpense() {
+        List<RecordedStatement> statements = recorder.record(() -> expenseQueryRepository.todayTotalExpense(appUser));
+
+        assertThat(statements).isNotEmpty()
+                .noneMatch(statement -> EXPENSE_ALIAS.matcher(statement.sql()).find());
+    }
+
+    private String cursorAfterFirstPage(SearchSort sort, SearchOrder order) {
+        List<ExpenseSearchRow> rows = expenseQueryRepository
+                .searchBySlice(appUser, condition(sort, order, null, null, null, null))
+                .getContent();
+        return SearchCursor.of(sort, order, rows.get(rows.size() - 1)).encode();
+    }
+
+    private ExpenseSearchCondition condition(SearchSort sort, SearchOrder order, Integer min, Integer max,
+            List<Long> cids, String cursor) {
+        return ExpenseSearchCondition.builder()
+                .start(LocalDateTime.now().minusDays(3).toLocalDate().toString())
+                .end(LocalDateTime.now().plusDays(3).toLocalDate().toString())
+                .sort(sort)
+                .order(order)
+                .min(min)
+                .max(max)
+                .categoryIds(cids)
+                .page(3)
+                .size(20)
+                .cursor(cursor)
+                .build();
+    }
+
+    private void assertNoFullScanOrFilesort(List<RecordedStatement> statements) {
+        List<RecordedStatement> expenseSelects = statements.stream()
+                .filter(statement -> EXPENSE_ALIAS.matcher(statement.sql()).find())
+                .toList();
+        assertThat(expenseSelects).isNotEmpty();
+
+        for (RecordedStatement statement : expenseSelects) {
+            JsonNode plan = explain(statement);
+            List<String> violations = new ArrayList<>();
+            collectViolations(plan, expenseAliases(statement.sql()), violations);
+
+            assertThat(violations)
+                    .as("%s%n%s", statement.sql(), plan.toPrettyString())
+                    .isEmpty();
+        }
+    }
+
+    private JsonNode explain(RecordedStatement statement) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN FORMAT=JSON " + statement.sql(), String.class,
+                statement.parameters().toArray());
+        try {
+            return objectMapper.readTree(plan);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Set<String> expenseAliases(String sql) {
+        Set<String> aliases = new HashSet<>();
+        Matcher matcher = EXPENSE_ALIAS.matcher(sql);
+        while (matcher.find()) {
+            aliases.add(matcher.group(1));
+        }
+        return aliases;
+    }
+
+    private void collectViolations(JsonNode node, Set<String> expenseAliases, List<String> violations) {
+        if (node.isArray()) {
+            node.forEach(child -> collectViolations(child, expenseAliases, violations));
+            return;
+        }
+        if (!node.isObject()) {
+            return;
+        }
+
+        JsonNode table = node.get("table");
+        if (isExpenseTable(table, expenseAliases) && "ALL".equals(table.path("access_type").asText())) {
+            violations.add("full scan: " + table.path("table_name").asText());
+        }
+
+        // 임시 테이블(CTE, 파생 테이블)의 작은 결과를 정렬하는 것은 허용하고, expense 를 읽어 정렬하는 경우만 실패
+        for (String operation : SORTING_OPERATIONS) {
+            JsonNode sorting = node.get(operation);
+            if (sorting != null && usesFilesort(sorting) && isExpenseTable(drivingTable(sorting), expenseAliases)) {
+                violations.add(operation + " filesort: " + drivingTable(sorting).path("table_name").asText());
+            }
+        }
+
+        node.forEach(child -> collectViolations(child, expenseAliases, violations));
+    }
+
+    private boolean usesFilesort(JsonNode sorting) {
+        if (sorting.path("using_filesort").asBoolean(false)) {
+            return true;
+        }
+        for (JsonNode window : sorting.path("windows")) {
+            if (window.path("using_filesort").asBoolean(false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isExpenseTable(JsonNode table, Set<String> expenseAliases) {
+        return table != null
+                && !table.has("materialized_from_subquery")
+                && expenseAliases.contains(table.path("table_name").asText());
+    }
+
+    private JsonNode drivingTable(JsonNode node) {
+        if (node.has("table")) {
+            return node.get("table");
+        }
+        if (node.has("nested_loop")) {
+            return drivingTable(node.get("nested_loop").get(0));
+        }
+        Iterator<String> fieldNames = node.fieldNames();
+        while (fieldNames.hasNext()) {
+            JsonNode child = node.get(fieldNames.next());
+            if (child.isObject()) {
+                JsonNode table = drivingTable(child);
+                if (table != null) {
+                    return table;
+                }
+            }
+        }
+        return null;
+    }
+}
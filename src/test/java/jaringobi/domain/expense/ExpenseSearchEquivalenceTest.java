@@ -0,0 +1,169 @@
+package jaringobi.domain.expense;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jaringobi.acceptance.DatabaseCleaner;
+import jaringobi.controller.search.CategoryExpenseSum;
+import jaringobi.controller.search.ExpenseResponse;
+import jaringobi.domain.budget.Money;
+import jaringobi.domain.category.Category;
+import jaringobi.domain.category.CategoryRepository;
+import jaringobi.domain.user.AppUser;
+import jaringobi.domain.user.User;
+import jaringobi.domain.user.UserRepository;
+import jaringobi.dto.SearchCursor;
+import jaringobi.dto.SearchOrder;
+import jaringobi.dto.SearchSort;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+
+@SpringBootTest
+@DisplayName("단일 쿼리 검색과 기존 3 쿼리(페이지, 건수, 카테고리 합계) 검색 결과 비교")
+class ExpenseSearchEquivalenceTest {
+
+    private static final int EXPENSE_COUNT = 57;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ExpenseQueryRepositoryImpl expenseQueryRepository;
+
+    @Autowired
+    private ExpenseDailySummaryRepository expenseDailySummaryRepository;
+
+    private AppUser appUser;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.afterPropertiesSet();
+        databaseCleaner.execute();
+
+        User owner = userRepository.save(User.builder().username("owner123").password("owner123!").build());
+        User another = userRepository.save(User.builder().username("another123").password("another123!").build());
+        appUser = new AppUser(owner.getId());
+
+        List<Category> categories = categoryRepository.findAll();
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < EXPENSE_COUNT; i++) {
+            expenses.add(expense(owner, categories.get(i % 5), (i % 7 + 1) * 1000, i));
+        }
+        expenses.add(expense(another, categories.get(0), 5000, 3));
+        expenseRepository.saveAll(expenses);
+        // 서비스를 거치지 않고 저장했으므로 일별 롤업을 다시 만든다.
+        expenseDailySummaryRepository.rebuild(owner.getId());
+        expenseDailySummaryRepository.rebuild(another.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.execute();
+    }
+
+    private Expense expense(User user, Category category, int amount, int index) {
+        return Expense.builder()
+                .user(user)
+                .category(category)
+                .money(new Money(amount))
+                .memo(index % 3 == 0 ? null : "memo " + index)
+                // 같은 지출일이 생기도록 시간 단위를 겹치게 생성
+                .expenseAt(LocalDateTime.of(2023, 10, 1, 0, 0).plusHours(index / 2 * 20L))
+                .build();
+    }
+
+    static Stream<Arguments> conditions() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (SearchSort sort : SearchSort.values()) {
+            for (SearchOrder order : SearchOrder.values()) {
+                arguments.add(Arguments.of(sort, order, null, null, null));
+                arguments.add(Arguments.of(sort, order, 2000, 5000, null));
+                arguments.add(Arguments.of(sort, order, null, 3000, List.of(1L, 3L)));
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest(name = "{0} {1} min={2} max={3} cids={4}")
+    @MethodSource("conditions")
+    @DisplayName("offset 페이지마다 두 방식의 결과가 같다.")
+    void sameResultWithOffset(SearchSort sort, SearchOrder order, Integer min, Integer max, List<Long> cids) {
+        for (int page = 0; page <= EXPENSE_COUNT / 10 + 1; page++) {
+            ExpenseSearchCondition condition = condition(sort, order, min, max, cids, page, null);
+            assertSameResult(condition);
+        }
+    }
+
+    @ParameterizedTest(name = "{0} {1} min={2} max={3} cids={4}")
+    @MethodSource("conditions")
+    @DisplayName("cursor 로 끝까지 조회하는 동안 두 방식의 결과가 같다.")
+    void sameResultWithCursor(SearchSort sort, SearchOrder order, Integer min, Integer max, List<Long> cids) {
+        String cursor = null;
+        boolean hasNext = true;
+        while (hasNext) {
+            ExpenseSearchCondition condition = condition(sort, order, min, max, cids, 0, cursor);
+            ExpenseSearchResult result = assertSameResult(condition);
+
+            hasNext = result.hasNext();
+            if (hasNext) {
+                ExpenseSearchRow last = result.rows().get(result.rows().size() - 1);
+                cursor = SearchCursor.of(sort, order, last).encode();
+            }
+        }
+    }
+
+    private ExpenseSearchResult assertSameResult(ExpenseSearchCondition condition) {
+        Slice<ExpenseSearchRow> slice = expenseQueryRepository.searchBySlice(appUser, condition);
+        long totalCount = expenseQueryRepository.countByCondition(appUser, condition);
+        List<CategoryExpenseSum> categoryExpenseSums = expenseQueryRepository.totalSumOfCategoriesExpense(appUser,
+                condition);
+
+        ExpenseSearchResult result = expenseQueryRepository.searchWithSummary(appUser, condition);
+
+        assertThat(ExpenseResponse.listOfRows(result.rows()))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(ExpenseResponse.listOfRows(slice.getContent()));
+        assertThat(result.hasNext()).isEqualTo(slice.hasNext());
+        assertThat(result.totalCount()).isEqualTo(totalCount);
+        assertThat(result.categoryExpenseSums())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(categoryExpenseSums);
+        return result;
+    }
+
+    private ExpenseSearchCondition condition(SearchSort sort, SearchOrder order, Integer min, Integer max,
+            List<Long> cids, int page, String cursor) {
+        return ExpenseSearchCondition.builder()
+                .start("2023-09-01")
+                .end("2023-12-31")
+                .sort(sort)
+                .order(order)
+                .min(min)
+                .max(max)
+                .categoryIds(cids)
+                .page(page)
+                .size(10)
+                .cursor(cursor)
+                .build();
+    }
+}
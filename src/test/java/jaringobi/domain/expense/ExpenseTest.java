@@ -9,6 +9,7 @@ import jaringobi.domain.category.Category;
 import jaringobi.domain.user.AppUser;
 import jaringobi.domain.user.User;
 import jaringobi.exception.expense.ExpenseNullArgumentException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -181,4 +182,28 @@ class ExpenseTest {
         assertThat(expense.getMemo()).isEqualTo(modifyExpense.getMemo());
         assertThat(expense.isExcludeInTotal()).isEqualTo(modifyExpense.isExcludeInTotal());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("지출일은 DATETIME(0) 저장과 같이 0.5초 이상이면 올리고 미만이면 버린다.")
+    void roundExpenseAtToSeconds() {
+        assertThat(expenseAt(LocalDateTime.of(2023, 10, 1, 23, 59, 59, 499_999_999)))
+                .isEqualTo(LocalDateTime.of(2023, 10, 1, 23, 59, 59));
+        assertThat(expenseAt(LocalDateTime.of(2023, 10, 1, 23, 59, 59, 500_000_000)))
+                .isEqualTo(LocalDateTime.of(2023, 10, 2, 0, 0, 0));
+        assertThat(new ImportedExpense(LocalDateTime.of(2023, 10, 1, 23, 59, 59, 500_000_000), 1000, 1L, null, false)
+                .toDailyExpenseEntry(1L).day())
+                .isEqualTo(LocalDate.of(2023, 10, 2));
+    }
+
+    private LocalDateTime expenseAt(LocalDateTime requested) {
+        return Expense.builder()
+                .money(new Money(100))
+                .expenseAt(requested)
+                .category(Category.builder()
+                        .id(1L)
+                        .name("간식")
+                        .build())
+                .build()
+                .getExpenseAt();
+    }
+}
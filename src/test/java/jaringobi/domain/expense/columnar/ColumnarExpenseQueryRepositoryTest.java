@@ -0,0 +1,308 @@
+package jaringobi.domain.expense.columnar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jaringobi.acceptance.DatabaseCleaner;
+import jaringobi.controller.query.expense.response.TodayExpensePerCategory;
+import jaringobi.controller.search.CategoryExpenseSum;
+import jaringobi.domain.budget.Money;
+import jaringobi.domain.category.Category;
+import jaringobi.domain.category.CategoryRepository;
+import jaringobi.domain.expense.Expense;
+import jaringobi.domain.expense.ExpenseDailySummaryRepository;
+import jaringobi.domain.expense.ExpenseQueryRepositoryImpl;
+import jaringobi.domain.expense.ExpenseRepository;
+import jaringobi.domain.expense.ExpenseSearchResult;
+import jaringobi.domain.expense.ExpenseSearchRow;
+import jaringobi.domain.user.AppUser;
+import jaringobi.domain.user.User;
+import jaringobi.domain.user.UserRepository;
+import jaringobi.dto.SearchCursor;
+import jaringobi.dto.SearchOrder;
+import jaringobi.dto.SearchSort;
+import jaringobi.dto.request.AddExpenseRequest;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import jaringobi.dto.request.ModifyExpenseRequest;
+import jaringobi.service.ExpenseService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.util.unit.DataSize;
+
+@SpringBootTest(properties = "expense.search.in-memory.enabled=true")
+@DisplayName("메모리 컬럼 저장소 검색, 집계 결과와 QueryDSL/SQL 구현 비교")
+class ColumnarExpenseQueryRepositoryTest {
+
+    private static final int EXPENSE_COUNT = 57;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ExpenseDailySummaryRepository expenseDailySummaryRepository;
+
+    @Autowired
+    private ExpenseQueryRepositoryImpl expenseQueryRepositoryImpl;
+
+    @Autowired
+    private ColumnarExpenseQueryRepository columnarExpenseQueryRepository;
+
+    @Autowired
+    private ExpenseColumnStore expenseColumnStore;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private AppUser appUser;
+    private AppUser anotherUser;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.afterPropertiesSet();
+        databaseCleaner.execute();
+
+        User owner = userRepository.save(User.builder().username("owner123").password("owner123!").build());
+        User another = userRepository.save(User.builder().username("another123").password("another123!").build());
+        appUser = new AppUser(owner.getId());
+        anotherUser = new AppUser(another.getId());
+
+        List<Category> categories = categoryRepository.findAll();
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < EXPENSE_COUNT; i++) {
+            expenses.add(expense(owner, categories.get(i % 5), (i % 7 + 1) * 1000, i));
+        }
+        expenses.add(expense(another, categories.get(0), 5000, 3));
+        // 오늘 지출
+        expenses.add(Expense.builder().user(owner).category(categories.get(2)).money(new Money(7000))
+                .expenseAt(LocalDate.now().atTime(9, 0)).build());
+        expenses.add(Expense.builder().user(owner).category(categories.get(4)).money(new Money(3000))
+                .expenseAt(LocalDate.now().atTime(13, 30)).build());
+        // 내일 0시 지출은 오늘 합계에 들어가지 않는다.
+        expenses.add(Expense.builder().user(owner).category(categories.get(1)).money(new Money(4000))
+                .expenseAt(LocalDate.now().plusDays(1).atStartOfDay()).build());
+        expenseRepository.saveAll(expenses);
+        expenseDailySummaryRepository.rebuild(owner.getId());
+        expenseDailySummaryRepository.rebuild(another.getId());
+
+        // 같은 id 로 다시 만들어진 사용자의 이전 테스트 데이터를 내린다.
+        expenseColumnStore.evict(appUser.userId());
+        expenseColumnStore.evict(anotherUser.userId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.execute();
+    }
+
+    private Expense expense(User user, Category category, int amount, int index) {
+        return Expense.builder()
+                .user(user)
+                .category(category)
+                .money(new Money(amount))
+                .memo(index % 3 == 0 ? null : "memo " + index)
+                // 같은 지출일이 생기도록 시간 단위를 겹치게 생성
+                .expenseAt(LocalDateTime.of(2023, 10, 1, 0, 0).plusHours(index / 2 * 20L))
+                .build();
+    }
+
+    static Stream<Arguments> conditions() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (SearchSort sort : SearchSort.values()) {
+            for (SearchOrder order : SearchOrder.values()) {
+                arguments.add(Arguments.of(sort, order, null, null, null));
+                arguments.add(Arguments.of(sort, order, 2000, 5000, null));
+                arguments.add(Arguments.of(sort, order, null, 3000, List.of(1L, 3L)));
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest(name = "{0} {1} min={2} max={3} cids={4}")
+    @MethodSource("conditions")
+    @DisplayName("offset 페이지마다 결과가 같다.")
+    void sameResultWithOffset(SearchSort sort, SearchOrder order, Integer min, Integer max, List<Long> cids) {
+        for (int page = 0; page <= EXPENSE_COUNT / 10 + 1; page++) {
+            assertSameResult(condition(sort, order, min, max, cids, page, null));
+        }
+    }
+
+    @ParameterizedTest(name = "{0} {1} min={2} max={3} cids={4}")
+    @MethodSource("conditions")
+    @DisplayName("cursor 로 끝까지 조회하는 동안 결과가 같다.")
+    void sameResultWithCursor(SearchSort sort, SearchOrder order, Integer min, Integer max, List<Long> cids) {
+        String cursor = null;
+        boolean hasNext = true;
+        while (hasNext) {
+            Slice<ExpenseSearchRow> slice = assertSameResult(condition(sort, order, min, max, cids, 0, cursor));
+
+            hasNext = slice.hasNext();
+            if (hasNext) {
+                ExpenseSearchRow last = slice.getContent().get(slice.getContent().size() - 1);
+                cursor = SearchCursor.of(sort, order, last).encode();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("오늘 카테고리별 지출 합계가 같다.")
+    void sameTodayTotalExpense() {
+        assertThat(columnarExpenseQueryRepository.todayTotalExpense(appUser))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(expenseQueryRepositoryImpl.todayTotalExpense(appUser));
+        assertThat(columnarExpenseQueryRepository.todayTotalExpense(appUser))
+                .extracting(TodayExpensePerCategory::getPaidAmount)
+                .containsExactlyInAnyOrder(7000, 3000);
+    }
+
+    @Test
+    @DisplayName("메모리에 올라간 뒤 ExpenseService 로 추가, 수정, 삭제한 지출이 커밋 후 반영된다.")
+    void writeThrough() {
+        // Given - 메모리에 올린다.
+        ExpenseSearchCondition condition = condition(SearchSort.EXPENSE_DATE, SearchOrder.DESC, null, null, null, 0,
+                null);
+        columnarExpenseQueryRepository.searchBySlice(appUser, condition);
+        assertThat(expenseColumnStore.cachedUsers()).isEqualTo(1);
+
+        // When
+        expenseService.addExpense(AddExpenseRequest.builder()
+                .categoryId(3L)
+                .expenseMount(12345)
+                .memo("added")
+                .expenseDateTime(LocalDateTime.of(2023, 10, 20, 10, 0, 0, 700_000_000))
+                .excludeTotalExpense(false)
+                .build(), appUser);
+        List<ExpenseSearchRow> firstPage = columnarExpenseQueryRepository.searchBySlice(appUser, condition)
+                .getContent();
+        long modified = firstPage.get(3).id();
+        long deleted = firstPage.get(5).id();
+        expenseService.modifyExpense(ModifyExpenseRequest.builder()
+                .categoryId(5L)
+                .expenseMount(999)
+                .memo("modified")
+                .expenseDateTime(LocalDateTime.of(2023, 9, 15, 8, 0))
+                .excludeTotalExpense(false)
+                .build(), modified, appUser);
+        expenseService.deleteExpense(deleted, appUser);
+
+        // Then
+        assertThat(expenseColumnStore.cachedUsers()).isEqualTo(1);
+        for (SearchSort sort : SearchSort.values()) {
+            for (int page = 0; page <= EXPENSE_COUNT / 10 + 1; page++) {
+                assertSameResult(condition(sort, SearchOrder.DESC, null, null, null, page, null));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("커밋된 변경은 모아 두었다가 다음 조회 때 한 번에 반영하고, 다른 사용자의 스냅샷은 건드리지 않는다.")
+    void applyPendingChangesOnNextRead() {
+        // Given
+        ExpenseColumns owner = expenseColumnStore.get(appUser.userId());
+        ExpenseColumns another = expenseColumnStore.get(anotherUser.userId());
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            expenseService.addExpense(AddExpenseRequest.builder()
+                    .categoryId(2L)
+                    .expenseMount(1000 + i)
+                    .expenseDateTime(LocalDateTime.of(2023, 10, 5, 12, i))
+                    .excludeTotalExpense(false)
+                    .build(), appUser);
+        }
+
+        // Then
+        ExpenseColumns applied = expenseColumnStore.get(appUser.userId());
+        assertThat(applied.size()).isEqualTo(owner.size() + 3);
+        assertThat(expenseColumnStore.get(appUser.userId())).isSameAs(applied);
+        assertThat(expenseColumnStore.get(anotherUser.userId())).isSameAs(another);
+        assertSameResult(condition(SearchSort.AMOUNT, SearchOrder.ASC, null, null, null, 0, null));
+    }
+
+    @Test
+    @DisplayName("추정 메모리 사용량이 상한을 넘으면 가장 오래 사용하지 않은 사용자부터 내린다.")
+    void evictLeastRecentlyUsedOverBudget() {
+        // Given - 사용자 한 명분만 올라가는 상한
+        ExpenseColumnStoreProperty property = new ExpenseColumnStoreProperty();
+        property.setEnabled(true);
+        ExpenseColumnStore store = new ExpenseColumnStore(namedParameterJdbcTemplate, property);
+        long ownerBytes = store.get(appUser.userId()).estimatedBytes();
+        property.setMemoryBudget(DataSize.ofBytes(ownerBytes + 1));
+        store.evict(appUser.userId());
+
+        // When
+        store.get(appUser.userId());
+        store.get(anotherUser.userId());
+
+        // Then
+        assertThat(store.cachedUsers()).isEqualTo(1);
+        assertThat(store.usedBytes()).isLessThanOrEqualTo(ownerBytes + 1);
+        assertThat(store.get(anotherUser.userId())).isSameAs(store.get(anotherUser.userId()));
+    }
+
+    private Slice<ExpenseSearchRow> assertSameResult(ExpenseSearchCondition condition) {
+        Slice<ExpenseSearchRow> expected = expenseQueryRepositoryImpl.searchBySlice(appUser, condition);
+        Slice<ExpenseSearchRow> actual = columnarExpenseQueryRepository.searchBySlice(appUser, condition);
+        assertThat(actual.getContent()).containsExactlyElementsOf(expected.getContent());
+        assertThat(actual.hasNext()).isEqualTo(expected.hasNext());
+
+        assertThat(columnarExpenseQueryRepository.countByCondition(appUser, condition))
+                .isEqualTo(expenseQueryRepositoryImpl.countByCondition(appUser, condition));
+
+        List<CategoryExpenseSum> expectedSums = expenseQueryRepositoryImpl.totalSumOfCategoriesExpense(appUser,
+                condition);
+        assertThat(columnarExpenseQueryRepository.totalSumOfCategoriesExpense(appUser, condition))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(expectedSums);
+
+        ExpenseSearchResult expectedResult = expenseQueryRepositoryImpl.searchWithSummary(appUser, condition);
+        ExpenseSearchResult actualResult = columnarExpenseQueryRepository.searchWithSummary(appUser, condition);
+        assertThat(actualResult.rows()).containsExactlyElementsOf(expectedResult.rows());
+        assertThat(actualResult.hasNext()).isEqualTo(expectedResult.hasNext());
+        assertThat(actualResult.totalCount()).isEqualTo(expectedResult.totalCount());
+        assertThat(actualResult.categoryExpenseSums())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(expectedResult.categoryExpenseSums());
+        return actual;
+    }
+
+    private ExpenseSearchCondition condition(SearchSort sort, SearchOrder order, Integer min, Integer max,
+            List<Long> cids, int page, String cursor) {
+        return ExpenseSearchCondition.builder()
+                .start("2023-09-01")
+                .end("2023-12-31")
+                .sort(sort)
+                .order(order)
+                .min(min)
+                .max(max)
+                .categoryIds(cids)
+                .page(page)
+                .size(10)
+                .cursor(cursor)
+                .build();
+    }
+}
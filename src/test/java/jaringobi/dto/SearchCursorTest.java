@@ -0,0 +1,49 @@
+package jaringobi.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jaringobi.domain.expense.ExpenseSearchRow;
+import jaringobi.exception.expense.InvalidSearchCursorException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SearchCursorTest {
+
+    private final ExpenseSearchRow expense = new ExpenseSearchRow(42L, 15000,
+            LocalDateTime.of(2023, 11, 20, 12, 30, 15), LocalDateTime.of(2023, 11, 21, 9, 0), 3L, "점심");
+
+    @Test
+    @DisplayName("지출일 기준 커서를 인코딩 후 디코딩하면 같은 키와 id 를 가진다.")
+    void encodeAndDecodeExpenseDateCursor() {
+        String encoded = SearchCursor.of(SearchSort.EXPENSE_DATE, SearchOrder.DESC, expense).encode();
+
+        SearchCursor cursor = SearchCursor.decode(encoded);
+
+        assertThat(cursor.getId()).isEqualTo(42L);
+        assertThat(cursor.getDateTimeKey()).isEqualTo(expense.expenseAt());
+        assertThat(cursor.isSameOrdering(SearchSort.EXPENSE_DATE, SearchOrder.DESC)).isTrue();
+    }
+
+    @Test
+    @DisplayName("금액 기준 커서를 인코딩 후 디코딩하면 같은 금액과 id 를 가진다.")
+    void encodeAndDecodeAmountCursor() {
+        String encoded = SearchCursor.of(SearchSort.AMOUNT, SearchOrder.ASC, expense).encode();
+
+        SearchCursor cursor = SearchCursor.decode(encoded);
+
+        assertThat(cursor.getId()).isEqualTo(42L);
+        assertThat(cursor.getAmountKey()).isEqualTo(15000);
+        assertThat(cursor.isSameOrdering(SearchSort.AMOUNT, SearchOrder.DESC)).isFalse();
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 커서는 예외를 던진다.")
+    void throwExceptionInvalidCursor() {
+        assertThatThrownBy(() -> SearchCursor.decode("invalid-cursor"))
+                .isInstanceOf(InvalidSearchCursorException.class);
+        assertThatThrownBy(() -> SearchCursor.decode("!!!"))
+                .isInstanceOf(InvalidSearchCursorException.class);
+    }
+}
@@ -4,9 +4,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import jaringobi.domain.expense.ExpenseSearchRow;
+import jaringobi.dto.SearchCursor;
 import jaringobi.dto.SearchOrder;
 import jaringobi.dto.SearchSort;
 import jaringobi.exception.expense.ExpenseSearchDateNotNullException;
+import jaringobi.exception.expense.InvalidSearchCursorException;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -113,4 +117,68 @@ class ExpenseSearchConditionTest {
         // Then
         assertThat(size).isEqualTo(ExpenseSearchCondition.DEFAULT_PAGE_SIZE);
     }
+
+    @Test
+    @DisplayName("size 가 최소 사이즈보다 작으면 기본 size 를 쓴다.")
+    void defaultSizeWhenBelowMinPageSize() {
+        assertThat(conditionOfSize(ExpenseSearchCondition.MIN_PAGE_SIZE - 1).getSize())
+                .isEqualTo(ExpenseSearchCondition.DEFAULT_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("size 가 최소 사이즈와 같으면 그대로 쓴다.")
+    void keepMinPageSize() {
+        assertThat(conditionOfSize(ExpenseSearchCondition.MIN_PAGE_SIZE).getSize())
+                .isEqualTo(ExpenseSearchCondition.MIN_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("size 가 최대 사이즈와 같으면 그대로 쓴다.")
+    void keepMaxPageSize() {
+        assertThat(conditionOfSize(ExpenseSearchCondition.MAX_PAGE_SIZE).getSize())
+                .isEqualTo(ExpenseSearchCondition.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("size 가 최대 사이즈보다 1 크면 기본 size 를 쓴다.")
+    void defaultSizeWhenJustOverMaxPageSize() {
+        assertThat(conditionOfSize(ExpenseSearchCondition.MAX_PAGE_SIZE + 1).getSize())
+                .isEqualTo(ExpenseSearchCondition.DEFAULT_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("커서의 정렬 기준이 검색 조건과 다르면 객체 만들기 실패")
+    void throwExceptionWhenCursorOrderingNotMatched() {
+        ExpenseSearchRow expense = new ExpenseSearchRow(1L, 1000, LocalDateTime.of(2023, 11, 1, 0, 0),
+                LocalDateTime.of(2023, 11, 1, 0, 0), 1L, null);
+        String cursor = SearchCursor.of(SearchSort.AMOUNT, SearchOrder.DESC, expense).encode();
+
+        assertThatThrownBy(() -> ExpenseSearchCondition.builder()
+                .sort(SearchSort.EXPENSE_DATE)
+                .order(SearchOrder.DESC)
+                .start("2023-10-20")
+                .end("2023-11-20")
+                .cursor(cursor)
+                .build())
+                .isInstanceOf(InvalidSearchCursorException.class);
+    }
+
+    @Test
+    @DisplayName("withTotal 이 없으면 전체 개수를 조회하지 않는다.")
+    void defaultWithTotalIsFalse() {
+        ExpenseSearchCondition searchCondition = ExpenseSearchCondition.builder()
+                .start("2023-10-20")
+                .end("2023-11-20")
+                .build();
+
+        assertThat(searchCondition.isWithTotal()).isFalse();
+    }
+
+    private ExpenseSearchCondition conditionOfSize(int size) {
+        return ExpenseSearchCondition.builder()
+                .start("2023-10-20")
+                .end("2023-11-20")
+                .size(size)
+                .build();
+    }
 }
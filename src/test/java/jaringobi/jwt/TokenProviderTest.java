@@ -6,6 +6,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import jaringobi.exception.auth.AccessTokenExpiredException;
+import jaringobi.exception.auth.InvalidTokenException;
 import jaringobi.jwt.TokenProvider.TokenType;
 import java.time.Instant;
 import java.util.Date;
@@ -147,4 +149,35 @@ class TokenProviderTest {
         Long userId = tokenProvider.parseUserId(accessToken);
         assertThat(userId).isEqualTo(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("한 번의 검증으로 디코딩된 토큰을 받아 'user_seq' Claim 을 가져온다.")
+    void verifyReturnsDecodedToken() {
+        String accessToken = tokenProvider.issueAccessToken(1L);
+
+        DecodedJWT decodedJWT = tokenProvider.verify(accessToken);
+
+        assertThat(tokenProvider.parseUserId(decodedJWT)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰을 검증하면 InvalidTokenException 을 던진다.")
+    void verifyThrowsWhenSignatureMismatch() {
+        TokenProperty otherProperty = new TokenProperty();
+        otherProperty.setSecret("other-secret-value");
+        String otherToken = new TokenProvider(otherProperty).issueAccessToken(1L);
+
+        assertThatThrownBy(() -> tokenProvider.verify(otherToken))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰을 검증하면 AccessTokenExpiredException 을 던진다.")
+    void verifyThrowsWhenExpired() {
+        tokenProperty.setTokenLifeTime(-60);
+        String expiredToken = new TokenProvider(tokenProperty).issueAccessToken(1L);
+
+        assertThatThrownBy(() -> tokenProvider.verify(expiredToken))
+                .isInstanceOf(AccessTokenExpiredException.class);
+    }
+}
@@ -3,34 +3,46 @@ package jaringobi.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jaringobi.domain.budget.Budget;
+import jaringobi.domain.budget.BudgetGeneration;
 import jaringobi.domain.budget.BudgetRepository;
 import jaringobi.domain.budget.BudgetYearMonth;
-import jaringobi.domain.budget.CategoryBudget;
-import jaringobi.domain.budget.Money;
+import jaringobi.domain.budget.CategoryBudgetBulkRepository;
+import jaringobi.domain.budget.CategoryBudgetChanges;
+import jaringobi.domain.budget.CategoryBudgetPutMode;
+import jaringobi.domain.budget.CategoryBudgetRepository;
+import jaringobi.domain.category.CategoryRegistry;
 import jaringobi.domain.user.AppUser;
 import jaringobi.domain.user.User;
 import jaringobi.domain.user.UserRepository;
 import jaringobi.dto.request.AddBudgetRequest;
 import jaringobi.dto.request.BudgetByCategoryRequest;
 import jaringobi.dto.request.ModifyBudgetCategory;
+import jaringobi.dto.request.PutBudgetCategoriesRequest;
 import jaringobi.dto.response.AddBudgetResponse;
+import jaringobi.dto.response.BudgetResponse;
 import jaringobi.exception.auth.NoPermissionException;
 import jaringobi.exception.budget.BudgetCategoryDuplicatedException;
 import jaringobi.exception.budget.BudgetCategoryNotFoundException;
 import jaringobi.exception.budget.BudgetNotFoundException;
+import jaringobi.exception.category.CategoryNotFoundException;
 import jaringobi.exception.user.UserNotFoundException;
+import jaringobi.service.guide.DailyGuideService;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @MockitoSettings
 public class BudgetServiceTest {
@@ -41,6 +53,21 @@ public class BudgetServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CategoryBudgetRepository categoryBudgetRepository;
+
+    @Mock
+    private CategoryBudgetBulkRepository categoryBudgetBulkRepository;
+
+    @Mock
+    private BudgetGeneration budgetGeneration;
+
+    @Mock
+    private CategoryRegistry categoryRegistry;
+
+    @Mock
+    private DailyGuideService dailyGuideService;
+
     @InjectMocks
     private BudgetService budgetService;
 
@@ -71,6 +98,7 @@ public class BudgetServiceTest {
         AppUser appUser = new AppUser(1L);
 
         // Given
+        when(categoryRegistry.contains(1L)).thenReturn(true);
         when(userRepository.findById(appUser.userId())).thenReturn(Optional.of(user));
         when(budgetRepository.save(any())).thenReturn(savedBudget);
 
@@ -83,6 +111,7 @@ public class BudgetServiceTest {
 
         // Verify
         verify(budgetRepository, times(1)).save(any());
+        verify(budgetGeneration, times(1)).increase(any());
     }
 
     @Test
@@ -99,6 +128,7 @@ public class BudgetServiceTest {
                 .build();
 
         // Given
+        when(categoryRegistry.contains(1L)).thenReturn(true);
         when(userRepository.findById(appUser.userId())).thenReturn(Optional.empty());
 
         // When
@@ -113,7 +143,7 @@ public class BudgetServiceTest {
     @DisplayName("예산 삭제 - 성공")
     void successDelete() {
         // Given
-        when(budgetRepository.findById(1L)).thenReturn(Optional.of(savedBudget));
+        when(budgetRepository.findOwnedWithCategoryBudgets(1L, 1L)).thenReturn(Optional.of(savedBudget));
         AppUser appUser = new AppUser(1L);
 
         // When
@@ -121,13 +151,15 @@ public class BudgetServiceTest {
 
         // Verify
         verify(budgetRepository, times(1)).delete(savedBudget);
+        verify(budgetGeneration, times(1)).increase(appUser);
     }
 
     @Test
     @DisplayName("삭제할 예산이 없는 경우 예외 던진다. - 실패")
     void throwExceptionNotExistedBudget() {
         // Given
-        when(budgetRepository.findById(1L)).thenReturn(Optional.empty());
+        when(budgetRepository.findOwnedWithCategoryBudgets(1L, 1L)).thenReturn(Optional.empty());
+        when(budgetRepository.existsById(1L)).thenReturn(false);
         AppUser appUser = new AppUser(1L);
 
         // When
@@ -142,7 +174,8 @@ public class BudgetServiceTest {
     @DisplayName("삭제할 권한이 없는 경우 예외 던진다. - 실패")
     void throwExceptionNoPermission() {
         // Given
-        when(budgetRepository.findById(1L)).thenReturn(Optional.of(savedBudget));
+        when(budgetRepository.findOwnedWithCategoryBudgets(1L, 2L)).thenReturn(Optional.empty());
+        when(budgetRepository.existsById(1L)).thenReturn(true);
         AppUser appUser = new AppUser(2L);
 
         // When
@@ -153,11 +186,60 @@ public class BudgetServiceTest {
         verify(budgetRepository, times(0)).delete(savedBudget);
     }
 
+    @Test
+    @DisplayName("예산 추가 시 존재하지 않는 카테고리가 있으면 사용자, 예산을 조회하지 않고 예외 던진다. - 실패")
+    void throwExceptionWhenCategoryNotExisted() {
+        // Given
+        AppUser appUser = new AppUser(1L);
+        when(categoryRegistry.contains(1L)).thenReturn(false);
+
+        // When
+        assertThatThrownBy(() -> budgetService.addBudget(appUser, addBudgetRequest))
+                .isInstanceOf(CategoryNotFoundException.class);
+
+        // Verify
+        verify(userRepository, times(0)).findById(any());
+        verify(budgetRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("예산 단건 조회는 카테고리 예산까지 한 번에 읽은 예산으로 응답한다. - 성공")
+    void successFindOneBudget() {
+        // Given
+        when(budgetRepository.findOwnedWithCategoryBudgets(1L, 1L)).thenReturn(Optional.of(savedBudget));
+        AppUser appUser = new AppUser(1L);
+
+        // When
+        BudgetResponse budgetResponse = budgetService.findOneBudget(appUser, 1L);
+
+        // Then
+        assertThat(budgetResponse.month()).isEqualTo("2023-10-01");
+        assertThat(budgetResponse.budgetByCategories()).hasSize(1);
+
+        // Verify
+        verify(budgetRepository, times(0)).findById(any());
+        verify(budgetRepository, times(0)).existsById(any());
+    }
+
+    @Test
+    @DisplayName("예산 단건 조회 시 다른 사용자의 예산이면 예외 던진다. - 실패")
+    void throwExceptionWhenFindOtherUsersBudget() {
+        // Given
+        when(budgetRepository.findOwnedWithCategoryBudgets(1L, 2L)).thenReturn(Optional.empty());
+        when(budgetRepository.existsById(1L)).thenReturn(true);
+        AppUser appUser = new AppUser(2L);
+
+        // When, Then
+        assertThatThrownBy(() -> budgetService.findOneBudget(appUser, 1L))
+                .isInstanceOf(NoPermissionException.class);
+    }
+
     @Test
     @DisplayName("예산 카테고리 추가 성공")
     void successAddBudgetCategory() {
         // Given
-        when(budgetRepository.findById(1L)).thenReturn(Optional.of(savedBudget));
+        when(categoryRegistry.contains(2L)).thenReturn(true);
+        when(categoryBudgetRepository.insertOwnedBy(eq(1L), eq(1L), eq(2L), eq(2000), any())).thenReturn(1);
         AppUser appUser = new AppUser(1L);
 
         BudgetByCategoryRequest categoryRequest = BudgetByCategoryRequest.builder()
@@ -168,21 +250,20 @@ public class BudgetServiceTest {
         // When
         budgetService.addBudgetCategory(appUser, 1, categoryRequest);
 
-        // Then
-        assertThat(savedBudget.getCategoryBudgets()).hasSize(2);
-        assertThat(savedBudget.getCategoryBudgets()).extracting("categoryId").containsExactly(1L, 2L);
-
-        assertThat(savedBudget.getCategoryBudgets())
-                .extracting(CategoryBudget::getAmount)
-                .extracting(Money::getAmount)
-                .containsExactly(1000, 2000);
+        // Verify
+        verify(budgetRepository, times(0)).findById(any());
+        verify(budgetRepository, times(0)).existsByIdAndUserId(anyLong(), anyLong());
+        verify(budgetGeneration, times(1)).increase(appUser);
     }
 
     @Test
     @DisplayName("카테고리 예산 추가 시 Budget 예산이 없는 경우 예외 던진다. - 실패")
     void throwExceptionNoBudget() {
         // Given
-        when(budgetRepository.findById(1L)).thenReturn(Optional.empty());
+        when(categoryRegistry.contains(2L)).thenReturn(true);
+        when(categoryBudgetRepository.insertOwnedBy(eq(1L), eq(1L), eq(2L), eq(2000), any())).thenReturn(0);
+        when(budgetRepository.existsByIdAndUserId(1L, 1L)).thenReturn(false);
+        when(budgetRepository.existsById(1L)).thenReturn(false);
         AppUser appUser = new AppUser(1L);
 
         BudgetByCategoryRequest categoryRequest = BudgetByCategoryRequest.builder()
@@ -193,13 +274,38 @@ public class BudgetServiceTest {
         // When,  Then
         assertThatThrownBy(() -> budgetService.addBudgetCategory(appUser, 1, categoryRequest))
                 .isInstanceOf(BudgetNotFoundException.class);
+
+        // Verify
+        verify(budgetGeneration, times(0)).increase(any());
     }
 
     @Test
     @DisplayName("카테고리 예산 추가 시 이미 존재하는 카테고리 인 경우 예외 던진다. - 실패")
     void throwExceptionDuplicatedCategory() {
         // Given
-        when(budgetRepository.findById(1L)).thenReturn(Optional.of(savedBudget));
+        when(categoryRegistry.contains(1L)).thenReturn(true);
+        when(categoryBudgetRepository.insertOwnedBy(eq(1L), eq(1L), eq(1L), eq(2000), any())).thenReturn(0);
+        when(budgetRepository.existsByIdAndUserId(1L, 1L)).thenReturn(true);
+        AppUser appUser = new AppUser(1L);
+
+        BudgetByCategoryRequest categoryRequest = BudgetByCategoryRequest.builder()
+                .categoryId(1L)
+                .money(2000)
+                .build();
+
+        // When,  Then
+        assertThatThrownBy(() -> budgetService.addBudgetCategory(appUser, 1, categoryRequest))
+                .isInstanceOf(BudgetCategoryDuplicatedException.class);
+    }
+
+    @Test
+    @DisplayName("카테고리 예산 추가 시 동시에 같은 카테고리가 추가되어 유니크 키에 걸리면 중복 예외 던진다. - 실패")
+    void throwExceptionDuplicatedCategoryOnUniqueKey() {
+        // Given
+        when(categoryRegistry.contains(1L)).thenReturn(true);
+        when(categoryBudgetRepository.insertOwnedBy(eq(1L), eq(1L), eq(1L), eq(2000), any()))
+                .thenThrow(new DataIntegrityViolationException(
+                        "Duplicate entry '1-1' for key 'budget_by_category.uk_budget_by_category_budget_category'"));
         AppUser appUser = new AppUser(1L);
 
         BudgetByCategoryRequest categoryRequest = BudgetByCategoryRequest.builder()
@@ -210,13 +316,39 @@ public class BudgetServiceTest {
         // When,  Then
         assertThatThrownBy(() -> budgetService.addBudgetCategory(appUser, 1, categoryRequest))
                 .isInstanceOf(BudgetCategoryDuplicatedException.class);
+
+        // Verify
+        verify(budgetGeneration, times(0)).increase(any());
+    }
+
+    @Test
+    @DisplayName("카테고리 예산 추가 시 유니크 키가 아닌 무결성 위반은 그대로 던진다. - 실패")
+    void rethrowOtherIntegrityViolation() {
+        // Given
+        when(categoryRegistry.contains(1L)).thenReturn(true);
+        DataIntegrityViolationException violation = new DataIntegrityViolationException(
+                "Cannot add or update a child row: a foreign key constraint fails (CONSTRAINT `fk_budget_id`)");
+        when(categoryBudgetRepository.insertOwnedBy(eq(1L), eq(1L), eq(1L), eq(2000), any())).thenThrow(violation);
+        AppUser appUser = new AppUser(1L);
+
+        BudgetByCategoryRequest categoryRequest = BudgetByCategoryRequest.builder()
+                .categoryId(1L)
+                .money(2000)
+                .build();
+
+        // When,  Then
+        assertThatThrownBy(() -> budgetService.addBudgetCategory(appUser, 1, categoryRequest))
+                .isSameAs(violation);
     }
 
     @Test
     @DisplayName("카테고리 예산 추가 시 권한이 없는 경우 예외 던진다. - 실패")
     void throwExceptionWhenAddBudgetCategoryNoPermission() {
         // Given
-        when(budgetRepository.findById(1L)).thenReturn(Optional.of(savedBudget));
+        when(categoryRegistry.contains(1L)).thenReturn(true);
+        when(categoryBudgetRepository.insertOwnedBy(eq(1L), eq(2L), eq(1L), eq(2000), any())).thenReturn(0);
+        when(budgetRepository.existsByIdAndUserId(1L, 2L)).thenReturn(false);
+        when(budgetRepository.existsById(1L)).thenReturn(true);
         AppUser appUser = new AppUser(2L);
 
         BudgetByCategoryRequest categoryRequest = BudgetByCategoryRequest.builder()
@@ -233,7 +365,7 @@ public class BudgetServiceTest {
     @DisplayName("예산 카테고리 수정 성공")
     void successModifyBudgetCategory() {
         // Given
-        when(budgetRepository.findById(1L)).thenReturn(Optional.of(savedBudget));
+        when(categoryBudgetRepository.updateOwnedBy(eq(1L), eq(1L), eq(1L), eq(2000), any())).thenReturn(1);
         AppUser appUser = new AppUser(1L);
 
         ModifyBudgetCategory modifyBudgetCategory = ModifyBudgetCategory.builder()
@@ -243,19 +375,18 @@ public class BudgetServiceTest {
         // When
         budgetService.modifyBudgetCategory(appUser, 1, 1, modifyBudgetCategory);
 
-        // Then
-        assertThat(savedBudget.getCategoryBudgets()).extracting("categoryId").containsExactly(1L);
-        assertThat(savedBudget.getCategoryBudgets())
-                .extracting(CategoryBudget::getAmount)
-                .extracting(Money::getAmount)
-                .containsExactly(2000);
+        // Verify
+        verify(budgetRepository, times(0)).findById(any());
+        verify(budgetGeneration, times(1)).increase(appUser);
     }
 
     @Test
     @DisplayName("카테고리 예산 수정 시 Budget 예산이 없는 경우 예외 던진다. - 실패")
     void throwExceptionWhenModifyBudgetNotExisted() {
         // Given
-        when(budgetRepository.findById(1L)).thenReturn(Optional.empty());
+        when(categoryBudgetRepository.updateOwnedBy(eq(1L), eq(1L), eq(1L), eq(2000), any())).thenReturn(0);
+        when(budgetRepository.existsByIdAndUserId(1L, 1L)).thenReturn(false);
+        when(budgetRepository.existsById(1L)).thenReturn(false);
         AppUser appUser = new AppUser(1L);
 
         ModifyBudgetCategory modifyBudgetCategory = ModifyBudgetCategory.builder()
@@ -267,14 +398,15 @@ public class BudgetServiceTest {
                 .isInstanceOf(BudgetNotFoundException.class);
 
         // Verify
-        verify(budgetRepository, times(1)).findById(1L);
+        verify(budgetGeneration, times(0)).increase(any());
     }
 
     @Test
     @DisplayName("카테고리 예산 수정 시 수정하려는 BudgetCategory 가 없는 경우 예외 던진다. - 실패")
     void throwExceptionWhenModifyCategoryBudgetNotExisted() {
         // Given
-        when(budgetRepository.findById(1L)).thenReturn(Optional.of(savedBudget));
+        when(categoryBudgetRepository.updateOwnedBy(eq(1L), eq(1L), eq(2L), eq(2000), any())).thenReturn(0);
+        when(budgetRepository.existsByIdAndUserId(1L, 1L)).thenReturn(true);
         AppUser appUser = new AppUser(1L);
 
         ModifyBudgetCategory modifyBudgetCategory = ModifyBudgetCategory.builder()
@@ -286,28 +418,31 @@ public class BudgetServiceTest {
                 .isInstanceOf(BudgetCategoryNotFoundException.class);
 
         // Verify
-        verify(budgetRepository, times(1)).findById(1L);
+        verify(budgetRepository, times(0)).existsById(any());
     }
 
     @Test
     @DisplayName("예산 카테고리 삭제 성공")
     void successDeleteBudgetCategory() {
         // Given
-        when(budgetRepository.findById(1L)).thenReturn(Optional.of(savedBudget));
+        when(categoryBudgetRepository.deleteOwnedBy(1L, 1L, 1L)).thenReturn(1);
         AppUser appUser = new AppUser(1L);
 
         // When
         budgetService.removeBudgetCategory(appUser, 1, 1);
 
-        // Then
-        assertThat(savedBudget.getCategoryBudgets()).hasSize(0);
+        // Verify
+        verify(budgetRepository, times(0)).findById(any());
+        verify(budgetGeneration, times(1)).increase(appUser);
     }
 
     @Test
     @DisplayName("예산 카테고리 삭제 시 예산이 존재하지 않으면 예외 던진다 - 실패")
     void throwExceptionNoExistedBudgetWhenDeletingBudgetCategory() {
         // Given
-        when(budgetRepository.findById(1L)).thenReturn(Optional.empty());
+        when(categoryBudgetRepository.deleteOwnedBy(1L, 1L, 1L)).thenReturn(0);
+        when(budgetRepository.existsByIdAndUserId(1L, 1L)).thenReturn(false);
+        when(budgetRepository.existsById(1L)).thenReturn(false);
         AppUser appUser = new AppUser(1L);
 
         // When, Then
@@ -319,11 +454,78 @@ public class BudgetServiceTest {
     @DisplayName("예산 카테고리 삭제 시 삭제하려는 예산 카테고리가 존재하지 않으면 예외 던진다 - 실패")
     void throwExceptionNoExistedBudgetCategoryWhenDeletingBudgetCategory() {
         // Given
-        when(budgetRepository.findById(1L)).thenReturn(Optional.of(savedBudget));
+        when(categoryBudgetRepository.deleteOwnedBy(1L, 1L, 4L)).thenReturn(0);
+        when(budgetRepository.existsByIdAndUserId(1L, 1L)).thenReturn(true);
         AppUser appUser = new AppUser(1L);
 
         // When, Then
         assertThatThrownBy(() -> budgetService.removeBudgetCategory(appUser, 1, 4))
                 .isInstanceOf(BudgetCategoryNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("카테고리 예산 일괄 반영 시 바뀐 카테고리만 한 번에 반영한다. - 성공")
+    void successPutBudgetCategories() {
+        // Given
+        when(categoryRegistry.contains(1L)).thenReturn(true);
+        when(categoryRegistry.contains(10L)).thenReturn(true);
+        when(categoryBudgetBulkRepository.lockOwned(1L, 1L)).thenReturn(true);
+        when(categoryBudgetBulkRepository.findAmountsByCategory(1L)).thenReturn(Map.of(1L, 1000, 2L, 9000));
+        AppUser appUser = new AppUser(1L);
+
+        PutBudgetCategoriesRequest request = PutBudgetCategoriesRequest.builder()
+                .budgetByCategories(List.of(
+                        BudgetByCategoryRequest.builder().categoryId(1L).money(1000).build(),
+                        BudgetByCategoryRequest.builder().categoryId(10L).money(5000).build()))
+                .mode(CategoryBudgetPutMode.REPLACE)
+                .build();
+
+        // When
+        budgetService.putBudgetCategories(appUser, 1L, request);
+
+        // Verify
+        verify(categoryBudgetBulkRepository, times(1))
+                .apply(eq(1L), eq(new CategoryBudgetChanges(Map.of(10L, 5000), List.of(2L))), any());
+        verify(budgetGeneration, times(1)).increase(appUser);
+    }
+
+    @Test
+    @DisplayName("카테고리 예산 일괄 반영 시 바뀐 것이 없으면 쓰지 않는다. - 성공")
+    void skipPutBudgetCategoriesWhenUnchanged() {
+        // Given
+        when(categoryRegistry.contains(1L)).thenReturn(true);
+        when(categoryBudgetBulkRepository.lockOwned(1L, 1L)).thenReturn(true);
+        when(categoryBudgetBulkRepository.findAmountsByCategory(1L)).thenReturn(Map.of(1L, 1000, 2L, 9000));
+        AppUser appUser = new AppUser(1L);
+
+        PutBudgetCategoriesRequest request = PutBudgetCategoriesRequest.builder()
+                .budgetByCategories(List.of(BudgetByCategoryRequest.builder().categoryId(1L).money(1000).build()))
+                .mode(CategoryBudgetPutMode.MERGE)
+                .build();
+
+        // When
+        budgetService.putBudgetCategories(appUser, 1L, request);
+
+        // Verify
+        verify(categoryBudgetBulkRepository, times(0)).apply(anyLong(), any(), any());
+        verify(budgetGeneration, times(0)).increase(any());
+    }
+
+    @Test
+    @DisplayName("카테고리 예산 일괄 반영 시 다른 사용자의 예산이면 예외 던진다. - 실패")
+    void throwExceptionWhenPutOtherUsersBudgetCategories() {
+        // Given
+        when(categoryRegistry.contains(1L)).thenReturn(true);
+        when(categoryBudgetBulkRepository.lockOwned(1L, 2L)).thenReturn(false);
+        when(budgetRepository.existsById(1L)).thenReturn(true);
+        AppUser appUser = new AppUser(2L);
+
+        PutBudgetCategoriesRequest request = PutBudgetCategoriesRequest.builder()
+                .budgetByCategories(List.of(BudgetByCategoryRequest.builder().categoryId(1L).money(1000).build()))
+                .build();
+
+        // When, Then
+        assertThatThrownBy(() -> budgetService.putBudgetCategories(appUser, 1L, request))
+                .isInstanceOf(NoPermissionException.class);
+    }
 }
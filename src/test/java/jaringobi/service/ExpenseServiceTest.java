@@ -1,8 +1,12 @@
 package jaringobi.service;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,9 +16,14 @@ import jaringobi.dto.request.ModifyExpenseRequest;
 import jaringobi.dto.response.AddExpenseNoResponse;
 import jaringobi.domain.budget.Money;
 import jaringobi.domain.category.Category;
+import jaringobi.domain.category.CategoryRegistry;
 import jaringobi.domain.category.CategoryRepository;
+import jaringobi.domain.expense.DailyExpenseEntry;
 import jaringobi.domain.expense.Expense;
+import jaringobi.domain.expense.ExpenseDailySummaryRepository;
+import jaringobi.domain.expense.ExpenseGeneration;
 import jaringobi.domain.expense.ExpenseRepository;
+import jaringobi.domain.expense.columnar.ExpenseColumnStore;
 import jaringobi.domain.user.AppUser;
 import jaringobi.domain.user.User;
 import jaringobi.domain.user.UserRepository;
@@ -22,8 +31,10 @@ import jaringobi.exception.auth.NoPermissionException;
 import jaringobi.exception.category.CategoryNotFoundException;
 import jaringobi.exception.expense.ExpenseNotFoundException;
 import jaringobi.exception.user.UserNotFoundException;
+import jaringobi.service.alert.BudgetAlertEngine;
+import jaringobi.service.guide.DailyGuideService;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Optional;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @MockitoSettings
 public class ExpenseServiceTest {
@@ -41,9 +53,27 @@ public class ExpenseServiceTest {
     @Mock
     CategoryRepository categoryRepository;
 
+    @Mock
+    CategoryRegistry categoryRegistry;
+
     @Mock
     ExpenseRepository expenseRepository;
 
+    @Mock
+    ExpenseDailySummaryRepository expenseDailySummaryRepository;
+
+    @Mock
+    ExpenseColumnStore expenseColumnStore;
+
+    @Mock
+    ExpenseGeneration expenseGeneration;
+
+    @Mock
+    BudgetAlertEngine budgetAlertEngine;
+
+    @Mock
+    DailyGuideService dailyGuideService;
+
     @InjectMocks
     ExpenseService expenseService;
 
@@ -96,11 +126,12 @@ public class ExpenseServiceTest {
     class CreateExpense {
 
         @Test
-        @DisplayName("성공")
-        void addExpense() throws NoSuchFieldException, IllegalAccessException {
+        @DisplayName("성공 - 사용자, 카테고리를 조회하지 않고 참조로 저장한다.")
+        void addExpense() {
             // Given
-            when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-            when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+            when(categoryRegistry.contains(1L)).thenReturn(true);
+            when(categoryRepository.getReferenceById(1L)).thenReturn(category);
+            when(userRepository.getReferenceById(1L)).thenReturn(user);
             when(expenseRepository.save(any())).thenReturn(mockExpense);
 
             // When
@@ -110,37 +141,64 @@ public class ExpenseServiceTest {
             Assertions.assertThat(addExpenseNoResponse.expenseNo()).isEqualTo(1L);
 
             // Verity
+            verify(userRepository, never()).findById(any());
+            verify(categoryRepository, never()).findById(any());
             verify(expenseRepository, times(1)).save(any());
+            verify(expenseDailySummaryRepository, times(1)).add(
+                    new DailyExpenseEntry(1L, addExpenseRequest.getExpenseDateTime().toLocalDate(), 1L, 10000));
+            verify(expenseGeneration, times(1)).increase(appUser);
+            verify(dailyGuideService, times(1)).expenseAdded(appUser,
+                    addExpenseRequest.getExpenseDateTime().toLocalDate());
         }
 
         @Test
-        @DisplayName("실패 - 존재하지 않는 유저의 경우")
+        @DisplayName("실패 - 존재하지 않는 유저의 경우 (외래 키 위반)")
         void throwExceptionAddExpenseNullUser() {
             // Given
-            when(userRepository.findById(1L)).thenReturn(Optional.empty());
+            when(categoryRegistry.contains(1L)).thenReturn(true);
+            when(categoryRepository.getReferenceById(1L)).thenReturn(category);
+            when(userRepository.getReferenceById(1L)).thenReturn(user);
+            when(expenseRepository.save(any())).thenThrow(new DataIntegrityViolationException("FK_expense_user_id"));
 
             // When, Then
             assertThatThrownBy(() -> expenseService.addExpense(addExpenseRequest, appUser))
                     .isInstanceOf(UserNotFoundException.class);
 
             // Verify
-            verify(categoryRepository, times(0)).findById(any());
-            verify(expenseRepository, times(0)).save(any());
+            verify(expenseDailySummaryRepository, never()).add(any());
+            verify(expenseGeneration, never()).increase(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 사용자 외래 키가 아닌 무결성 위반은 그대로 던진다")
+        void rethrowOtherIntegrityViolation() {
+            // Given
+            when(categoryRegistry.contains(1L)).thenReturn(true);
+            when(categoryRepository.getReferenceById(1L)).thenReturn(category);
+            when(userRepository.getReferenceById(1L)).thenReturn(user);
+            DataIntegrityViolationException violation = new DataIntegrityViolationException("FK_expense_category_id");
+            when(expenseRepository.save(any())).thenThrow(violation);
+
+            // When, Then
+            assertThatThrownBy(() -> expenseService.addExpense(addExpenseRequest, appUser))
+                    .isSameAs(violation);
+
+            // Verify
+            verify(expenseDailySummaryRepository, never()).add(any());
+            verify(expenseGeneration, never()).increase(any());
         }
 
         @Test
         @DisplayName("실패 - 존재하지 않는 카테고리의 경우")
         void throwExceptionNullCategory() {
             // Given
-            when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-            when(categoryRepository.findById(1L)).thenReturn(Optional.empty());
+            when(categoryRegistry.contains(1L)).thenReturn(false);
 
             // When, Then
             assertThatThrownBy(() -> expenseService.addExpense(addExpenseRequest, appUser))
                     .isInstanceOf(CategoryNotFoundException.class);
 
             // Verify
-            verify(userRepository, times(1)).findById(any());
             verify(expenseRepository, times(0)).save(any());
         }
 
@@ -150,68 +208,84 @@ public class ExpenseServiceTest {
     @DisplayName("지출 수정")
     class Modify {
 
+        private void givenCategory() {
+            when(categoryRegistry.contains(100L)).thenReturn(true);
+            when(categoryRepository.getReferenceById(100L)).thenReturn(modifyCategory);
+        }
+
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공 - 지출을 읽지 않고 소유자 조건으로 수정한다.")
         void modifyExpense() {
             // Given
-            when(expenseRepository.findById(1L)).thenReturn(Optional.of(mockExpense));
-            when(categoryRepository.findById(100L)).thenReturn(Optional.of(modifyCategory));
+            givenCategory();
+            when(expenseRepository.updateOwnedBy(anyLong(), anyLong(), any(), anyInt(), anyLong(), any(),
+                    anyBoolean(), any())).thenReturn(1);
 
             // When
             expenseService.modifyExpense(modifyExpenseRequest, 1L, appUser);
 
             // Then
-            assertThat(mockExpense.getMemo()).isEqualTo(modifyExpenseRequest.getMemo());
-            assertThat(mockExpense.getCategory().getId()).isEqualTo(modifyExpenseRequest.getCategoryId());
-            assertThat(mockExpense.getMoney().getAmount()).isEqualTo(modifyExpenseRequest.getExpenseMount());
-            assertThat(mockExpense.getExpenseAt()).isEqualTo(modifyExpenseRequest.getExpenseDateTime());
-            assertThat(mockExpense.isExcludeInTotal()).isEqualTo(modifyExpenseRequest.getExcludeTotalExpense());
+            verify(expenseRepository, never()).findById(any());
+            verify(expenseRepository, times(1)).updateOwnedBy(eq(1L), eq(1L), eq("memo2"), eq(100_000), eq(100L),
+                    eq(LocalDateTime.of(2025, 12, 25, 0, 0)), eq(true), any());
+
+            // Verify - 수정 전 값은 DB 에서 빼고 수정된 일자/카테고리 합계에 더한다.
+            verify(expenseDailySummaryRepository, times(1)).subtractExpense(1L, 1L);
+            verify(expenseDailySummaryRepository, times(1)).add(
+                    new DailyExpenseEntry(1L, LocalDate.of(2025, 12, 25), 100L, 100_000));
+            verify(expenseColumnStore, times(1)).invalidate(appUser);
+            verify(expenseGeneration, times(1)).increase(appUser);
         }
 
         @Test
         @DisplayName("실패 - 존재하지 않는 카테고리의 경우")
         void throwExceptionNullCategoryWhenModifyExpense() {
             // Given
-            when(expenseRepository.findById(1L)).thenReturn(Optional.of(mockExpense));
-            when(categoryRepository.findById(100L)).thenReturn(Optional.empty());
+            when(categoryRegistry.contains(100L)).thenReturn(false);
 
             // When, Then
             assertThatThrownBy(() -> expenseService.modifyExpense(modifyExpenseRequest, 1L, appUser))
                     .isInstanceOf(CategoryNotFoundException.class);
 
             // Verify
-            verify(expenseRepository, times(1)).findById(any());
-            verify(categoryRepository, times(1)).findById(any());
+            verify(expenseDailySummaryRepository, never()).subtractExpense(anyLong(), anyLong());
+            verify(expenseRepository, never()).updateOwnedBy(anyLong(), anyLong(), any(), anyInt(), anyLong(),
+                    any(), anyBoolean(), any());
         }
 
         @Test
         @DisplayName("실패 - 존재하지 않는 지출의 경우")
         void throwExceptionNullExpenseWhenModifyExpense() {
             // Given
-            when(expenseRepository.findById(1L)).thenReturn(Optional.empty());
+            givenCategory();
+            when(expenseRepository.updateOwnedBy(anyLong(), anyLong(), any(), anyInt(), anyLong(), any(),
+                    anyBoolean(), any())).thenReturn(0);
+            when(expenseRepository.existsById(1L)).thenReturn(false);
 
             // When, Then
             assertThatThrownBy(() -> expenseService.modifyExpense(modifyExpenseRequest, 1L, appUser))
                     .isInstanceOf(ExpenseNotFoundException.class);
 
             // Verify
-            verify(expenseRepository, times(1)).findById(any());
-            verify(categoryRepository, times(0)).findById(any());
+            verify(expenseDailySummaryRepository, never()).add(any());
+            verify(expenseGeneration, never()).increase(any());
         }
 
         @Test
         @DisplayName("실패 - 다른 유저가 수정하는 경우 지출 ")
         void throwExceptionNullPermissionWhenModifyExpense() {
             // Given
-            when(expenseRepository.findById(1L)).thenReturn(Optional.of(mockExpense));
+            givenCategory();
+            when(expenseRepository.updateOwnedBy(anyLong(), anyLong(), any(), anyInt(), anyLong(), any(),
+                    anyBoolean(), any())).thenReturn(0);
+            when(expenseRepository.existsById(1L)).thenReturn(true);
 
             // When, Then
             assertThatThrownBy(() -> expenseService.modifyExpense(modifyExpenseRequest, 1L, anotherUser))
                     .isInstanceOf(NoPermissionException.class);
 
             // Verify
-            verify(expenseRepository, times(1)).findById(any());
-            verify(categoryRepository, times(0)).findById(any());
+            verify(expenseDailySummaryRepository, never()).add(any());
         }
     }
 
@@ -223,41 +297,44 @@ public class ExpenseServiceTest {
         @DisplayName("성공")
         void successDeleteExpense() {
             // Given
-            when(expenseRepository.findById(1L)).thenReturn(Optional.of(mockExpense));
+            when(expenseRepository.deleteOwnedBy(1L, 1L)).thenReturn(1);
 
             // When, Then
             expenseService.deleteExpense(1L, appUser);
 
             // Verify
-            verify(expenseRepository, times(1)).delete(any());
+            verify(expenseRepository, never()).findById(any());
+            verify(expenseDailySummaryRepository, times(1)).subtractExpense(1L, 1L);
+            verify(expenseColumnStore, times(1)).removed(appUser, 1L);
+            verify(expenseGeneration, times(1)).increase(appUser);
         }
 
         @Test
-        @DisplayName("실패 - 다른 유저가 삭제시도")
+        @DisplayName("실패 - 존재하지 않는 지출 삭제시도")
         void failDeleteNoExistedExpense() {
             // Given
-            when(expenseRepository.findById(1L)).thenReturn(Optional.empty());
+            when(expenseRepository.deleteOwnedBy(1L, 1L)).thenReturn(0);
+            when(expenseRepository.existsById(1L)).thenReturn(false);
 
             // When, Then
             assertThatThrownBy(() -> expenseService.deleteExpense(1L, appUser))
                     .isInstanceOf(ExpenseNotFoundException.class);
-
-            // Verify
-            verify(expenseRepository, times(0)).delete(any());
         }
 
         @Test
         @DisplayName("실패 - 다른 유저가 삭제시도")
         void failDeleteExpenseNoPermission() {
             // Given
-            when(expenseRepository.findById(1L)).thenReturn(Optional.of(mockExpense));
+            when(expenseRepository.deleteOwnedBy(1L, 2L)).thenReturn(0);
+            when(expenseRepository.existsById(1L)).thenReturn(true);
 
             // When, Then
             assertThatThrownBy(() -> expenseService.deleteExpense(1L, anotherUser))
                     .isInstanceOf(NoPermissionException.class);
 
             // Verify
-            verify(expenseRepository, times(0)).delete(any());
+            verify(expenseColumnStore, never()).removed(any(), anyLong());
+            verify(expenseGeneration, never()).increase(any());
         }
     }
 }
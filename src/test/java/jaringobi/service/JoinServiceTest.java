@@ -1,5 +1,6 @@
 package jaringobi.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
@@ -18,8 +19,10 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
 
 @DisplayName("회원가입 서비스 레이어 테스트")
 @MockitoSettings
@@ -67,4 +70,28 @@ class JoinServiceTest {
         verify(userRepository, times(1)).existsByUsername("existingUser");
         verify(passwordEncoder, never()).encode(Mockito.anyString());
     }
+
+    @Test
+    @DisplayName("실패 - 확인 뒤 같은 이름이 먼저 저장되면 DuplicatedUserException 예외 발생")
+    void join_ShouldThrowDuplicatedUserException_WhenUsernameTakenWhileHashing() {
+        // given
+        when(userRepository.existsByUsername("racingUser")).thenReturn(false);
+        when(userRepository.save(any())).thenThrow(new DataIntegrityViolationException(
+                "Duplicate entry 'racingUser' for key 'users.username'"));
+
+        // when
+        AddUserRequest addUserRequest = new AddUserRequest("racingUser", "password");
+
+        // then
+        assertThrows(UsernameDuplicatedException.class, () -> joinService.join(addUserRequest));
+    }
+
+    @Test
+    @DisplayName("해시 중 커넥션을 잡지 않도록 가입에는 트랜잭션을 걸지 않는다")
+    void join_ShouldNotBeTransactional() throws NoSuchMethodException {
+        // then
+        assertThat(JoinService.class.getMethod("join", AddUserRequest.class)
+                .isAnnotationPresent(Transactional.class)).isFalse();
+        assertThat(JoinService.class.isAnnotationPresent(Transactional.class)).isFalse();
+    }
 }
\ No newline at end of file
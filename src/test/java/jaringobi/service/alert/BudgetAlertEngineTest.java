@@ -0,0 +1,229 @@
+package jaringobi.service.alert;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jaringobi.domain.alert.BudgetAlertRepository;
+import jaringobi.domain.alert.DataGeneration;
+import jaringobi.domain.budget.BudgetGeneration;
+import jaringobi.domain.budget.CategoryAmountRow;
+import jaringobi.domain.category.CategoryRegistry;
+import jaringobi.domain.user.AppUser;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@MockitoSettings
+@DisplayName("예산 알림 엔진 테스트")
+class BudgetAlertEngineTest {
+
+    private static final AppUser APP_USER = new AppUser(1L);
+    private static final long FOOD = 3L;
+
+    @Mock
+    BudgetAlertRepository budgetAlertRepository;
+
+    @Spy
+    BudgetAlertSubscribers budgetAlertSubscribers = new BudgetAlertSubscribers();
+
+    @Mock
+    CategoryRegistry categoryRegistry;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    BudgetAlertEngine budgetAlertEngine;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(categoryRegistry.ids()).thenReturn(Set.of(1L, 2L, FOOD));
+        // 이번 달 식비 예산 30만원
+        lenient().when(budgetAlertRepository.findLimits(eq(1L), any())).thenReturn(List.of(row(300_000)));
+        lenient().when(budgetAlertRepository.findGeneration(1L)).thenReturn(DataGeneration.NONE);
+        budgetAlertEngine = new BudgetAlertEngine(budgetAlertRepository, budgetAlertSubscribers,
+                new BudgetAlertProperty(), categoryRegistry, mock(BudgetGeneration.class), transactionManager,
+                new DirectExecutorService());
+    }
+
+    @Test
+    @DisplayName("다시 읽은 합계에 이미 들어 있는 지출의 추가 이벤트는 두 번 더하지 않는다.")
+    void addInterleavedWithReloadIsNotCountedTwice() {
+        // Given : 지출 6(16만원)이 구독 시 다시 읽는 중에 커밋되어 스냅샷 합계에 들어 있다.
+        when(budgetAlertRepository.findMonthTotals(eq(1L), any()))
+                .thenReturn(List.of(row(160_000)));
+        when(budgetAlertRepository.findLastExpenseId(1L)).thenReturn(6L);
+        budgetAlertEngine.subscribe(APP_USER);
+
+        // When : 그 뒤에 지출 6 의 추가 이벤트가 도착하고, 이어서 새 지출 7 이 추가된다.
+        budgetAlertEngine.expenseAdded(APP_USER, 6L, FOOD, 160_000, thisMonth());
+        budgetAlertEngine.expenseAdded(APP_USER, 7L, FOOD, 90_000, thisMonth());
+
+        // Then : 25만원(83%) 으로 80% 만 알린다. 두 번 더했다면 41만원으로 100% 를 알렸다.
+        verify(budgetAlertSubscribers).send(1L,
+                new BudgetAlertEvent(FOOD, BudgetAlertScope.MONTH, 80, 250_000, 300_000));
+        verify(budgetAlertSubscribers, never()).send(eq(1L), monthThreshold(100));
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후에 커밋된 지출은 누적 합계에 더해 기준을 넘으면 알린다.")
+    void addAfterReloadIsAccumulated() {
+        // Given
+        when(budgetAlertRepository.findMonthTotals(eq(1L), any())).thenReturn(List.of());
+        when(budgetAlertRepository.findLastExpenseId(1L)).thenReturn(5L);
+        budgetAlertEngine.subscribe(APP_USER);
+
+        // When
+        budgetAlertEngine.expenseAdded(APP_USER, 6L, FOOD, 160_000, thisMonth());
+
+        // Then
+        verify(budgetAlertSubscribers).send(1L,
+                new BudgetAlertEvent(FOOD, BudgetAlertScope.MONTH, 50, 160_000, 300_000));
+    }
+
+    @Test
+    @DisplayName("구독하지 않은 사용자의 지출은 무시한다.")
+    void ignoresUsersWithoutSubscription() {
+        budgetAlertEngine.expenseAdded(APP_USER, 6L, FOOD, 160_000, thisMonth());
+
+        verify(budgetAlertSubscribers, never()).send(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("마지막 연결이 끝나면 상태를 지우고 더 이상 지출을 따라가지 않는다.")
+    void stopsTrackingAfterLastEmitterRemoved() {
+        // Given
+        SseEmitter emitter = budgetAlertEngine.subscribe(APP_USER);
+
+        // When
+        budgetAlertSubscribers.remove(1L, emitter);
+        budgetAlertEngine.expenseAdded(APP_USER, 6L, FOOD, 160_000, thisMonth());
+
+        // Then
+        verify(budgetAlertSubscribers, never()).send(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("마지막 연결이 끝난 뒤 다시 구독하면 새 상태로 알림을 받는다.")
+    void resubscribeAfterLastEmitterRemovedGetsState() {
+        // Given
+        when(budgetAlertRepository.findMonthTotals(eq(1L), any())).thenReturn(List.of());
+        when(budgetAlertRepository.findLastExpenseId(1L)).thenReturn(5L);
+        SseEmitter first = budgetAlertEngine.subscribe(APP_USER);
+        budgetAlertSubscribers.remove(1L, first);
+
+        // When
+        budgetAlertEngine.subscribe(APP_USER);
+        budgetAlertEngine.expenseAdded(APP_USER, 6L, FOOD, 160_000, thisMonth());
+
+        // Then
+        verify(budgetAlertSubscribers).send(1L,
+                new BudgetAlertEvent(FOOD, BudgetAlertScope.MONTH, 50, 160_000, 300_000));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 커밋된 지출은 세대 번호가 바뀐 것을 보고 다시 읽어 알린다.")
+    void reloadWhenGenerationChangedElsewhere() {
+        // Given
+        when(budgetAlertRepository.findMonthTotals(eq(1L), any())).thenReturn(List.of());
+        budgetAlertEngine.subscribe(APP_USER);
+
+        // When : 다른 인스턴스가 16만원 지출을 커밋해 지출 세대 번호가 1 이 되었다.
+        DataGeneration changed = new DataGeneration(1, 0);
+        when(budgetAlertRepository.findMonthTotals(eq(1L), any())).thenReturn(List.of(row(160_000)));
+        when(budgetAlertRepository.findGeneration(1L)).thenReturn(changed);
+        when(budgetAlertRepository.findGenerations(List.of(1L))).thenReturn(Map.of(1L, changed));
+        budgetAlertEngine.pollChanges();
+        budgetAlertEngine.pollChanges();
+
+        // Then : 한 번만 다시 읽고 알린다.
+        verify(budgetAlertSubscribers).send(1L,
+                new BudgetAlertEvent(FOOD, BudgetAlertScope.MONTH, 50, 160_000, 300_000));
+        verify(budgetAlertRepository, times(2)).findMonthTotals(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("세대 번호가 그대로면 다시 읽지 않는다.")
+    void skipReloadWhenGenerationUnchanged() {
+        // Given
+        when(budgetAlertRepository.findMonthTotals(eq(1L), any())).thenReturn(List.of());
+        budgetAlertEngine.subscribe(APP_USER);
+
+        // When
+        budgetAlertEngine.pollChanges();
+
+        // Then
+        verify(budgetAlertRepository, times(1)).findMonthTotals(eq(1L), any());
+        verify(budgetAlertSubscribers, never()).send(anyLong(), any());
+    }
+
+    private static BudgetAlertEvent monthThreshold(int threshold) {
+        return argThat(event -> event.scope() == BudgetAlertScope.MONTH && event.threshold() == threshold);
+    }
+
+    private static LocalDateTime thisMonth() {
+        return LocalDate.now().withDayOfMonth(1).atStartOfDay();
+    }
+
+    private static CategoryAmountRow row(long amount) {
+        return new CategoryAmountRow(1L, FOOD, amount);
+    }
+
+    /**
+     * 비동기 전송을 호출한 스레드에서 바로 실행한다.
+     */
+    static class DirectExecutorService extends AbstractExecutorService {
+
+        private boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package jaringobi.service.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@DisplayName("예산 알림 구독자 테스트")
+class BudgetAlertSubscribersTest {
+
+    private final BudgetAlertSubscribers budgetAlertSubscribers = new BudgetAlertSubscribers();
+    private final AtomicInteger firstAdded = new AtomicInteger();
+    private final AtomicInteger lastRemoved = new AtomicInteger();
+
+    @Test
+    @DisplayName("첫 연결에서만 시작 콜백을, 마지막 연결이 끝날 때만 정리 콜백을 실행한다.")
+    void callbacksRunOnFirstAndLastEmitter() {
+        // Given
+        SseEmitter first = new SseEmitter();
+        SseEmitter second = new SseEmitter();
+        add(first);
+        add(second);
+
+        // When
+        budgetAlertSubscribers.remove(1L, first);
+
+        // Then
+        assertThat(firstAdded).hasValue(1);
+        assertThat(lastRemoved).hasValue(0);
+        assertThat(budgetAlertSubscribers.size()).isEqualTo(1);
+
+        // When
+        budgetAlertSubscribers.remove(1L, second);
+
+        // Then
+        assertThat(lastRemoved).hasValue(1);
+        assertThat(budgetAlertSubscribers.hasSubscribers(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("모든 연결이 끝난 뒤 다시 연결하면 시작 콜백을 다시 실행한다.")
+    void reAddAfterLastRemovedRunsFirstAddedAgain() {
+        // Given
+        SseEmitter first = new SseEmitter();
+        add(first);
+        budgetAlertSubscribers.remove(1L, first);
+
+        // When
+        add(new SseEmitter());
+
+        // Then
+        assertThat(firstAdded).hasValue(2);
+        assertThat(lastRemoved).hasValue(1);
+        assertThat(budgetAlertSubscribers.hasSubscribers(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 빠진 연결을 다시 빼도 정리 콜백을 두 번 실행하지 않는다.")
+    void removingTwiceRunsLastRemovedOnce() {
+        // Given
+        SseEmitter emitter = new SseEmitter();
+        add(emitter);
+
+        // When
+        budgetAlertSubscribers.remove(1L, emitter);
+        budgetAlertSubscribers.remove(1L, emitter);
+
+        // Then
+        assertThat(lastRemoved).hasValue(1);
+    }
+
+    private void add(SseEmitter emitter) {
+        budgetAlertSubscribers.add(1L, emitter, firstAdded::incrementAndGet, lastRemoved::incrementAndGet);
+    }
+}
@@ -0,0 +1,125 @@
+package jaringobi.service.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jaringobi.domain.alert.DataGeneration;
+import jaringobi.domain.budget.CategoryAmountRow;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UserAlertStateTest {
+
+    private static final int[] THRESHOLDS = {50, 80, 100};
+    // 30일인 달. 카테고리 1 의 하루 몫은 10,000 원
+    private static final LocalDate TODAY = LocalDate.of(2023, 11, 15);
+    private static final List<CategoryAmountRow> LIMITS = List.of(new CategoryAmountRow(1L, 1L, 300_000));
+    // 예산 세대 번호 1
+    private static final DataGeneration GENERATION = new DataGeneration(0, 1);
+
+    private final UserAlertState state = new UserAlertState(3, THRESHOLDS);
+
+    @Test
+    @DisplayName("이번 달 지출이 기준을 넘을 때마다 한 번씩 알린다.")
+    void monthThresholdsAreAlertedOnce() {
+        // Given
+        state.reload(TODAY, List.of(row(1L, 100_000)), List.of(), LIMITS, 1, GENERATION, false);
+
+        // When
+        state.add(1L, 60_000, LocalDateTime.of(2023, 11, 10, 12, 0));
+        List<BudgetAlertEvent> crossedHalf = state.evaluate(1L);
+        state.add(1L, 10_000, LocalDateTime.of(2023, 11, 10, 13, 0));
+        List<BudgetAlertEvent> sameLevel = state.evaluate(1L);
+
+        // Then
+        assertThat(crossedHalf).containsExactly(
+                new BudgetAlertEvent(1L, BudgetAlertScope.MONTH, 50, 160_000, 300_000));
+        assertThat(sameLevel).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오늘 지출은 하루 몫과도 비교하고, 여러 기준을 한 번에 넘으면 가장 높은 기준만 알린다.")
+    void dayScopeAlertsHighestCrossedThreshold() {
+        // Given
+        state.reload(TODAY, List.of(row(1L, 170_000)), List.of(), LIMITS, 1, GENERATION, false);
+
+        // When
+        state.add(1L, 80_000, LocalDateTime.of(2023, 11, 15, 9, 0));
+        List<BudgetAlertEvent> events = state.evaluate(1L);
+
+        // Then
+        assertThat(events).containsExactly(
+                new BudgetAlertEvent(1L, BudgetAlertScope.MONTH, 80, 250_000, 300_000),
+                new BudgetAlertEvent(1L, BudgetAlertScope.DAY, 100, 80_000, 10_000));
+    }
+
+    @Test
+    @DisplayName("구독을 시작할 때 이미 넘은 기준은 알리지 않는다.")
+    void alreadyCrossedThresholdsAreNotAlertedOnSubscribe() {
+        // When
+        state.reload(TODAY, List.of(row(1L, 260_000)), List.of(row(1L, 20_000)), LIMITS, 1, GENERATION, false);
+
+        // Then
+        assertThat(state.evaluateAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정, 삭제로 기준 아래로 내려가면 다시 넘을 때 알린다.")
+    void alertsAgainAfterDroppingBelowThreshold() {
+        // Given
+        state.reload(TODAY, List.of(row(1L, 160_000)), List.of(), LIMITS, 1, GENERATION, false);
+        state.reload(TODAY, List.of(row(1L, 100_000)), List.of(), LIMITS, 2, GENERATION, true);
+        assertThat(state.evaluateAll()).isEmpty();
+
+        // When
+        state.add(1L, 60_000, LocalDateTime.of(2023, 11, 1, 0, 0));
+
+        // Then
+        assertThat(state.evaluate(1L)).containsExactly(
+                new BudgetAlertEvent(1L, BudgetAlertScope.MONTH, 50, 160_000, 300_000));
+    }
+
+    @Test
+    @DisplayName("지난 달, 미래 날짜 지출과 다시 읽은 값에 이미 들어 있는 지출은 더하지 않는다.")
+    void ignoresOutOfRangeAndAlreadyLoadedExpenses() {
+        // Given
+        state.reload(TODAY, List.of(), List.of(), LIMITS, 5, GENERATION, false);
+
+        // When & Then
+        assertThat(state.add(1L, 1000, LocalDateTime.of(2023, 10, 31, 23, 0))).isFalse();
+        assertThat(state.add(1L, 1000, LocalDateTime.of(2023, 11, 16, 0, 0))).isFalse();
+        assertThat(state.isAfterReload(5)).isFalse();
+        assertThat(state.isAfterReload(6)).isTrue();
+    }
+
+    @Test
+    @DisplayName("예산 세대 번호나 날짜가 바뀌면 다시 읽어야 한다.")
+    void staleWhenBudgetOrDayChanges() {
+        // Given
+        state.reload(TODAY, List.of(), List.of(), LIMITS, 1, GENERATION, false);
+
+        // When & Then
+        assertThat(state.isCurrent(TODAY, 1)).isTrue();
+        assertThat(state.isCurrent(TODAY, 2)).isFalse();
+        assertThat(state.isCurrent(TODAY.plusDays(1), 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다시 읽은 뒤 지출이나 예산 세대 번호가 바뀌었으면 뒤처진 상태다.")
+    void behindWhenGenerationChanges() {
+        // Given
+        assertThat(state.isBehind(DataGeneration.NONE)).isTrue();
+        state.reload(TODAY, List.of(), List.of(), LIMITS, 1, new DataGeneration(3, 1), false);
+
+        // When & Then
+        assertThat(state.isBehind(new DataGeneration(3, 1))).isFalse();
+        assertThat(state.isBehind(new DataGeneration(4, 1))).isTrue();
+        assertThat(state.isBehind(new DataGeneration(3, 2))).isTrue();
+    }
+
+    private static CategoryAmountRow row(long categoryId, long amount) {
+        return new CategoryAmountRow(1L, categoryId, amount);
+    }
+}
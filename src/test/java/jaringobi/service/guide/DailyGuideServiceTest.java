@@ -0,0 +1,248 @@
+package jaringobi.service.guide;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jaringobi.acceptance.DatabaseCleaner;
+import jaringobi.controller.query.expense.response.DailyGuideResponse;
+import jaringobi.controller.query.expense.response.DailyGuideResponse.DailyGuidePerCategory;
+import jaringobi.domain.user.AppUser;
+import jaringobi.domain.user.User;
+import jaringobi.domain.user.UserRepository;
+import jaringobi.dto.request.AddBudgetRequest;
+import jaringobi.dto.request.AddExpenseRequest;
+import jaringobi.dto.request.BudgetByCategoryRequest;
+import jaringobi.dto.request.ModifyExpenseRequest;
+import jaringobi.service.BudgetService;
+import jaringobi.service.ExpenseService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {"expense.guide.users-per-shard=1", "expense.guide.batch-size=1"})
+@DisplayName("하루 지출 안내")
+class DailyGuideServiceTest {
+
+    // 10월 11일은 오늘을 포함해 21일이 남는다.
+    private static final LocalDate DAY = LocalDate.of(2023, 10, 11);
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private DailyGuideService dailyGuideService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.afterPropertiesSet();
+        databaseCleaner.execute();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.execute();
+    }
+
+    @Test
+    @DisplayName("남은 예산(예산 - 어제까지 쓴 금액)을 오늘을 포함한 남은 일수로 나눠 샤드별로 미리 써 둔다.")
+    void precomputeAllUsers() {
+        // Given
+        AppUser first = userWithBudget("guide1");
+        AppUser second = userWithBudget("guide2");
+        addExpense(first, 1L, 42_000, LocalDateTime.of(2023, 10, 3, 12, 0));
+        addExpense(first, 1L, 99_000, LocalDateTime.of(2023, 10, 11, 9, 0));
+        addExpense(first, 2L, 500_000, LocalDateTime.of(2023, 10, 5, 12, 0));
+
+        // When
+        int guides = dailyGuideService.precomputeAll(DAY);
+        DailyGuideResponse response = dailyGuideService.guideOf(first, DAY);
+
+        // Then
+        assertThat(guides).isEqualTo(4);
+        assertThat(response.remainingDays()).isEqualTo(21);
+        assertThat(response.guidesPerCategory()).containsExactly(
+                new DailyGuidePerCategory(1L, 210_000, 42_000, 8_000),
+                new DailyGuidePerCategory(2L, 420_000, 500_000, 0));
+        assertThat(response.dailyAllowance()).isEqualTo(8_000);
+        assertThat(dailyGuideService.guideOf(second, DAY).dailyAllowance()).isEqualTo(30_000);
+    }
+
+    @Test
+    @DisplayName("아직 계산하지 않은 사용자는 조회할 때 계산해 저장한다.")
+    void computeOnMiss() {
+        // Given
+        AppUser user = userWithBudget("guide1");
+
+        // When
+        DailyGuideResponse response = dailyGuideService.guideOf(user, DAY);
+
+        // Then
+        assertThat(response.hasBudget()).isTrue();
+        assertThat(response.dailyAllowance()).isEqualTo(30_000);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from daily_guide where user_id = ?", Integer.class,
+                user.userId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예산이 없는 사용자는 표시 행만 남겨 다음 조회부터 다시 계산하지 않는다.")
+    void storeMarkerForUserWithoutBudget() {
+        // Given
+        User user = userRepository.save(User.builder().username("guide1").password("password123!").build());
+        AppUser appUser = new AppUser(user.getId());
+
+        // When
+        DailyGuideResponse first = dailyGuideService.guideOf(appUser, DAY);
+        DailyGuideResponse second = dailyGuideService.guideOf(appUser, DAY);
+
+        // Then
+        assertThat(first.hasBudget()).isFalse();
+        assertThat(second.hasBudget()).isFalse();
+        assertThat(second.guidesPerCategory()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from daily_guide where user_id = ? and category_id = 0", Integer.class,
+                appUser.userId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예산이 바뀌면 계산해 둔 안내를 지우고 다음 조회 때 새 예산으로 계산한다.")
+    void recomputeAfterBudgetChange() {
+        // Given
+        AppUser user = userWithBudget("guide1");
+        dailyGuideService.guideOf(user, DAY);
+        Long budgetId = jdbcTemplate.queryForObject("select id from budget where user_id = ?", Long.class,
+                user.userId());
+
+        // When
+        budgetService.addBudgetCategory(user, budgetId,
+                BudgetByCategoryRequest.builder().categoryId(3L).money(630_000).build());
+        DailyGuideResponse response = dailyGuideService.guideOf(user, DAY);
+
+        // Then
+        assertThat(response.guidesPerCategory()).extracting(DailyGuidePerCategory::categoryId)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("계산해 둔 날보다 앞선 같은 달 지출을 추가하면 안내를 지우고 다음 조회 때 사용 금액에 넣어 다시 계산한다.")
+    void recomputeAfterBackdatedExpense() {
+        // Given
+        AppUser user = userWithBudget("guide1");
+        dailyGuideService.guideOf(user, DAY);
+
+        // When
+        addExpense(user, 1L, 42_000, LocalDateTime.of(2023, 10, 3, 12, 0));
+        DailyGuideResponse response = dailyGuideService.guideOf(user, DAY);
+
+        // Then
+        assertThat(response.guidesPerCategory()).first()
+                .isEqualTo(new DailyGuidePerCategory(1L, 210_000, 42_000, 8_000));
+    }
+
+    @Test
+    @DisplayName("다른 달 지출을 추가하면 계산해 둔 안내를 그대로 쓴다.")
+    void keepGuideForExpenseInOtherMonth() {
+        // Given
+        AppUser user = userWithBudget("guide1");
+        dailyGuideService.guideOf(user, DAY);
+
+        // When
+        addExpense(user, 1L, 42_000, LocalDateTime.of(2023, 9, 30, 12, 0));
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from daily_guide where user_id = ?", Integer.class,
+                user.userId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("지출을 수정하거나 삭제하면 안내를 지우고 다음 조회 때 다시 계산한다.")
+    void recomputeAfterExpenseModifiedOrDeleted() {
+        // Given
+        AppUser user = userWithBudget("guide1");
+        addExpense(user, 1L, 42_000, LocalDateTime.of(2023, 10, 3, 12, 0));
+        long expenseId = jdbcTemplate.queryForObject("select id from expense where user_id = ?", Long.class,
+                user.userId());
+        dailyGuideService.guideOf(user, DAY);
+
+        // When
+        expenseService.modifyExpense(ModifyExpenseRequest.builder()
+                .categoryId(1L)
+                .expenseMount(21_000)
+                .expenseDateTime(LocalDateTime.of(2023, 10, 3, 12, 0))
+                .excludeTotalExpense(false)
+                .build(), expenseId, user);
+        DailyGuideResponse afterModify = dailyGuideService.guideOf(user, DAY);
+        expenseService.deleteExpense(expenseId, user);
+        DailyGuideResponse afterDelete = dailyGuideService.guideOf(user, DAY);
+
+        // Then
+        assertThat(afterModify.guidesPerCategory()).first()
+                .extracting(DailyGuidePerCategory::spentAmount).isEqualTo(21_000L);
+        assertThat(afterDelete.guidesPerCategory()).first()
+                .extracting(DailyGuidePerCategory::spentAmount).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("그날 자정 배치는 실행 행을 먼저 넣은 한 번만 계산하고, 다른 인스턴스의 실행은 건너뛴다.")
+    void precomputeTodayOncePerDay() {
+        // Given
+        User user = userRepository.save(User.builder().username("guide1").password("password123!").build());
+        budgetService.addBudget(new AppUser(user.getId()), AddBudgetRequest.builder()
+                .budgetByCategories(List.of(BudgetByCategoryRequest.builder().categoryId(1L).money(310_000).build()))
+                .month(YearMonth.now().toString())
+                .build());
+
+        // When
+        dailyGuideService.precomputeToday();
+        int firstRun = countGuides();
+        jdbcTemplate.update("delete from daily_guide");
+        dailyGuideService.precomputeToday();
+
+        // Then
+        assertThat(firstRun).isEqualTo(1);
+        assertThat(countGuides()).isZero();
+    }
+
+    private int countGuides() {
+        return jdbcTemplate.queryForObject("select count(*) from daily_guide", Integer.class);
+    }
+
+    private AppUser userWithBudget(String username) {
+        User user = userRepository.save(User.builder().username(username).password("password123!").build());
+        AppUser appUser = new AppUser(user.getId());
+        budgetService.addBudget(appUser, AddBudgetRequest.builder()
+                .budgetByCategories(List.of(
+                        BudgetByCategoryRequest.builder().categoryId(1L).money(210_000).build(),
+                        BudgetByCategoryRequest.builder().categoryId(2L).money(420_000).build()))
+                .month("2023-10")
+                .build());
+        return appUser;
+    }
+
+    private void addExpense(AppUser appUser, long categoryId, int amount, LocalDateTime expenseAt) {
+        expenseService.addExpense(AddExpenseRequest.builder()
+                .categoryId(categoryId)
+                .expenseMount(amount)
+                .expenseDateTime(expenseAt)
+                .excludeTotalExpense(false)
+                .build(), appUser);
+    }
+}
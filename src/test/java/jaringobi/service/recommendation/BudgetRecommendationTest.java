@@ -0,0 +1,123 @@
+package jaringobi.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jaringobi.domain.budget.BudgetBucket;
+import jaringobi.domain.budget.BudgetRecommendationRepository;
+import jaringobi.domain.budget.BudgetRecommendationRow;
+import jaringobi.domain.budget.CategoryAmountRow;
+import jaringobi.domain.category.Category;
+import jaringobi.domain.category.CategoryQuery;
+import jaringobi.domain.category.CategoryRegistry;
+import jaringobi.dto.response.BudgetRecommendationResponse.CategoryRecommendation;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("예산 추천 비중 집계, 분배")
+class BudgetRecommendationTest {
+
+    private final CategoryRegistry categoryRegistry = new CategoryRegistry(new CategoryQuery(null) {
+        @Override
+        public List<Category> findAll() {
+            return LongStream.rangeClosed(1, 4)
+                    .mapToObj(id -> Category.builder().id(id).name("category" + id).build())
+                    .toList();
+        }
+    });
+
+    @Test
+    @DisplayName("예산마다 카테고리 비중을 구해 구간별로 더하고, 나눠 스캔한 결과를 합쳐도 같다.")
+    void accumulateSharesPerBucket() {
+        // Given
+        CategoryShareAccumulator first = new CategoryShareAccumulator(4, 1);
+        first.acceptBudget(new CategoryAmountRow(1L, 1L, 300_000));
+        first.acceptBudget(new CategoryAmountRow(1L, 2L, 100_000));
+        first.flush();
+        CategoryShareAccumulator second = new CategoryShareAccumulator(4, 1);
+        second.acceptBudget(new CategoryAmountRow(2L, 1L, 200_000));
+        second.acceptBudget(new CategoryAmountRow(2L, 2L, 200_000));
+        second.acceptExpense(new CategoryAmountRow(7L, 3L, 50_000));
+        second.flush();
+
+        // When
+        List<BudgetRecommendationRow> rows = first.merge(second).toRows();
+
+        // Then
+        assertThat(rows).containsExactly(
+                new BudgetRecommendationRow(BudgetBucket.UNDER_500K, 1L, 1.25, 2, 0, 1),
+                new BudgetRecommendationRow(BudgetBucket.UNDER_500K, 2L, 0.75, 2, 0, 1),
+                new BudgetRecommendationRow(BudgetBucket.UNDER_500K, 3L, 0, 2, 1.0, 1));
+    }
+
+    @Test
+    @DisplayName("총액을 구간의 예산 비중 평균으로 나누고, 나눈 금액의 합은 총액과 같다.")
+    void splitByBudgetShares() {
+        // Given
+        BudgetRecommendationCache cache = cacheOf(List.of(
+                new BudgetRecommendationRow(BudgetBucket.UNDER_500K, 1L, 1.0, 3, 0, 0),
+                new BudgetRecommendationRow(BudgetBucket.UNDER_500K, 2L, 1.0, 3, 0, 0),
+                new BudgetRecommendationRow(BudgetBucket.UNDER_500K, 3L, 1.0, 3, 0, 0)));
+
+        // When
+        List<CategoryRecommendation> recommendations = cache.recommend(BudgetBucket.UNDER_500K, 100_000);
+
+        // Then
+        assertThat(recommendations).extracting(CategoryRecommendation::categoryId).containsExactly(1L, 2L, 3L);
+        assertThat(recommendations).extracting(CategoryRecommendation::money)
+                .allSatisfy(money -> assertThat(money).isBetween(33_333L, 33_334L));
+        assertThat(recommendations.stream().mapToLong(CategoryRecommendation::money).sum()).isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("예산 표본이 없는 구간은 지출 비중을, 그것도 없으면 모든 카테고리에 고르게 나눈다.")
+    void fallbackToExpenseSharesThenUniform() {
+        // Given
+        BudgetRecommendationCache cache = cacheOf(List.of(
+                new BudgetRecommendationRow(BudgetBucket.UNDER_1M, 2L, 0, 0, 1.5, 2),
+                new BudgetRecommendationRow(BudgetBucket.UNDER_1M, 4L, 0, 0, 0.5, 2)));
+
+        // When
+        List<CategoryRecommendation> byExpense = cache.recommend(BudgetBucket.UNDER_1M, 800_000);
+        List<CategoryRecommendation> uniform = cache.recommend(BudgetBucket.OVER_3M, 4_000_000);
+
+        // Then
+        assertThat(byExpense).containsExactly(new CategoryRecommendation(2L, 600_000),
+                new CategoryRecommendation(4L, 200_000));
+        assertThat(uniform).extracting(CategoryRecommendation::money).containsOnly(1_000_000L);
+        assertThat(uniform).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 그날의 야간 배치를 이미 맡았으면 다시 집계하지 않는다.")
+    void skipNightlyWhenAlreadyClaimed() {
+        // Given
+        BudgetRecommendationRepository repository = mock(BudgetRecommendationRepository.class);
+        when(repository.claimRun(any(), any())).thenReturn(false);
+        BudgetRecommendationService service = new BudgetRecommendationService(repository,
+                new BudgetRecommendationCache(repository, categoryRegistry), new BudgetRecommendationProperty(),
+                categoryRegistry, mock(TransactionTemplate.class));
+
+        // When
+        service.recomputeNightly();
+
+        // Then
+        verify(repository, never()).findUserIdRange();
+        verify(repository, never()).replaceAll(any(), any());
+    }
+
+    private BudgetRecommendationCache cacheOf(List<BudgetRecommendationRow> rows) {
+        BudgetRecommendationRepository repository = mock(BudgetRecommendationRepository.class);
+        when(repository.findAll()).thenReturn(rows);
+        BudgetRecommendationCache cache = new BudgetRecommendationCache(repository, categoryRegistry);
+        cache.reload();
+        return cache;
+    }
+}
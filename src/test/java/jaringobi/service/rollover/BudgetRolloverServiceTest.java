@@ -0,0 +1,162 @@
+package jaringobi.service.rollover;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jaringobi.acceptance.DatabaseCleaner;
+import jaringobi.domain.budget.BudgetGeneration;
+import jaringobi.domain.user.AppUser;
+import jaringobi.domain.user.User;
+import jaringobi.domain.user.UserRepository;
+import jaringobi.dto.request.AddBudgetRequest;
+import jaringobi.dto.request.BudgetByCategoryRequest;
+import jaringobi.dto.request.BudgetRolloverRequest;
+import jaringobi.service.BudgetService;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = "budget.rollover.chunk-size=2")
+@DisplayName("월초 예산 이월")
+class BudgetRolloverServiceTest {
+
+    private static final YearMonth NOVEMBER = YearMonth.of(2023, 11);
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private BudgetRolloverService budgetRolloverService;
+
+    @Autowired
+    private BudgetGeneration budgetGeneration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.afterPropertiesSet();
+        databaseCleaner.execute();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.execute();
+    }
+
+    @Test
+    @DisplayName("이월을 신청한 사용자의 전월 예산만 청크 단위로 새 달에 복사한다.")
+    void copyPreviousMonthForOptedInUsers() {
+        // Given
+        AppUser first = userWithOctoberBudget("rollover1", true);
+        AppUser second = userWithOctoberBudget("rollover2", true);
+        AppUser third = userWithOctoberBudget("rollover3", true);
+        AppUser notOptedIn = userWithOctoberBudget("rollover4", false);
+
+        // When
+        BudgetRolloverResult result = budgetRolloverService.rollover(NOVEMBER);
+
+        // Then
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(result.users()).isEqualTo(3);
+        assertThat(result.budgets()).isEqualTo(3);
+        assertThat(result.categoryBudgets()).isEqualTo(6);
+        assertThat(novemberCategoryBudgets(first)).containsExactly(Map.of(1L, 1000), Map.of(2L, 9000));
+        assertThat(novemberCategoryBudgets(second)).hasSize(2);
+        assertThat(novemberCategoryBudgets(third)).hasSize(2);
+        assertThat(novemberCategoryBudgets(notOptedIn)).isEmpty();
+        assertThat(budgetRolloverService.progressOf(NOVEMBER)).hasValueSatisfying(progress ->
+                assertThat(progress.isCompleted()).isTrue());
+    }
+
+    @Test
+    @DisplayName("이월한 청크 사용자의 예산 세대 번호를 DB 에서 올려 어느 인스턴스의 오늘 지출 안내든 다시 만들게 한다.")
+    void increaseBudgetGenerationOfChunk() {
+        // Given
+        AppUser user = userWithOctoberBudget("rollover1", true);
+        long before = budgetGeneration.current(user.userId());
+
+        // When
+        budgetRolloverService.rollover(NOVEMBER);
+
+        // Then
+        assertThat(budgetGeneration.current(user.userId())).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("다시 실행하거나 이미 새 달 예산이 있으면 복사하지 않는다.")
+    void idempotent() {
+        // Given
+        AppUser user = userWithOctoberBudget("rollover1", true);
+        budgetService.addBudget(user, AddBudgetRequest.builder()
+                .budgetByCategories(List.of(BudgetByCategoryRequest.builder().categoryId(3L).money(500).build()))
+                .month("2023-11")
+                .build());
+
+        // When
+        budgetRolloverService.rollover(NOVEMBER);
+        jdbcTemplate.update("update budget_rollover_progress set completed_at = null, last_user_id = 0");
+        BudgetRolloverResult rerun = budgetRolloverService.rollover(NOVEMBER);
+
+        // Then
+        assertThat(rerun.budgets()).isZero();
+        assertThat(rerun.categoryBudgets()).isZero();
+        assertThat(novemberCategoryBudgets(user)).containsExactly(Map.of(3L, 500));
+    }
+
+    @Test
+    @DisplayName("중단된 이월은 마지막으로 커밋한 사용자 다음부터 이어서 처리한다.")
+    void resumeFromLastCommittedUser() {
+        // Given
+        AppUser first = userWithOctoberBudget("rollover1", true);
+        AppUser second = userWithOctoberBudget("rollover2", true);
+        jdbcTemplate.update("insert into budget_rollover_progress(budget_month, last_user_id) values ('2023-11-01', ?)",
+                first.userId());
+
+        // When
+        BudgetRolloverResult result = budgetRolloverService.rollover(NOVEMBER);
+
+        // Then
+        assertThat(result.users()).isEqualTo(1);
+        assertThat(novemberCategoryBudgets(first)).isEmpty();
+        assertThat(novemberCategoryBudgets(second)).hasSize(2);
+    }
+
+    private AppUser userWithOctoberBudget(String username, boolean rollover) {
+        User user = userRepository.save(User.builder().username(username).password("password123!").build());
+        AppUser appUser = new AppUser(user.getId());
+        budgetService.addBudget(appUser, AddBudgetRequest.builder()
+                .budgetByCategories(List.of(
+                        BudgetByCategoryRequest.builder().categoryId(1L).money(1000).build(),
+                        BudgetByCategoryRequest.builder().categoryId(2L).money(9000).build()))
+                .month("2023-10")
+                .build());
+        budgetService.changeBudgetRollover(appUser, new BudgetRolloverRequest(rollover));
+        return appUser;
+    }
+
+    private List<Map<Long, Integer>> novemberCategoryBudgets(AppUser appUser) {
+        return jdbcTemplate.queryForList("""
+                        select c.category_id, c.amount from budget_by_category c
+                        join budget b on b.id = c.budget_id
+                        where b.user_id = ? and b.budget_month = '2023-11-01'
+                        order by c.category_id
+                        """, appUser.userId()).stream()
+                .map(row -> Map.of(((Number) row.get("category_id")).longValue(),
+                        ((Number) row.get("amount")).intValue()))
+                .toList();
+    }
+}
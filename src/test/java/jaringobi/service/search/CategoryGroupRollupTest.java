@@ -0,0 +1,63 @@
+package jaringobi.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import jaringobi.controller.search.CategoryExpenseSum;
+import jaringobi.controller.search.CategoryGroupExpenseSum;
+import jaringobi.domain.category.CategoryGroup;
+import jaringobi.domain.category.CategoryRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+@MockitoSettings
+@DisplayName("카테고리 묶음별 합계 테스트")
+class CategoryGroupRollupTest {
+
+    @Mock
+    CategoryRegistry categoryRegistry;
+
+    @InjectMocks
+    CategoryGroupRollup categoryGroupRollup;
+
+    @BeforeEach
+    void setUp() {
+        when(categoryRegistry.groupOf(anyLong())).thenAnswer(invocation -> CategoryGroup.of(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("카테고리별 합계를 묶음별로 더하고 지출이 없는 묶음은 0 으로 모든 묶음을 돌려준다.")
+    void rollupCategorySums() {
+        List<CategoryExpenseSum> categorySums = List.of(
+                new CategoryExpenseSum(1L, 500_000),
+                new CategoryExpenseSum(2L, 100_000),
+                new CategoryExpenseSum(3L, 30_000),
+                new CategoryExpenseSum(16L, 7_000));
+
+        List<CategoryGroupExpenseSum> groupSums = categoryGroupRollup.rollup(categorySums,
+                CategoryExpenseSum::getCategoryId, CategoryExpenseSum::getTotalExpenseAmount);
+
+        assertThat(groupSums).extracting(CategoryGroupExpenseSum::getGroup)
+                .containsExactly(CategoryGroup.values());
+        assertThat(groupSums).extracting(CategoryGroupExpenseSum::getTotalExpenseAmount)
+                .containsExactly(600_000L, 30_000L, 0L, 0L, 0L, 0L, 0L, 7_000L);
+    }
+
+    @Test
+    @DisplayName("묶음이 없는 카테고리의 합계는 어느 묶음에도 더하지 않는다.")
+    void skipCategoryWithoutGroup() {
+        List<CategoryExpenseSum> categorySums = List.of(new CategoryExpenseSum(99L, 1_000));
+
+        List<CategoryGroupExpenseSum> groupSums = categoryGroupRollup.rollup(categorySums,
+                CategoryExpenseSum::getCategoryId, CategoryExpenseSum::getTotalExpenseAmount);
+
+        assertThat(groupSums).extracting(CategoryGroupExpenseSum::getTotalExpenseAmount)
+                .containsOnly(0L);
+    }
+}
@@ -0,0 +1,148 @@
+package jaringobi.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jaringobi.controller.search.ExpenseSearchResponse;
+import jaringobi.domain.expense.ExpenseGeneration;
+import jaringobi.domain.user.AppUser;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpenseSearchCacheTest {
+
+    private final AppUser appUser = new AppUser(1L);
+    private final AppUser anotherUser = new AppUser(2L);
+
+    private ExpenseSearchCacheProperty property;
+    private ExpenseGeneration expenseGeneration;
+    private MeterRegistry meterRegistry;
+    private ExpenseSearchCache expenseSearchCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        property = new ExpenseSearchCacheProperty();
+        expenseGeneration = mock(ExpenseGeneration.class);
+        meterRegistry = new SimpleMeterRegistry();
+        expenseSearchCache = new ExpenseSearchCache(property, expenseGeneration, meterRegistry);
+        loadCount = new AtomicInteger();
+    }
+
+    private Supplier<ExpenseSearchResponse> loader() {
+        return () -> {
+            loadCount.incrementAndGet();
+            return new ExpenseSearchResponse();
+        };
+    }
+
+    private ExpenseSearchCondition condition(List<Long> categoryIds) {
+        return ExpenseSearchCondition.builder()
+                .start("2023-10-01")
+                .end("2023-10-31")
+                .categoryIds(categoryIds)
+                .build();
+    }
+
+    @Test
+    @DisplayName("카테고리 순서, 중복만 다른 조건은 같은 결과를 재사용한다.")
+    void hitOnCanonicalCondition() {
+        // When
+        ExpenseSearchResponse first = expenseSearchCache.get(appUser, condition(List.of(3L, 1L)), loader());
+        ExpenseSearchResponse second = expenseSearchCache.get(appUser, condition(List.of(1L, 3L, 3L)), loader());
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount).hasValue(1);
+        assertThat(expenseSearchCache.stats()).isEqualTo(new ExpenseSearchCacheStats(1, 1, 0, 1));
+    }
+
+    @Test
+    @DisplayName("적중, 실패 횟수와 크기를 메트릭으로 내보낸다.")
+    void publishMetrics() {
+        // When
+        expenseSearchCache.get(appUser, condition(null), loader());
+        expenseSearchCache.get(appUser, condition(null), loader());
+        expenseSearchCache.get(appUser, condition(List.of(1L)), loader());
+
+        // Then
+        assertThat(meterRegistry.get("expense.search.cache.hits").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("expense.search.cache.misses").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("expense.search.cache.evictions").functionCounter().count()).isZero();
+        assertThat(meterRegistry.get("expense.search.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("지출이 바뀌어 세대 번호가 올라가면 해당 사용자만 다시 조회한다.")
+    void missAfterGenerationIncreased() {
+        // Given
+        expenseSearchCache.get(appUser, condition(null), loader());
+        expenseSearchCache.get(anotherUser, condition(null), loader());
+
+        // When
+        when(expenseGeneration.current(appUser.userId())).thenReturn(1L);
+        expenseSearchCache.get(appUser, condition(null), loader());
+        expenseSearchCache.get(anotherUser, condition(null), loader());
+
+        // Then
+        assertThat(loadCount).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 결과부터 버린다.")
+    void evictEldest() {
+        // Given
+        property.setMaxEntries(2);
+        expenseSearchCache.get(appUser, condition(List.of(1L)), loader());
+        expenseSearchCache.get(appUser, condition(List.of(2L)), loader());
+        expenseSearchCache.get(appUser, condition(List.of(1L)), loader());
+
+        // When
+        expenseSearchCache.get(appUser, condition(List.of(3L)), loader());
+        expenseSearchCache.get(appUser, condition(List.of(1L)), loader());
+        expenseSearchCache.get(appUser, condition(List.of(2L)), loader());
+
+        // Then
+        assertThat(loadCount).hasValue(4);
+        assertThat(expenseSearchCache.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 결과는 다시 조회한다.")
+    void missAfterTtl() {
+        // Given
+        property.setTtl(Duration.ZERO);
+
+        // When
+        expenseSearchCache.get(appUser, condition(null), loader());
+        expenseSearchCache.get(appUser, condition(null), loader());
+
+        // Then
+        assertThat(loadCount).hasValue(2);
+        assertThat(expenseSearchCache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 조회한다.")
+    void disabled() {
+        // Given
+        property.setEnabled(false);
+
+        // When
+        expenseSearchCache.get(appUser, condition(null), loader());
+        expenseSearchCache.get(appUser, condition(null), loader());
+
+        // Then
+        assertThat(loadCount).hasValue(2);
+        assertThat(expenseSearchCache.stats().size()).isZero();
+    }
+}
@@ -0,0 +1,124 @@
+package jaringobi.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+
+import jaringobi.controller.query.expense.response.TodayExpensePerCategory;
+import jaringobi.controller.query.expense.response.TodayExpenseResponse;
+import jaringobi.controller.search.CategoryGroupExpenseSum;
+import jaringobi.domain.budget.CategoryBudget;
+import jaringobi.domain.budget.Money;
+import jaringobi.domain.category.CategoryGroup;
+import jaringobi.domain.category.CategoryRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+@MockitoSettings
+@DisplayName("오늘 지출 안내 계산 테스트")
+class TodayExpenseAssemblerTest {
+
+    @Mock
+    CategoryRegistry categoryRegistry;
+
+    TodayExpenseAssembler todayExpenseAssembler;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(categoryRegistry.groupOf(anyLong()))
+                .thenAnswer(invocation -> CategoryGroup.of(invocation.getArgument(0)));
+        todayExpenseAssembler = new TodayExpenseAssembler(new CategoryGroupRollup(categoryRegistry));
+    }
+
+    @Test
+    @DisplayName("예산이 없으면 지출 합계와 묶음별 합계만 담는다.")
+    void assembleWithoutBudget() {
+        TodayExpenseResponse response = todayExpenseAssembler.assemble(
+                List.of(expense(1L, 10_000), expense(2L, 5_000)), List.of());
+
+        assertThat(response.isHasBudget()).isFalse();
+        assertThat(response.getTotalExpenseAmount()).isEqualTo(15_000);
+        assertThat(response.getDangerPercent()).isNull();
+        assertThat(response.getExpensesPerCategory()).extracting(TodayExpensePerCategory::isHasCategoryBudget)
+                .containsExactly(false, false);
+        assertThat(response.getExpensesPerGroup()).first()
+                .extracting(CategoryGroupExpenseSum::getTotalExpenseAmount)
+                .isEqualTo(15_000L);
+    }
+
+    @Test
+    @DisplayName("예산이 있는 카테고리만 하루 예산 대비 위험도를 계산하고 전체 위험도는 예산 합계로 계산한다.")
+    void assembleWithBudget() {
+        // 식비(3) 한 달 30만원 → 하루 1만원, 병원비(4) 예산 없음
+        TodayExpenseResponse response = todayExpenseAssembler.assemble(
+                List.of(expense(3L, 20_000), expense(4L, 10_000)),
+                List.of(budget(3L, 300_000), budget(5L, 600_000)));
+
+        TodayExpensePerCategory food = response.getExpensesPerCategory().get(0);
+        TodayExpensePerCategory hospital = response.getExpensesPerCategory().get(1);
+
+        assertThat(food.isHasCategoryBudget()).isTrue();
+        assertThat(food.getAvailableAmount()).isEqualTo(300_000);
+        assertThat(food.getDangerPercent()).isEqualTo(200);
+        assertThat(hospital.isHasCategoryBudget()).isFalse();
+        assertThat(hospital.getDangerPercent()).isNull();
+
+        assertThat(response.isHasBudget()).isTrue();
+        assertThat(response.getTotalExpenseAmount()).isEqualTo(30_000);
+        assertThat(response.getBudgetAmount()).isEqualTo(900_000);
+        // 하루 예산 3만원, 지출 3만원
+        assertThat(response.getDangerPercent()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("같은 카테고리 예산이 두 번 오면 카테고리 안내에는 먼저 온 예산을 쓰고 예산 합계에는 모두 더한다.")
+    void firstBudgetWinsPerCategory() {
+        TodayExpenseResponse response = todayExpenseAssembler.assemble(
+                List.of(expense(3L, 10_000)),
+                List.of(budget(3L, 300_000), budget(3L, 600_000)));
+
+        assertThat(response.getExpensesPerCategory().get(0).getAvailableAmount()).isEqualTo(300_000);
+        assertThat(response.getBudgetAmount()).isEqualTo(900_000);
+    }
+
+    @Test
+    @DisplayName("월 예산이 30원 미만이어도 하루 예산을 1원으로 보고 위험도를 계산한다.")
+    void tinyBudgetDoesNotDivideByZero() {
+        TodayExpenseResponse response = todayExpenseAssembler.assemble(
+                List.of(expense(3L, 50)),
+                List.of(budget(3L, 10)));
+
+        assertThat(response.getExpensesPerCategory().get(0).getDangerPercent()).isEqualTo(5_000);
+        assertThat(response.getDangerPercent()).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("위험도는 나누기 전에 곱해 149% 를 100% 로 버리지 않는다.")
+    void percentIsNotTruncatedBeforeScaling() {
+        // 하루 1만원, 지출 14,900원
+        TodayExpenseResponse response = todayExpenseAssembler.assemble(
+                List.of(expense(3L, 14_900)),
+                List.of(budget(3L, 300_000)));
+
+        assertThat(response.getExpensesPerCategory().get(0).getDangerPercent()).isEqualTo(149);
+        assertThat(response.getDangerPercent()).isEqualTo(149);
+    }
+
+    private static TodayExpensePerCategory expense(long categoryId, int paidAmount) {
+        return TodayExpensePerCategory.builder()
+                .categoryId(categoryId)
+                .paidAmount(paidAmount)
+                .build();
+    }
+
+    private static CategoryBudget budget(long categoryId, int amount) {
+        return CategoryBudget.builder()
+                .categoryId(categoryId)
+                .amount(new Money(amount))
+                .build();
+    }
+}
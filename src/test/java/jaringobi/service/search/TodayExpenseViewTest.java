@@ -0,0 +1,135 @@
+package jaringobi.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jaringobi.controller.query.expense.response.TodayExpenseResponse;
+import jaringobi.domain.budget.BudgetGeneration;
+import jaringobi.domain.expense.ExpenseGeneration;
+import jaringobi.domain.user.AppUser;
+import jaringobi.service.search.TodayExpenseView.Snapshot;
+import jaringobi.service.version.UserDataVersion;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("사용자별 오늘 지출 안내 테스트")
+class TodayExpenseViewTest {
+
+    final AppUser appUser = new AppUser(1L);
+
+    ExpenseGeneration expenseGeneration;
+    BudgetGeneration budgetGeneration;
+    TodayExpenseView todayExpenseView;
+    AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        expenseGeneration = mock(ExpenseGeneration.class);
+        budgetGeneration = mock(BudgetGeneration.class);
+        todayExpenseView = new TodayExpenseView(new TodayExpenseViewProperty(), expenseGeneration, budgetGeneration,
+                new UserDataVersion(expenseGeneration, budgetGeneration));
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("지출, 예산이 바뀌지 않았으면 다시 만들지 않고 같은 응답을 돌려준다.")
+    void reuseWhileUnchanged() {
+        Snapshot first = todayExpenseView.get(appUser, countingLoader(1_000));
+        Snapshot second = todayExpenseView.get(appUser, countingLoader(2_000));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("지출이나 예산이 바뀌면 다음 조회 때 다시 만들고 ETag 도 바뀐다.")
+    void reloadAfterChange() {
+        Snapshot first = todayExpenseView.get(appUser, countingLoader(1_000));
+
+        when(expenseGeneration.current(appUser.userId())).thenReturn(1L);
+        Snapshot afterExpense = todayExpenseView.get(appUser, countingLoader(2_000));
+        when(budgetGeneration.current(appUser.userId())).thenReturn(1L);
+        Snapshot afterBudget = todayExpenseView.get(appUser, countingLoader(3_000));
+
+        assertThat(afterExpense.response().getTotalExpenseAmount()).isEqualTo(2_000);
+        assertThat(afterBudget.response().getTotalExpenseAmount()).isEqualTo(3_000);
+        assertThat(List.of(first.eTag(), afterExpense.eTag(), afterBudget.eTag())).doesNotHaveDuplicates();
+        assertThat(loadCount).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 다시 만드는 중이면 기다리지 않고 이전 응답과 이전 ETag 를 돌려준다.")
+    void serveStaleWhileRefreshing() throws Exception {
+        Snapshot stale = todayExpenseView.get(appUser, countingLoader(1_000));
+        when(expenseGeneration.current(appUser.userId())).thenReturn(1L);
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Snapshot> refreshing = CompletableFuture.supplyAsync(() -> todayExpenseView.get(appUser, () -> {
+            loading.countDown();
+            await(release);
+            return response(2_000);
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Snapshot served = todayExpenseView.get(appUser, countingLoader(3_000));
+        release.countDown();
+
+        assertThat(served).isSameAs(stale);
+        assertThat(refreshing.get(5, TimeUnit.SECONDS).response().getTotalExpenseAmount()).isEqualTo(2_000);
+        assertThat(todayExpenseView.get(appUser, countingLoader(4_000)).response().getTotalExpenseAmount())
+                .isEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("최대 사용자 수를 넘으면 가장 오래 조회하지 않은 사용자의 응답부터 내린다.")
+    void evictLeastRecentlyUsedOverMaxEntries() {
+        // Given
+        TodayExpenseViewProperty property = new TodayExpenseViewProperty();
+        property.setMaxEntries(2);
+        TodayExpenseView view = new TodayExpenseView(property, expenseGeneration, budgetGeneration,
+                new UserDataVersion(expenseGeneration, budgetGeneration));
+        view.get(new AppUser(1L), countingLoader(1_000));
+        view.get(new AppUser(2L), countingLoader(2_000));
+        view.get(new AppUser(1L), countingLoader(1_000));
+
+        // When
+        view.get(new AppUser(3L), countingLoader(3_000));
+        view.get(new AppUser(1L), countingLoader(1_000));
+        view.get(new AppUser(2L), countingLoader(2_000));
+
+        // Then - 1 은 남아 있고, 밀려난 2 만 다시 만든다.
+        assertThat(view.size()).isEqualTo(2);
+        assertThat(loadCount).hasValue(4);
+    }
+
+    private Supplier<TodayExpenseResponse> countingLoader(long total) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return response(total);
+        };
+    }
+
+    private static TodayExpenseResponse response(long total) {
+        return TodayExpenseResponse.builder()
+                .expensesPerCategory(List.of())
+                .totalExpenseAmount(total)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
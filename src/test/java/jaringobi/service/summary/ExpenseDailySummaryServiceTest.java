@@ -0,0 +1,175 @@
+package jaringobi.service.summary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jaringobi.acceptance.DatabaseCleaner;
+import jaringobi.controller.search.CategoryExpenseSum;
+import jaringobi.domain.expense.ExpenseDailySummaryDrift;
+import jaringobi.domain.expense.ExpenseQueryRepositoryImpl;
+import jaringobi.domain.user.AppUser;
+import jaringobi.domain.user.User;
+import jaringobi.domain.user.UserRepository;
+import jaringobi.dto.request.AddExpenseRequest;
+import jaringobi.dto.request.ExpenseSearchCondition;
+import jaringobi.dto.request.ModifyExpenseRequest;
+import jaringobi.service.ExpenseService;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+@DisplayName("일별 지출 롤업")
+class ExpenseDailySummaryServiceTest {
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ExpenseDailySummaryService expenseDailySummaryService;
+
+    @Autowired
+    private ExpenseQueryRepositoryImpl expenseQueryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AppUser appUser;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.afterPropertiesSet();
+        databaseCleaner.execute();
+        User user = userRepository.save(User.builder().username("summary123").password("summary123!").build());
+        appUser = new AppUser(user.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleaner.execute();
+    }
+
+    @Test
+    @DisplayName("지출 추가, 수정(일자/카테고리 이동), 삭제가 같은 트랜잭션에서 롤업에 반영된다.")
+    void maintainedByExpenseService() {
+        // Given
+        long first = add(1L, 1000, LocalDateTime.of(2023, 10, 1, 9, 0));
+        long second = add(1L, 2000, LocalDateTime.of(2023, 10, 1, 18, 0));
+        long third = add(3L, 5000, LocalDateTime.of(2023, 10, 2, 12, 0));
+
+        // When
+        modify(second, 3L, 2500, LocalDateTime.of(2023, 10, 2, 8, 0));
+        modify(first, 1L, 1500, LocalDateTime.of(2023, 10, 1, 10, 0));
+        expenseService.deleteExpense(third, appUser);
+
+        // Then
+        assertThat(summaryRows()).containsExactly(
+                Map.of("day", LocalDate.of(2023, 10, 1), "category_id", 1L, "total", 1500L, "count", 1),
+                Map.of("day", LocalDate.of(2023, 10, 2), "category_id", 3L, "total", 2500L, "count", 1));
+        assertThat(expenseDailySummaryService.verify(appUser.userId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("롤업이 원본과 달라지면 검사에서 찾고 재생성으로 복구한다.")
+    void verifyAndRebuild() {
+        // Given
+        add(1L, 1000, LocalDateTime.of(2023, 10, 1, 9, 0));
+        jdbcTemplate.update("update expense_daily_summary set total = total + 1 where user_id = ?", appUser.userId());
+
+        // When
+        List<ExpenseDailySummaryDrift> drifts = expenseDailySummaryService.verify(appUser.userId());
+
+        // Then
+        assertThat(drifts).containsExactly(new ExpenseDailySummaryDrift(appUser.userId(), LocalDate.of(2023, 10, 1),
+                1L, 1000L, 1L, 1001L, 1L));
+
+        expenseDailySummaryService.rebuild(appUser.userId());
+        assertThat(expenseDailySummaryService.verify(appUser.userId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("롤업 기반 카테고리 합계는 원본 BETWEEN 조건과 같다. (끝 날짜 정각의 지출 포함)")
+    void categorySumsFromSummary() {
+        // Given
+        add(1L, 1000, LocalDateTime.of(2023, 9, 30, 23, 59));
+        add(1L, 2000, LocalDateTime.of(2023, 10, 1, 0, 0));
+        add(1L, 3000, LocalDateTime.of(2023, 10, 5, 12, 0));
+        add(2L, 4000, LocalDateTime.of(2023, 10, 10, 0, 0));
+        add(2L, 8000, LocalDateTime.of(2023, 10, 10, 0, 1));
+
+        ExpenseSearchCondition condition = ExpenseSearchCondition.builder()
+                .start("2023-10-01")
+                .end("2023-10-10")
+                .build();
+
+        // When
+        List<CategoryExpenseSum> sums = expenseQueryRepository.totalSumOfCategoriesExpense(appUser, condition);
+
+        // Then
+        assertThat(sums)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrder(new CategoryExpenseSum(1L, 5000), new CategoryExpenseSum(2L, 4000));
+    }
+
+    @Test
+    @DisplayName("자정 0.5초 전 이후의 지출은 DB 반올림과 같이 다음 날로 롤업하고, 수정으로 빼도 합계가 남지 않는다.")
+    void roundHalfSecondBeforeMidnight() {
+        // Given
+        long roundedUp = add(1L, 1000, LocalDateTime.of(2023, 10, 1, 23, 59, 59, 500_000_000));
+        add(1L, 2000, LocalDateTime.of(2023, 10, 1, 23, 59, 59, 499_999_999));
+
+        // When
+        modify(roundedUp, 1L, 1000, LocalDateTime.of(2023, 10, 3, 9, 0));
+
+        // Then
+        assertThat(summaryRows()).containsExactly(
+                Map.of("day", LocalDate.of(2023, 10, 1), "category_id", 1L, "total", 2000L, "count", 1),
+                Map.of("day", LocalDate.of(2023, 10, 3), "category_id", 1L, "total", 1000L, "count", 1));
+        assertThat(expenseDailySummaryService.verify(appUser.userId())).isEmpty();
+    }
+
+    private long add(long categoryId, int amount, LocalDateTime expenseAt) {
+        return expenseService.addExpense(AddExpenseRequest.builder()
+                .categoryId(categoryId)
+                .expenseMount(amount)
+                .expenseDateTime(expenseAt)
+                .excludeTotalExpense(false)
+                .build(), appUser).expenseNo();
+    }
+
+    private void modify(long expenseId, long categoryId, int amount, LocalDateTime expenseAt) {
+        expenseService.modifyExpense(ModifyExpenseRequest.builder()
+                .categoryId(categoryId)
+                .expenseMount(amount)
+                .expenseDateTime(expenseAt)
+                .excludeTotalExpense(false)
+                .build(), expenseId, appUser);
+    }
+
+    private List<Map<String, Object>> summaryRows() {
+        return jdbcTemplate.queryForList("""
+                        select day, category_id, total, count from expense_daily_summary
+                        where user_id = ? order by day, category_id
+                        """, appUser.userId()).stream()
+                .map(row -> Map.<String, Object>of(
+                        "day", ((Date) row.get("day")).toLocalDate(),
+                        "category_id", ((Number) row.get("category_id")).longValue(),
+                        "total", ((Number) row.get("total")).longValue(),
+                        "count", ((Number) row.get("count")).intValue()))
+                .toList();
+    }
+}